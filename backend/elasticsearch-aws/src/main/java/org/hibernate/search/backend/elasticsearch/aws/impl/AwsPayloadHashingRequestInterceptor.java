@@ -60,6 +60,11 @@ private String computeContentHash(HttpRequest request) throws IOException {
 			throw new IllegalStateException( "Cannot sign AWS requests with non-repeatable entities" );
 		}
 
+		/*
+		 * Entities created by the Elasticsearch backend buffer their encoded content when writeTo() is called,
+		 * and later send the buffered content as-is: the payload is only serialized once,
+		 * even though we read it entirely here.
+		 */
 		final MessageDigest digest = getSha256Digest();
 		DigestOutputStream digestStream = new DigestOutputStream( DISCARDING_STREAM, digest );
 		entity.writeTo( digestStream );
@@ -239,6 +239,31 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * Whether search queries should be profiled,
+	 * i.e. whether the time spent in each phase of query execution should be recorded
+	 * and made available through {@link org.hibernate.search.engine.search.query.SearchResult#profile()}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_PROFILING_ENABLED}.
+	 */
+	public static final String QUERY_PROFILING_ENABLED = "query.profiling.enabled";
+
+	/**
+	 * The duration above which a search query is considered slow and logged,
+	 * along with the JSON payload of the query and the time spent in each phase of query execution.
+	 * <p>
+	 * Expects a positive long value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such long value.
+	 * <p>
+	 * Setting this property implies profiling of all queries.
+	 * <p>
+	 * Defaults to no value, meaning slow queries are not logged.
+	 */
+	public static final String QUERY_SLOW_LOG_THRESHOLD = "query.slow_log.threshold";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -260,5 +285,6 @@ private Defaults() {
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final boolean QUERY_PROFILING_ENABLED = false;
 	}
 }
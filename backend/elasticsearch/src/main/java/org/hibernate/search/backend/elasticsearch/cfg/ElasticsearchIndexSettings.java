@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.cfg;
 
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
 
 /**
  * Configuration properties for Elasticsearch indexes.
@@ -69,6 +70,72 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The delay, in milliseconds, to wait for more works before processing indexing queues,
+	 * so that multiple works affecting the same document can be coalesced into one.
+	 * <p>
+	 * When this property is set, an entity updated multiple times in quick succession,
+	 * possibly from different transactions, will only be written to the index once, in its latest state.
+	 * The downside is additional indexing latency.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 100},
+	 * or a string that can be parsed to such integer value.
+	 * {@code 0} means works already present in the queue are coalesced, without waiting for more works.
+	 * <p>
+	 * Defaults to no value, meaning works are never coalesced.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCING_WINDOW = INDEXING_PREFIX + IndexingRadicals.COALESCING_WINDOW;
+
+	/**
+	 * Whether indexing works for a document with no pending works may be routed to the least loaded queue,
+	 * instead of always being routed to the same queue.
+	 * <p>
+	 * Works relative to the same document are still processed in order.
+	 * Enabling this prevents a few very frequently updated documents from saturating one queue
+	 * while other queues are idle.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_REBALANCING}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_REBALANCING = INDEXING_PREFIX + IndexingRadicals.QUEUE_REBALANCING;
+
+	/**
+	 * What to do when an indexing operation is submitted while its indexing queue is full.
+	 * <p>
+	 * Only applies to indexing operations originating from indexing plans, e.g. automatic indexing:
+	 * operations submitted by the mass indexer or by the workspace always wait for room in the queue.
+	 * <p>
+	 * Expects a {@link IndexingQueueOverflowStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_OVERFLOW_STRATEGY}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_OVERFLOW_STRATEGY = INDEXING_PREFIX + IndexingRadicals.QUEUE_OVERFLOW_STRATEGY;
+
+	/**
+	 * With the {@link IndexingQueueOverflowStrategyName#BLOCK block} queue overflow strategy,
+	 * how long, in milliseconds, to wait for room in a full indexing queue before failing the indexing operation.
+	 * <p>
+	 * Expects a positive Long value in milliseconds, such as {@code 5000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning submitting threads wait indefinitely.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_OVERFLOW_TIMEOUT = INDEXING_PREFIX + IndexingRadicals.QUEUE_OVERFLOW_TIMEOUT;
+
 	/**
 	 * The maximum size of bulk requests created when processing indexing queues.
 	 * <p>
@@ -92,6 +159,10 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String COALESCING_WINDOW = "coalescing_window";
+		public static final String QUEUE_REBALANCING = "queue_rebalancing";
+		public static final String QUEUE_OVERFLOW_STRATEGY = "queue_overflow_strategy";
+		public static final String QUEUE_OVERFLOW_TIMEOUT = "queue_overflow_timeout";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
 	}
 
@@ -107,6 +178,9 @@ private Defaults() {
 		public static final int SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_QUEUE_REBALANCING = false;
+		public static final IndexingQueueOverflowStrategyName INDEXING_QUEUE_OVERFLOW_STRATEGY =
+				IndexingQueueOverflowStrategyName.BLOCK;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
 	}
 
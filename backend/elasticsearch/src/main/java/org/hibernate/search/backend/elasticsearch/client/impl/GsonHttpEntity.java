@@ -9,8 +9,6 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -165,21 +163,23 @@ public InputStream getContent() {
 				+ " or writeTo(OutputStream) if blocking calls are acceptable for your use case." );
 	}
 
+	/**
+	 * Encodes the whole content into buffer pages, then copies these pages to the given stream.
+	 * <p>
+	 * The pages are not consumed: if {@link #produceContent(ContentEncoder, IOControl)} is called afterwards,
+	 * it will send the pages as-is instead of encoding the JSON a second time.
+	 * This matters when the content must be hashed before being sent, e.g. for AWS request signing:
+	 * the cost is holding the whole content in memory until it is sent.
+	 *
+	 * @param out The stream to write the content to. It will not be closed.
+	 * @throws IOException If encoding or writing fails.
+	 */
 	@Override
 	public void writeTo(OutputStream out) throws IOException {
-		/*
-		 * For this method we use no pagination, so ignore the mutable fields.
-		 *
-		 * Note we don't close the counting stream or the writer,
-		 * because we must not close the output stream that was passed as a parameter.
-		 */
+		encodeRemainingBodyParts();
+		// Note we don't close the counting stream, because we must not close the stream passed as a parameter.
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, writer );
-			writer.append( '\n' );
-		}
-		writer.flush();
+		writer.copyBufferedContentTo( countingStream );
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -227,6 +227,24 @@ private void attemptOnePassEncoding() throws IOException {
 		}
 	}
 
+	/**
+	 * Encode all the body parts that were not encoded yet into the buffer pages of the writer,
+	 * regardless of flow control.
+	 * <p>
+	 * Must not be called while content production is in progress,
+	 * since we must not send anything to the output from this method.
+	 *
+	 * @throws IOException If encoding fails.
+	 */
+	private void encodeRemainingBodyParts() throws IOException {
+		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
+			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			gson.toJson( bodyPart, writer );
+			writer.append( '\n' );
+		}
+		writer.flush();
+	}
+
 	/**
 	 * Higher level write loop. It will start writing the JSON objects
 	 * from either the  beginning or the next object which wasn't written yet
@@ -278,6 +296,9 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		}
 		// If we haven't aborted yet, we finished!
 		encoder.complete();
+		// Don't keep a reference to the encoder: if the content is encoded again through writeTo(),
+		// e.g. when the request is retried, we must buffer pages instead of sending them to a completed encoder.
+		writer.setOutput( null );
 
 		// Design note: we could finally know the content length in bytes at this point
 		// (we had an accumulator in previous versions) but that's always pointless
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -166,6 +167,24 @@ public void flushToOutput() throws IOException {
 		attemptFlushPendingBuffers( true );
 	}
 
+	/**
+	 * Copy the content of all buffer pages to the given stream, without consuming the pages:
+	 * they will still be sent to the {@link #setOutput(ContentEncoder) output} later.
+	 *
+	 * @param out The stream to copy content to.
+	 * @throws IOException when writing to the stream fails.
+	 */
+	public void copyBufferedContentTo(OutputStream out) throws IOException {
+		flush();
+		for ( ByteBuffer page : needWritingPages ) {
+			out.write( page.array(), page.arrayOffset() + page.position(), page.remaining() );
+		}
+		if ( currentPage != null ) {
+			// The current page hasn't been flipped yet: its content ends at position()
+			out.write( currentPage.array(), currentPage.arrayOffset(), currentPage.position() );
+		}
+	}
+
 	/**
 	 * @return The current size of content stored in the byte buffer, in bytes.
 	 * This does not include the content that has already been written to the {@link #setOutput(ContentEncoder) output},
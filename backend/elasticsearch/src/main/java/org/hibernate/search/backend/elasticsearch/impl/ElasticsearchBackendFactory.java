@@ -33,6 +33,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkMetrics;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -42,6 +43,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -100,6 +102,17 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( BeanReference.of( DefaultIndexLayoutStrategy.class ) )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_PROFILING_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_PROFILING_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_PROFILING_ENABLED )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_SLOW_LOG_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_SLOW_LOG_THRESHOLD )
+					.asLong()
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		boolean logPrettyPrinting = LOG_JSON_PRETTY_PRINTING.get( propertySource );
@@ -126,7 +139,8 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 			ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
 			link = new ElasticsearchLinkImpl(
 					clientFactoryHolder, threads, defaultGsonProvider, logPrettyPrinting,
-					dialectFactory, configuredVersion, versionCheckEnabled
+					dialectFactory, configuredVersion, versionCheckEnabled,
+					ElasticsearchWorkMetrics.create( buildContext.metricsRecorder(), name )
 			);
 
 			ElasticsearchModelDialect dialect;
@@ -163,7 +177,11 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 					getMultiTenancyStrategy( name, propertySource ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( name, propertySource, indexLayoutStrategyHolder.get() ),
-					buildContext.failureHandler()
+					buildContext.failureHandler(),
+					buildContext.metricsRecorder(),
+					SearchQueryMetrics.create( buildContext.metricsRecorder(), name,
+							QUERY_PROFILING_ENABLED.get( propertySource ),
+							QUERY_SLOW_LOG_THRESHOLD.get( propertySource ).orElse( null ) )
 			);
 		}
 		catch (RuntimeException e) {
@@ -34,8 +34,10 @@
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -76,7 +78,9 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder,
+			SearchQueryMetrics queryMetrics) {
 		this.name = name;
 		this.threads = threads;
 		this.link = link;
@@ -98,7 +102,8 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				multiTenancyStrategy,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
-				failureHandler,
+				failureHandler, metricsRecorder,
+				queryMetrics,
 				generalPurposeOrchestrator
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
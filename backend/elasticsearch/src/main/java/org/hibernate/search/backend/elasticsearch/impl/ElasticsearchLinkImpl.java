@@ -22,6 +22,7 @@
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkMetrics;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -42,6 +43,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private final ElasticsearchDialectFactory dialectFactory;
 	private final Optional<ElasticsearchVersion> configuredVersionOptional;
 	private final boolean versionCheckEnabled;
+	private final ElasticsearchWorkMetrics workMetrics;
 
 	private ElasticsearchClientImplementor clientImplementor;
 	private ElasticsearchVersion elasticsearchVersion;
@@ -55,7 +57,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
 			ElasticsearchDialectFactory dialectFactory,
 			Optional<ElasticsearchVersion> configuredVersionOptional,
-			boolean versionCheckEnabled) {
+			boolean versionCheckEnabled,
+			ElasticsearchWorkMetrics workMetrics) {
 		this.clientFactoryHolder = clientFactoryHolder;
 		this.threads = threads;
 		this.defaultGsonProvider = defaultGsonProvider;
@@ -63,6 +66,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 		this.dialectFactory = dialectFactory;
 		this.configuredVersionOptional = configuredVersionOptional;
 		this.versionCheckEnabled = versionCheckEnabled;
+		this.workMetrics = workMetrics;
 	}
 
 	@Override
@@ -101,6 +105,11 @@ public ElasticsearchSearchResultExtractorFactory getSearchResultExtractorFactory
 		return searchResultExtractorFactory;
 	}
 
+	@Override
+	public ElasticsearchWorkMetrics getWorkMetrics() {
+		return workMetrics;
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -157,6 +157,12 @@ public URLEncodedString getElasticsearchIndexWriteName() {
 		return model.getNames().getWrite();
 	}
 
+	@Override
+	public URLEncodedString getElasticsearchIndexMirrorWriteName(CompletableFuture<?> completion) {
+		ElasticsearchIndexSchemaManager currentSchemaManager = schemaManager;
+		return currentSchemaManager == null ? null : currentSchemaManager.getMirrorWriteName( completion );
+	}
+
 	@Override
 	public String toElasticsearchId(String tenantId, String id) {
 		return backendContext.toElasticsearchId( tenantId, id );
@@ -209,7 +215,7 @@ public IndexIndexer createIndexer(BackendSessionContext sessionContext) {
 	@Override
 	public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext) {
 		return backendContext.createWorkspace(
-				this, sessionContext
+				this, schemaManager, sessionContext, getBackendAndIndexEventContext()
 		);
 	}
 
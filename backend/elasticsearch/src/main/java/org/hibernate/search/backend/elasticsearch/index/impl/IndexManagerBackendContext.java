@@ -39,8 +39,10 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import com.google.gson.Gson;
@@ -55,6 +57,8 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
+	private final SearchQueryMetrics queryMetrics;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
@@ -66,6 +70,8 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
 			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder,
+			SearchQueryMetrics queryMetrics,
 			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
@@ -75,6 +81,8 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
+		this.queryMetrics = queryMetrics;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
@@ -119,12 +127,13 @@ public IndexIndexer createIndexer(
 
 	@Override
 	public IndexWorkspace createWorkspace(WorkExecutionIndexManagerContext indexManagerContext,
-			DetachedBackendSessionContext sessionContext) {
+			ElasticsearchIndexSchemaManager schemaManager,
+			DetachedBackendSessionContext sessionContext, EventContext indexEventContext) {
 		multiTenancyStrategy.documentIdHelper().checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 
 		return new ElasticsearchIndexWorkspace(
 				link.getWorkBuilderFactory(), multiTenancyStrategy, generalPurposeOrchestrator,
-				indexManagerContext, sessionContext
+				indexManagerContext, schemaManager, sessionContext, indexEventContext
 		);
 	}
 
@@ -140,6 +149,7 @@ public ElasticsearchSearchContext createSearchContext(BackendMappingContext mapp
 				mappingContext,
 				userFacingGson, link.getSearchSyntax(),
 				multiTenancyStrategy,
+				queryMetrics,
 				indexes
 		);
 	}
@@ -185,7 +195,8 @@ ElasticsearchBatchingWorkOrchestrator createIndexingOrchestrator(String indexNam
 		return new ElasticsearchBatchingWorkOrchestrator(
 				"Elasticsearch indexing orchestrator for index " + indexName,
 				threads, link,
-				failureHandler
+				failureHandler,
+				metricsRecorder
 		);
 	}
 
@@ -23,6 +23,24 @@ public interface IndexLayoutStrategy {
 	 */
 	String createInitialElasticsearchIndexName(String hibernateSearchIndexName);
 
+	/**
+	 * Generates a new non-alias Elasticsearch name for an index,
+	 * to be used for a fresh copy of an existing index.
+	 * <p>
+	 * Optional operation: this method only has to be implemented
+	 * when mass indexing into fresh indexes.
+	 * <p>
+	 * The returned name must be different from the current name.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of an index.
+	 * @param currentElasticsearchIndexName The current non-alias Elasticsearch name for this index.
+	 * @return The new non-alias Elasticsearch name for this index.
+	 */
+	default String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Generates the write alias for an index.
 	 * <p>
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.layout.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,11 +32,30 @@ public final class DefaultIndexLayoutStrategy implements IndexLayoutStrategy {
 
 	public static final Pattern UNIQUE_KEY_EXTRACTION_PATTERN = Pattern.compile( "(.*)-\\d{6}" );
 
+	private static final Pattern INDEX_NAME_COUNTER_EXTRACTION_PATTERN = Pattern.compile( ".*-(\\d{6})" );
+
+	private static final int INDEX_NAME_COUNTER_BOUND = 1_000_000;
+
 	@Override
 	public String createInitialElasticsearchIndexName(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-000001";
 	}
 
+	@Override
+	public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		Matcher matcher = INDEX_NAME_COUNTER_EXTRACTION_PATTERN.matcher( currentElasticsearchIndexName );
+		if ( !matcher.matches() ) {
+			return createInitialElasticsearchIndexName( hibernateSearchIndexName );
+		}
+		int nextCounter = ( Integer.parseInt( matcher.group( 1 ) ) + 1 ) % INDEX_NAME_COUNTER_BOUND;
+		if ( nextCounter == 0 ) {
+			// Wrap around, skipping 0 like Elasticsearch's Rollover API
+			nextCounter = 1;
+		}
+		return String.format( Locale.ROOT, "%s-%06d", hibernateSearchIndexName, nextCounter );
+	}
+
 	@Override
 	public String createWriteAlias(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-write";
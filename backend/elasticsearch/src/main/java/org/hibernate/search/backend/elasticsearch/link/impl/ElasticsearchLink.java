@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkMetrics;
 
 /**
  * Represent the "link" to an Elasticsearch cluster,
@@ -33,4 +34,6 @@ public interface ElasticsearchLink {
 
 	ElasticsearchSearchResultExtractorFactory getSearchResultExtractorFactory();
 
+	ElasticsearchWorkMetrics getWorkMetrics();
+
 }
@@ -27,6 +27,7 @@
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.projection.SearchProjection;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
@@ -677,4 +678,28 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 					+ " Make sure to call '.multi()' when you create the projection.")
 	SearchException invalidSingleValuedProjectionOnMultiValuedField(String absolutePath, @Param EventContext context);
 
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_3 + 114,
+			value = "Slow query: execution took %1$sms. Targeted indexes: %2$s. Elasticsearch query: '%3$s', profile: %4$s")
+	void slowQuery(long tookMillis, Set<String> indexNames, JsonObject payload, SearchQueryProfile profile);
+
+	@Message(id = ID_OFFSET_3 + 115,
+			value = "Indexing into a fresh index is not supported when multi-tenancy is enabled:"
+					+ " the fresh index would only contain documents of a single tenant.")
+	SearchException freshIndexNotSupportedWithMultiTenancy(@Param EventContext context);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 116,
+			value = "Created fresh Elasticsearch index '%1$s' to replace index '%2$s'. Writes are now redirected to '%1$s'.")
+	void createdFreshIndex(Object freshIndexName, Object previousIndexName);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 117,
+			value = "Switched reads to fresh Elasticsearch index '%1$s'. Dropping previous index '%2$s'.")
+	void switchedToFreshIndex(Object freshIndexName, Object previousIndexName);
+
+	@Message(id = ID_OFFSET_3 + 118,
+			value = "Elasticsearch query failed as part of a multi-search request: %1$s\nElasticsearch query: '%2$s'")
+	SearchException multiSearchQueryFailed(JsonObject error, JsonObject payload);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl;
 
 import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
 
 /**
  * Settings for an Elasticsearch index.
@@ -16,6 +17,12 @@ public class IndexSettings {
 
 	private Analysis analysis;
 
+	@SerializedName("refresh_interval")
+	private String refreshInterval;
+
+	@SerializedName("number_of_replicas")
+	private Integer numberOfReplicas;
+
 	public Analysis getAnalysis() {
 		return analysis;
 	}
@@ -24,6 +31,22 @@ public void setAnalysis(Analysis analysis) {
 		this.analysis = analysis;
 	}
 
+	public String getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	public void setRefreshInterval(String refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+
+	public Integer getNumberOfReplicas() {
+		return numberOfReplicas;
+	}
+
+	public void setNumberOfReplicas(Integer numberOfReplicas) {
+		this.numberOfReplicas = numberOfReplicas;
+	}
+
 	public boolean isEmpty() {
 		return analysis == null || analysis.isEmpty();
 	}
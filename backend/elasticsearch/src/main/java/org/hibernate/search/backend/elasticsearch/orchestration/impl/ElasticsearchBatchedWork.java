@@ -9,16 +9,21 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
-import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.impl.Futures;
 
-class ElasticsearchBatchedWork<T> implements BatchedWork<ElasticsearchBatchedWorkProcessor> {
+class ElasticsearchBatchedWork<T> implements CoalescableBatchedWork<ElasticsearchBatchedWorkProcessor> {
 	private final IndexingWork<T> work;
 	private final CompletableFuture<T> future;
+	private final WorkSubmissionMode submissionMode;
 
-	ElasticsearchBatchedWork(IndexingWork<T> work, CompletableFuture<T> future) {
+	ElasticsearchBatchedWork(IndexingWork<T> work, CompletableFuture<T> future, WorkSubmissionMode submissionMode) {
 		this.work = work;
 		this.future = future;
+		this.submissionMode = submissionMode;
 	}
 
 	@Override
@@ -31,7 +36,49 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		if ( work instanceof SingleDocumentIndexingWork ) {
+			return ( (SingleDocumentIndexingWork) work ).getCoalescingKey();
+		}
+		return null;
+	}
+
+	@Override
+	public boolean supersede(CoalescableBatchedWork<?> previousWork) {
+		// Index and delete operations both replace the whole document,
+		// so any single-document work supersedes previous works on the same document...
+		if ( !( work instanceof SingleDocumentIndexingWork ) || !( previousWork instanceof ElasticsearchBatchedWork ) ) {
+			return false;
+		}
+		ElasticsearchBatchedWork<?> previous = (ElasticsearchBatchedWork<?>) previousWork;
+		if ( !( previous.work instanceof SingleDocumentIndexingWork ) ) {
+			return false;
+		}
+		// ... as long as we don't skip a refresh that the previous work required.
+		DocumentRefreshStrategy refreshStrategy = ( (SingleDocumentIndexingWork) work ).getRefreshStrategy();
+		DocumentRefreshStrategy previousRefreshStrategy =
+				( (SingleDocumentIndexingWork) previous.work ).getRefreshStrategy();
+		if ( !DocumentRefreshStrategy.NONE.equals( previousRefreshStrategy )
+				&& !previousRefreshStrategy.equals( refreshStrategy ) ) {
+			return false;
+		}
+		// Both works are single-document works, so both futures hold the same type of result.
+		@SuppressWarnings("unchecked")
+		CompletableFuture<T> previousFuture = (CompletableFuture<T>) previous.future;
+		future.whenComplete( Futures.copyHandler( previousFuture ) );
+		return true;
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
+
+	CompletableFuture<T> getFuture() {
+		return future;
+	}
+
+	WorkSubmissionMode getSubmissionMode() {
+		return submissionMode;
+	}
 }
@@ -14,10 +14,14 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutorSettings;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutorRouter;
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
-import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
 
 /**
@@ -45,6 +49,28 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> COALESCING_WINDOW =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_COALESCING_WINDOW )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> QUEUE_REBALANCING =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_REBALANCING )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_REBALANCING )
+					.build();
+
+	private static final ConfigurationProperty<IndexingQueueOverflowStrategyName> QUEUE_OVERFLOW_STRATEGY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_OVERFLOW_STRATEGY )
+					.as( IndexingQueueOverflowStrategyName.class, IndexingQueueOverflowStrategyName::of )
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_OVERFLOW_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUEUE_OVERFLOW_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_OVERFLOW_TIMEOUT )
+					.asLong()
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_BULK_SIZE =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
 					.asInteger()
@@ -53,27 +79,31 @@
 
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
 
 	private BatchingExecutor<ElasticsearchBatchedWorkProcessor>[] executors;
+	private BatchingExecutorRouter<ElasticsearchBatchedWorkProcessor> router;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
 	 * @param threads The threads for this backend.
 	 * @param link The Elasticsearch link for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRecorder A recorder for metrics about the indexing queues.
 	 */
 	public ElasticsearchBatchingWorkOrchestrator(
 			String name, BackendThreads threads, ElasticsearchLink link,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, MetricsRecorder metricsRecorder) {
 		super( name, link );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
 	public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
 		CompletableFuture<T> future = new CompletableFuture<>();
-		submit( new ElasticsearchBatchedWork<>( work, future ) );
+		submit( future, work );
 		return future;
 	}
 
@@ -81,10 +111,20 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		Integer coalescingWindow = COALESCING_WINDOW.get( propertySource ).orElse( null );
+		boolean rebalancing = QUEUE_REBALANCING.get( propertySource );
+		IndexingQueueOverflowStrategyName overflowStrategy = QUEUE_OVERFLOW_STRATEGY.get( propertySource );
+		Long overflowTimeout = QUEUE_OVERFLOW_TIMEOUT.get( propertySource ).orElse( null );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
+		BatchingExecutorSettings settings = BatchingExecutorSettings.builder( queueSize )
+				.coalescingWindow( coalescingWindow )
+				.metricsRecorder( metricsRecorder )
+				.overflow( overflowStrategy, overflowTimeout )
+				.build();
+
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
 			// Processors are not thread-safe: create one per executor.
@@ -92,12 +132,13 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 			executors[i] = new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
-					queueSize,
-					true,
+					settings,
 					failureHandler
 			);
 		}
 
+		router = new BatchingExecutorRouter<>( name(), executors, rebalancing, metricsRecorder );
+
 		for ( BatchingExecutor<?> executor : executors ) {
 			executor.start( threads.getWorkExecutor() );
 		}
@@ -105,8 +146,7 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 
 	@Override
 	protected void doSubmit(ElasticsearchBatchedWork<?> work) throws InterruptedException {
-		SimpleHashFunction.pick( executors, work.getQueuingKey() )
-				.submit( work );
+		router.submit( work.getQueuingKey(), work, work.getFuture(), work.getSubmissionMode() );
 	}
 
 	@Override
@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
 
 /**
  * A thread-safe component ordering and planning the execution of works
@@ -38,12 +39,23 @@ public interface ElasticsearchSerialWorkOrchestrator {
 
 	default <T> CompletableFuture<T> submit(IndexingWork<T> work) {
 		CompletableFuture<T> future = new CompletableFuture<>();
-		submit( new ElasticsearchBatchedWork<>( work, future ) );
+		submit( future, work );
 		return future;
 	}
 
 	default <T> void submit(CompletableFuture<T> future, IndexingWork<T> work) {
-		submit( new ElasticsearchBatchedWork<>( work, future ) );
+		submit( future, work, WorkSubmissionMode.BLOCKING );
+	}
+
+	/**
+	 * @param future The future to complete when the work is executed.
+	 * @param work The work to submit.
+	 * @param submissionMode How to behave if the queue is full:
+	 * only works submitted by indexing plans should be subject to the configured overflow strategy.
+	 * @param <T> The type of the work result.
+	 */
+	default <T> void submit(CompletableFuture<T> future, IndexingWork<T> work, WorkSubmissionMode submissionMode) {
+		submit( new ElasticsearchBatchedWork<>( work, future, submissionMode ) );
 	}
 
 	void submit(ElasticsearchBatchedWork<?> work);
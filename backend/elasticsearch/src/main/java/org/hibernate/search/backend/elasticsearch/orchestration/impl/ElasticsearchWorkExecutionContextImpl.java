@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkMetrics;
 
 /**
  * The execution context for works.
@@ -19,10 +20,13 @@ class ElasticsearchWorkExecutionContextImpl implements ElasticsearchWorkExecutio
 
 	private final ElasticsearchClient client;
 	private final GsonProvider gsonProvider;
+	private final ElasticsearchWorkMetrics workMetrics;
 
-	public ElasticsearchWorkExecutionContextImpl(ElasticsearchClient client, GsonProvider gsonProvider) {
+	public ElasticsearchWorkExecutionContextImpl(ElasticsearchClient client, GsonProvider gsonProvider,
+			ElasticsearchWorkMetrics workMetrics) {
 		this.client = client;
 		this.gsonProvider = gsonProvider;
+		this.workMetrics = workMetrics;
 	}
 
 	@Override
@@ -35,4 +39,9 @@ public GsonProvider getGsonProvider() {
 		return gsonProvider;
 	}
 
+	@Override
+	public ElasticsearchWorkMetrics getWorkMetrics() {
+		return workMetrics;
+	}
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.schema.management.impl;
+
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+/**
+ * A fresh copy of an index, created to be filled from scratch
+ * while reads keep targeting the previous index.
+ *
+ * @see ElasticsearchIndexSchemaManager#createFreshIndex()
+ */
+public final class ElasticsearchFreshIndex {
+
+	private final URLEncodedString previousPrimaryName;
+	private final IndexSettings previousSettings;
+	private final URLEncodedString freshPrimaryName;
+
+	ElasticsearchFreshIndex(URLEncodedString previousPrimaryName, IndexSettings previousSettings,
+			URLEncodedString freshPrimaryName) {
+		this.previousPrimaryName = previousPrimaryName;
+		this.previousSettings = previousSettings;
+		this.freshPrimaryName = freshPrimaryName;
+	}
+
+	@Override
+	public String toString() {
+		return "ElasticsearchFreshIndex[" +
+				"previousPrimaryName=" + previousPrimaryName +
+				", freshPrimaryName=" + freshPrimaryName +
+				"]";
+	}
+
+	URLEncodedString getPreviousPrimaryName() {
+		return previousPrimaryName;
+	}
+
+	IndexSettings getPreviousSettings() {
+		return previousSettings;
+	}
+
+	URLEncodedString getFreshPrimaryName() {
+		return freshPrimaryName;
+	}
+}
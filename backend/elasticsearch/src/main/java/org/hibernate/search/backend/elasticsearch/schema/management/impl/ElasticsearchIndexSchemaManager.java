@@ -6,29 +6,70 @@
  */
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class ElasticsearchIndexSchemaManager implements IndexSchemaManager {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * Disables periodic refreshes: they are useless while filling an index from scratch.
+	 */
+	private static final String FRESH_INDEX_REFRESH_INTERVAL = "-1";
+	/**
+	 * Disables replication: it is cheaper to copy the complete index to replicas once it's filled.
+	 */
+	private static final int FRESH_INDEX_NUMBER_OF_REPLICAS = 0;
+
+	// Elasticsearch defaults, restored when the previous index did not set a value explicitly
+	private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+	private static final int DEFAULT_NUMBER_OF_REPLICAS = 1;
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaCreator schemaCreator;
 	private final ElasticsearchSchemaDropper schemaDropper;
 	private final ElasticsearchSchemaValidator schemaValidator;
 	private final ElasticsearchSchemaMigrator schemaMigrator;
 
+	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final IndexNames indexNames;
 	private final IndexMetadata expectedMetadata;
 	private final ElasticsearchIndexLifecycleExecutionOptions executionOptions;
 
+	/*
+	 * While a fresh index is being filled, the write alias targets the fresh index
+	 * but searches still target the previous index:
+	 * indexing plans must send their writes to the previous index too,
+	 * so that these writes are visible in searches and survive a rollback.
+	 * This only works for writes performed by this JVM: other nodes are not aware of the fresh index.
+	 */
+	private volatile URLEncodedString mirrorWriteName;
+	/*
+	 * Completed once the works of each indexing plan that targets the mirror have been executed,
+	 * so that the previous index is not dropped while such works are still queued.
+	 * Accessed while holding the lock on this object, so that no plan can start writing to the mirror
+	 * after the switch has collected the pending writes.
+	 */
+	private final Set<CompletableFuture<?>> pendingMirrorWrites = ConcurrentHashMap.newKeySet();
+
 	public ElasticsearchIndexSchemaManager(ElasticsearchWorkBuilderFactory workBuilderFactory,
 			ElasticsearchParallelWorkOrchestrator workOrchestrator,
 			IndexLayoutStrategy indexLayoutStrategy,
@@ -41,6 +82,7 @@ public ElasticsearchIndexSchemaManager(ElasticsearchWorkBuilderFactory workBuild
 		this.schemaValidator = new ElasticsearchSchemaValidatorImpl();
 		this.schemaMigrator = new ElasticsearchSchemaMigratorImpl( schemaAccessor, schemaValidator );
 
+		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.indexNames = indexNames;
 		this.expectedMetadata = expectedMetadata;
 		this.executionOptions = executionOptions;
@@ -110,4 +152,139 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 						: schemaAccessor.waitForIndexStatus( indexNames, executionOptions )
 				);
 	}
+
+	/**
+	 * @param completion A future that the caller will complete once its writes to the mirror have been executed,
+	 * successfully or not. The previous index will not be dropped until then.
+	 * @return The name of the index that indexing plans must write to in addition to the write alias,
+	 * or {@code null} if no fresh index is being filled, in which case {@code completion} is ignored.
+	 * @see #createFreshIndex()
+	 */
+	public URLEncodedString getMirrorWriteName(CompletableFuture<?> completion) {
+		if ( mirrorWriteName == null ) {
+			// Fast path: no fresh index is being filled
+			return null;
+		}
+		synchronized ( this ) {
+			URLEncodedString currentMirrorWriteName = mirrorWriteName;
+			if ( currentMirrorWriteName != null && pendingMirrorWrites.add( completion ) ) {
+				completion.whenComplete( (ignored, throwable) -> pendingMirrorWrites.remove( completion ) );
+			}
+			return currentMirrorWriteName;
+		}
+	}
+
+	/**
+	 * Creates a fresh, empty copy of the index with refreshes and replicas disabled,
+	 * then atomically moves the write alias to that copy.
+	 * The read alias is left untouched, so searches keep targeting the previous index.
+	 * <p>
+	 * Until {@link #switchToFreshIndex(ElasticsearchFreshIndex)} or {@link #dropFreshIndex(ElasticsearchFreshIndex)}
+	 * is called, indexing plans write to both the fresh index and the previous index:
+	 * see {@link #getMirrorWriteName()}.
+	 *
+	 * @return A future holding the fresh index, to pass to {@link #switchToFreshIndex(ElasticsearchFreshIndex)}
+	 * or {@link #dropFreshIndex(ElasticsearchFreshIndex)}.
+	 */
+	public CompletableFuture<ElasticsearchFreshIndex> createFreshIndex() {
+		return schemaAccessor.getCurrentIndexMetadata( indexNames )
+				.thenCompose( previousIndexMetadata -> {
+					String previousPrimaryName = previousIndexMetadata.getPrimaryName();
+					ElasticsearchFreshIndex freshIndex = new ElasticsearchFreshIndex(
+							URLEncodedString.fromString( previousPrimaryName ),
+							previousIndexMetadata.getMetadata().getSettings(),
+							IndexNames.encodeName( indexLayoutStrategy.createNextElasticsearchIndexName(
+									indexNames.getHibernateSearch(), previousPrimaryName
+							) )
+					);
+					return createFreshIndex( freshIndex );
+				} );
+	}
+
+	/**
+	 * Restores refreshes and replicas on the fresh index and merges its segments,
+	 * then atomically moves the read alias to the fresh index and drops the previous index.
+	 * <p>
+	 * Indexing plans stop writing to the previous index as soon as this method is called,
+	 * and the previous index is only dropped once the writes already sent to it have been executed:
+	 * until the read alias is moved, searches will not reflect writes performed in the meantime.
+	 *
+	 * @param freshIndex The fresh index returned by {@link #createFreshIndex()}.
+	 * @return A future that completes when the previous index has been dropped.
+	 */
+	public CompletableFuture<?> switchToFreshIndex(ElasticsearchFreshIndex freshIndex) {
+		URLEncodedString freshName = freshIndex.getFreshPrimaryName();
+		URLEncodedString previousName = freshIndex.getPreviousPrimaryName();
+		IndexSettings previousSettings = freshIndex.getPreviousSettings();
+
+		IndexSettings restoredSettings = new IndexSettings();
+		restoredSettings.setRefreshInterval( previousSettings.getRefreshInterval() == null
+				? DEFAULT_REFRESH_INTERVAL : previousSettings.getRefreshInterval() );
+		restoredSettings.setNumberOfReplicas( previousSettings.getNumberOfReplicas() == null
+				? DEFAULT_NUMBER_OF_REPLICAS : previousSettings.getNumberOfReplicas() );
+
+		CompletableFuture<?> mirrorWritesDone;
+		synchronized ( this ) {
+			mirrorWriteName = null;
+			mirrorWritesDone = CompletableFuture.allOf( pendingMirrorWrites.toArray( new CompletableFuture<?>[0] ) );
+		}
+
+		// Merge segments before enabling replicas, so that replicas copy the merged segments
+		return schemaAccessor.mergeSegments( freshName )
+				.thenCompose( ignored -> schemaAccessor.updateSettings( freshName, restoredSettings ) )
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) )
+				.thenCompose( ignored -> schemaAccessor.moveAliases( previousName, freshName,
+						aliasSubset( indexNames.getRead() ) ) )
+				.thenRun( () -> log.switchedToFreshIndex( freshName, previousName ) )
+				// Queued works may still target the previous index
+				.thenCompose( ignored -> mirrorWritesDone )
+				.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( previousName ) );
+	}
+
+	/**
+	 * Moves the write alias back to the previous index and drops the fresh index.
+	 *
+	 * @param freshIndex The fresh index returned by {@link #createFreshIndex()}.
+	 * @return A future that completes when the fresh index has been dropped.
+	 */
+	public CompletableFuture<?> dropFreshIndex(ElasticsearchFreshIndex freshIndex) {
+		URLEncodedString freshName = freshIndex.getFreshPrimaryName();
+		return schemaAccessor.moveAliases( freshName, freshIndex.getPreviousPrimaryName(),
+						aliasSubset( indexNames.getWrite() ) )
+				// Writes now reach the previous index through the write alias
+				.thenRun( () -> mirrorWriteName = null )
+				.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( freshName ) );
+	}
+
+	private CompletableFuture<ElasticsearchFreshIndex> createFreshIndex(ElasticsearchFreshIndex freshIndex) {
+		URLEncodedString freshName = freshIndex.getFreshPrimaryName();
+		URLEncodedString previousName = freshIndex.getPreviousPrimaryName();
+
+		IndexSettings freshSettings = new IndexSettings();
+		freshSettings.setAnalysis( expectedMetadata.getSettings().getAnalysis() );
+		freshSettings.setRefreshInterval( FRESH_INDEX_REFRESH_INTERVAL );
+		freshSettings.setNumberOfReplicas( FRESH_INDEX_NUMBER_OF_REPLICAS );
+
+		// Drop any leftover from a previous, failed attempt: it can't be in use, since both aliases target the previous index
+		return schemaAccessor.dropIndexIfExisting( freshName )
+				.thenCompose( ignored -> schemaAccessor.createIndexAssumeNonExisting(
+						freshName, Collections.emptyMap(), freshSettings, expectedMetadata.getMapping()
+				) )
+				// Mirror writes before moving the write alias, so that no write reaches the fresh index only
+				.thenRun( () -> mirrorWriteName = previousName )
+				.thenCompose( ignored -> schemaAccessor.moveAliases( previousName, freshName,
+						aliasSubset( indexNames.getWrite() ) ) )
+				.whenComplete( (ignored, throwable) -> {
+					if ( throwable != null ) {
+						// The write alias was not moved: writes reach the previous index through the write alias
+						mirrorWriteName = null;
+					}
+				} )
+				.thenRun( () -> log.createdFreshIndex( freshName, previousName ) )
+				.thenApply( ignored -> freshIndex );
+	}
+
+	private Map<String, IndexAliasDefinition> aliasSubset(URLEncodedString alias) {
+		return Collections.singletonMap( alias.original, expectedMetadata.getAliases().get( alias.original ) );
+	}
 }
@@ -122,6 +122,24 @@ public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, I
 				} ) );
 	}
 
+	public CompletableFuture<?> moveAliases(URLEncodedString previousIndexName, URLEncodedString indexName,
+			Map<String, IndexAliasDefinition> aliases) {
+		NonBulkableWork<?> work = getWorkFactory().putIndexAliases( indexName, aliases )
+				.moveFrom( previousIndexName )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchSettingsUpdateFailed(
+							indexName.original, Throwables.expectException( e )
+					);
+				} ) );
+	}
+
+	public CompletableFuture<?> mergeSegments(URLEncodedString indexName) {
+		NonBulkableWork<?> work = getWorkFactory().mergeSegments().index( indexName ).build();
+		return execute( work );
+	}
+
 	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
 		return execute( work )
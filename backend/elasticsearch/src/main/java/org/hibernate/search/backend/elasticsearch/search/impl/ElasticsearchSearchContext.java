@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentIdentifierValueConvertContextImpl;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -28,6 +29,7 @@ public final class ElasticsearchSearchContext {
 	private final Gson userFacingGson;
 	private final ElasticsearchSearchSyntax searchSyntax;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final SearchQueryMetrics queryMetrics;
 
 	// Targeted indexes
 	private final ElasticsearchSearchIndexesContext indexes;
@@ -35,12 +37,14 @@ public final class ElasticsearchSearchContext {
 	public ElasticsearchSearchContext(BackendMappingContext mappingContext,
 			Gson userFacingGson, ElasticsearchSearchSyntax searchSyntax,
 			MultiTenancyStrategy multiTenancyStrategy,
+			SearchQueryMetrics queryMetrics,
 			ElasticsearchSearchIndexesContext indexes) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
 		this.userFacingGson = userFacingGson;
 		this.searchSyntax = searchSyntax;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.queryMetrics = queryMetrics;
 		this.indexes = indexes;
 	}
 
@@ -68,6 +72,10 @@ public ElasticsearchSearchIndexesContext indexes() {
 		return indexes;
 	}
 
+	public SearchQueryMetrics queryMetrics() {
+		return queryMetrics;
+	}
+
 	public JsonObject filterOrNull(String tenantId) {
 		return multiTenancyStrategy.filterOrNull( tenantId );
 	}
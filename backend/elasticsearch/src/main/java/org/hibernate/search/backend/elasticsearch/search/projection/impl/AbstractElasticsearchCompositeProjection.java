@@ -72,6 +72,16 @@ public final P transform(LoadingResult<?> loadingResult, Object[] extractedData,
 		return doTransform( extractedData );
 	}
 
+	@Override
+	public final boolean requiresLoading() {
+		for ( ElasticsearchSearchProjection<?, ?> child : children ) {
+			if ( child.requiresLoading() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public final Set<String> getIndexNames() {
 		return indexNames;
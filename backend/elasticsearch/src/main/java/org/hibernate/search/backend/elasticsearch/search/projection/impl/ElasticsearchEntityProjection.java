@@ -45,6 +45,11 @@ public E transform(LoadingResult<?> loadingResult, Object extractedData,
 		return loaded;
 	}
 
+	@Override
+	public boolean requiresLoading() {
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
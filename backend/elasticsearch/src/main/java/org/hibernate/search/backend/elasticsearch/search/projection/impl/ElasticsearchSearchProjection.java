@@ -53,6 +53,14 @@ E extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 	 */
 	P transform(LoadingResult<?> loadingResult, E extractedData, SearchProjectionTransformContext context);
 
+	/**
+	 * @return {@code true} if this projection loads entities through the {@link ProjectionHitMapper},
+	 * {@code false} otherwise.
+	 */
+	default boolean requiresLoading() {
+		return false;
+	}
+
 	/**
 	 * Transform the extracted data and cast it to the right type.
 	 * <p>
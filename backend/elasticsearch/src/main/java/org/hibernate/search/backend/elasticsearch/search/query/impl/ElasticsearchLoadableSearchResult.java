@@ -11,17 +11,20 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
- * Allows to run loading in the user thread, and not in the backend HTTP request threads.
+ * Allows to run loading in the user thread, and not in the backend HTTP request threads,
+ * unless loading is explicitly requested to be {@link #loadAsync(SearchQueryProfiler) asynchronous}.
  * <p>
  * <strong>WARNING:</strong> loading should only be triggered once.
  * <p>
@@ -54,10 +57,21 @@
 		this.timedOut = timedOut;
 	}
 
-	ElasticsearchSearchResult<H> loadBlocking() {
-		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
-
+	ElasticsearchSearchResult<H> loadBlocking(SearchQueryProfiler profiler) {
+		long profilerStartTime = profiler.start();
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
+		return transform( loadingResult, profiler, profilerStartTime );
+	}
+
+	CompletionStage<ElasticsearchSearchResult<H>> loadAsync(SearchQueryProfiler profiler) {
+		long profilerStartTime = profiler.start();
+		return extractContext.getProjectionHitMapper().loadAsync()
+				.thenApply( loadingResult -> transform( loadingResult, profiler, profilerStartTime ) );
+	}
+
+	private ElasticsearchSearchResult<H> transform(LoadingResult<?> loadingResult, SearchQueryProfiler profiler,
+			long profilerStartTime) {
+		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -88,9 +102,11 @@ ElasticsearchSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedHits = null;
 
+		profiler.recordSince( SearchQueryProfiler.PHASE_LOADING, profilerStartTime );
+
 		return new ElasticsearchSearchResultImpl<>(
 				extractContext.getResponseBody(),
 				hitCount, loadedHits, extractedAggregations
-		, took, timedOut );
+		, took, timedOut, profiler.toProfile() );
 	}
 }
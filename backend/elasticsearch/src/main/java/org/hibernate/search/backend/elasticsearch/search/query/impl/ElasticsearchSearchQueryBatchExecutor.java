@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Executes all queries of a batch targeting the same cluster in a single {@code _msearch} request.
+ */
+final class ElasticsearchSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+
+	ElasticsearchSearchQueryBatchExecutor(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		ElasticsearchSearchQueryBatchExecutor other = (ElasticsearchSearchQueryBatchExecutor) obj;
+		return workFactory == other.workFactory && queryOrchestrator == other.queryOrchestrator;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( System.identityHashCode( workFactory ), System.identityHashCode( queryOrchestrator ) );
+	}
+
+	@Override
+	public void execute(List<SearchQueryBatchElement<?>> elements) {
+		MultiSearchWorkBuilder builder = workFactory.multiSearch();
+		List<ElasticsearchSearchQueryImpl.BatchedExecution<?>> executions = new ArrayList<>( elements.size() );
+		for ( SearchQueryBatchElement<?> element : elements ) {
+			executions.add( prepare( element, builder ) );
+		}
+
+		List<JsonObject> responses = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( builder.build() ) );
+
+		for ( int i = 0; i < executions.size(); i++ ) {
+			// WARNING: this runs in the user thread, because loading may block.
+			executions.get( i ).complete( responses.get( i ) );
+		}
+	}
+
+	@SuppressWarnings("unchecked") // By contract, only queries returning this executor are passed to execute()
+	private static <H> ElasticsearchSearchQueryImpl.BatchedExecution<H> prepare(SearchQueryBatchElement<H> element,
+			MultiSearchWorkBuilder builder) {
+		ElasticsearchSearchQueryImpl<H> query = (ElasticsearchSearchQueryImpl<H>) element.query();
+		return query.prepareBatchedExecution( element, builder );
+	}
+
+}
@@ -218,7 +218,7 @@ public ElasticsearchSearchQuery<H> build() {
 
 		return new ElasticsearchSearchQueryImpl<>(
 				workFactory, queryOrchestrator,
-				searchContext, sessionContext, loadingContext, routingKeys,
+				searchContext, sessionContext, loadingContext, rootProjection, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
 				timeoutValue, timeoutUnit, exceptionOnTimeout
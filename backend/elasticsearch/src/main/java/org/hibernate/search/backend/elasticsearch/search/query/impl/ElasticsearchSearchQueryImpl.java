@@ -11,17 +11,20 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
@@ -29,9 +32,16 @@
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonElement;
@@ -42,17 +52,26 @@
 		implements ElasticsearchSearchQuery<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	/**
 	 * ES default limit for (limit + offset); any search query beyond that limit will be rejected.
 	 */
 	private static final int MAX_RESULT_WINDOW_SIZE = 10000;
 
+	/**
+	 * The profiling phase covering the HTTP request and the extraction of hits from the response.
+	 */
+	private static final String PHASE_REQUEST = "request";
+
+	private static final JsonAccessor<JsonObject> ERROR_ACCESSOR = JsonAccessor.root().property( "error" ).asObject();
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
+	private final ElasticsearchSearchProjection<?, H> rootProjection;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
@@ -67,6 +86,7 @@
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
+			ElasticsearchSearchProjection<?, H> rootProjection,
 			Set<String> routingKeys,
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
@@ -77,6 +97,7 @@
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
+		this.rootProjection = rootProjection;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.requestTransformer = requestTransformer;
@@ -105,8 +126,98 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = createSearchWork( offset, limit );
+
+		SearchQueryMetrics metrics = searchContext.queryMetrics();
+		SearchQueryProfiler profiler = metrics.createProfiler();
+		long startTime = metrics.executionTimer().start();
+		long profilerStartTime = profiler.start();
+		ElasticsearchLoadableSearchResult<H> loadableResult =
+				Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		profiler.recordSince( PHASE_REQUEST, profilerStartTime );
+		metrics.executionTimer().recordSince( startTime );
+		startTime = metrics.loadingTimer().start();
+		ElasticsearchSearchResult<H> result = loadableResult
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * See fetchAsync() for loading that does not require the user thread.
+				 */
+				.loadBlocking( profiler );
+		metrics.loadingTimer().recordSince( startTime );
+		logIfSlow( result );
+		return result;
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		if ( rootProjection.requiresLoading() && !loadingContext.supportsAsyncLoading() ) {
+			// The mapper can only load entities in the calling thread, e.g. with a Hibernate ORM session:
+			// execute the query in the calling thread too.
+			return super.fetchAsync( offset, limit );
+		}
+		SearchQueryMetrics metrics = searchContext.queryMetrics();
+		SearchQueryProfiler profiler = metrics.createProfiler();
+		long startTime = metrics.executionTimer().start();
+		long profilerStartTime = profiler.start();
+		return Futures.create( () -> queryOrchestrator.submit( createSearchWork( offset, limit ) ) )
+				.thenCompose( loadableResult -> {
+					profiler.recordSince( PHASE_REQUEST, profilerStartTime );
+					metrics.executionTimer().recordSince( startTime );
+					long loadingStartTime = metrics.loadingTimer().start();
+					// Loading happens in whichever thread completes the request,
+					// which is fine since the mapper declared it loads entities without blocking.
+					return loadableResult.loadAsync( profiler )
+							.<SearchResult<H>>thenApply( result -> {
+								metrics.loadingTimer().recordSince( loadingStartTime );
+								logIfSlow( result );
+								return result;
+							} );
+				} );
+	}
+
+	@Override
+	public long fetchTotalHitCount() {
+		SearchQueryProfiler profiler = searchContext.queryMetrics().createProfiler();
+		long profilerStartTime = profiler.start();
+		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createCountWork() ) );
+		profiler.recordSince( SearchQueryProfiler.PHASE_COUNT, profilerStartTime );
+		logIfSlow( profiler.toProfile() );
+		return result;
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		SearchQueryProfiler profiler = searchContext.queryMetrics().createProfiler();
+		long profilerStartTime = profiler.start();
+		return Futures.create( () -> queryOrchestrator.submit( createCountWork() ) )
+				.thenApply( result -> {
+					profiler.recordSince( SearchQueryProfiler.PHASE_COUNT, profilerStartTime );
+					logIfSlow( profiler.toProfile() );
+					return result;
+				} );
+	}
+
+	@Override
+	public SearchQueryBatchExecutor batchExecutor() {
+		if ( requestTransformer != null || exceptionOnTimeout ) {
+			// Request transformers apply to a single search request,
+			// and a client-side timeout would apply to the whole multi-search request:
+			// execute such queries on their own.
+			return null;
+		}
+		return new ElasticsearchSearchQueryBatchExecutor( workFactory, queryOrchestrator );
+	}
+
+	BatchedExecution<H> prepareBatchedExecution(SearchQueryBatchElement<H> element, MultiSearchWorkBuilder builder) {
+		builder.search( searchContext.indexes().elasticsearchIndexNames(), routingKeys, payload,
+				defaultedLimit( element.limit(), element.offset() ), element.offset(),
+				timeoutValue, timeoutUnit );
+		return new BatchedExecution<>( this, element );
+	}
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit) {
 		// TODO restore scrolling support. See HSEARCH-3323
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
+		return workFactory.search( payload, searchResultExtractor )
 				.indexes( searchContext.indexes().elasticsearchIndexNames() )
 				.paging( defaultedLimit( limit, offset ), offset )
 				.routingKeys( routingKeys )
@@ -115,27 +226,16 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				)
 				.build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
 	}
 
-	@Override
-	public long fetchTotalHitCount() {
+	private NonBulkableWork<Long> createCountWork() {
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
 			filteredPayload.add( "query", querySubTree.get() );
 		}
 
-		NonBulkableWork<Long> work = workFactory.count( searchContext.indexes().elasticsearchIndexNames() )
+		return workFactory.count( searchContext.indexes().elasticsearchIndexNames() )
 				.query( filteredPayload )
 				.routingKeys( routingKeys )
 				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
@@ -143,7 +243,17 @@ public long fetchTotalHitCount() {
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				)
 				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	}
+
+	private void logIfSlow(ElasticsearchSearchResult<H> result) {
+		result.profile().ifPresent( this::logIfSlow );
+	}
+
+	private void logIfSlow(SearchQueryProfile profile) {
+		if ( profile != null && searchContext.queryMetrics().isSlow( profile ) ) {
+			queryLog.slowQuery( profile.total().toMillis(),
+					searchContext.indexes().hibernateSearchIndexNames(), payload, profile );
+		}
 	}
 
 	@Override
@@ -218,4 +328,45 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		timeoutUnit = timeUnit;
 		exceptionOnTimeout = true;
 	}
+
+	/**
+	 * The execution of this query as part of a multi-search request.
+	 */
+	static final class BatchedExecution<H> {
+		private final ElasticsearchSearchQueryImpl<H> query;
+		private final SearchQueryBatchElement<H> element;
+		private final SearchQueryMetrics metrics;
+		private final SearchQueryProfiler profiler;
+		private final long startTime;
+		private final long profilerStartTime;
+
+		private BatchedExecution(ElasticsearchSearchQueryImpl<H> query, SearchQueryBatchElement<H> element) {
+			this.query = query;
+			this.element = element;
+			this.metrics = query.searchContext.queryMetrics();
+			this.profiler = metrics.createProfiler();
+			this.startTime = metrics.executionTimer().start();
+			this.profilerStartTime = profiler.start();
+		}
+
+		void complete(JsonObject response) {
+			try {
+				Optional<JsonObject> error = ERROR_ACCESSOR.get( response );
+				if ( error.isPresent() ) {
+					throw log.multiSearchQueryFailed( error.get(), query.payload );
+				}
+				ElasticsearchLoadableSearchResult<H> loadableResult = query.searchResultExtractor.extract( response );
+				profiler.recordSince( PHASE_REQUEST, profilerStartTime );
+				metrics.executionTimer().recordSince( startTime );
+				long loadingStartTime = metrics.loadingTimer().start();
+				ElasticsearchSearchResult<H> result = loadableResult.loadBlocking( profiler );
+				metrics.loadingTimer().recordSince( loadingStartTime );
+				query.logIfSlow( result );
+				element.complete( result );
+			}
+			catch (RuntimeException e) {
+				element.completeExceptionally( e );
+			}
+		}
+	}
 }
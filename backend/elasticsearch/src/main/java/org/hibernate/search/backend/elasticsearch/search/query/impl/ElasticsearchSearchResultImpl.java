@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 import com.google.gson.JsonObject;
@@ -22,8 +23,10 @@
 	private final JsonObject responseBody;
 
 	ElasticsearchSearchResultImpl(JsonObject responseBody,
-			long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
+			long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut,
+			SearchQueryProfile profile) {
+		super( hitCount, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut,
+				profile );
 		this.responseBody = responseBody;
 	}
 
@@ -7,8 +7,10 @@
 package org.hibernate.search.backend.elasticsearch.work.builder.factory.impl;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 
 import com.google.gson.JsonObject;
@@ -18,7 +20,8 @@
  * <p>
  * Compared to ES6.3:
  * <ul>
- *     <li>We do NOT set the "allow_partial_search_results" query parameter in search APIs</li>
+ *     <li>We do NOT set the "allow_partial_search_results" query parameter in search APIs,
+ *     nor the corresponding header property in multi-search APIs</li>
  * </ul>
  */
 public class Elasticsearch56WorkBuilderFactory extends Elasticsearch63WorkBuilderFactory {
@@ -33,4 +36,9 @@ public <T> SearchWorkBuilder<T> search(JsonObject payload,
 		return SearchWork.Builder.forElasticsearch62AndBelow( payload, searchResultExtractor );
 	}
 
+	@Override
+	public MultiSearchWorkBuilder multiSearch() {
+		return MultiSearchWork.Builder.forElasticsearch62AndBelow();
+	}
+
 }
@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.builder.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+
+import com.google.gson.JsonObject;
+
+public interface MultiSearchWorkBuilder extends ElasticsearchWorkBuilder<NonBulkableWork<List<JsonObject>>> {
+
+	MultiSearchWorkBuilder search(Collection<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, Integer limit, Integer offset, Long timeoutValue, TimeUnit timeoutUnit);
+
+}
@@ -6,9 +6,18 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 
 
 public interface PutIndexAliasesWorkBuilder extends ElasticsearchWorkBuilder<NonBulkableWork<Void>> {
 
+	/**
+	 * Removes the aliases from the given index in the same atomic operation that adds them to the target index.
+	 *
+	 * @param previousIndexName The index the aliases are currently assigned to.
+	 * @return This builder.
+	 */
+	PutIndexAliasesWorkBuilder moveFrom(URLEncodedString previousIndexName);
+
 }
@@ -11,6 +11,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -35,6 +36,8 @@
 	private final DocumentRefreshStrategy refreshStrategy;
 
 	private final List<SingleDocumentIndexingWork> works = new ArrayList<>();
+	// Completed once the collected works have been executed, so that their mirror index is not dropped before that
+	private CompletableFuture<Void> mirrorWritesCompletion;
 
 	public ElasticsearchIndexIndexingPlan(ElasticsearchWorkBuilderFactory builderFactory,
 			ElasticsearchSerialWorkOrchestrator orchestrator,
@@ -76,6 +79,18 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 						.refresh( refreshStrategy )
 						.build()
 		);
+
+		URLEncodedString mirrorWriteName = getMirrorWriteName();
+		if ( mirrorWriteName != null ) {
+			collect(
+					builderFactory.delete(
+							indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+							mirrorWriteName, elasticsearchId, routingKey
+					)
+							.refresh( refreshStrategy )
+							.build()
+			);
+		}
 	}
 
 	@Override
@@ -88,21 +103,37 @@ public void process() {
 
 	@Override
 	public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport() {
+		CompletableFuture<Void> currentMirrorWritesCompletion = mirrorWritesCompletion;
+		mirrorWritesCompletion = null;
+		CompletableFuture<IndexIndexingPlanExecutionReport<R>> future = null;
 		try {
 			ElasticsearchIndexIndexingPlanExecution<R> execution = new ElasticsearchIndexIndexingPlanExecution<>(
 					orchestrator, entityReferenceFactory,
 					new ArrayList<>( works ) // Copy the list, as we're going to clear it below
 			);
-			return execution.execute();
+			future = execution.execute();
+			return future;
 		}
 		finally {
 			works.clear();
+			if ( currentMirrorWritesCompletion != null ) {
+				if ( future == null ) {
+					currentMirrorWritesCompletion.complete( null );
+				}
+				else {
+					future.whenComplete( (ignored, throwable) -> currentMirrorWritesCompletion.complete( null ) );
+				}
+			}
 		}
 	}
 
 	@Override
 	public void discard() {
 		works.clear();
+		if ( mirrorWritesCompletion != null ) {
+			mirrorWritesCompletion.complete( null );
+			mirrorWritesCompletion = null;
+		}
 	}
 
 	private void index(DocumentReferenceProvider referenceProvider,
@@ -122,6 +153,25 @@ private void index(DocumentReferenceProvider referenceProvider,
 						.refresh( refreshStrategy )
 						.build()
 		);
+
+		URLEncodedString mirrorWriteName = getMirrorWriteName();
+		if ( mirrorWriteName != null ) {
+			collect(
+					builderFactory.index(
+							indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
+							mirrorWriteName, elasticsearchId, routingKey, document
+					)
+							.refresh( refreshStrategy )
+							.build()
+			);
+		}
+	}
+
+	private URLEncodedString getMirrorWriteName() {
+		if ( mirrorWritesCompletion == null ) {
+			mirrorWritesCompletion = new CompletableFuture<>();
+		}
+		return indexManagerContext.getElasticsearchIndexMirrorWriteName( mirrorWritesCompletion );
 	}
 
 	private void collect(SingleDocumentIndexingWork work) {
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
 import org.hibernate.search.util.common.impl.Futures;
 
@@ -61,7 +62,8 @@ CompletableFuture<IndexIndexingPlanExecutionReport<R>> execute() {
 		for ( int i = 0; i < works.size(); i++ ) {
 			CompletableFuture<Void> future = futures[i];
 			SingleDocumentIndexingWork work = works.get( i );
-			orchestrator.submit( future, work );
+			// Indexing plans are subject to the overflow strategy, unlike mass indexing which fills queues by design
+			orchestrator.submit( future, work, WorkSubmissionMode.OVERFLOW_STRATEGY );
 		}
 
 		return reportFuture;
@@ -6,37 +6,57 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.schema.management.impl.ElasticsearchFreshIndex;
+import org.hibernate.search.backend.elasticsearch.schema.management.impl.ElasticsearchIndexSchemaManager;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchIndexWorkspace implements IndexWorkspace {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkBuilderFactory builderFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchParallelWorkOrchestrator orchestrator;
 	private final URLEncodedString indexName;
 	private final DetachedBackendSessionContext sessionContext;
+	private final ElasticsearchIndexSchemaManager schemaManager;
+	private final EventContext eventContext;
+
+	/*
+	 * Set when the future returned by createFreshIndex() completes,
+	 * and read by the callers of switchToFreshIndex()/dropFreshIndex(), which wait for that future first.
+	 */
+	private volatile ElasticsearchFreshIndex freshIndex;
 
 	public ElasticsearchIndexWorkspace(ElasticsearchWorkBuilderFactory builderFactory,
 			MultiTenancyStrategy multiTenancyStrategy, ElasticsearchParallelWorkOrchestrator orchestrator,
 			WorkExecutionIndexManagerContext indexManagerContext,
-			DetachedBackendSessionContext sessionContext) {
+			ElasticsearchIndexSchemaManager schemaManager,
+			DetachedBackendSessionContext sessionContext, EventContext eventContext) {
 		this.builderFactory = builderFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 		this.indexName = indexManagerContext.getElasticsearchIndexWriteName();
+		this.schemaManager = schemaManager;
 		this.sessionContext = sessionContext;
+		this.eventContext = eventContext;
 	}
 
 	@Override
@@ -77,4 +97,36 @@ public CompletableFuture<?> flush() {
 	public CompletableFuture<?> refresh() {
 		return orchestrator.submit( builderFactory.refresh().index( indexName ).build() );
 	}
+
+	@Override
+	public CompletableFuture<?> createFreshIndex() {
+		if ( multiTenancyStrategy.isMultiTenancySupported() ) {
+			throw log.freshIndexNotSupportedWithMultiTenancy( eventContext );
+		}
+		if ( freshIndex != null ) {
+			throw new AssertionFailure( "createFreshIndex() called twice without switching to or dropping the fresh index" );
+		}
+		return schemaManager.createFreshIndex().thenAccept( created -> freshIndex = created );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToFreshIndex() {
+		ElasticsearchFreshIndex toSwitchTo = freshIndex;
+		if ( toSwitchTo == null ) {
+			throw new AssertionFailure( "switchToFreshIndex() called without a successful call to createFreshIndex()" );
+		}
+		freshIndex = null;
+		return schemaManager.switchToFreshIndex( toSwitchTo );
+	}
+
+	@Override
+	public CompletableFuture<?> dropFreshIndex() {
+		ElasticsearchFreshIndex toDrop = freshIndex;
+		if ( toDrop == null ) {
+			// createFreshIndex() was not called or failed: nothing to drop
+			return CompletableFuture.completedFuture( null );
+		}
+		freshIndex = null;
+		return schemaManager.dropFreshIndex( toDrop );
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
@@ -28,6 +30,17 @@ public interface WorkExecutionIndexManagerContext {
 
 	URLEncodedString getElasticsearchIndexWriteName();
 
+	/**
+	 * @param completion A future that the caller will complete once its writes to the mirror have been executed,
+	 * successfully or not.
+	 * @return The name of an index that indexing plans must write to
+	 * in addition to {@link #getElasticsearchIndexWriteName() the write alias},
+	 * or {@code null} if there is none.
+	 * Set while the mass indexer fills a fresh index, so that searches, which still target the previous index,
+	 * reflect the writes, and so that the writes are not lost if the fresh index is dropped.
+	 */
+	URLEncodedString getElasticsearchIndexMirrorWriteName(CompletableFuture<?> completion);
+
 	String toElasticsearchId(String tenantId, String id);
 
 	JsonObject createDocument(String tenantId, String id,
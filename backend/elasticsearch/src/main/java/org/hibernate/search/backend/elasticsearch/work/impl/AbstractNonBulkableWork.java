@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.impl.Throwables;
@@ -48,8 +49,13 @@ public String toString() {
 
 	@Override
 	public final CompletableFuture<R> execute(ElasticsearchWorkExecutionContext executionContext) {
+		Timer requestTimer = executionContext.getWorkMetrics().requestTimer( getClass() );
 		return Futures.create( () -> beforeExecute( executionContext, request ) )
-				.thenCompose( ignored -> executionContext.getClient().submit( request ) )
+				.thenCompose( ignored -> {
+					long startTime = requestTimer.start();
+					return executionContext.getClient().submit( request )
+							.whenComplete( (response, throwable) -> requestTimer.recordSince( startTime ) );
+				} )
 				.exceptionally( Futures.handler( throwable -> {
 					// if we already have a SearchExececption, throw that,
 					// since it will be more specific
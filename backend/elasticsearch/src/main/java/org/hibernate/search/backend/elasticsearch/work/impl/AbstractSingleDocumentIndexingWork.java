@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Objects;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -27,6 +28,7 @@
 	private final String entityTypeName;
 	private final Object entityIdentifier;
 	private final String documentIdentifier;
+	private final String routingKey;
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
@@ -37,6 +39,7 @@ protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.entityTypeName = builder.entityTypeName;
 		this.entityIdentifier = builder.entityIdentifier;
 		this.documentIdentifier = builder.documentIdentifier;
+		this.routingKey = builder.routingKey;
 		this.refreshStrategy = builder.refreshStrategy;
 	}
 
@@ -45,6 +48,11 @@ public String getQueuingKey() {
 		return documentIdentifier;
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return new CoalescingKey( documentIdentifier, routingKey );
+	}
+
 	@Override
 	public String getEntityTypeName() {
 		return entityTypeName;
@@ -92,15 +100,17 @@ public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObje
 		private final String entityTypeName;
 		private final Object entityIdentifier;
 		protected final String documentIdentifier;
+		protected final String routingKey;
 
 		private DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
 
 		public AbstractBuilder(ElasticsearchRequestSuccessAssessor resultAssessor,
-				String entityTypeName, Object entityIdentifier, String documentIdentifier) {
+				String entityTypeName, Object entityIdentifier, String documentIdentifier, String routingKey) {
 			this.resultAssessor = resultAssessor;
 			this.entityTypeName = entityTypeName;
 			this.entityIdentifier = entityIdentifier;
 			this.documentIdentifier = documentIdentifier;
+			this.routingKey = routingKey;
 		}
 
 		public B refresh(DocumentRefreshStrategy refreshStrategy) {
@@ -113,4 +123,29 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 		protected abstract JsonObject buildBulkableActionBody();
 
 	}
+
+	private static final class CoalescingKey {
+		private final String documentIdentifier;
+		private final String routingKey;
+
+		private CoalescingKey(String documentIdentifier, String routingKey) {
+			this.documentIdentifier = documentIdentifier;
+			this.routingKey = routingKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			CoalescingKey other = (CoalescingKey) obj;
+			return documentIdentifier.equals( other.documentIdentifier )
+					&& Objects.equals( routingKey, other.routingKey );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( documentIdentifier, routingKey );
+		}
+	}
 }
@@ -26,7 +26,6 @@ private DeleteWork(Builder builder) {
 			implements DeleteWorkBuilder {
 		private final URLEncodedString indexName;
 		private final URLEncodedString typeName;
-		private final String routingKey;
 
 		public static Builder forElasticsearch67AndBelow(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
@@ -44,10 +43,9 @@ public static Builder forElasticsearch7AndAbove(String entityTypeName, Object en
 		private Builder(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName,
 				URLEncodedString typeName, String documentIdentifier, String routingKey) {
-			super( SUCCESS_ASSESSOR, entityTypeName, entityIdentifier, documentIdentifier );
+			super( SUCCESS_ASSESSOR, entityTypeName, entityIdentifier, documentIdentifier, routingKey );
 			this.indexName = elasticsearchIndexName;
 			this.typeName = typeName;
-			this.routingKey = routingKey;
 		}
 
 		@Override
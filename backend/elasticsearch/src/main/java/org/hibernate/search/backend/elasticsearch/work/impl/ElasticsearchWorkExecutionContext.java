@@ -16,4 +16,6 @@ public interface ElasticsearchWorkExecutionContext {
 
 	GsonProvider getGsonProvider();
 
+	ElasticsearchWorkMetrics getWorkMetrics();
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+
+/**
+ * Metrics about requests sent to Elasticsearch, with one timer per type of work.
+ */
+public final class ElasticsearchWorkMetrics {
+
+	private static final String REQUEST_TIMER_NAME = "hibernate.search.elasticsearch.request";
+
+	public static ElasticsearchWorkMetrics create(MetricsRecorder recorder, String backendName) {
+		return new ElasticsearchWorkMetrics( recorder, backendName );
+	}
+
+	public static ElasticsearchWorkMetrics noOp() {
+		return new ElasticsearchWorkMetrics( MetricsRecorder.noOp(), null );
+	}
+
+	private final ClassValue<Timer> requestTimers;
+
+	private ElasticsearchWorkMetrics(MetricsRecorder recorder, String backendName) {
+		this.requestTimers = new ClassValue<Timer>() {
+			@Override
+			protected Timer computeValue(Class<?> workClass) {
+				if ( backendName == null ) {
+					return recorder.timer( REQUEST_TIMER_NAME, "work", workClass.getSimpleName() );
+				}
+				return recorder.timer( REQUEST_TIMER_NAME,
+						"backend", backendName, "work", workClass.getSimpleName() );
+			}
+		};
+	}
+
+	/**
+	 * @param workClass The class of the work sending the request.
+	 * @return A timer for the duration of requests sent by works of the given class,
+	 * from submission to the client until the response is received.
+	 */
+	public Timer requestTimer(Class<?> workClass) {
+		return requestTimers.get( workClass );
+	}
+
+}
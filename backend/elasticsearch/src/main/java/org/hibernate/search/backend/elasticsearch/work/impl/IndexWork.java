@@ -24,7 +24,6 @@ private IndexWork(Builder builder) {
 			implements IndexWorkBuilder {
 		private final URLEncodedString indexName;
 		private final URLEncodedString typeName;
-		private final String routingKey;
 		private final JsonObject document;
 
 		public static Builder forElasticsearch67AndBelow(String entityTypeName, Object entityIdentifier,
@@ -45,10 +44,9 @@ public static Builder forElasticsearch7AndAbove(String entityTypeName, Object en
 		private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString elasticsearchIndexName,
 					URLEncodedString typeName, String documentIdentifier, String routingKey, JsonObject document) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE, entityTypeName, entityIdentifier,
-					documentIdentifier );
+					documentIdentifier, routingKey );
 			this.indexName = elasticsearchIndexName;
 			this.typeName = typeName;
-			this.routingKey = routingKey;
 			this.document = document;
 		}
 
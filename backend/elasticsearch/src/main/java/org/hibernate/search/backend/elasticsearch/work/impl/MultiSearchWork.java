@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Executes multiple searches in a single request to the {@code _msearch} API.
+ * <p>
+ * The result is the list of responses to each search, in the order searches were added.
+ * Each response is either a search response, or an object holding an {@code error} property
+ * if that particular search failed.
+ */
+public class MultiSearchWork extends AbstractNonBulkableWork<List<JsonObject>> {
+
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonArrayAccessor RESPONSES_ACCESSOR =
+			JsonAccessor.root().property( "responses" ).asArray();
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		queryLog.executingElasticsearchQuery(
+				request.path(),
+				request.parameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.bodyParts() )
+				);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected List<JsonObject> generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonArray responses = RESPONSES_ACCESSOR.get( response.body() ).get();
+		List<JsonObject> result = new ArrayList<>( responses.size() );
+		for ( JsonElement element : responses ) {
+			result.add( element.getAsJsonObject() );
+		}
+		return result;
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements MultiSearchWorkBuilder {
+
+		public static Builder forElasticsearch62AndBelow() {
+			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
+			// No "allow_partial_search_results": this parameter does not exist in ES6.2 and below
+			// See https://github.com/elastic/elasticsearch/pull/27906
+			return new Builder( null, false );
+		}
+
+		public static Builder forElasticsearch63to68() {
+			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
+			return new Builder( null, true );
+		}
+
+		public static Builder forElasticsearch7AndAbove() {
+			// TODO HSEARCH-3517 disable track_total_hits when possible
+			return new Builder( true, true );
+		}
+
+		private final Boolean trackTotalHits;
+		private final boolean allowPartialSearchResultsSupported;
+		private final List<JsonObject> bodyParts = new ArrayList<>();
+
+		private Builder(Boolean trackTotalHits, boolean allowPartialSearchResultsSupported) {
+			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.trackTotalHits = trackTotalHits;
+			this.allowPartialSearchResultsSupported = allowPartialSearchResultsSupported;
+		}
+
+		@Override
+		public Builder search(Collection<URLEncodedString> indexNames, Set<String> routingKeys,
+				JsonObject payload, Integer limit, Integer offset, Long timeoutValue, TimeUnit timeoutUnit) {
+			JsonObject header = new JsonObject();
+			JsonArray indexes = new JsonArray();
+			for ( URLEncodedString indexName : indexNames ) {
+				indexes.add( indexName.original );
+			}
+			header.add( "index", indexes );
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			if ( timeoutValue != null && timeoutUnit != null && allowPartialSearchResultsSupported ) {
+				// Searches that must fail on timeout are never batched, since they need a client-side timeout:
+				// batched searches always truncate results on timeout.
+				// Truncating on timeout is normally the default behavior, but can be overridden with server-side settings,
+				// so we set it just to be safe.
+				header.addProperty( "allow_partial_search_results", true );
+			}
+
+			// The payload may be reused by other executions of the same query: copy it before adding properties.
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				body.add( entry.getKey(), entry.getValue() );
+			}
+			if ( offset != null ) {
+				body.addProperty( "from", offset );
+			}
+			if ( limit != null ) {
+				body.addProperty( "size", limit );
+			}
+			if ( trackTotalHits != null ) {
+				body.addProperty( "track_total_hits", trackTotalHits );
+			}
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				// Server-side timeout only: the search will truncate results on timeout.
+				body.addProperty( "timeout", getTimeoutString( timeoutValue, timeoutUnit ) );
+			}
+
+			bodyParts.add( header );
+			bodyParts.add( body );
+			return this;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+			for ( JsonObject bodyPart : bodyParts ) {
+				builder.body( bodyPart );
+			}
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+}
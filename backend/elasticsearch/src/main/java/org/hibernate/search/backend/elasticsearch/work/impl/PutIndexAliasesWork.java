@@ -35,14 +35,32 @@ protected Void generateResult(ElasticsearchWorkExecutionContext context, Elastic
 	public static class Builder
 			extends AbstractBuilder<Builder>
 			implements PutIndexAliasesWorkBuilder {
+		private final Map<String, IndexAliasDefinition> aliases;
 		private final JsonObject payload;
 
 		public Builder(GsonProvider gsonProvider, URLEncodedString indexName,
 				Map<String, IndexAliasDefinition> aliases) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.aliases = aliases;
 			this.payload = createPayload( gsonProvider, indexName.original, aliases );
 		}
 
+		@Override
+		public Builder moveFrom(URLEncodedString previousIndexName) {
+			JsonArray actions = payload.getAsJsonArray( "actions" );
+			for ( String alias : aliases.keySet() ) {
+				JsonObject action = new JsonObject();
+				JsonObject aliasReference = new JsonObject();
+				action.add( "remove", aliasReference );
+				aliasReference.addProperty( "index", previousIndexName.original );
+				aliasReference.addProperty( "alias", alias );
+
+				// All actions are applied atomically, so order doesn't matter
+				actions.add( action );
+			}
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -6,10 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+
 public interface SingleDocumentIndexingWork extends IndexingWork<Void> {
 
 	String getEntityTypeName();
 
 	Object getEntityIdentifier();
 
+	/**
+	 * @return A key identifying the document affected by this work within its index.
+	 */
+	Object getCoalescingKey();
+
+	DocumentRefreshStrategy getRefreshStrategy();
+
 }
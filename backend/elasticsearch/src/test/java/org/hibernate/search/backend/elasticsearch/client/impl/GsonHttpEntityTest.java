@@ -0,0 +1,237 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+
+@RunWith(Parameterized.class)
+public class GsonHttpEntityTest {
+
+	private static final Gson GSON = new Gson();
+
+	@Parameterized.Parameters(name = "{0}")
+	public static Object[][] data() {
+		return new Object[][] {
+				{ "empty", Collections.singletonList( new JsonObject() ), true },
+				{ "small", Arrays.asList( new JsonObject(), versionJson( 0 ), new JsonObject() ), true },
+				// Larger than a single buffer page: the content length is not known upfront
+				{ "large", largeBulk( 500 ), false }
+		};
+	}
+
+	private final List<JsonObject> bodyParts;
+	private final boolean contentLengthKnownUpfront;
+	private final byte[] expected;
+
+	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> bodyParts, boolean contentLengthKnownUpfront) {
+		this.bodyParts = bodyParts;
+		this.contentLengthKnownUpfront = contentLengthKnownUpfront;
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			GSON.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		this.expected = builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	@Test
+	public void writeTo() throws IOException {
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			assertThat( writeTo( entity ) ).isEqualTo( expected );
+			// Content is buffered, not consumed: writing it again must produce the same bytes
+			assertThat( writeTo( entity ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void produceContent() throws IOException {
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			assertThat( produceContent( entity ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void produceContent_twice() throws IOException {
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			byte[] firstPass = produceContent( entity );
+			byte[] secondPass = produceContent( entity );
+			assertThat( firstPass ).isEqualTo( expected );
+			assertThat( secondPass ).isEqualTo( firstPass );
+		}
+	}
+
+	@Test
+	public void produceContent_afterClose() throws IOException {
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			byte[] firstPass = produceContent( entity );
+			entity.close();
+			assertThat( produceContent( entity ) ).isEqualTo( firstPass );
+		}
+	}
+
+	@Test
+	public void writeTo_thenProduceContent() throws IOException {
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			byte[] written = writeTo( entity );
+			byte[] produced = produceContent( entity );
+			assertThat( written ).isEqualTo( expected );
+			assertThat( produced ).isEqualTo( written );
+			// Content must still be repeatable, e.g. when a request is retried
+			assertThat( writeTo( entity ) ).isEqualTo( expected );
+			assertThat( produceContent( entity ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void contentLength_writeTo() throws IOException {
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			writeTo( entity );
+			// Writing the content once reveals its length
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+			produceContent( entity );
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+		}
+	}
+
+	@Test
+	public void contentLength_stableOnceProvided() throws IOException {
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts ) ) {
+			long initialContentLength = entity.getContentLength();
+			if ( contentLengthKnownUpfront ) {
+				assertThat( initialContentLength ).isEqualTo( expected.length );
+			}
+			else {
+				assertThat( initialContentLength ).isEqualTo( -1L );
+			}
+
+			// The HTTP client relies on the length it retrieved first: it must not change afterwards,
+			// even when writing the content reveals the actual length.
+			writeTo( entity );
+			assertThat( entity.getContentLength() ).isEqualTo( initialContentLength );
+			produceContent( entity );
+			assertThat( entity.getContentLength() ).isEqualTo( initialContentLength );
+			entity.close();
+			assertThat( entity.getContentLength() ).isEqualTo( initialContentLength );
+		}
+	}
+
+	private static byte[] writeTo(GsonHttpEntity entity) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo( out );
+		return out.toByteArray();
+	}
+
+	private static byte[] produceContent(GsonHttpEntity entity) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder();
+		IOControl ioControl = new FailingIOControl();
+		int loopCounter = 0;
+		while ( !encoder.isCompleted() ) {
+			entity.produceContent( encoder, ioControl );
+			// Use small write windows to exercise flow control
+			encoder.setNextAcceptedBytesSize( loopCounter++ % 3 * 100 );
+		}
+		return encoder.toByteArray();
+	}
+
+	private static JsonObject versionJson(int i) {
+		JsonObject version = new JsonObject();
+		version.addProperty( "number", "7.0." + i );
+		JsonObject object = new JsonObject();
+		object.add( "version", version );
+		return object;
+	}
+
+	private static List<JsonObject> largeBulk(int size) {
+		List<JsonObject> list = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			list.add( versionJson( i ) );
+		}
+		return list;
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private int nextWriteAcceptLimit = 0;
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer src) {
+			assertThat( completed ).as( "Writing to a completed encoder" ).isFalse();
+			int toRead = Math.min( src.remaining(), nextWriteAcceptLimit );
+			byte[] bytes = new byte[toRead];
+			src.get( bytes );
+			content.write( bytes, 0, toRead );
+			return toRead;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).as( "Completing an encoder multiple times" ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+
+		void setNextAcceptedBytesSize(int size) {
+			this.nextWriteAcceptLimit = size;
+		}
+
+		byte[] toByteArray() {
+			return content.toByteArray();
+		}
+	}
+
+	private static final class FailingIOControl implements IOControl {
+		@Override
+		public void requestInput() {
+			fail( "Should not invoke this" );
+		}
+
+		@Override
+		public void suspendInput() {
+			fail( "Should not invoke this" );
+		}
+
+		@Override
+		public void requestOutput() {
+			fail( "Should not invoke this" );
+		}
+
+		@Override
+		public void suspendOutput() {
+			fail( "Should not invoke this" );
+		}
+
+		@Override
+		public void shutdown() {
+			fail( "Should not invoke this" );
+		}
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.layout.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class DefaultIndexLayoutStrategyTest {
+
+	private final DefaultIndexLayoutStrategy strategy = new DefaultIndexLayoutStrategy();
+
+	@Test
+	public void createNextElasticsearchIndexName() {
+		assertThat( strategy.createNextElasticsearchIndexName( "myindex", "myindex-000001" ) )
+				.isEqualTo( "myindex-000002" );
+		assertThat( strategy.createNextElasticsearchIndexName( "myindex", "myindex-000099" ) )
+				.isEqualTo( "myindex-000100" );
+	}
+
+	@Test
+	public void createNextElasticsearchIndexName_wrapAround() {
+		assertThat( strategy.createNextElasticsearchIndexName( "myindex", "myindex-999999" ) )
+				.isEqualTo( "myindex-000001" );
+	}
+
+	@Test
+	public void createNextElasticsearchIndexName_unexpectedFormat() {
+		assertThat( strategy.createNextElasticsearchIndexName( "myindex", "myindex" ) )
+				.isEqualTo( "myindex-000001" );
+	}
+
+}
@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
 import org.hibernate.search.util.impl.test.FutureAssert;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -60,9 +61,12 @@ public void success() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -116,9 +120,12 @@ public void failure_work() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -176,10 +183,14 @@ public void failure_multipleWorks() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
-		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -245,10 +256,14 @@ public void failure_multipleWorksAndCreateEntityReference() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
-		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -55,6 +55,7 @@ public void execute_success() {
 		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
 		resetAll();
 		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( contextMock.getWorkMetrics() ).andStubReturn( ElasticsearchWorkMetrics.noOp() );
 		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( futureFromClient );
 		replayAll();
 		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
@@ -112,6 +113,7 @@ public void execute_http500() {
 		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
 		resetAll();
 		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( contextMock.getWorkMetrics() ).andStubReturn( ElasticsearchWorkMetrics.noOp() );
 		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( futureFromClient );
 		replayAll();
 		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
@@ -127,6 +127,74 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * Whether search queries should be profiled,
+	 * i.e. whether the time spent in each phase of query execution should be recorded
+	 * and made available through {@link org.hibernate.search.engine.search.query.SearchResult#profile()}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_PROFILING_ENABLED}.
+	 */
+	public static final String QUERY_PROFILING_ENABLED = "query.profiling.enabled";
+
+	/**
+	 * The duration above which a search query is considered slow and logged,
+	 * along with the Lucene query and the time spent in each phase of query execution.
+	 * <p>
+	 * Expects a positive long value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such long value.
+	 * <p>
+	 * Setting this property implies profiling of all queries.
+	 * <p>
+	 * Defaults to no value, meaning slow queries are not logged.
+	 */
+	public static final String QUERY_SLOW_LOG_THRESHOLD = "query.slow_log.threshold";
+
+	/**
+	 * The maximum number of entries in the search result cache,
+	 * which allows identical queries executed against unchanged index readers
+	 * to skip the collection of matching documents.
+	 * <p>
+	 * Expects a positive integer value, such as {@code 1000},
+	 * or a String that can be parsed into such integer value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_ENTRIES}.
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_ENTRIES = "query.result_cache.max_entries";
+
+	/**
+	 * Whether search queries targeting multiple shards should search each shard in a separate thread,
+	 * then merge the top hits and aggregations of each shard.
+	 * <p>
+	 * Threads are taken from a dedicated thread pool,
+	 * whose size is defined by {@link #THREAD_POOL_SIZE}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CONCURRENT_SHARD_SEARCH_ENABLED}.
+	 */
+	public static final String QUERY_CONCURRENT_SHARD_SEARCH_ENABLED = "query.concurrent_shard_search.enabled";
+
+	/**
+	 * The transport to use in order to forward indexing works to the node owning each index or shard.
+	 * <p>
+	 * When set, indexing works (adding, updating and deleting documents) targeting an index or shard
+	 * that the transport considers owned by another node are serialized and sent to that node,
+	 * which executes them on its own index writer.
+	 * <p>
+	 * Expects a reference to a bean of type {@link org.hibernate.search.backend.lucene.work.spi.IndexingWorkTransport}.
+	 * <p>
+	 * Defaults to no value, meaning all indexing works are executed locally.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String INDEXING_FORWARDING_TRANSPORT = "indexing.forwarding.transport";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -159,5 +227,11 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final boolean QUERY_PROFILING_ENABLED = false;
+
+		public static final int QUERY_RESULT_CACHE_MAX_ENTRIES = 0;
+
+		public static final boolean QUERY_CONCURRENT_SHARD_SEARCH_ENABLED = false;
 	}
 }
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.LuceneLogCategories;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
 
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
@@ -70,7 +71,9 @@ private LuceneIndexSettings() {
 	 * How much time may pass after an index write
 	 * until the index reader is considered stale and re-created.
 	 * <p>
-	 * Only available for the "near-real-time" I/O strategy.
+	 * Only available for the "near-real-time" and "replica" I/O strategies.
+	 * With the "replica" I/O strategy, this also defines how often the replication root
+	 * is checked for new commit points, and must be strictly positive.
 	 * <p>
 	 * This effectively defines how out-of-date search query results may be. For example:
 	 * <ul>
@@ -87,7 +90,8 @@ private LuceneIndexSettings() {
 	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
 	 * or a String that can be parsed into such Integer value.
 	 * <p>
-	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_INTERVAL}.
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_INTERVAL},
+	 * or to {@link LuceneIndexSettings.Defaults#IO_REPLICA_REFRESH_INTERVAL} with the "replica" I/O strategy.
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
@@ -134,6 +138,26 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_INFOSTREAM = IO_WRITER_PREFIX + WriterRadicals.INFOSTREAM;
 
+	/**
+	 * The sort to pass to {@link IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort)},
+	 * i.e. the order in which documents are stored in each segment.
+	 * <p>
+	 * Search queries whose sort matches a prefix of the index sort
+	 * stop collecting top hits in each segment as soon as enough hits were found.
+	 * <p>
+	 * Expects a String containing comma-separated field sorts, each formatted as {@code <absolute field path>[:asc|:desc]},
+	 * e.g. {@code releaseDate:desc,rating}, or a collection of such Strings.
+	 * Only sortable fields with a numeric or temporal type are supported,
+	 * and the index must not include nested documents.
+	 * <p>
+	 * Changing this setting requires dropping and re-creating the index.
+	 * <p>
+	 * Default is no index sort.
+	 *
+	 * @see IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort)
+	 */
+	public static final String IO_WRITER_INDEX_SORT = IO_WRITER_PREFIX + WriterRadicals.INDEX_SORT;
+
 	/**
 	 * The prefix for property keys related to merge.
 	 */
@@ -252,6 +276,22 @@ private LuceneIndexSettings() {
 	 */
 	public static final String SHARDING_SHARD_IDENTIFIERS = SHARDING_PREFIX + ShardingRadicals.SHARD_IDENTIFIERS;
 
+	/**
+	 * Whether to route documents, searches and purges to shards based on the tenant identifier
+	 * instead of the routing key.
+	 * <p>
+	 * Only has an effect when multi-tenancy and sharding are enabled.
+	 * With the "explicit" sharding strategy and one shard identifier per tenant identifier,
+	 * each tenant gets its own shard; with the "hash" sharding strategy,
+	 * tenants are spread across shards and each tenant only ever targets one shard.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SHARDING_ROUTE_BY_TENANT}.
+	 */
+	public static final String SHARDING_ROUTE_BY_TENANT = SHARDING_PREFIX + ShardingRadicals.ROUTE_BY_TENANT;
+
 	/**
 	 * The prefix for indexing-related property keys.
 	 */
@@ -283,6 +323,93 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The delay, in milliseconds, to wait for more works before processing indexing queues,
+	 * so that multiple works affecting the same document can be coalesced into one.
+	 * <p>
+	 * When this property is set, an entity updated multiple times in quick succession,
+	 * possibly from different transactions, will only be written to the index once, in its latest state.
+	 * The downside is additional indexing latency.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 100},
+	 * or a string that can be parsed to such integer value.
+	 * {@code 0} means works already present in the queue are coalesced, without waiting for more works.
+	 * <p>
+	 * Defaults to no value, meaning works are never coalesced.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCING_WINDOW = INDEXING_PREFIX + IndexingRadicals.COALESCING_WINDOW;
+
+	/**
+	 * Whether indexing works for a document with no pending works may be routed to the least loaded queue,
+	 * instead of always being routed to the same queue.
+	 * <p>
+	 * Works relative to the same document are still processed in order.
+	 * Enabling this prevents a few very frequently updated documents from saturating one queue
+	 * while other queues are idle.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_REBALANCING}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_REBALANCING = INDEXING_PREFIX + IndexingRadicals.QUEUE_REBALANCING;
+
+	/**
+	 * What to do when an indexing operation is submitted while its indexing queue is full.
+	 * <p>
+	 * Only applies to indexing operations originating from indexing plans, e.g. automatic indexing:
+	 * operations submitted by the mass indexer or by the workspace always wait for room in the queue.
+	 * <p>
+	 * Expects a {@link IndexingQueueOverflowStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_OVERFLOW_STRATEGY}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_OVERFLOW_STRATEGY = INDEXING_PREFIX + IndexingRadicals.QUEUE_OVERFLOW_STRATEGY;
+
+	/**
+	 * With the {@link IndexingQueueOverflowStrategyName#BLOCK block} queue overflow strategy,
+	 * how long, in milliseconds, to wait for room in a full indexing queue before failing the indexing operation.
+	 * <p>
+	 * Expects a positive Long value in milliseconds, such as {@code 5000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning submitting threads wait indefinitely.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_OVERFLOW_TIMEOUT = INDEXING_PREFIX + IndexingRadicals.QUEUE_OVERFLOW_TIMEOUT;
+
+	/**
+	 * The prefix for replication-related property keys.
+	 */
+	public static final String REPLICATION_PREFIX = "replication.";
+
+	/**
+	 * The root directory through which commit points are replicated from a primary node to read-only replicas.
+	 * <p>
+	 * With the "replica" I/O strategy, commit points are copied from this directory
+	 * into the local index directory.
+	 * With any other I/O strategy, each commit point is published to this directory
+	 * right after it is committed.
+	 * Commit points of each index (or each shard) are published to a subdirectory named after the index (or the shard).
+	 * <p>
+	 * Expects a String, such as "/mnt/hibernate-search/publication".
+	 * See the reference documentation for examples and explanations.
+	 * <p>
+	 * Mandatory with the "replica" I/O strategy; defaults to no replication with other I/O strategies.
+	 */
+	public static final String REPLICATION_ROOT = REPLICATION_PREFIX + ReplicationRadicals.ROOT;
+
 	/**
 	 * Configuration property keys for I/O, without the {@link #IO_PREFIX prefix}.
 	 */
@@ -307,6 +434,7 @@ private WriterRadicals() {
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
 		public static final String INFOSTREAM = "infostream";
+		public static final String INDEX_SORT = "index_sort";
 
 	}
 
@@ -338,6 +466,7 @@ private ShardingRadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String NUMBER_OF_SHARDS = "number_of_shards";
 		public static final String SHARD_IDENTIFIERS = "shard_identifiers";
+		public static final String ROUTE_BY_TENANT = "route_by_tenant";
 	}
 
 	/**
@@ -350,6 +479,21 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String COALESCING_WINDOW = "coalescing_window";
+		public static final String QUEUE_REBALANCING = "queue_rebalancing";
+		public static final String QUEUE_OVERFLOW_STRATEGY = "queue_overflow_strategy";
+		public static final String QUEUE_OVERFLOW_TIMEOUT = "queue_overflow_timeout";
+	}
+
+	/**
+	 * Configuration property keys for replication, without the {@link #REPLICATION_PREFIX prefix}.
+	 */
+	public static final class ReplicationRadicals {
+
+		private ReplicationRadicals() {
+		}
+
+		public static final String ROOT = "root";
 	}
 
 	/**
@@ -361,10 +505,15 @@ private Defaults() {
 		}
 
 		public static final String SHARDING_STRATEGY = "none";
+		public static final boolean SHARDING_ROUTE_BY_TENANT = false;
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final int IO_REPLICA_REFRESH_INTERVAL = 1000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_QUEUE_REBALANCING = false;
+		public static final IndexingQueueOverflowStrategyName INDEXING_QUEUE_OVERFLOW_STRATEGY =
+				IndexingQueueOverflowStrategyName.BLOCK;
 	}
 }
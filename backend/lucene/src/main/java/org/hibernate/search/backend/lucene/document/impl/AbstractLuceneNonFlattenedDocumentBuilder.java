@@ -60,7 +60,7 @@ void contribute(MultiTenancyStrategy multiTenancyStrategy, String tenantId, Stri
 			EncounteredFieldStatus status = entry.getValue();
 			if ( EncounteredFieldStatus.ENCOUNTERED_AND_NAME_INDEXED.equals( status ) ) {
 				String fieldName = entry.getKey();
-				document.add( MetadataFields.searchableMetadataField( MetadataFields.fieldNamesFieldName(), fieldName ) );
+				document.add( model.fieldNamesMetadataField( fieldName ) );
 			}
 		}
 
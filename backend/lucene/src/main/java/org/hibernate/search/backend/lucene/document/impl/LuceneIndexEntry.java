@@ -20,7 +20,7 @@ public class LuceneIndexEntry implements Iterable<Document> {
 
 	private final List<Document> documents;
 
-	LuceneIndexEntry(String indexName, String id, List<Document> documents) {
+	public LuceneIndexEntry(String indexName, String id, List<Document> documents) {
 		this.indexName = indexName;
 		this.id = id;
 		this.documents = documents;
@@ -25,10 +25,10 @@ class LuceneNestedObjectDocumentBuilder extends AbstractLuceneNonFlattenedDocume
 	@Override
 	void contribute(MultiTenancyStrategy multiTenancyStrategy, String tenantId, String routingKey,
 			String rootId, List<Document> nestedDocuments) {
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(), MetadataFields.TYPE_CHILD_DOCUMENT ) );
+		document.add( MetadataFields.childDocumentTypeField() );
 		document.add( MetadataFields.searchableMetadataField( MetadataFields.idFieldName(), rootId ) );
 
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.nestedDocumentPathFieldName(), schemaNode.absolutePath() ) );
+		document.add( model.nestedDocumentPathMetadataField( schemaNode.absolutePath() ) );
 
 		// all the ancestors of a subdocument must be added after it
 		super.contribute( multiTenancyStrategy, tenantId, routingKey, rootId, nestedDocuments );
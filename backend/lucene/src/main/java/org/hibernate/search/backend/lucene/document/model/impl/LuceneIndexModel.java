@@ -15,6 +15,7 @@
 import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldInclusion;
 import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
@@ -26,6 +27,7 @@
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
+import org.apache.lucene.index.IndexableField;
 
 
 public class LuceneIndexModel implements AutoCloseable, IndexDescriptor {
@@ -44,6 +46,10 @@ public class LuceneIndexModel implements AutoCloseable, IndexDescriptor {
 	private final List<LuceneIndexSchemaFieldTemplate> fieldTemplates;
 	private final ConcurrentMap<String, LuceneIndexSchemaObjectFieldNode> dynamicObjectFieldNodesCache = new ConcurrentHashMap<>();
 	private final ConcurrentMap<String, LuceneIndexSchemaFieldNode<?>> dynamicFieldNodesCache = new ConcurrentHashMap<>();
+	// Metadata fields whose value only depends on the schema are shared by all documents of this index,
+	// to avoid allocating the same fields over and over when indexing.
+	private final ConcurrentMap<String, IndexableField> fieldNamesMetadataFieldsCache = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, IndexableField> nestedDocumentPathMetadataFieldsCache = new ConcurrentHashMap<>();
 
 	private final IndexingScopedAnalyzer indexingAnalyzer;
 	private final SearchScopedAnalyzer searchAnalyzer;
@@ -129,6 +135,34 @@ public LuceneIndexSchemaFieldNode<?> getFieldNode(String absolutePath, IndexFiel
 		return node == null ? null : filter.filter( node, node.inclusion() );
 	}
 
+	public IndexableField fieldNamesMetadataField(String absoluteFieldPath) {
+		return fieldNamesMetadataFieldsCache.computeIfAbsent( absoluteFieldPath,
+				path -> MetadataFields.searchableMetadataField( MetadataFields.fieldNamesFieldName(), path ) );
+	}
+
+	public IndexableField nestedDocumentPathMetadataField(String absoluteObjectPath) {
+		return nestedDocumentPathMetadataFieldsCache.computeIfAbsent( absoluteObjectPath,
+				path -> MetadataFields.searchableMetadataField( MetadataFields.nestedDocumentPathFieldName(), path ) );
+	}
+
+	/**
+	 * @return {@code true} if documents of this index may include nested documents,
+	 * i.e. be indexed as blocks of multiple Lucene documents.
+	 */
+	public boolean hasNestedDocuments() {
+		for ( LuceneIndexSchemaObjectFieldNode objectFieldNode : objectFieldNodes.values() ) {
+			if ( objectFieldNode.nested() ) {
+				return true;
+			}
+		}
+		for ( LuceneIndexSchemaObjectFieldTemplate objectFieldTemplate : objectFieldTemplates ) {
+			if ( objectFieldTemplate.nested() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public Analyzer getIndexingAnalyzer() {
 		return indexingAnalyzer;
 	}
@@ -25,6 +25,10 @@ public LuceneIndexSchemaObjectFieldTemplate(LuceneIndexSchemaObjectNode declarin
 		this.structure = structure;
 	}
 
+	public boolean nested() {
+		return ObjectStructure.NESTED.equals( structure );
+	}
+
 	@Override
 	protected LuceneIndexSchemaObjectFieldNode createNode(LuceneIndexSchemaObjectNode parent,
 			String relativePath, IndexFieldInclusion inclusion, boolean multiValued) {
@@ -24,8 +24,10 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.search.timeout.impl.DefaultTimingSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactoryImpl;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkTransport;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
@@ -38,6 +40,7 @@
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -65,6 +68,28 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_PROFILING_ENABLED =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_PROFILING_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_PROFILING_ENABLED )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_SLOW_LOG_THRESHOLD =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_SLOW_LOG_THRESHOLD )
+					.asLong()
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends IndexingWorkTransport>> INDEXING_FORWARDING_TRANSPORT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.INDEXING_FORWARDING_TRANSPORT )
+					.asBeanReference( IndexingWorkTransport.class )
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -72,6 +97,7 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 
 		BackendThreads backendThreads = null;
 		BeanHolder<? extends DirectoryProvider> directoryProviderHolder = null;
+		BeanHolder<? extends IndexingWorkTransport> forwardingTransportHolder = null;
 
 		try {
 			backendThreads = new BackendThreads( "Backend " + name );
@@ -86,21 +112,33 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 					buildContext, propertySource, luceneVersion
 			);
 
+			forwardingTransportHolder = INDEXING_FORWARDING_TRANSPORT.getAndMap(
+					propertySource, buildContext.beanResolver()::resolve )
+					.orElse( null );
+
 			return new LuceneBackendImpl(
 					name,
 					backendThreads,
 					directoryProviderHolder,
+					forwardingTransportHolder,
 					new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					multiTenancyStrategy,
 					new DefaultTimingSource(),
-					buildContext.failureHandler()
+					buildContext.failureHandler(),
+					buildContext.metricsRecorder(),
+					SearchQueryMetrics.create( buildContext.metricsRecorder(), name,
+							QUERY_PROFILING_ENABLED.get( propertySource ),
+							QUERY_SLOW_LOG_THRESHOLD.get( propertySource ).orElse( null ) ),
+					LuceneSearchResultCache.create( buildContext.metricsRecorder(), name,
+							QUERY_RESULT_CACHE_MAX_ENTRIES.get( propertySource ) )
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( holder -> holder.get().close(), directoryProviderHolder )
 					.push( BeanHolder::close, directoryProviderHolder )
+					.push( BeanHolder::close, forwardingTransportHolder )
 					.push( BackendThreads::onStop, backendThreads );
 			throw e;
 		}
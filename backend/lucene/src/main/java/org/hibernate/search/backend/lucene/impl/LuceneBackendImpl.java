@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
@@ -24,14 +25,17 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkTransport;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -47,6 +51,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	private final BackendThreads threads;
 	private final BeanHolder<? extends DirectoryProvider> directoryProviderHolder;
+	private final BeanHolder<? extends IndexingWorkTransport> forwardingTransportHolder;
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
@@ -60,14 +65,19 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	LuceneBackendImpl(String name,
 			BackendThreads threads,
 			BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
+			BeanHolder<? extends IndexingWorkTransport> forwardingTransportHolder,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder,
+			SearchQueryMetrics queryMetrics,
+			LuceneSearchResultCache resultCache) {
 		this.name = name;
 		this.threads = threads;
 		this.directoryProviderHolder = directoryProviderHolder;
+		this.forwardingTransportHolder = forwardingTransportHolder;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
@@ -83,8 +93,11 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 				this, eventContext, threads, directoryProviderHolder.get(), similarity,
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
-				failureHandler,
-				readOrchestrator
+				failureHandler, metricsRecorder,
+				queryMetrics,
+				resultCache,
+				readOrchestrator,
+				forwardingTransportHolder == null ? null : forwardingTransportHolder.get()
 		);
 	}
 
@@ -101,6 +114,9 @@ public String toString() {
 	@Override
 	public void start(BackendStartContext context) {
 		threads.onStart( context.configurationPropertySource(), context.threadPoolProvider() );
+		if ( forwardingTransportHolder != null ) {
+			forwardingTransportHolder.get().start( indexManagerBackendContext.getForwardingReceiver() );
+		}
 	}
 
 	@Override
@@ -112,6 +128,8 @@ public CompletableFuture<?> preStop() {
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( holder -> holder.get().stop(), forwardingTransportHolder );
+			closer.push( BeanHolder::close, forwardingTransportHolder );
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
 			closer.push( holder -> holder.get().close(), directoryProviderHolder );
 			closer.push( BeanHolder::close, directoryProviderHolder );
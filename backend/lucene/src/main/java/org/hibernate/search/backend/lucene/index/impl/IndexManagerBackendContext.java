@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
@@ -13,14 +16,18 @@
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.ReplicaIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexSortSettings;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneForwardingWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
@@ -32,6 +39,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexer;
@@ -40,6 +48,8 @@
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionBackendContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkReceiver;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkTransport;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -51,22 +61,33 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_STRATEGY )
 					.as( IOStrategyName.class, IOStrategyName::of )
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<Path> REPLICATION_ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.REPLICATION_ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
@@ -78,7 +99,12 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final TimingSource timingSource;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
+	private final SearchQueryMetrics queryMetrics;
+	private final LuceneSearchResultCache resultCache;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final IndexingWorkTransport forwardingTransport;
+	private final IndexingWorkForwardingReceiver forwardingReceiver;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -90,7 +116,11 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			MetricsRecorder metricsRecorder,
+			SearchQueryMetrics queryMetrics,
+			LuceneSearchResultCache resultCache,
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			IndexingWorkTransport forwardingTransport) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -101,7 +131,12 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
+		this.queryMetrics = queryMetrics;
+		this.resultCache = resultCache;
 		this.readOrchestrator = readOrchestrator;
+		this.forwardingTransport = forwardingTransport;
+		this.forwardingReceiver = new IndexingWorkForwardingReceiver( workFactory );
 	}
 
 	@Override
@@ -156,7 +191,8 @@ public LuceneSearchContext createSearchContext(BackendMappingContext mappingCont
 			LuceneSearchIndexesContext indexes) {
 		return new LuceneSearchContext(
 				mappingContext, analysisDefinitionRegistry, multiTenancyStrategy,
-				timingSource,
+				timingSource, queryMetrics, resultCache,
+				threads.getSearchExecutorOrNull(),
 				indexes
 		);
 	}
@@ -179,6 +215,10 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		);
 	}
 
+	public IndexingWorkReceiver getForwardingReceiver() {
+		return forwardingReceiver;
+	}
+
 	LuceneBackend toAPI() {
 		return backendAPI;
 	}
@@ -192,18 +232,39 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 	}
 
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
+		Path replicationRoot = REPLICATION_ROOT.get( propertySource )
+				.map( Path::toAbsolutePath )
+				.orElse( null );
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( directoryProvider, threads, failureHandler );
+				return DebugIOStrategy.create( directoryProvider, threads, failureHandler, metricsRecorder,
+						replicationRoot );
+			case REPLICA:
+				if ( replicationRoot == null ) {
+					throw log.missingReplicationRootForReplicaIOStrategy(
+							REPLICATION_ROOT.resolveOrRaw( propertySource ) );
+				}
+				return ReplicaIOStrategy.create(
+						propertySource, directoryProvider,
+						timingSource, threads, failureHandler, metricsRecorder, replicationRoot
+				);
 			case NEAR_REAL_TIME:
 			default:
 				return NearRealTimeIOStrategy.create(
 						propertySource, directoryProvider,
-						timingSource, threads, failureHandler
+						timingSource, threads, failureHandler, metricsRecorder, replicationRoot
 				);
 		}
 	}
 
+	void registerForForwarding(String indexName, ShardHolder shardHolder) {
+		forwardingReceiver.register( indexName, shardHolder );
+	}
+
+	void unregisterForForwarding(String indexName) {
+		forwardingReceiver.unregister( indexName );
+	}
+
 	LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext context) {
 		return new LuceneIndexSchemaManager( workFactory, context );
 	}
@@ -212,11 +273,13 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 			ConfigurationPropertySource propertySource) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
+		LuceneForwardingWorkOrchestratorImpl forwardingOrchestrator = null;
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.hibernateSearchName();
 		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( model.hibernateSearchName(), shardId );
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), IndexSortSettings.extractOrNull( model, propertySource ),
+				propertySource, shardEventContext
 		);
 
 		try {
@@ -226,10 +289,16 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 			);
 			managementOrchestrator = createIndexManagementOrchestrator( shardEventContext, indexAccessor );
 			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor );
+			if ( forwardingTransport != null
+					&& !forwardingTransport.isLocal( indexName, shardId.orElse( null ) ) ) {
+				// Indexing works are executed on another node.
+				// Management works (purge, flush, merge, ...) are still executed locally.
+				forwardingOrchestrator = createForwardingOrchestrator( shardEventContext, indexName, shardId );
+			}
 
 			Shard shard = new Shard(
 					shardEventContext, indexAccessor,
-					managementOrchestrator, indexingOrchestrator
+					managementOrchestrator, indexingOrchestrator, forwardingOrchestrator
 			);
 			return shard;
 		}
@@ -259,7 +328,21 @@ private LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext
 						eventContext, indexAccessor
 				),
 				threads,
-				failureHandler
+				failureHandler,
+				metricsRecorder
+		);
+	}
+
+	private LuceneForwardingWorkOrchestratorImpl createForwardingOrchestrator(EventContext eventContext,
+			String indexName, Optional<String> shardId) {
+		return new LuceneForwardingWorkOrchestratorImpl(
+				"Lucene indexing forwarding orchestrator for " + eventContext.render(),
+				eventContext,
+				indexName, shardId.orElse( null ),
+				forwardingTransport,
+				threads,
+				failureHandler,
+				metricsRecorder
 		);
 	}
 }
@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWorkCodec;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkReceiver;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Executes indexing works forwarded by other nodes on the local shards.
+ */
+class IndexingWorkForwardingReceiver implements IndexingWorkReceiver {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneWorkFactory workFactory;
+	private final ConcurrentMap<String, ShardHolder> shardHolders = new ConcurrentHashMap<>();
+
+	IndexingWorkForwardingReceiver(LuceneWorkFactory workFactory) {
+		this.workFactory = workFactory;
+	}
+
+	@Override
+	public CompletableFuture<byte[]> receive(String indexName, String shardId, byte[] payload) {
+		return Futures.create( () -> {
+			ShardHolder shardHolder = shardHolders.get( indexName );
+			LuceneSerialWorkOrchestrator orchestrator =
+					shardHolder == null ? null : shardHolder.getLocalIndexingOrchestrator( shardId );
+			if ( orchestrator == null ) {
+				throw log.unknownTargetForForwardedIndexingWorks( indexName, shardId );
+			}
+
+			IndexingWorkCodec.Request request = IndexingWorkCodec.decodeRequest( payload, workFactory, indexName );
+			switch ( request.type() ) {
+				case COMMIT:
+					orchestrator.forceCommitInCurrentThread();
+					return CompletableFuture.completedFuture( IndexingWorkCodec.encodeReply( Collections.emptyList() ) );
+				case REFRESH:
+					orchestrator.forceRefreshInCurrentThread();
+					return CompletableFuture.completedFuture( IndexingWorkCodec.encodeReply( Collections.emptyList() ) );
+				case WORKS:
+				default:
+					return submit( orchestrator, request.works() );
+			}
+		} );
+	}
+
+	void register(String indexName, ShardHolder shardHolder) {
+		shardHolders.put( indexName, shardHolder );
+	}
+
+	void unregister(String indexName) {
+		shardHolders.remove( indexName );
+	}
+
+	private static CompletableFuture<byte[]> submit(LuceneSerialWorkOrchestrator orchestrator,
+			List<SingleDocumentIndexingWork> works) {
+		List<CompletableFuture<Long>> futures = new ArrayList<>( works.size() );
+		for ( SingleDocumentIndexingWork work : works ) {
+			CompletableFuture<Long> future = new CompletableFuture<>();
+			futures.add( future );
+			// Blocking when the queues are full: this slows down the sending node as well.
+			orchestrator.submit( future, work, WorkSubmissionMode.BLOCKING );
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+				// Individual failures are reported in the reply, so ignore them here.
+				.handle( (ignored, throwable) -> IndexingWorkCodec.encodeReply( futures ) );
+	}
+}
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneForwardingWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
@@ -32,14 +33,18 @@ public final class Shard {
 	private final IndexAccessorImpl indexAccessor;
 	private final LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private final LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
+	// Null unless indexing works must be forwarded to another node
+	private final LuceneForwardingWorkOrchestratorImpl forwardingOrchestrator;
 
 	Shard(EventContext eventContext, IndexAccessorImpl indexAccessor,
 			LuceneParallelWorkOrchestratorImpl managementOrchestrator,
-			LuceneSerialWorkOrchestratorImpl indexingOrchestrator) {
+			LuceneSerialWorkOrchestratorImpl indexingOrchestrator,
+			LuceneForwardingWorkOrchestratorImpl forwardingOrchestrator) {
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.managementOrchestrator = managementOrchestrator;
 		this.indexingOrchestrator = indexingOrchestrator;
+		this.forwardingOrchestrator = forwardingOrchestrator;
 	}
 
 	void start(ConfigurationPropertySource propertySource) {
@@ -47,10 +52,14 @@ void start(ConfigurationPropertySource propertySource) {
 			indexAccessor.start();
 			managementOrchestrator.start( propertySource );
 			indexingOrchestrator.start( propertySource );
+			if ( forwardingOrchestrator != null ) {
+				forwardingOrchestrator.start( propertySource );
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( indexAccessor )
+					.push( LuceneForwardingWorkOrchestratorImpl::stop, forwardingOrchestrator )
 					.push( LuceneSerialWorkOrchestratorImpl::stop, indexingOrchestrator )
 					.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			throw log.unableToInitializeIndexDirectory(
@@ -62,11 +71,16 @@ void start(ConfigurationPropertySource propertySource) {
 	}
 
 	CompletableFuture<?> preStop() {
-		return indexingOrchestrator.preStop();
+		if ( forwardingOrchestrator == null ) {
+			return indexingOrchestrator.preStop();
+		}
+		// Wait until forwarded works have been acknowledged by the owning node, too.
+		return CompletableFuture.allOf( forwardingOrchestrator.preStop(), indexingOrchestrator.preStop() );
 	}
 
 	void stop() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( LuceneForwardingWorkOrchestratorImpl::stop, forwardingOrchestrator );
 			closer.push( LuceneSerialWorkOrchestratorImpl::stop, indexingOrchestrator );
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
@@ -79,6 +93,14 @@ DirectoryReader openReader() throws IOException {
 	}
 
 	LuceneSerialWorkOrchestrator getIndexingOrchestrator() {
+		return forwardingOrchestrator != null ? forwardingOrchestrator : indexingOrchestrator;
+	}
+
+	/**
+	 * @return The orchestrator executing indexing works on this node,
+	 * even if indexing works for this shard are normally forwarded to another node.
+	 */
+	LuceneSerialWorkOrchestrator getLocalIndexingOrchestrator() {
 		return indexingOrchestrator;
 	}
 
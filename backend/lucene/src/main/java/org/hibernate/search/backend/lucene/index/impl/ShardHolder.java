@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -16,9 +17,11 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentFilterCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -26,6 +29,7 @@
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.util.common.impl.Closer;
@@ -34,12 +38,21 @@
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final ConfigurationProperty<Boolean> ROUTE_BY_TENANT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.SHARDING_ROUTE_BY_TENANT )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.SHARDING_ROUTE_BY_TENANT )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
+	// Shared by all shards: entries are keyed by segment anyway.
+	private final ParentFilterCache parentFilterCache = new ParentFilterCache();
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	private boolean routeByTenant;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -65,6 +78,7 @@ void start(IndexManagerStartContext startContext) {
 							propertySource
 					);
 			this.shardingStrategyHolder = initializationContext.create( shards );
+			this.routeByTenant = ROUTE_BY_TENANT.get( propertySource );
 
 			if ( startContext.failureCollector().hasFailure() ) {
 				// At least one shard creation failed; abort and don't even try to start shards.
@@ -75,6 +89,8 @@ void start(IndexManagerStartContext startContext) {
 				shard.start( propertySource );
 				managementOrchestrators.add( shard.getManagementOrchestrator() );
 			}
+
+			backendContext.registerForForwarding( model.hibernateSearchName(), this );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
@@ -97,6 +113,7 @@ CompletableFuture<?> preStop() {
 
 	void stop() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( ShardHolder::unregisterForForwarding, this );
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
@@ -104,11 +121,12 @@ void stop() throws IOException {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, DirectoryReaderCollector readerCollector)
+			throws IOException {
 		String mappedTypeName = model.getMappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		for ( Shard shard : enabledShards ) {
-			readerCollector.collect( mappedTypeName, shard.openReader() );
+			readerCollector.collect( mappedTypeName, parentFilterCache, shard.openReader() );
 		}
 	}
 
@@ -123,13 +141,23 @@ public String getMappedTypeName() {
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey) {
-		return toShard( documentId, routingKey ).getIndexingOrchestrator();
+	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String tenantId, String documentId, String routingKey) {
+		return toShard( tenantId, documentId, routingKey ).getIndexingOrchestrator();
+	}
+
+	/**
+	 * @param shardId The identifier of a shard, or {@code null} if the index is not sharded.
+	 * @return The orchestrator executing indexing works for that shard on this node,
+	 * or {@code null} if the shard does not exist.
+	 */
+	LuceneSerialWorkOrchestrator getLocalIndexingOrchestrator(String shardId) {
+		Shard shard = shards.get( shardId );
+		return shard == null ? null : shard.getLocalIndexingOrchestrator();
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys) {
-		Collection<Shard> enabledShards = toShards( routingKeys );
+	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(String tenantId, Set<String> routingKeys) {
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
 		for ( Shard shard : enabledShards ) {
 			orchestrators.add( shard.getManagementOrchestrator() );
@@ -146,7 +174,15 @@ public List<Shard> getShardsForTests() {
 		return new ArrayList<>( shards.values() );
 	}
 
-	private Collection<Shard> toShards(Set<String> routingKeys) {
+	private void unregisterForForwarding() {
+		backendContext.unregisterForForwarding( model.hibernateSearchName() );
+	}
+
+	private Collection<Shard> toShards(String tenantId, Set<String> routingKeys) {
+		if ( routeByTenant && tenantId != null ) {
+			// Routing keys are ignored when routing by tenant: they are only used as filters.
+			routingKeys = Collections.singleton( tenantId );
+		}
 		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
 			// No sharding or no routing key => target all shards
 			return shards.values();
@@ -161,12 +197,16 @@ private Collection<Shard> toShards(Set<String> routingKeys) {
 		return enabledShards;
 	}
 
-	private Shard toShard(String documentId, String routingKey) {
+	private Shard toShard(String tenantId, String documentId, String routingKey) {
 		if ( shardingStrategyHolder == null ) {
 			// Sharding is disabled: there's only one shard
 			return shards.values().iterator().next();
 		}
 
+		if ( routeByTenant && tenantId != null ) {
+			routingKey = tenantId;
+		}
+
 		String shardId = shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
 		return shards.get( shardId );
 	}
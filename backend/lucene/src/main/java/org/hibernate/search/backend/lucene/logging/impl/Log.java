@@ -18,6 +18,7 @@
 import java.util.Set;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Version;
 
@@ -30,6 +31,7 @@
 import org.hibernate.search.util.common.logging.impl.DurationInSecondsAndFractionsFormatter;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.projection.SearchProjection;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
@@ -676,4 +678,84 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 					+ " Make sure to call '.multi()' when you create the projection.")
 	SearchException invalidSingleValuedProjectionOnMultiValuedField(String absolutePath, @Param EventContext context);
 
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 132,
+			value = "Slow query: execution took %1$sms. Lucene query: '%2$s', sort: '%3$s', profile: %4$s")
+	void slowQuery(long tookMillis, Query luceneQuery, Sort luceneSort, SearchQueryProfile profile);
+
+	@Message(id = ID_OFFSET_2 + 133,
+			value = "Indexing into a fresh index is not supported by the Lucene backend."
+					+ " Reindex into the existing index instead, e.g. by purging it first.")
+	SearchException freshIndexNotSupported(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 134,
+			value = "Missing value for property '%1$s'. The 'replica' I/O strategy requires this property to be set.")
+	SearchException missingReplicationRootForReplicaIOStrategy(String propertyKey);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 135,
+			value = "Unable to publish the latest commit point to '%1$s': %2$s."
+					+ " Replicas will not see the latest changes until the next successful commit. %3$s")
+	void unableToPublishCommitPoint(Path path, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 136,
+			value = "Unable to copy the latest published commit point from '%1$s': %2$s."
+					+ " Search queries will use the previous commit point until the next successful copy. %3$s")
+	void unableToCopyPublishedCommitPoint(Path path, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 137,
+			value = "Unable to write to the index: this index uses the 'replica' I/O strategy and is read-only."
+					+ " Send write operations to the primary node instead.")
+	SearchException cannotWriteToReplicaIndex(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 138,
+			value = "Invalid index sort field '%1$s': index sorts can only target sortable fields"
+					+ " of numeric or temporal type.")
+	SearchException invalidIndexSortField(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET_2 + 139,
+			value = "Invalid index sort order '%1$s' for field '%2$s': expected 'asc' or 'desc'.")
+	SearchException invalidIndexSortOrder(String order, String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET_2 + 140,
+			value = "Cannot sort an index that includes nested documents:"
+					+ " index sorting would split nested documents from their parent document.")
+	SearchException indexSortWithNestedDocuments();
+
+	@Message(id = ID_OFFSET_2 + 141,
+			value = "Cannot apply an analyzer on a field with n-gram indexing enabled. Use a normalizer instead."
+					+ " Analyzer: '%1$s'.")
+	SearchException cannotUseAnalyzerWithNgramIndexing(String analyzerName, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 142,
+			value = "Unable to forward indexing works to the node owning this index: %1$s")
+	SearchException unableToForwardIndexingWorks(String causeMessage,
+			@Param EventContext context, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 143,
+			value = "Indexing work failed on the node owning this index: %1$s")
+	SearchException forwardedIndexingWorkFailed(String remoteMessage, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 144,
+			value = "Unable to forward field '%1$s' to the node owning this index:"
+					+ " only fields holding a string, binary or numeric value can be forwarded.")
+	SearchException cannotForwardField(String fieldName, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 145,
+			value = "Received forwarded indexing works for index '%1$s', shard '%2$s',"
+					+ " but this index or shard does not exist on this node or is not started.")
+	SearchException unknownTargetForForwardedIndexingWorks(String indexName, String shardId);
+
+	@Message(id = ID_OFFSET_2 + 146,
+			value = "Invalid forwarded indexing works: %1$s")
+	SearchException invalidForwardedIndexingWorks(String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 147,
+			value = "Invalid value for property '%1$s': '%2$s'. The 'replica' I/O strategy requires a strictly positive"
+					+ " refresh interval, because each refresh checks the replication root for new commit points.")
+	SearchException invalidRefreshIntervalForReplicaIOStrategy(String propertyKey, int refreshInterval);
+
 }
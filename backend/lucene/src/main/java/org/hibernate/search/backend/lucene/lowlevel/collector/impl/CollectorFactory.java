@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.search.Collector;
 
@@ -16,4 +19,21 @@
 
 	CollectorKey<C> getCollectorKey();
 
+	/**
+	 * @return {@code true} if collectors created by this factory can be {@link #merge(List) merged},
+	 * which allows collecting each shard in a separate thread.
+	 */
+	default boolean isMergeable() {
+		return false;
+	}
+
+	/**
+	 * @param collectors Collectors created by this factory, each of which collected a distinct subset of the documents.
+	 * @return A collector exposing the same data as a single collector that would have collected all documents.
+	 */
+	default C merge(List<C> collectors) {
+		throw new AssertionFailure( "Collectors created by " + this + " cannot be merged."
+				+ " There is probably a bug in Hibernate Search, please report it." );
+	}
+
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.lucene.facet.FacetsCollector;
 
 public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
@@ -22,4 +26,32 @@ public FacetsCollector createCollector(CollectorExecutionContext context) {
 	public CollectorKey<FacetsCollector> getCollectorKey() {
 		return KEY;
 	}
+
+	@Override
+	public boolean isMergeable() {
+		return true;
+	}
+
+	@Override
+	public FacetsCollector merge(List<FacetsCollector> collectors) {
+		// Matching docs are recorded per segment, so merging is just a matter of concatenating them.
+		List<FacetsCollector.MatchingDocs> matchingDocs = new ArrayList<>();
+		for ( FacetsCollector collector : collectors ) {
+			matchingDocs.addAll( collector.getMatchingDocs() );
+		}
+		return new MergedFacetsCollector( Collections.unmodifiableList( matchingDocs ) );
+	}
+
+	private static final class MergedFacetsCollector extends FacetsCollector {
+		private final List<MatchingDocs> matchingDocs;
+
+		private MergedFacetsCollector(List<MatchingDocs> matchingDocs) {
+			this.matchingDocs = matchingDocs;
+		}
+
+		@Override
+		public List<MatchingDocs> getMatchingDocs() {
+			return matchingDocs;
+		}
+	}
 }
@@ -50,6 +50,12 @@ public class MetadataFields {
 
 	private static final String NESTED_DOCUMENT_PATH = internalFieldName( "nested_document_path" );
 
+	private static final IndexableField MAIN_DOCUMENT_TYPE_FIELD =
+			searchableMetadataField( TYPE_FIELD_NAME, TYPE_MAIN_DOCUMENT );
+
+	private static final IndexableField CHILD_DOCUMENT_TYPE_FIELD =
+			searchableMetadataField( TYPE_FIELD_NAME, TYPE_CHILD_DOCUMENT );
+
 	private MetadataFields() {
 	}
 
@@ -64,6 +70,23 @@ public static IndexableField searchableMetadataField(String name, String value)
 		return new Field( name, value, METADATA_FIELD_TYPE_WITH_INDEX );
 	}
 
+	/**
+	 * @return A shared field marking a document as a main document.
+	 * Searchable metadata fields are never mutated by the index writer,
+	 * so a single instance can safely be added to any number of documents, from any thread.
+	 */
+	public static IndexableField mainDocumentTypeField() {
+		return MAIN_DOCUMENT_TYPE_FIELD;
+	}
+
+	/**
+	 * @return A shared field marking a document as a child (nested) document.
+	 * @see #mainDocumentTypeField()
+	 */
+	public static IndexableField childDocumentTypeField() {
+		return CHILD_DOCUMENT_TYPE_FIELD;
+	}
+
 	public static IndexableField searchableRetrievableMetadataField(String name, String value) {
 		return new Field( name, new BytesRef( value ), METADATA_FIELD_TYPE_WITH_INDEX_WITH_DOCVALUES );
 	}
@@ -92,4 +115,13 @@ public static String nestedDocumentPathFieldName() {
 		return NESTED_DOCUMENT_PATH;
 	}
 
+	/**
+	 * @param absoluteFieldPath The absolute path of a string field.
+	 * @return The name of the field holding the n-grams of that field's values.
+	 * @see Ngrams
+	 */
+	public static String ngramFieldName(String absoluteFieldPath) {
+		return internalFieldName( "ngram_" + absoluteFieldPath );
+	}
+
 }
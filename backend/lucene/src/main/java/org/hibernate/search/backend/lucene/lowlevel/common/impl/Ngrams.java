@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.common.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+
+/**
+ * Utilities to index the n-grams of normalized string values in a dedicated field,
+ * so that patterns with a leading wildcard can be matched without enumerating the whole term dictionary.
+ * <p>
+ * Each value is wrapped between a start marker and an end marker before being split into n-grams,
+ * so that n-grams of two values never form a phrase together
+ * and patterns can be anchored at the end of values.
+ * N-grams are indexed with positions: a substring of a value matches
+ * a phrase made of the n-grams of that substring.
+ */
+public final class Ngrams {
+
+	public static final int GRAM_SIZE = 3;
+
+	public static final int START_MARKER = '\u0002';
+	public static final int END_MARKER = '\u0003';
+
+	private static final FieldType NGRAM_FIELD_TYPE;
+	static {
+		NGRAM_FIELD_TYPE = new FieldType();
+		NGRAM_FIELD_TYPE.setTokenized( true );
+		NGRAM_FIELD_TYPE.setOmitNorms( true );
+		NGRAM_FIELD_TYPE.setIndexOptions( IndexOptions.DOCS_AND_FREQS_AND_POSITIONS );
+		NGRAM_FIELD_TYPE.freeze();
+	}
+
+	private Ngrams() {
+	}
+
+	/**
+	 * @param ngramFieldName The name of the n-gram field, see {@link MetadataFields#ngramFieldName(String)}.
+	 * @param normalizedValue A normalized value.
+	 * @return A field holding the n-grams of the given value.
+	 */
+	public static IndexableField ngramField(String ngramFieldName, String normalizedValue) {
+		StringBuilder wrapped = new StringBuilder( normalizedValue.length() + 2 );
+		wrapped.appendCodePoint( START_MARKER ).append( normalizedValue ).appendCodePoint( END_MARKER );
+		int[] codePoints = wrapped.codePoints().toArray();
+		List<String> grams = new ArrayList<>();
+		for ( int i = 0; i + GRAM_SIZE <= codePoints.length; i++ ) {
+			grams.add( gram( codePoints, i ) );
+		}
+		return new NgramField( ngramFieldName, normalizedValue, new GramTokenStream( grams ) );
+	}
+
+	/**
+	 * @param field A field.
+	 * @return The normalized value the given field was created from
+	 * if it was created by {@link #ngramField(String, String)}, {@code null} otherwise.
+	 */
+	public static String normalizedValueOrNull(IndexableField field) {
+		return field instanceof NgramField ? ( (NgramField) field ).normalizedValue : null;
+	}
+
+	/**
+	 * @param codePoints An array of code points.
+	 * @param offset The offset of the first code point of the n-gram.
+	 * @return The n-gram starting at the given offset.
+	 */
+	public static String gram(int[] codePoints, int offset) {
+		return new String( codePoints, offset, GRAM_SIZE );
+	}
+
+	private static final class NgramField extends Field {
+		private final String normalizedValue;
+
+		private NgramField(String name, String normalizedValue, TokenStream grams) {
+			super( name, grams, NGRAM_FIELD_TYPE );
+			this.normalizedValue = normalizedValue;
+		}
+	}
+
+	private static final class GramTokenStream extends TokenStream {
+		private final CharTermAttribute termAttribute = addAttribute( CharTermAttribute.class );
+		private final List<String> grams;
+		private int index;
+
+		private GramTokenStream(List<String> grams) {
+			this.grams = grams;
+		}
+
+		@Override
+		public boolean incrementToken() {
+			clearAttributes();
+			if ( index >= grams.size() ) {
+				return false;
+			}
+			termAttribute.setEmpty().append( grams.get( index ) );
+			++index;
+			return true;
+		}
+
+		@Override
+		public void reset() {
+			index = 0;
+		}
+	}
+}
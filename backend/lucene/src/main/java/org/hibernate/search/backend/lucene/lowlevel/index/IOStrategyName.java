@@ -20,7 +20,16 @@ public enum IOStrategyName {
 	 * and the index writer is
 	 */
 	NEAR_REAL_TIME( "near-real-time" ),
-	DEBUG( "debug" );
+	DEBUG( "debug" ),
+	/**
+	 * A read-only strategy for replica nodes,
+	 * where commit points published by a primary node are copied to the local directory,
+	 * index readers are opened from the local directory,
+	 * and no index writer is ever opened.
+	 *
+	 * @see org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#REPLICATION_ROOT
+	 */
+	REPLICA( "replica" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
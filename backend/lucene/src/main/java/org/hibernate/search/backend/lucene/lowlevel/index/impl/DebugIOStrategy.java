@@ -6,43 +6,51 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.nio.file.Path;
+
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class DebugIOStrategy extends IOStrategy {
 
 	public static DebugIOStrategy create(DirectoryProvider directoryProvider, BackendThreads threads,
-			FailureHandler failureHandler) {
-		return new DebugIOStrategy( directoryProvider, threads, failureHandler );
+			FailureHandler failureHandler, MetricsRecorder metricsRecorder, Path replicationRoot) {
+		return new DebugIOStrategy( directoryProvider, threads, failureHandler, metricsRecorder, replicationRoot );
 	}
 
 	private DebugIOStrategy(DirectoryProvider directoryProvider, BackendThreads threads,
-			FailureHandler failureHandler) {
-		super( directoryProvider, threads, failureHandler );
+			FailureHandler failureHandler, MetricsRecorder metricsRecorder, Path replicationRoot) {
+		super( directoryProvider, threads, failureHandler, metricsRecorder, replicationRoot );
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, Timer commitTimer,
+			CommitPointReplicator replicator) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
 				null, 0,
 				threads,
-				failureHandler
+				failureHandler,
+				commitTimer,
+				replicator
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, Timer refreshTimer, CommitPointReplicator replicator) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
@@ -13,9 +14,12 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -26,12 +30,20 @@ public abstract class IOStrategy {
 	private final DirectoryProvider directoryProvider;
 	final BackendThreads threads;
 	final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
+	private final Path replicationRoot;
 
+	/**
+	 * @param replicationRoot The root directory through which commit points are replicated,
+	 * or {@code null} to disable replication.
+	 */
 	protected IOStrategy(DirectoryProvider directoryProvider, BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, MetricsRecorder metricsRecorder, Path replicationRoot) {
 		this.directoryProvider = directoryProvider;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
+		this.replicationRoot = replicationRoot;
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
@@ -43,11 +55,26 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 				shardId
 		);
 		directoryHolder = directoryProvider.createDirectoryHolder( context );
+		String[] metricTags = shardId.isPresent()
+				? new String[] { "index", indexName, "shard", shardId.get() }
+				: new String[] { "index", indexName };
+		Timer commitTimer = metricsRecorder.timer( "hibernate.search.lucene.commit", metricTags );
+		Timer refreshTimer = metricsRecorder.timer( "hibernate.search.lucene.refresh", metricTags );
+		CommitPointReplicator replicator = null;
+		if ( replicationRoot != null ) {
+			Path publicationPath = replicationRoot.resolve( indexName );
+			if ( shardId.isPresent() ) {
+				publicationPath = publicationPath.resolve( shardId.get() );
+			}
+			replicator = new CommitPointReplicator( publicationPath );
+		}
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder,
+					writerConfigSource, commitTimer, replicator );
+			indexReaderProvider = createIndexReaderProvider( eventContext, directoryHolder, indexWriterProvider,
+					refreshTimer, replicator );
 			return new IndexAccessorImpl(
 					eventContext,
 					directoryHolder, indexWriterProvider, indexReaderProvider
@@ -62,10 +89,14 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		}
 	}
 
+	/**
+	 * @return The index writer provider, or {@code null} if this strategy never writes to the index.
+	 */
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, Timer commitTimer,
+			CommitPointReplicator replicator);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	abstract IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, Timer refreshTimer, CommitPointReplicator replicator);
 
 }
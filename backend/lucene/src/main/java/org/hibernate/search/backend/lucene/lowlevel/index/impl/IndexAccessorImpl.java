@@ -125,6 +125,10 @@ private synchronized void clear() throws IOException {
 
 	@Override
 	public void commit() {
+		if ( indexWriterProvider == null ) {
+			// Read-only index: nothing to commit
+			return;
+		}
 		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
 		if ( delegator != null ) {
 			delegator.commit();
@@ -133,6 +137,10 @@ public void commit() {
 
 	@Override
 	public void commitOrDelay() {
+		if ( indexWriterProvider == null ) {
+			// Read-only index: nothing to commit
+			return;
+		}
 		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
 		if ( delegator != null ) {
 			delegator.commitOrDelay();
@@ -147,7 +155,7 @@ public void refresh() {
 	@Override
 	public void mergeSegments() {
 		try {
-			indexWriterProvider.getOrCreate().mergeSegments();
+			getWriteableIndexWriterProvider().getOrCreate().mergeSegments();
 		}
 		catch (IOException e) {
 			throw log.unableToMergeSegments( eventContext, e );
@@ -156,7 +164,7 @@ public void mergeSegments() {
 
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
-		return indexWriterProvider.getOrCreate();
+		return getWriteableIndexWriterProvider().getOrCreate();
 	}
 
 	@Override
@@ -171,7 +179,9 @@ public void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 			 * Note this will close the index writer,
 			 * which with the default settings will trigger a commit.
 			 */
-			indexWriterProvider.clearAfterFailure( throwable, failingOperation );
+			if ( indexWriterProvider != null ) {
+				indexWriterProvider.clearAfterFailure( throwable, failingOperation );
+			}
 			indexReaderProvider.clear();
 		}
 		catch (RuntimeException | IOException e) {
@@ -184,7 +194,14 @@ public Directory getDirectoryForTests() {
 	}
 
 	public IndexWriter getWriterForTests() throws IOException {
-		return indexWriterProvider.getOrCreate().getDelegateForTests();
+		return getWriteableIndexWriterProvider().getOrCreate().getDelegateForTests();
+	}
+
+	private IndexWriterProvider getWriteableIndexWriterProvider() {
+		if ( indexWriterProvider == null ) {
+			throw log.cannotWriteToReplicaIndex( eventContext );
+		}
+		return indexWriterProvider;
 	}
 
 	private void initializeDirectory(Directory directory) throws IOException {
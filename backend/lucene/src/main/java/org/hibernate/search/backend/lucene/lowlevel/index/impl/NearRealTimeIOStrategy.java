@@ -6,17 +6,22 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.nio.file.Path;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -36,12 +41,13 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			DirectoryProvider directoryProvider, TimingSource timingSource,
-			BackendThreads threads, FailureHandler failureHandler) {
+			BackendThreads threads, FailureHandler failureHandler, MetricsRecorder metricsRecorder,
+			Path replicationRoot) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
 		return new NearRealTimeIOStrategy(
 				directoryProvider, timingSource, commitInterval, refreshInterval,
-				threads, failureHandler
+				threads, failureHandler, metricsRecorder, replicationRoot
 		);
 	}
 
@@ -52,8 +58,8 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
 			TimingSource timingSource, int commitInterval, int refreshInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
-		super( directoryProvider, threads, failureHandler );
+			FailureHandler failureHandler, MetricsRecorder metricsRecorder, Path replicationRoot) {
+		super( directoryProvider, threads, failureHandler, metricsRecorder, replicationRoot );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
@@ -61,7 +67,8 @@ private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, Timer commitTimer,
+			CommitPointReplicator replicator) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
@@ -69,17 +76,18 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, configSource,
 				timingSource, commitInterval, threads,
-				failureHandler
+				failureHandler, commitTimer, replicator
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, Timer refreshTimer, CommitPointReplicator replicator) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+				refreshTimer );
 	}
 
 }
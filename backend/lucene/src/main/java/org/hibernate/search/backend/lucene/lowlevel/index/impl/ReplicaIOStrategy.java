@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReplicaIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ReplicaIOStrategy extends IOStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Not the same default as other strategies: a refresh interval of 0 would mean
+	// accessing the replication root upon every single search query.
+	private static final ConfigurationProperty<Integer> REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REPLICA_REFRESH_INTERVAL )
+					.build();
+
+	public static ReplicaIOStrategy create(ConfigurationPropertySource propertySource,
+			DirectoryProvider directoryProvider, TimingSource timingSource,
+			BackendThreads threads, FailureHandler failureHandler, MetricsRecorder metricsRecorder,
+			Path replicationRoot) {
+		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		if ( refreshInterval <= 0 ) {
+			throw log.invalidRefreshIntervalForReplicaIOStrategy(
+					REFRESH_INTERVAL.resolveOrRaw( propertySource ), refreshInterval );
+		}
+		return new ReplicaIOStrategy(
+				directoryProvider, timingSource, refreshInterval,
+				threads, failureHandler, metricsRecorder, replicationRoot
+		);
+	}
+
+	private final TimingSource timingSource;
+	private final int refreshInterval;
+
+	private ReplicaIOStrategy(DirectoryProvider directoryProvider,
+			TimingSource timingSource, int refreshInterval,
+			BackendThreads threads,
+			FailureHandler failureHandler, MetricsRecorder metricsRecorder, Path replicationRoot) {
+		super( directoryProvider, threads, failureHandler, metricsRecorder, replicationRoot );
+		this.timingSource = timingSource;
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource, Timer commitTimer,
+			CommitPointReplicator replicator) {
+		// Replicas never write to the index: changes come from the primary node exclusively.
+		return null;
+	}
+
+	@Override
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, Timer refreshTimer, CommitPointReplicator replicator) {
+		timingSource.ensureInitialized();
+		return new ReplicaIndexReaderProvider( eventContext, directoryHolder, replicator,
+				timingSource, refreshInterval, refreshTimer );
+	}
+
+}
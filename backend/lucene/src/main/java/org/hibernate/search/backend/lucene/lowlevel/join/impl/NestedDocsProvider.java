@@ -36,6 +36,8 @@ public class NestedDocsProvider {
 	private final BitSetProducer parentFilter;
 	private final Query childQuery;
 
+	private volatile CachedWeight cachedChildDocsWeight;
+
 	public NestedDocsProvider(String nestedDocumentPath, Query originalParentQuery) {
 		this( Collections.singleton( nestedDocumentPath ), originalParentQuery, null );
 	}
@@ -63,11 +65,15 @@ public BitSet parentDocs(LeafReaderContext context) throws IOException {
 	public DocIdSetIterator childDocs(LeafReaderContext context) throws IOException {
 		final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
 
-		// Maybe we can cache on shard-base. See Elasticsearch code.
-		IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
+		// This is called for each segment: only create the weight once for all segments of the same reader.
+		CachedWeight cached = cachedChildDocsWeight;
+		if ( cached == null || cached.topLevelContext != topLevelCtx ) {
+			IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
+			cached = new CachedWeight( topLevelCtx, childDocsWeight( indexSearcher ) );
+			cachedChildDocsWeight = cached;
+		}
 
-		Weight weight = childDocsWeight( indexSearcher );
-		return childDocs( weight, context );
+		return childDocs( cached.weight, context );
 	}
 
 	public Weight childDocsWeight(IndexSearcher indexSearcher) throws IOException {
@@ -78,4 +84,14 @@ public DocIdSetIterator childDocs(Weight weight, LeafReaderContext context) thro
 		Scorer s = weight.scorer( context );
 		return s == null ? null : s.iterator();
 	}
+
+	private static final class CachedWeight {
+		private final IndexReaderContext topLevelContext;
+		private final Weight weight;
+
+		private CachedWeight(IndexReaderContext topLevelContext, Weight weight) {
+			this.topLevelContext = topLevelContext;
+			this.weight = weight;
+		}
+	}
 }
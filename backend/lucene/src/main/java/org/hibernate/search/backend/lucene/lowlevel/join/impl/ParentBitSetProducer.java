@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A {@link BitSetProducer} for parent documents at a given nesting level,
+ * relying on the {@link ParentFilterCache} of the index each segment belongs to.
+ * <p>
+ * This producer does not hold any state itself: caches are owned by each index,
+ * so that they don't leak across indexes or across Hibernate Search instances.
+ */
+public final class ParentBitSetProducer implements BitSetProducer {
+
+	private final String parentNestedDocumentPath;
+	private final Query parentQuery;
+
+	/**
+	 * @param parentNestedDocumentPath The path of the parent nested document,
+	 * or {@code null} if the parent is the main document.
+	 */
+	public ParentBitSetProducer(String parentNestedDocumentPath) {
+		this.parentNestedDocumentPath = parentNestedDocumentPath;
+		this.parentQuery = parentNestedDocumentPath == null
+				? Queries.mainDocumentQuery()
+				: Queries.nestedDocumentPathQuery( parentNestedDocumentPath );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + parentQuery + "]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		ParentBitSetProducer other = (ParentBitSetProducer) obj;
+		return Objects.equals( parentNestedDocumentPath, other.parentNestedDocumentPath );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode( parentNestedDocumentPath );
+	}
+
+	@Override
+	public BitSet getBitSet(LeafReaderContext context) throws IOException {
+		IndexReader topLevelReader = ReaderUtil.getTopLevelContext( context ).reader();
+		ParentFilterCache cache = null;
+		if ( topLevelReader instanceof HibernateSearchMultiReader ) {
+			cache = ( (HibernateSearchMultiReader) topLevelReader ).getMetadataResolver()
+					.resolveParentFilterCache( context );
+		}
+		if ( cache == null ) {
+			// Not a reader we opened ourselves: don't cache anything.
+			return ParentFilterCache.computeBitSet( parentQuery, context );
+		}
+		return cache.getBitSet( parentQuery, context );
+	}
+}
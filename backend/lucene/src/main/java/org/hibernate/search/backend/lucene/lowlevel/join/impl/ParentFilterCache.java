@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A cache of parent bitsets for the segments of a single index.
+ * <p>
+ * Computing the bitset of parent documents is costly for indexes with many nested documents,
+ * so it is computed once per segment and reused by all queries targeting that segment.
+ * Entries are removed as soon as the segment core is closed,
+ * e.g. after a refresh or a merge made the segment obsolete.
+ */
+public final class ParentFilterCache {
+
+	private final ConcurrentMap<IndexReader.CacheKey, ConcurrentMap<Query, Optional<BitSet>>> bitSetsBySegment =
+			new ConcurrentHashMap<>();
+
+	public BitSet getBitSet(Query parentQuery, LeafReaderContext context) throws IOException {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			// This segment does not support caching.
+			return computeBitSet( parentQuery, context );
+		}
+
+		ConcurrentMap<Query, Optional<BitSet>> segmentBitSets = getSegmentBitSets( cacheHelper );
+		Optional<BitSet> bitSet = segmentBitSets.get( parentQuery );
+		if ( bitSet == null ) {
+			bitSet = Optional.ofNullable( computeBitSet( parentQuery, context ) );
+			// Concurrent computations give the same result: it doesn't matter which one wins.
+			segmentBitSets.putIfAbsent( parentQuery, bitSet );
+		}
+		return bitSet.orElse( null );
+	}
+
+	int cachedSegmentCount() {
+		return bitSetsBySegment.size();
+	}
+
+	private ConcurrentMap<Query, Optional<BitSet>> getSegmentBitSets(IndexReader.CacheHelper cacheHelper) {
+		IndexReader.CacheKey key = cacheHelper.getKey();
+		ConcurrentMap<Query, Optional<BitSet>> segmentBitSets = bitSetsBySegment.get( key );
+		if ( segmentBitSets == null ) {
+			segmentBitSets = new ConcurrentHashMap<>();
+			ConcurrentMap<Query, Optional<BitSet>> previous = bitSetsBySegment.putIfAbsent( key, segmentBitSets );
+			if ( previous != null ) {
+				segmentBitSets = previous;
+			}
+			else {
+				cacheHelper.addClosedListener( bitSetsBySegment::remove );
+			}
+		}
+		return segmentBitSets;
+	}
+
+	static BitSet computeBitSet(Query parentQuery, LeafReaderContext context) throws IOException {
+		IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( context );
+		IndexSearcher searcher = new IndexSearcher( topLevelContext );
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( parentQuery ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		return scorer == null ? null : BitSet.of( scorer.iterator(), context.reader().maxDoc() );
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.Ngrams;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.WildcardQuery;
+
+/**
+ * Creates queries matching wildcard patterns against the n-grams indexed by {@link Ngrams}.
+ * <p>
+ * Each part of the pattern between two {@code *} is turned into a phrase of n-grams,
+ * which matches any value containing that part.
+ * When these phrases are not enough to guarantee that the whole pattern matches,
+ * e.g. when the pattern contains {@code ?} or several parts,
+ * matches are verified against the values stored in doc values.
+ */
+public final class NgramWildcardQueryFactory {
+
+	private static final int ANY_CHAR = -1;
+	private static final int ANY_STRING = -2;
+
+	private NgramWildcardQueryFactory() {
+	}
+
+	/**
+	 * @param ngramFieldName The name of the n-gram field.
+	 * @param pattern A normalized wildcard pattern, following the syntax of {@link WildcardQuery}.
+	 * @return A query matching the same documents as a {@link WildcardQuery} with the same pattern
+	 * on the original field, or {@code null} if the pattern does not start with a wildcard,
+	 * in which case a {@link WildcardQuery} is efficient enough,
+	 * or if the pattern does not contain enough literal characters to benefit from n-grams.
+	 */
+	public static Query createOrNull(String ngramFieldName, String pattern) {
+		List<Integer> elements = parse( pattern );
+		if ( elements.size() < 3 || elements.get( 1 ) >= 0 ) {
+			// Empty pattern, or the pattern starts with a literal prefix
+			return null;
+		}
+
+		List<Query> phrases = new ArrayList<>();
+		boolean exact = true;
+		int nonTrivialSegmentCount = 0;
+		int segmentStart = 0;
+		for ( int i = 0; i <= elements.size(); i++ ) {
+			if ( i < elements.size() && elements.get( i ) != ANY_STRING ) {
+				continue;
+			}
+			List<Integer> segment = elements.subList( segmentStart, i );
+			segmentStart = i + 1;
+			if ( isTrivial( segment ) ) {
+				continue;
+			}
+			++nonTrivialSegmentCount;
+			if ( segment.size() < Ngrams.GRAM_SIZE || segment.contains( ANY_CHAR ) ) {
+				// The n-grams, if any, do not cover the whole segment
+				exact = false;
+			}
+			Query phrase = createPhraseOrNull( ngramFieldName, segment );
+			if ( phrase != null ) {
+				phrases.add( phrase );
+			}
+		}
+		if ( phrases.isEmpty() ) {
+			return null;
+		}
+		if ( nonTrivialSegmentCount > 1 ) {
+			// The phrases do not check the order of segments
+			exact = false;
+		}
+
+		if ( exact && phrases.size() == 1 ) {
+			return new ConstantScoreQuery( phrases.get( 0 ) );
+		}
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		for ( Query phrase : phrases ) {
+			builder.add( phrase, BooleanClause.Occur.FILTER );
+		}
+		if ( !exact ) {
+			builder.add( new SortedSetDocValuesWildcardQuery( ngramFieldName, pattern ), BooleanClause.Occur.FILTER );
+		}
+		return new ConstantScoreQuery( builder.build() );
+	}
+
+	/**
+	 * @return The code points of the pattern, wrapped between start and end markers,
+	 * with wildcards replaced with {@link #ANY_CHAR} and {@link #ANY_STRING}.
+	 */
+	private static List<Integer> parse(String pattern) {
+		List<Integer> elements = new ArrayList<>();
+		elements.add( Ngrams.START_MARKER );
+		for ( int i = 0; i < pattern.length(); ) {
+			int codePoint = pattern.codePointAt( i );
+			i += Character.charCount( codePoint );
+			switch ( codePoint ) {
+				case WildcardQuery.WILDCARD_STRING:
+					elements.add( ANY_STRING );
+					break;
+				case WildcardQuery.WILDCARD_CHAR:
+					elements.add( ANY_CHAR );
+					break;
+				case WildcardQuery.WILDCARD_ESCAPE:
+					if ( i < pattern.length() ) {
+						codePoint = pattern.codePointAt( i );
+						i += Character.charCount( codePoint );
+					}
+					// else: a trailing escape character is interpreted literally, as in WildcardQuery
+					elements.add( codePoint );
+					break;
+				default:
+					elements.add( codePoint );
+					break;
+			}
+		}
+		elements.add( Ngrams.END_MARKER );
+		return elements;
+	}
+
+	private static boolean isTrivial(List<Integer> segment) {
+		// Markers alone match any value
+		return segment.isEmpty()
+				|| segment.size() == 1 && ( segment.get( 0 ) == Ngrams.START_MARKER || segment.get( 0 ) == Ngrams.END_MARKER );
+	}
+
+	private static Query createPhraseOrNull(String ngramFieldName, List<Integer> segment) {
+		int[] codePoints = new int[segment.size()];
+		for ( int i = 0; i < codePoints.length; i++ ) {
+			codePoints[i] = segment.get( i );
+		}
+		PhraseQuery.Builder builder = new PhraseQuery.Builder();
+		boolean empty = true;
+		for ( int offset = 0; offset + Ngrams.GRAM_SIZE <= codePoints.length; offset++ ) {
+			if ( containsAnyChar( codePoints, offset ) ) {
+				continue;
+			}
+			builder.add( new Term( ngramFieldName, Ngrams.gram( codePoints, offset ) ), offset );
+			empty = false;
+		}
+		return empty ? null : builder.build();
+	}
+
+	private static boolean containsAnyChar(int[] codePoints, int offset) {
+		for ( int i = offset; i < offset + Ngrams.GRAM_SIZE; i++ ) {
+			if ( codePoints[i] == ANY_CHAR ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
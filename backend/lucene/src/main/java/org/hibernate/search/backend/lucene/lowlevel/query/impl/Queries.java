@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetProducer;
 
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause.Occur;
@@ -17,7 +18,6 @@
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.search.join.ToChildBlockJoinQuery;
 
 public class Queries {
@@ -77,14 +77,8 @@ public static Query anyTerm(String absoluteFieldPath, Set<String> values) {
 	}
 
 	public static BitSetProducer parentFilter(String parentNestedDocumentPath) {
-		Query parentQuery;
-		if ( parentNestedDocumentPath == null ) {
-			parentQuery = Queries.mainDocumentQuery();
-		}
-		else {
-			parentQuery = Queries.nestedDocumentPathQuery( parentNestedDocumentPath );
-		}
-		return new QueryBitSetProducer( parentQuery );
+		// Bitsets are cached per index and per segment, see ParentFilterCache.
+		return new ParentBitSetProducer( parentNestedDocumentPath );
 	}
 
 	public static BooleanQuery findChildQuery(BitSetProducer parentFilter,
@@ -0,0 +1,257 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Rewrites boolean query trees produced by the predicate DSL into equivalent, cheaper trees.
+ * <p>
+ * The rewritten query always matches the same documents.
+ * When scores are needed, it also produces the same scores;
+ * when they are not, it may produce different scores, e.g. by turning scoring clauses into filters.
+ * <p>
+ * Rewrites applied:
+ * <ul>
+ * <li>{@code MUST} clauses become {@code FILTER} clauses when scores are not needed,
+ * which makes them eligible for the query cache.</li>
+ * <li>Nested conjunctions are inlined into their parent conjunction,
+ * and nested disjunctions are inlined into their parent disjunction.</li>
+ * <li>Optional clauses are dropped when they can neither affect matching nor scoring.</li>
+ * <li>Duplicate non-scoring clauses are dropped.</li>
+ * <li>Non-scoring term clauses on the same field are merged into a single {@link TermInSetQuery}.</li>
+ * </ul>
+ */
+public final class QueryOptimizer {
+
+	private QueryOptimizer() {
+	}
+
+	/**
+	 * @param query The query to optimize.
+	 * @param scoresNeeded Whether the score of matching documents will be used,
+	 * either to sort hits or to project on the score.
+	 * @return The optimized query.
+	 */
+	public static Query optimize(Query query, boolean scoresNeeded) {
+		if ( query instanceof BooleanQuery ) {
+			return optimizeBoolean( (BooleanQuery) query, scoresNeeded );
+		}
+		else if ( query instanceof ConstantScoreQuery ) {
+			Query wrapped = ( (ConstantScoreQuery) query ).getQuery();
+			Query optimizedWrapped = optimize( wrapped, false );
+			return optimizedWrapped == wrapped ? query : new ConstantScoreQuery( optimizedWrapped );
+		}
+		else if ( query instanceof BoostQuery ) {
+			BoostQuery boostQuery = (BoostQuery) query;
+			Query wrapped = boostQuery.getQuery();
+			Query optimizedWrapped = optimize( wrapped, scoresNeeded );
+			return optimizedWrapped == wrapped ? query : new BoostQuery( optimizedWrapped, boostQuery.getBoost() );
+		}
+		else {
+			return query;
+		}
+	}
+
+	private static Query optimizeBoolean(BooleanQuery query, boolean scoresNeeded) {
+		int minimumShouldMatch = query.getMinimumNumberShouldMatch();
+		List<BooleanClause> originalClauses = query.clauses();
+		int maxClauseCount = BooleanQuery.getMaxClauseCount();
+
+		List<Query> mustClauses = new ArrayList<>();
+		Set<Query> filterClauses = new LinkedHashSet<>();
+		List<Query> shouldClauses = new ArrayList<>();
+		Set<Query> mustNotClauses = new LinkedHashSet<>();
+
+		for ( int i = 0; i < originalClauses.size(); i++ ) {
+			BooleanClause clause = originalClauses.get( i );
+			Occur occur = clause.getOccur();
+			if ( Occur.MUST.equals( occur ) && !scoresNeeded ) {
+				occur = Occur.FILTER;
+			}
+			boolean clauseScoresNeeded = scoresNeeded && clause.isScoring();
+			Query optimizedClause = optimize( clause.getQuery(), clauseScoresNeeded );
+
+			int collectedClauseCount = mustClauses.size() + filterClauses.size()
+					+ shouldClauses.size() + mustNotClauses.size();
+			int remainingClauseCount = originalClauses.size() - i - 1;
+			if ( optimizedClause instanceof BooleanQuery ) {
+				BooleanQuery nested = (BooleanQuery) optimizedClause;
+				// Do not exceed the maximum clause count, or building the query would fail
+				if ( collectedClauseCount + nested.clauses().size() + remainingClauseCount <= maxClauseCount
+						&& inline( nested, occur, minimumShouldMatch,
+								mustClauses, filterClauses, shouldClauses, mustNotClauses ) ) {
+					continue;
+				}
+			}
+
+			add( optimizedClause, occur, mustClauses, filterClauses, shouldClauses, mustNotClauses );
+		}
+
+		boolean hasRequiredClauses = !mustClauses.isEmpty() || !filterClauses.isEmpty();
+		boolean shouldClausesOnlyAffectScores = minimumShouldMatch == 0 && hasRequiredClauses;
+		if ( !scoresNeeded && shouldClausesOnlyAffectScores ) {
+			// Optional clauses do not affect matching, and scores are not needed.
+			shouldClauses.clear();
+		}
+		else if ( !scoresNeeded && minimumShouldMatch == 0 ) {
+			// Optional clauses only affect matching: at least one must match.
+			shouldClauses = mergeTermQueries( new ArrayList<>( new LinkedHashSet<>( shouldClauses ) ) );
+		}
+		// Prohibited clauses never affect scoring.
+		List<Query> mergedMustNotClauses = mergeTermQueries( new ArrayList<>( mustNotClauses ) );
+
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		builder.setMinimumNumberShouldMatch( minimumShouldMatch );
+		for ( Query clause : mustClauses ) {
+			builder.add( clause, Occur.MUST );
+		}
+		for ( Query clause : filterClauses ) {
+			builder.add( clause, Occur.FILTER );
+		}
+		for ( Query clause : shouldClauses ) {
+			builder.add( clause, Occur.SHOULD );
+		}
+		for ( Query clause : mergedMustNotClauses ) {
+			builder.add( clause, Occur.MUST_NOT );
+		}
+		return builder.build();
+	}
+
+	private static boolean inline(BooleanQuery nested, Occur parentOccur, int parentMinimumShouldMatch,
+			List<Query> mustClauses, Set<Query> filterClauses,
+			List<Query> shouldClauses, Set<Query> mustNotClauses) {
+		if ( nested.getMinimumNumberShouldMatch() != 0 || nested.clauses().isEmpty() ) {
+			return false;
+		}
+
+		boolean hasRequired = false;
+		boolean hasShould = false;
+		boolean hasOnlyShould = true;
+		for ( BooleanClause clause : nested.clauses() ) {
+			switch ( clause.getOccur() ) {
+				case MUST:
+				case FILTER:
+					hasRequired = true;
+					hasOnlyShould = false;
+					break;
+				case SHOULD:
+					hasShould = true;
+					break;
+				case MUST_NOT:
+					hasOnlyShould = false;
+					break;
+			}
+		}
+
+		switch ( parentOccur ) {
+			case MUST:
+			case FILTER:
+				// A nested conjunction: its clauses are all required, just like the nested query itself.
+				// Queries with only prohibited clauses match nothing, so they cannot be inlined.
+				if ( hasShould || !hasRequired ) {
+					return false;
+				}
+				for ( BooleanClause clause : nested.clauses() ) {
+					Occur occur = clause.getOccur();
+					if ( Occur.FILTER.equals( parentOccur ) && Occur.MUST.equals( occur ) ) {
+						occur = Occur.FILTER;
+					}
+					add( clause.getQuery(), occur, mustClauses, filterClauses, shouldClauses, mustNotClauses );
+				}
+				return true;
+			case SHOULD:
+				// A nested disjunction in a disjunction: the nested query matches if any of its clauses match.
+				if ( !hasOnlyShould || parentMinimumShouldMatch != 0 ) {
+					return false;
+				}
+				for ( BooleanClause clause : nested.clauses() ) {
+					shouldClauses.add( clause.getQuery() );
+				}
+				return true;
+			case MUST_NOT:
+				// NOT (a OR b) is equivalent to (NOT a) AND (NOT b)
+				if ( !hasOnlyShould ) {
+					return false;
+				}
+				for ( BooleanClause clause : nested.clauses() ) {
+					mustNotClauses.add( clause.getQuery() );
+				}
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static void add(Query clause, Occur occur, List<Query> mustClauses, Set<Query> filterClauses,
+			List<Query> shouldClauses, Set<Query> mustNotClauses) {
+		switch ( occur ) {
+			case MUST:
+				mustClauses.add( clause );
+				break;
+			case FILTER:
+				filterClauses.add( clause );
+				break;
+			case SHOULD:
+				shouldClauses.add( clause );
+				break;
+			case MUST_NOT:
+				mustNotClauses.add( clause );
+				break;
+		}
+	}
+
+	/**
+	 * @param clauses Clauses of a disjunction, whose scores are not needed.
+	 * @return The same clauses, with term queries on the same field merged into a single {@link TermInSetQuery}.
+	 */
+	private static List<Query> mergeTermQueries(List<Query> clauses) {
+		Map<String, List<BytesRef>> termsByField = new LinkedHashMap<>();
+		for ( Query clause : clauses ) {
+			if ( clause instanceof TermQuery ) {
+				Term term = ( (TermQuery) clause ).getTerm();
+				termsByField.computeIfAbsent( term.field(), ignored -> new ArrayList<>() ).add( term.bytes() );
+			}
+		}
+
+		List<Query> result = new ArrayList<>( clauses.size() );
+		for ( Query clause : clauses ) {
+			if ( clause instanceof TermQuery ) {
+				String field = ( (TermQuery) clause ).getTerm().field();
+				List<BytesRef> terms = termsByField.remove( field );
+				if ( terms == null ) {
+					// Already merged
+					continue;
+				}
+				if ( terms.size() > 1 ) {
+					// TermInSetQuery rewrites itself to a disjunction of term queries if there are few terms.
+					result.add( new TermInSetQuery( field, terms ) );
+					continue;
+				}
+			}
+			result.add( clause );
+		}
+		return result;
+	}
+
+}
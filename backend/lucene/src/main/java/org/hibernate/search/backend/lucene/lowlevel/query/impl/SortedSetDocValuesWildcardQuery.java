@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.automaton.ByteRunAutomaton;
+
+/**
+ * A query matching documents whose sorted set doc values match a wildcard pattern.
+ * <p>
+ * Unlike {@link WildcardQuery}, this query never enumerates terms:
+ * it checks the values of each candidate document instead.
+ * It is slow on its own, but efficient to verify matches of other, more selective queries.
+ */
+public final class SortedSetDocValuesWildcardQuery extends Query {
+
+	private final String absoluteFieldPath;
+	private final String pattern;
+	private final ByteRunAutomaton automaton;
+
+	public SortedSetDocValuesWildcardQuery(String absoluteFieldPath, String pattern) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.pattern = pattern;
+		this.automaton = new ByteRunAutomaton( WildcardQuery.toAutomaton( new Term( absoluteFieldPath, pattern ) ) );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight( this, boost ) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				SortedSetDocValues values = DocValues.getSortedSet( context.reader(), absoluteFieldPath );
+				TwoPhaseIterator iterator = new TwoPhaseIterator( values ) {
+					@Override
+					public boolean matches() throws IOException {
+						for ( long ord = values.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS;
+								ord = values.nextOrd() ) {
+							BytesRef value = values.lookupOrd( ord );
+							if ( automaton.run( value.bytes, value.offset, value.length ) ) {
+								return true;
+							}
+						}
+						return false;
+					}
+
+					@Override
+					public float matchCost() {
+						// Rough estimate: a few value lookups and automaton runs
+						return 100;
+					}
+				};
+				return new ConstantScoreScorer( this, score(), scoreMode, iterator );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				return DocValues.isCacheable( ctx, absoluteFieldPath );
+			}
+		};
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		if ( visitor.acceptField( absoluteFieldPath ) ) {
+			visitor.visitLeaf( this );
+		}
+	}
+
+	@Override
+	public String toString(String field) {
+		StringBuilder builder = new StringBuilder( getClass().getSimpleName() ).append( "(" );
+		if ( !absoluteFieldPath.equals( field ) ) {
+			builder.append( absoluteFieldPath ).append( ":" );
+		}
+		return builder.append( pattern ).append( ")" ).toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !sameClassAs( obj ) ) {
+			return false;
+		}
+		SortedSetDocValuesWildcardQuery other = (SortedSetDocValuesWildcardQuery) obj;
+		return absoluteFieldPath.equals( other.absoluteFieldPath ) && pattern.equals( other.pattern );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( classHash(), absoluteFieldPath, pattern );
+	}
+}
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentFilterCache;
+
 import org.apache.lucene.index.DirectoryReader;
 
 public interface DirectoryReaderCollector {
 
-	void collect(String mappedTypeName, DirectoryReader directoryReader);
+	void collect(String mappedTypeName, ParentFilterCache parentFilterCache, DirectoryReader directoryReader);
 
 }
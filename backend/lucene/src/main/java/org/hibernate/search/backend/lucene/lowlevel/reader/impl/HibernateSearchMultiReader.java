@@ -19,6 +19,7 @@
 import org.apache.lucene.index.MultiReader;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentFilterCache;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -39,7 +40,7 @@ public class HibernateSearchMultiReader extends MultiReader {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
-			Set<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+			Set<? extends ReadIndexManagerContext> indexManagerContexts, String tenantId, Set<String> routingKeys) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
@@ -47,7 +48,7 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 			Builder builder = new Builder();
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
-					indexManagerContext.openIndexReaders( routingKeys, builder );
+					indexManagerContext.openIndexReaders( tenantId, routingKeys, builder );
 				}
 				return builder.build();
 			}
@@ -75,6 +76,14 @@ public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * @return The directory readers this reader is composed of, in the same order as the sub-readers,
+	 * i.e. in the order used to compute global document IDs.
+	 */
+	public List<DirectoryReader> getDirectoryReaders() {
+		return directoryReaders;
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean debugEnabled = log.isDebugEnabled();
@@ -101,19 +110,23 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private final Map<DirectoryReader, ParentFilterCache> parentFilterCacheByDirectoryReader = new HashMap<>();
 
 		private Builder() {
 		}
 
 		@Override
-		public void collect(String mappedTypeName, DirectoryReader directoryReader) {
+		public void collect(String mappedTypeName, ParentFilterCache parentFilterCache,
+				DirectoryReader directoryReader) {
 			directoryReaders.add( directoryReader );
 			mappedTypeNameByDirectoryReader.put( directoryReader, mappedTypeName );
+			parentFilterCacheByDirectoryReader.put( directoryReader, parentFilterCache );
 		}
 
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
-					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
+					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader,
+							parentFilterCacheByDirectoryReader );
 			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
 		}
 	}
@@ -8,6 +8,7 @@
 
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentFilterCache;
 import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -17,15 +18,22 @@
 public final class IndexReaderMetadataResolver {
 
 	private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader;
+	private final Map<DirectoryReader, ParentFilterCache> parentFilterCacheByDirectoryReader;
 
-	IndexReaderMetadataResolver(Map<DirectoryReader, String> mappedTypeNameByDirectoryReader) {
+	IndexReaderMetadataResolver(Map<DirectoryReader, String> mappedTypeNameByDirectoryReader,
+			Map<DirectoryReader, ParentFilterCache> parentFilterCacheByDirectoryReader) {
 		this.mappedTypeNameByDirectoryReader = mappedTypeNameByDirectoryReader;
+		this.parentFilterCacheByDirectoryReader = parentFilterCacheByDirectoryReader;
 	}
 
 	public String resolveMappedTypeName(LeafReaderContext context) {
 		return mappedTypeNameByDirectoryReader.get( getDirectoryReader( context ) );
 	}
 
+	public ParentFilterCache resolveParentFilterCache(LeafReaderContext context) {
+		return parentFilterCacheByDirectoryReader.get( getDirectoryReader( context ) );
+	}
+
 	private DirectoryReader getDirectoryReader(LeafReaderContext context) {
 		IndexReaderContext current = context;
 		while ( current != null && !( current.reader() instanceof DirectoryReader ) ) {
@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -30,6 +31,7 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final Timer refreshTimer;
 
 	/**
 	 * Current open IndexReader, or null when closed.
@@ -37,10 +39,11 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, int refreshInterval, Timer refreshTimer) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.refreshTimer = refreshTimer;
 	}
 
 	@Override
@@ -81,6 +84,7 @@ public DirectoryReader getOrCreate() throws IOException {
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
+		long startTime = refreshTimer.start();
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
@@ -95,6 +99,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 			}
 		}
+		refreshTimer.recordSince( startTime );
 
 		if ( oldEntry != freshEntry ) {
 			setCurrentReaderEntry( freshEntry );
@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
+import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * An index reader holder for read-only replicas,
+ * which copies commit points published by a primary node into the local directory
+ * and opens index readers directly from that directory, without ever opening an index writer.
+ * <p>
+ * The index reader is instantiated once and shared among all threads
+ * until the refresh interval expires, at which point the publication directory is checked for new commit points.
+ * If copying a new commit point fails, the current index reader is kept and the copy is attempted again on the next refresh.
+ */
+public class ReplicaIndexReaderProvider implements IndexReaderProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final DirectoryHolder directoryHolder;
+	private final CommitPointReplicator replicator;
+	private final TimingSource timingSource;
+	private final int refreshInterval;
+	private final Timer refreshTimer;
+
+	/**
+	 * Current open IndexReader, or null when closed.
+	 */
+	private volatile IndexReaderEntry currentReaderEntry = null;
+
+	/**
+	 * @param refreshInterval How often to check the publication directory for new commit points, in milliseconds.
+	 * Must be strictly positive: checking upon every call to {@link #getOrCreate()} would be prohibitively expensive.
+	 */
+	public ReplicaIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			CommitPointReplicator replicator,
+			TimingSource timingSource, int refreshInterval, Timer refreshTimer) {
+		this.eventContext = eventContext;
+		this.directoryHolder = directoryHolder;
+		this.replicator = replicator;
+		this.timingSource = timingSource;
+		this.refreshInterval = refreshInterval;
+		this.refreshTimer = refreshTimer;
+	}
+
+	@Override
+	public synchronized void clear() throws IOException {
+		setCurrentReaderEntry( null );
+	}
+
+	@Override
+	public void refresh() {
+		IndexReaderEntry entry = currentReaderEntry;
+
+		if ( entry == null ) {
+			return;
+		}
+
+		entry.forceRefresh();
+	}
+
+	@Override
+	public DirectoryReader getOrCreate() throws IOException {
+		IndexReaderEntry entry = currentReaderEntry;
+
+		// Optimistic locking and checks to avoid synchronization
+		if ( entry != null && entry.reader.tryIncRef() ) {
+			if ( entry.isFresh() ) {
+				return entry.reader;
+			}
+			else {
+				entry.reader.decRef();
+			}
+		}
+
+		return getFreshIndexReader().reader;
+	}
+
+	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		IndexReaderEntry freshEntry;
+		long startTime = refreshTimer.start();
+		try {
+			replicator.update( directoryHolder.get() );
+		}
+		catch (IOException | RuntimeException e) {
+			// Keep serving the commit point we already have locally.
+			log.unableToCopyPublishedCommitPoint( replicator.publicationPath(), e.getMessage(), eventContext, e );
+		}
+		if ( oldEntry == null ) {
+			DirectoryReader newReader = DirectoryReader.open( directoryHolder.get() );
+			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+		}
+		else {
+			DirectoryReader newReaderOrNull = DirectoryReader.openIfChanged( oldEntry.reader );
+			// Even if there is no change, create a new entry to reset the expiration.
+			freshEntry = new IndexReaderEntry( newReaderOrNull == null ? oldEntry.reader : newReaderOrNull,
+					timingSource, refreshInterval );
+			if ( newReaderOrNull == null ) {
+				// The new entry shares the reader of the old entry:
+				// it needs its own reference, since the old entry will release its reference below.
+				oldEntry.reader.incRef();
+			}
+		}
+		refreshTimer.recordSince( startTime );
+
+		setCurrentReaderEntry( freshEntry );
+
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		freshEntry.reader.incRef();
+
+		return freshEntry;
+	}
+
+	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		currentReaderEntry = newEntry;
+		if ( oldEntry != null ) {
+			// Make sure to close the old reader as soon as no user thread is using it.
+			oldEntry.reader.decRef();
+		}
+	}
+
+	private static class IndexReaderEntry {
+		private final DirectoryReader reader;
+		private final TimingSource timingSource;
+		private final long expiration;
+
+		private volatile boolean refreshForced = false;
+
+		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
+			this.reader = reader;
+			this.timingSource = timingSource;
+			this.expiration = timingSource.monotonicTimeEstimate() + refreshInterval;
+		}
+
+		public void forceRefresh() {
+			refreshForced = true;
+		}
+
+		/**
+		 * @return {@code true} if the reader is still fresh enough to be used,
+		 * i.e. if it was opened less than the configured refresh interval ago,
+		 * and refresh wasn't forced.
+		 */
+		boolean isFresh() {
+			if ( refreshForced ) {
+				return false;
+			}
+			return timingSource.monotonicTimeEstimate() <= expiration;
+		}
+	}
+}
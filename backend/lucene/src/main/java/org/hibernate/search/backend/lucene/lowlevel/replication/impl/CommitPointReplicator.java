@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexNotFoundException;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.NoLockFactory;
+
+/**
+ * Copies commit points between an index directory and a publication directory on the filesystem.
+ * <p>
+ * On a primary node, the latest commit point of the index is {@link #publish(Directory) published}
+ * after each commit; on replica nodes, the latest published commit point is {@link #update(Directory) copied}
+ * to the local index directory, which can then be opened by a {@link DirectoryReader} without any index writer.
+ * <p>
+ * Lucene never modifies a file once it has been written,
+ * so only files that are missing from the target directory need to be copied,
+ * unless the source index was re-created, in which case file names may be reused:
+ * commit points and segments are compared using their unique identifiers, never their names.
+ * The segments file is always copied last, so that readers of the target directory
+ * never see a commit point whose files are not all present.
+ * <p>
+ * Callers are responsible for not calling {@link #publish(Directory)} or {@link #update(Directory)}
+ * concurrently for the same target directory.
+ */
+public final class CommitPointReplicator {
+
+	/**
+	 * The number of commit points kept in the publication directory.
+	 * Keeping the previous commit point in addition to the latest one
+	 * allows replicas to finish copying the previous commit point while the primary publishes a new one.
+	 */
+	private static final int PUBLISHED_COMMITS_TO_KEEP = 2;
+
+	private static final String TEMPORARY_FILE_SUFFIX = ".replicating";
+
+	private final Path publicationPath;
+
+	public CommitPointReplicator(Path publicationPath) {
+		this.publicationPath = publicationPath;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + "publicationPath=" + publicationPath + "]";
+	}
+
+	public Path publicationPath() {
+		return publicationPath;
+	}
+
+	/**
+	 * Copies the latest commit point of the given index directory to the publication directory.
+	 * <p>
+	 * Must be called while no other commit can happen on the given index directory,
+	 * so that the files of the latest commit point are not deleted while they are being copied.
+	 *
+	 * @param indexDirectory The index directory, on the primary node.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public void publish(Directory indexDirectory) throws IOException {
+		Files.createDirectories( publicationPath );
+		try ( Directory publicationDirectory = openPublicationDirectory() ) {
+			if ( copyLatestCommit( indexDirectory, publicationDirectory ) ) {
+				deleteUnreferencedFiles( publicationDirectory, PUBLISHED_COMMITS_TO_KEEP );
+			}
+		}
+	}
+
+	/**
+	 * Copies the latest published commit point to the given index directory,
+	 * unless the index directory already contains that commit point.
+	 * <p>
+	 * Files that are no longer referenced by the latest commit point are deleted from the index directory
+	 * on a best-effort basis: files that are still in use by an open index reader
+	 * may not be deletable on some platforms, in which case deletion will be attempted again on the next update.
+	 *
+	 * @param indexDirectory The index directory, on a replica node.
+	 * @return {@code true} if a new commit point was copied, {@code false} otherwise.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public boolean update(Directory indexDirectory) throws IOException {
+		if ( !Files.isDirectory( publicationPath ) ) {
+			// Nothing was published yet
+			return false;
+		}
+		boolean copied;
+		try ( Directory publicationDirectory = openPublicationDirectory() ) {
+			copied = copyLatestCommit( publicationDirectory, indexDirectory );
+		}
+		deleteUnreferencedFiles( indexDirectory, 1 );
+		return copied;
+	}
+
+	private Directory openPublicationDirectory() throws IOException {
+		// Nodes never hold a lock on the publication directory:
+		// only the primary node writes to it, and replicas only read from it.
+		return FSDirectory.open( publicationPath, NoLockFactory.INSTANCE );
+	}
+
+	private static boolean copyLatestCommit(Directory source, Directory target) throws IOException {
+		SegmentInfos sourceCommit = readLatestCommitOrNull( source );
+		if ( sourceCommit == null ) {
+			// No commit point in the source directory yet
+			return false;
+		}
+		SegmentInfos targetCommit = readLatestCommitOrNull( target );
+		// Generations are not enough to identify a commit point:
+		// if the source index was re-created, the same generation may denote a different commit point.
+		if ( targetCommit != null && Arrays.equals( sourceCommit.getId(), targetCommit.getId() ) ) {
+			return false;
+		}
+
+		// Lucene never modifies a file once written, but if the source index was re-created,
+		// file names may have been reused for different content:
+		// only trust files that belong to the same segment, as identified by the segment's unique ID.
+		Set<String> trustedFiles = new HashSet<>();
+		if ( targetCommit != null ) {
+			Map<String, byte[]> sourceSegmentIds = new HashMap<>();
+			for ( SegmentCommitInfo segment : sourceCommit ) {
+				sourceSegmentIds.put( segment.info.name, segment.info.getId() );
+			}
+			for ( SegmentCommitInfo segment : targetCommit ) {
+				if ( Arrays.equals( segment.info.getId(), sourceSegmentIds.get( segment.info.name ) ) ) {
+					trustedFiles.addAll( segment.files() );
+				}
+			}
+		}
+
+		Set<String> existingFiles = new HashSet<>( Arrays.asList( target.listAll() ) );
+		List<String> copiedFiles = new ArrayList<>();
+		for ( String file : sourceCommit.files( false ) ) {
+			if ( !trustedFiles.contains( file ) ) {
+				copyFile( source, target, file, existingFiles.contains( file ) );
+				copiedFiles.add( file );
+			}
+		}
+		target.sync( copiedFiles );
+
+		// Readers pick the segments file with the highest generation:
+		// if the source index was re-created, make sure a stale segments file doesn't take precedence.
+		String segmentsFile = sourceCommit.getSegmentsFileName();
+		long sourceGeneration = sourceCommit.getGeneration();
+		for ( String file : existingFiles ) {
+			if ( file.startsWith( IndexFileNames.SEGMENTS ) && !file.equals( segmentsFile )
+					&& !file.endsWith( TEMPORARY_FILE_SUFFIX )
+					&& SegmentInfos.generationFromSegmentsFileName( file ) > sourceGeneration ) {
+				target.deleteFile( file );
+			}
+		}
+
+		// Only make the commit point visible once all the files it references are safely stored.
+		copyFile( source, target, segmentsFile, existingFiles.contains( segmentsFile ) );
+		target.sync( Arrays.asList( segmentsFile ) );
+		target.syncMetaData();
+		return true;
+	}
+
+	private static SegmentInfos readLatestCommitOrNull(Directory directory) throws IOException {
+		try {
+			return SegmentInfos.readLatestCommit( directory );
+		}
+		catch (IndexNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static void copyFile(Directory source, Directory target, String file, boolean replace)
+			throws IOException {
+		// Copy to a temporary file first, so that an interrupted copy never leaves a truncated file behind
+		// under the name of an actual index file.
+		String temporaryFile = file + TEMPORARY_FILE_SUFFIX;
+		deleteIfExists( target, temporaryFile );
+		try {
+			target.copyFrom( source, file, temporaryFile, IOContext.READONCE );
+			if ( replace ) {
+				target.deleteFile( file );
+			}
+			target.rename( temporaryFile, file );
+		}
+		catch (IOException | RuntimeException e) {
+			try {
+				deleteIfExists( target, temporaryFile );
+			}
+			catch (IOException | RuntimeException e2) {
+				e.addSuppressed( e2 );
+			}
+			throw e;
+		}
+	}
+
+	private static void deleteUnreferencedFiles(Directory directory, int commitsToKeep) throws IOException {
+		List<IndexCommit> commits;
+		try {
+			// Sorted from oldest to latest
+			commits = DirectoryReader.listCommits( directory );
+		}
+		catch (IndexNotFoundException e) {
+			return;
+		}
+		Set<String> referencedFiles = new HashSet<>();
+		referencedFiles.add( IndexWriter.WRITE_LOCK_NAME );
+		for ( IndexCommit commit : commits.subList( Math.max( 0, commits.size() - commitsToKeep ), commits.size() ) ) {
+			referencedFiles.addAll( commit.getFileNames() );
+		}
+		for ( String file : directory.listAll() ) {
+			if ( !referencedFiles.contains( file ) ) {
+				try {
+					directory.deleteFile( file );
+				}
+				catch (IOException e) {
+					// The file is probably still in use, e.g. by an index reader: we'll try again next time.
+				}
+			}
+		}
+	}
+
+	private static void deleteIfExists(Directory directory, String file) throws IOException {
+		try {
+			directory.deleteFile( file );
+		}
+		catch (NoSuchFileException | FileNotFoundException e) {
+			// Nothing to delete
+		}
+	}
+
+}
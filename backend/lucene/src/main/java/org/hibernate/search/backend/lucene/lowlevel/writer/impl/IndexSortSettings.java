@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
+import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+/**
+ * Resolves the {@link LuceneIndexSettings#IO_WRITER_INDEX_SORT index sort} of an index.
+ * <p>
+ * Index sort fields are created exactly like the sort fields of a search query sorting on the same fields
+ * in the same order, with the default sort mode and missing values last,
+ * so that such queries can be recognized as matching the index sort:
+ * see {@link org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource#toIndexSortField(String, boolean)}.
+ */
+public final class IndexSortSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_INDEX_SORT )
+					.asString().multivalued()
+					.build();
+
+	private static final String ORDER_SEPARATOR = ":";
+	private static final String ORDER_ASC = "asc";
+	private static final String ORDER_DESC = "desc";
+
+	private IndexSortSettings() {
+	}
+
+	/**
+	 * @param model The model of the index.
+	 * @param propertySource The index configuration.
+	 * @return The index sort, or {@code null} if none was configured.
+	 */
+	public static Sort extractOrNull(LuceneIndexModel model, ConfigurationPropertySource propertySource) {
+		return INDEX_SORT.getAndMap( propertySource, fieldSorts -> create( model, fieldSorts ) ).orElse( null );
+	}
+
+	private static Sort create(LuceneIndexModel model, List<String> fieldSorts) {
+		if ( fieldSorts.isEmpty() ) {
+			return null;
+		}
+		if ( model.hasNestedDocuments() ) {
+			// Lucene reorders documents within segments without any regard for document blocks.
+			throw log.indexSortWithNestedDocuments();
+		}
+		List<SortField> sortFields = new ArrayList<>();
+		for ( String fieldSort : fieldSorts ) {
+			String trimmed = fieldSort.trim();
+			String absoluteFieldPath = trimmed;
+			boolean reverse = false;
+			int separatorIndex = trimmed.lastIndexOf( ORDER_SEPARATOR );
+			if ( separatorIndex >= 0 ) {
+				absoluteFieldPath = trimmed.substring( 0, separatorIndex ).trim();
+				String order = trimmed.substring( separatorIndex + ORDER_SEPARATOR.length() ).trim();
+				switch ( order.toLowerCase( Locale.ROOT ) ) {
+					case ORDER_ASC:
+						reverse = false;
+						break;
+					case ORDER_DESC:
+						reverse = true;
+						break;
+					default:
+						throw log.invalidIndexSortOrder( order, absoluteFieldPath );
+				}
+			}
+			sortFields.add( createSortField( model, absoluteFieldPath, reverse ) );
+		}
+		return new Sort( sortFields.toArray( new SortField[0] ) );
+	}
+
+	private static SortField createSortField(LuceneIndexModel model, String absoluteFieldPath, boolean reverse) {
+		LuceneIndexSchemaFieldNode<?> fieldNode = model.getFieldNode( absoluteFieldPath, IndexFieldFilter.INCLUDED_ONLY );
+		if ( fieldNode == null || !fieldNode.type().sortable() ) {
+			throw log.invalidIndexSortField( absoluteFieldPath );
+		}
+		LuceneFieldCodec<?> codec = fieldNode.type().codec();
+		if ( !( codec instanceof AbstractLuceneNumericFieldCodec ) ) {
+			throw log.invalidIndexSortField( absoluteFieldPath );
+		}
+		return createSortField( ( (AbstractLuceneNumericFieldCodec<?, ?>) codec ).getDomain(),
+				absoluteFieldPath, reverse );
+	}
+
+	private static <E extends Number> SortField createSortField(LuceneNumericDomain<E> domain,
+			String absoluteFieldPath, boolean reverse) {
+		// Same defaults as LuceneStandardFieldSort: min value ascending, max value descending, missing last
+		LuceneNumericFieldComparatorSource<E> comparatorSource = new LuceneNumericFieldComparatorSource<>(
+				null, domain,
+				reverse ? domain.getMinValue() : domain.getMaxValue(),
+				reverse ? MultiValueMode.MAX : MultiValueMode.MIN,
+				null
+		);
+		return comparatorSource.toIndexSortField( absoluteFieldPath, reverse );
+	}
+
+}
@@ -14,6 +14,7 @@
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 /**
@@ -29,25 +30,28 @@
  */
 public class IndexWriterConfigSource {
 
-	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
+	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer, Sort indexSort,
 			ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, values );
+		return new IndexWriterConfigSource( similarity, analyzer, indexSort, values );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
+	private final Sort indexSort;
 	private final List<IndexWriterSettingValue<?>> values;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Sort indexSort,
+			List<IndexWriterSettingValue<?>> values) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
+		this.indexSort = indexSort;
 		this.values = values;
 	}
 
 	@Override
 	public String toString() {
-		return "IndexWriterConfigSource{" + analyzer + "," + values + '}';
+		return "IndexWriterConfigSource{" + analyzer + "," + indexSort + "," + values + '}';
 	}
 
 	/**
@@ -57,6 +61,9 @@ public String toString() {
 	public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		writerConfig.setSimilarity( similarity );
+		if ( indexSort != null ) {
+			writerConfig.setIndexSort( indexSort );
+		}
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
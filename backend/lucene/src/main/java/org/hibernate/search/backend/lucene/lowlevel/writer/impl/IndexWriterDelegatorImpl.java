@@ -12,9 +12,12 @@
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
@@ -40,22 +43,31 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final FailureHandler failureHandler;
+	private final Timer commitTimer;
+	private final CommitPointReplicator replicator;
 
 	private final SingletonTask delayedCommitTask;
 	private final Object commitLock = new Object();
+	private final AtomicLong commitRequestCount = new AtomicLong();
 
 	private long commitExpiration;
+	// Guarded by commitLock
+	private long lastCommittedRequest;
 
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
 			FailureHandler failureHandler,
+			Timer commitTimer,
+			CommitPointReplicator replicator,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.failureHandler = failureHandler;
+		this.commitTimer = commitTimer;
+		this.replicator = replicator;
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -171,11 +183,37 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		failureHandler.handle( failureContext );
 	}
 
+	/*
+	 * Commits are grouped: each commit covers every commit request made before it started,
+	 * so threads that requested a commit while another commit was in progress
+	 * will share the next commit instead of each triggering their own.
+	 * This matters when many threads force commits concurrently (e.g. write-sync automatic indexing),
+	 * since each commit involves an fsync.
+	 * Requesting a commit always happens after the changes to commit were applied to the writer,
+	 * so a commit that starts after a request necessarily includes the corresponding changes.
+	 */
 	private void doCommit() {
+		long request = commitRequestCount.incrementAndGet();
 		try {
 			synchronized (commitLock) {
+				if ( lastCommittedRequest >= request ) {
+					// Another thread committed while we were waiting for the lock,
+					// and that commit started after our request: our changes are already committed.
+					return;
+				}
+				// The commit we're about to execute will cover all requests made so far.
+				long coveredRequest = commitRequestCount.get();
+				long startTime = commitTimer.start();
 				delegate.commit();
+				commitTimer.recordSince( startTime );
+				lastCommittedRequest = coveredRequest;
 				updateCommitExpiration();
+				if ( replicator != null ) {
+					// Publish while holding the commit lock,
+					// so that no other commit deletes the files we are copying.
+					// This means the copy adds up to the commit latency, which is documented.
+					publishCommitPoint();
+				}
 			}
 		}
 		catch (RuntimeException | IOException e) {
@@ -183,6 +221,17 @@ private void doCommit() {
 		}
 	}
 
+	private void publishCommitPoint() {
+		try {
+			replicator.publish( delegate.getDirectory() );
+		}
+		catch (RuntimeException | IOException e) {
+			// The commit itself succeeded: don't report a commit failure.
+			// The next commit will publish all the files that are still missing.
+			log.unableToPublishCommitPoint( replicator.publicationPath(), e.getMessage(), eventContext, e );
+		}
+	}
+
 	/**
 	 * @return {@code true} if the commit was delayed, {@code false} if it wasn't and must happen now.
 	 */
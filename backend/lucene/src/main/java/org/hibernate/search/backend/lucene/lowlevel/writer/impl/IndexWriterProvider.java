@@ -13,8 +13,10 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -39,6 +41,8 @@ public class IndexWriterProvider {
 	private final int commitInterval;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final Timer commitTimer;
+	private final CommitPointReplicator replicator;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -54,7 +58,9 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			Timer commitTimer,
+			CommitPointReplicator replicator) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
@@ -63,6 +69,8 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.commitInterval = commitInterval;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.commitTimer = commitTimer;
+		this.replicator = replicator;
 	}
 
 	/**
@@ -120,6 +128,8 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
 							failureHandler,
+							commitTimer,
+							replicator,
 							this::clearAfterFailure
 					);
 					log.trace( "IndexWriter opened" );
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
@@ -15,12 +17,16 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
 
 public class DiscriminatorMultiTenancyStrategy implements MultiTenancyStrategy {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	// The same tenant ID field is added to every document of a given tenant: share instances.
+	private final ConcurrentMap<String, IndexableField> tenantIdFields = new ConcurrentHashMap<>();
+
 	@Override
 	public boolean isMultiTenancySupported() {
 		return true;
@@ -28,7 +34,8 @@ public boolean isMultiTenancySupported() {
 
 	@Override
 	public void contributeToIndexedDocument(Document document, String tenantId) {
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(), tenantId ) );
+		document.add( tenantIdFields.computeIfAbsent( tenantId,
+				id -> MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(), id ) ) );
 	}
 
 	@Override
@@ -9,15 +9,20 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
-import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
+import org.hibernate.search.util.common.impl.Futures;
 
-public class LuceneBatchedWork<T> implements BatchedWork<LuceneBatchedWorkProcessor> {
+public class LuceneBatchedWork<T> implements CoalescableBatchedWork<LuceneBatchedWorkProcessor> {
 	public final IndexingWork<T> work;
 	public final CompletableFuture<T> future;
+	public final WorkSubmissionMode submissionMode;
 
-	LuceneBatchedWork(IndexingWork<T> work, CompletableFuture<T> future) {
+	LuceneBatchedWork(IndexingWork<T> work, CompletableFuture<T> future, WorkSubmissionMode submissionMode) {
 		this.work = work;
 		this.future = future;
+		this.submissionMode = submissionMode;
 	}
 
 	@Override
@@ -36,6 +41,32 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		if ( work instanceof SingleDocumentIndexingWork ) {
+			return ( (SingleDocumentIndexingWork) work ).getCoalescingKey();
+		}
+		return null;
+	}
+
+	@Override
+	public boolean supersede(CoalescableBatchedWork<?> previousWork) {
+		if ( !( work instanceof SingleDocumentIndexingWork )
+				|| !( (SingleDocumentIndexingWork) work ).isSupersedingPreviousWorks()
+				|| !( previousWork instanceof LuceneBatchedWork ) ) {
+			return false;
+		}
+		LuceneBatchedWork<?> previous = (LuceneBatchedWork<?>) previousWork;
+		if ( !( previous.work instanceof SingleDocumentIndexingWork ) ) {
+			return false;
+		}
+		// Both works are single-document works, so both futures hold the same type of result.
+		@SuppressWarnings("unchecked")
+		CompletableFuture<T> previousFuture = (CompletableFuture<T>) previous.future;
+		future.whenComplete( Futures.copyHandler( previousFuture ) );
+		return true;
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkTransport;
+import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutorRouter;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutorSettings;
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * An orchestrator that forwards indexing works to the node owning an index or shard,
+ * instead of executing them locally.
+ * <p>
+ * Works are queued and batched exactly as in {@link LuceneSerialWorkOrchestratorImpl},
+ * and each batch is sent as a single request.
+ * Works are not coalesced here: the owning node coalesces them when it executes them.
+ */
+public class LuceneForwardingWorkOrchestratorImpl
+		extends AbstractWorkOrchestrator<LuceneBatchedWork<?>>
+		implements LuceneSerialWorkOrchestrator {
+
+	private static final ConfigurationProperty<Integer> QUEUE_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_COUNT )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUEUE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> QUEUE_REBALANCING =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_REBALANCING )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_REBALANCING )
+					.build();
+
+	private static final ConfigurationProperty<IndexingQueueOverflowStrategyName> QUEUE_OVERFLOW_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_OVERFLOW_STRATEGY )
+					.as( IndexingQueueOverflowStrategyName.class, IndexingQueueOverflowStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_OVERFLOW_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUEUE_OVERFLOW_TIMEOUT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_OVERFLOW_TIMEOUT )
+					.asLong()
+					.build();
+
+	private final EventContext eventContext;
+	private final String indexName;
+	private final String shardId;
+	private final IndexingWorkTransport transport;
+	private final BackendThreads threads;
+	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
+	// Used for commits and refreshes, which are sent from the current thread
+	private final LuceneForwardingWorkProcessor syncProcessor;
+
+	private BatchingExecutor<LuceneForwardingWorkProcessor>[] executors;
+	private BatchingExecutorRouter<LuceneForwardingWorkProcessor> router;
+
+	/**
+	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
+	 * @param eventContext The event context of the index or shard, for error messages.
+	 * @param indexName The name of the index.
+	 * @param shardId The identifier of the shard, or {@code null} if the index is not sharded.
+	 * @param transport The transport to send works through.
+	 * @param threads The threads for this backend.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRecorder A recorder for metrics about the indexing queues.
+	 */
+	public LuceneForwardingWorkOrchestratorImpl(String name, EventContext eventContext,
+			String indexName, String shardId, IndexingWorkTransport transport,
+			BackendThreads threads, FailureHandler failureHandler, MetricsRecorder metricsRecorder) {
+		super( name );
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.transport = transport;
+		this.threads = threads;
+		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
+		this.syncProcessor = new LuceneForwardingWorkProcessor( eventContext, indexName, shardId, transport );
+	}
+
+	@Override
+	public void forceCommitInCurrentThread() {
+		syncProcessor.forceCommit();
+	}
+
+	@Override
+	public void forceRefreshInCurrentThread() {
+		syncProcessor.forceRefresh();
+	}
+
+	@Override
+	protected void doStart(ConfigurationPropertySource propertySource) {
+		int queueCount = QUEUE_COUNT.get( propertySource );
+		int queueSize = QUEUE_SIZE.get( propertySource );
+		boolean rebalancing = QUEUE_REBALANCING.get( propertySource );
+		IndexingQueueOverflowStrategyName overflowStrategy = QUEUE_OVERFLOW_STRATEGY.get( propertySource );
+		Long overflowTimeout = QUEUE_OVERFLOW_TIMEOUT.get( propertySource ).orElse( null );
+
+		BatchingExecutorSettings settings = BatchingExecutorSettings.builder( queueSize )
+				.metricsRecorder( metricsRecorder )
+				.overflow( overflowStrategy, overflowTimeout )
+				.build();
+
+		executors = new BatchingExecutor[queueCount];
+		for ( int i = 0; i < executors.length; i++ ) {
+			// Each executor needs its own processor, since processors hold the current batch.
+			executors[i] = new BatchingExecutor<>(
+					name() + " - " + i,
+					new LuceneForwardingWorkProcessor( eventContext, indexName, shardId, transport ),
+					settings,
+					failureHandler
+			);
+		}
+
+		router = new BatchingExecutorRouter<>( name(), executors, rebalancing, metricsRecorder );
+
+		for ( BatchingExecutor<?> executor : executors ) {
+			executor.start( threads.getWriteExecutor() );
+		}
+	}
+
+	@Override
+	protected void doSubmit(LuceneBatchedWork<?> work) throws InterruptedException {
+		router.submit( work.getQueuingKey(), new LuceneForwardingWorkProcessor.ForwardedWork( work ),
+				work.future, work.submissionMode );
+	}
+
+	@Override
+	protected CompletableFuture<?> completion() {
+		CompletableFuture<?>[] completions = new CompletableFuture[executors.length];
+		for ( int i = 0; i < executors.length; i++ ) {
+			completions[i] = executors[i].completion();
+		}
+		return CompletableFuture.allOf( completions );
+	}
+
+	@Override
+	protected void doStop() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( BatchingExecutor::stop, executors );
+		}
+	}
+
+}
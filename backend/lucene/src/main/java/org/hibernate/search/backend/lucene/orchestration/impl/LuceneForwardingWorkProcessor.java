@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWorkCodec;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkTransport;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * A thread-unsafe component responsible for sending batches of indexing works
+ * to the node owning an index through an {@link IndexingWorkTransport}.
+ * <p>
+ * Works are not executed locally:
+ * they are serialized, sent as a single request per batch,
+ * and their futures are completed when the owning node replies.
+ */
+public class LuceneForwardingWorkProcessor implements BatchedWorkProcessor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final String indexName;
+	private final String shardId;
+	private final IndexingWorkTransport transport;
+
+	private final List<LuceneBatchedWork<?>> batch = new ArrayList<>();
+
+	public LuceneForwardingWorkProcessor(EventContext eventContext, String indexName, String shardId,
+			IndexingWorkTransport transport) {
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+		this.shardId = shardId;
+		this.transport = transport;
+	}
+
+	@Override
+	public void beginBatch() {
+		batch.clear();
+	}
+
+	void add(LuceneBatchedWork<?> work) {
+		batch.add( work );
+	}
+
+	@Override
+	public CompletableFuture<?> endBatch() {
+		if ( batch.isEmpty() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		List<LuceneBatchedWork<?>> sentWorks = new ArrayList<>( batch );
+		batch.clear();
+
+		List<IndexingWork<?>> works = new ArrayList<>( sentWorks.size() );
+		for ( LuceneBatchedWork<?> sentWork : sentWorks ) {
+			works.add( sentWork.work );
+		}
+
+		CompletableFuture<byte[]> replyFuture;
+		try {
+			replyFuture = transport.send( indexName, shardId, IndexingWorkCodec.encodeWorks( works, eventContext ) );
+		}
+		catch (RuntimeException e) {
+			markAllAsFailed( sentWorks, e );
+			return CompletableFuture.completedFuture( null );
+		}
+
+		// The executor will wait for the reply before it starts another batch,
+		// so the owning node applies backpressure on this node through its own queues.
+		return replyFuture.handle( Futures.handler( (reply, throwable) -> {
+			if ( throwable != null ) {
+				markAllAsFailed( sentWorks, throwable );
+				return null;
+			}
+			List<CompletableFuture<Long>> results;
+			try {
+				results = IndexingWorkCodec.decodeReply( reply, eventContext );
+			}
+			catch (RuntimeException e) {
+				markAllAsFailed( sentWorks, e );
+				return null;
+			}
+			if ( results.size() != sentWorks.size() ) {
+				markAllAsFailed( sentWorks, new IllegalStateException( "Expected " + sentWorks.size()
+						+ " results in the reply, got " + results.size() ) );
+				return null;
+			}
+			for ( int i = 0; i < sentWorks.size(); i++ ) {
+				complete( sentWorks.get( i ), results.get( i ) );
+			}
+			return null;
+		} ) );
+	}
+
+	@Override
+	public void complete() {
+		// Nothing to do: the owning node takes care of commits.
+	}
+
+	void forceCommit() {
+		sendAndWait( IndexingWorkCodec.encodeCommit() );
+	}
+
+	void forceRefresh() {
+		sendAndWait( IndexingWorkCodec.encodeRefresh() );
+	}
+
+	private void sendAndWait(byte[] payload) {
+		try {
+			Futures.unwrappedExceptionJoin( transport.send( indexName, shardId, payload ) );
+		}
+		catch (RuntimeException e) {
+			throw log.unableToForwardIndexingWorks( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private void markAllAsFailed(List<LuceneBatchedWork<?>> works, Throwable throwable) {
+		RuntimeException failure = log.unableToForwardIndexingWorks( throwable.getMessage(), eventContext, throwable );
+		for ( LuceneBatchedWork<?> work : works ) {
+			work.markAsFailed( failure );
+		}
+	}
+
+	private static <T> void complete(LuceneBatchedWork<T> work, CompletableFuture<Long> result) {
+		// Only single-document works can be forwarded, and those always produce a Long.
+		@SuppressWarnings("unchecked")
+		CompletableFuture<T> castResult = (CompletableFuture<T>) (CompletableFuture<?>) result;
+		castResult.whenComplete( Futures.copyHandler( work.future ) );
+	}
+
+	static final class ForwardedWork implements BatchedWork<LuceneForwardingWorkProcessor> {
+		private final LuceneBatchedWork<?> delegate;
+
+		ForwardedWork(LuceneBatchedWork<?> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void submitTo(LuceneForwardingWorkProcessor processor) {
+			processor.add( delegate );
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			delegate.markAsFailed( t );
+		}
+	}
+}
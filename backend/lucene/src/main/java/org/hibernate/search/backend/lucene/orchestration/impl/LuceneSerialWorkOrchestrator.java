@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
 
 /**
  * An orchestrator that batches together works sent from other threads.
@@ -21,7 +22,18 @@
 public interface LuceneSerialWorkOrchestrator {
 
 	default <T> void submit(CompletableFuture<T> future, IndexingWork<T> work) {
-		submit( new LuceneBatchedWork<>( work, future ) );
+		submit( future, work, WorkSubmissionMode.BLOCKING );
+	}
+
+	/**
+	 * @param future The future to complete when the work is executed.
+	 * @param work The work to submit.
+	 * @param submissionMode How to behave if the queue is full:
+	 * only works submitted by indexing plans should be subject to the configured overflow strategy.
+	 * @param <T> The type of the work result.
+	 */
+	default <T> void submit(CompletableFuture<T> future, IndexingWork<T> work, WorkSubmissionMode submissionMode) {
+		submit( new LuceneBatchedWork<>( work, future, submissionMode ) );
 	}
 
 	void submit(LuceneBatchedWork<?> work);
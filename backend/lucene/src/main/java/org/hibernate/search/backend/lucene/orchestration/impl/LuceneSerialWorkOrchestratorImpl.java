@@ -12,10 +12,14 @@
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutorSettings;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutorRouter;
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
-import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
 
 public class LuceneSerialWorkOrchestratorImpl
@@ -34,26 +38,53 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> COALESCING_WINDOW =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_COALESCING_WINDOW )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> QUEUE_REBALANCING =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_REBALANCING )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_REBALANCING )
+					.build();
+
+	private static final ConfigurationProperty<IndexingQueueOverflowStrategyName> QUEUE_OVERFLOW_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_OVERFLOW_STRATEGY )
+					.as( IndexingQueueOverflowStrategyName.class, IndexingQueueOverflowStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_OVERFLOW_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUEUE_OVERFLOW_TIMEOUT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_OVERFLOW_TIMEOUT )
+					.asLong()
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
 
 	private BatchingExecutor<LuceneBatchedWorkProcessor>[] executors;
+	private BatchingExecutorRouter<LuceneBatchedWorkProcessor> router;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
 	 * @param processor A processor to use in the background thread.
 	 * @param threads The threads for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRecorder A recorder for metrics about the indexing queues.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
 			String name, LuceneBatchedWorkProcessor processor,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder) {
 		super( name );
 		this.processor = processor;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
@@ -70,18 +101,29 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		Integer coalescingWindow = COALESCING_WINDOW.get( propertySource ).orElse( null );
+		boolean rebalancing = QUEUE_REBALANCING.get( propertySource );
+		IndexingQueueOverflowStrategyName overflowStrategy = QUEUE_OVERFLOW_STRATEGY.get( propertySource );
+		Long overflowTimeout = QUEUE_OVERFLOW_TIMEOUT.get( propertySource ).orElse( null );
+
+		BatchingExecutorSettings settings = BatchingExecutorSettings.builder( queueSize )
+				.coalescingWindow( coalescingWindow )
+				.metricsRecorder( metricsRecorder )
+				.overflow( overflowStrategy, overflowTimeout )
+				.build();
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
 			executors[i] = new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
-					queueSize,
-					true,
+					settings,
 					failureHandler
 			);
 		}
 
+		router = new BatchingExecutorRouter<>( name(), executors, rebalancing, metricsRecorder );
+
 		for ( BatchingExecutor<?> executor : executors ) {
 			executor.start( threads.getWriteExecutor() );
 		}
@@ -89,8 +131,7 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 
 	@Override
 	protected void doSubmit(LuceneBatchedWork<?> work) throws InterruptedException {
-		SimpleHashFunction.pick( executors, work.getQueuingKey() )
-				.submit( work );
+		router.submit( work.getQueuingKey(), work, work.future, work.submissionMode );
 	}
 
 	@Override
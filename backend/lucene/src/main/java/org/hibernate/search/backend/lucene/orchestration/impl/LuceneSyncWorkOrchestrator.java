@@ -22,6 +22,6 @@
 public interface LuceneSyncWorkOrchestrator {
 
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work);
+			String tenantId, Set<String> routingKeys, ReadWork<T> work);
 
 }
@@ -43,9 +43,9 @@ public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity) {
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
+			String tenantId, Set<String> routingKeys, ReadWork<T> work) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work
+				similarity, indexNames, indexManagerContexts, tenantId, routingKeys, work
 		);
 		Throwable throwable = null;
 		try {
@@ -101,10 +101,11 @@ protected void doStop() {
 
 		WorkExecution(Similarity similarity, Set<String> indexNames,
 				Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work) {
+				String tenantId, Set<String> routingKeys, ReadWork<T> work) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
-			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts,
+					tenantId, routingKeys );
 			this.work = work;
 		}
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
@@ -23,10 +25,17 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_CONCURRENT_SHARD_SEARCH_ENABLED =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CONCURRENT_SHARD_SEARCH_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CONCURRENT_SHARD_SEARCH_ENABLED )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -46,12 +55,21 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+		if ( QUERY_CONCURRENT_SHARD_SEARCH_ENABLED.get( propertySource ) ) {
+			// Search works are executed in user threads: this pool only executes the search of each shard.
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool(
+					threadPoolSize, prefix + " - Search thread"
+			);
+		}
 	}
 
 	public void onStop() {
 		if ( writeExecutor != null ) {
 			writeExecutor.shutdownNow();
 		}
+		if ( searchExecutor != null ) {
+			searchExecutor.shutdownNow();
+		}
 	}
 
 	public ThreadProvider getThreadProvider() {
@@ -64,6 +82,15 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use to search each shard of an index in a separate thread,
+	 * or {@code null} if concurrent shard search is disabled.
+	 */
+	public Executor getSearchExecutorOrNull() {
+		checkStarted();
+		return searchExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,6 +32,29 @@ private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> compone
 		this.components = components;
 	}
 
+	/**
+	 * @param collectorSets Collector sets that collected distinct subsets of the documents, e.g. distinct shards.
+	 * @param collectorFactories The factories that were used to create collectors in each set.
+	 * All of them must be {@link CollectorFactory#isMergeable() mergeable}.
+	 * @return A collector set containing the merged collector for each factory.
+	 * The resulting set cannot be used to collect documents.
+	 */
+	static CollectorSet merge(List<CollectorSet> collectorSets, Set<CollectorFactory<?>> collectorFactories) {
+		Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
+			components.put( collectorFactory.getCollectorKey(), merge( collectorSets, collectorFactory ) );
+		}
+		return new CollectorSet( null, components );
+	}
+
+	private static <C extends Collector> C merge(List<CollectorSet> collectorSets, CollectorFactory<C> collectorFactory) {
+		List<C> collectors = new ArrayList<>( collectorSets.size() );
+		for ( CollectorSet collectorSet : collectorSets ) {
+			collectors.add( collectorSet.get( collectorFactory.getCollectorKey() ) );
+		}
+		return collectorFactory.merge( collectors );
+	}
+
 	public Collector getComposed() {
 		return composed;
 	}
@@ -10,14 +10,17 @@
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
@@ -44,20 +47,114 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager)
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
+			Executor perShardExecutorOrNull)
 			throws IOException {
-		TopDocsCollector<?> topDocsCollector;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
+		Sort topDocsSort = null;
+		boolean topDocsEarlyTermination = false;
+
+		if ( maxDocs > 0 && sort != null ) {
+			if ( requireScore ) {
+				// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+				// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+				// Thus we will have to set the scores ourselves.
+				requireFieldDocRescoring = true;
+				// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+				scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
+			}
+			Sort indexSortEquivalent = toIndexSortEquivalentOrNull( sort );
+			if ( indexSortEquivalent != null ) {
+				// This sort orders documents exactly like the original one,
+				// but Lucene is able to recognize it as a prefix of the index sort, if any.
+				// In segments sorted that way, the top docs collector will stop collecting
+				// as soon as it found enough hits.
+				// The total hit count remains exact, since it is computed by a separate collector.
+				topDocsSort = indexSortEquivalent;
+				topDocsEarlyTermination = true;
+			}
+			else {
+				topDocsSort = sort;
+			}
+		}
 
 		CollectorExecutionContext executionContext =
 				new CollectorExecutionContext( metadataResolver, indexSearcher, luceneQuery, maxDocs );
 
+		CollectorSet collectorsForAllMatchingDocs = null;
+		PerShardCollection perShardCollection = null;
+		if ( perShardExecutorOrNull != null && PerShardCollection.isApplicable(
+				indexSearcher.getIndexReader(), requiredCollectorForAllMatchingDocsFactories ) ) {
+			Sort finalTopDocsSort = topDocsSort;
+			boolean finalTopDocsEarlyTermination = topDocsEarlyTermination;
+			perShardCollection = new PerShardCollection(
+					indexSearcher.getIndexReader(), indexSearcher.getSimilarity(), perShardExecutorOrNull,
+					topDocsSort, requiredCollectorForAllMatchingDocsFactories,
+					() -> createCollectorsForAllMatchingDocs( executionContext, timeoutManager, maxDocs,
+							finalTopDocsSort, finalTopDocsEarlyTermination )
+			);
+		}
+		else {
+			collectorsForAllMatchingDocs = createCollectorsForAllMatchingDocs( executionContext, timeoutManager,
+					maxDocs, topDocsSort, topDocsEarlyTermination );
+		}
+
+		return new LuceneCollectors(
+				metadataResolver,
+				indexSearcher,
+				luceneQuery,
+				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
+				collectorsForAllMatchingDocs,
+				perShardCollection,
+				requiredCollectorForTopDocsFactories,
+				timeoutManager
+		);
+	}
+
+	/**
+	 * @return Whether the collected data is entirely described by the top docs and total hit count,
+	 * i.e. whether collection can be skipped by reusing the top docs and total hit count of a previous execution.
+	 */
+	public boolean isOnlyTopDocsRequiredForAllMatchingDocs() {
+		return requiredCollectorForAllMatchingDocsFactories.isEmpty();
+	}
+
+	public boolean isScoreRequired() {
+		return requireScore;
+	}
+
+	/**
+	 * @param indexSearcher The index searcher.
+	 * @param luceneQuery The Lucene query.
+	 * @param metadataResolver The metadata resolver.
+	 * @param timeoutManager The timeout manager.
+	 * @return Collectors that do not collect anything for all matching docs,
+	 * to be used with {@link LuceneCollectors#collectFromCache(long, org.apache.lucene.search.TopDocs)}.
+	 * @see #isOnlyTopDocsRequiredForAllMatchingDocs()
+	 */
+	public LuceneCollectors createCollectorsForCachedTopDocs(IndexSearcher indexSearcher, Query luceneQuery,
+			IndexReaderMetadataResolver metadataResolver, TimeoutManager timeoutManager) {
+		return new LuceneCollectors(
+				metadataResolver,
+				indexSearcher,
+				luceneQuery,
+				false, null,
+				null, null,
+				requiredCollectorForTopDocsFactories,
+				timeoutManager
+		);
+	}
+
+	private CollectorSet createCollectorsForAllMatchingDocs(CollectorExecutionContext executionContext,
+			TimeoutManager timeoutManager, int maxDocs, Sort topDocsSort, boolean topDocsEarlyTermination)
+			throws IOException {
 		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
 				new CollectorSet.Builder( executionContext, timeoutManager );
 
 		if ( maxDocs > 0 ) {
-			if ( sort == null ) {
+			TopDocsCollector<?> topDocsCollector;
+			if ( topDocsSort == null ) {
 				topDocsCollector = TopScoreDocCollector.create(
 						maxDocs,
 						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
@@ -67,21 +164,13 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 				);
 			}
 			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
-				}
 				topDocsCollector = TopFieldCollector.create(
-						sort,
+						topDocsSort,
 						maxDocs,
 						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
 						// Note this will also require to change how we combine collectors,
 						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
+						topDocsEarlyTermination ? maxDocs : Integer.MAX_VALUE
 				);
 			}
 			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
@@ -91,17 +180,26 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 		collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
 
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		return collectorsForAllMatchingDocsBuilder.build();
+	}
 
-		return new LuceneCollectors(
-				metadataResolver,
-				indexSearcher,
-				luceneQuery,
-				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
-				collectorsForAllMatchingDocs,
-				requiredCollectorForTopDocsFactories,
-				timeoutManager
-		);
+	private static Sort toIndexSortEquivalentOrNull(Sort sort) {
+		SortField[] sortFields = sort.getSort();
+		SortField[] equivalentSortFields = new SortField[sortFields.length];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			SortField sortField = sortFields[i];
+			FieldComparatorSource comparatorSource = sortField.getComparatorSource();
+			if ( !( comparatorSource instanceof LuceneFieldComparatorSource ) ) {
+				return null;
+			}
+			SortField equivalentSortField = ( (LuceneFieldComparatorSource) comparatorSource )
+					.toIndexSortField( sortField.getField(), sortField.getReverse() );
+			if ( equivalentSortField == null ) {
+				return null;
+			}
+			equivalentSortFields[i] = equivalentSortField;
+		}
+		return new Sort( equivalentSortFields );
 	}
 
 	private Integer getScoreSortFieldIndexOrNull(Sort sort) {
@@ -129,6 +227,10 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
+		public boolean isScoreRequired() {
+			return requireScore;
+		}
+
 		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
@@ -40,7 +40,8 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private CollectorSet collectorsForAllMatchingDocs;
+	private final PerShardCollection perShardCollection;
 	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
 	private CollectorSet collectorsForTopDocs;
 
@@ -52,6 +53,7 @@ public class LuceneCollectors {
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
 			CollectorSet collectorsForAllMatchingDocs,
+			PerShardCollection perShardCollection,
 			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
@@ -60,6 +62,7 @@ public class LuceneCollectors {
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
 		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.perShardCollection = perShardCollection;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
@@ -71,35 +74,58 @@ public void collect(int offset, Integer limit) throws IOException {
 		}
 
 		// Phase 1: collect top docs and aggregations
-		try {
-			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			timeoutManager.forceTimedOut();
+		if ( perShardCollection != null ) {
+			collectPerShard( offset, limit );
 		}
+		else {
+			try {
+				indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				timeoutManager.forceTimedOut();
+			}
+
+			this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
 
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
+			TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+			if ( topDocsCollector != null ) {
+				extractTopDocs( topDocsCollector, offset, limit );
+			}
+		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		if ( topDocs == null ) {
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
 		if ( requireFieldDocRescoring ) {
 			handleRescoring( indexSearcher, luceneQuery );
 		}
 
 		// Phase 2: apply collectors to top docs
-		if ( collectorsForTopDocsFactories.isEmpty() ) {
+		applyCollectorsToTopDocsIfNecessary();
+	}
+
+	/**
+	 * Skips phase 1, using the result of a previous execution of the same query on the same index readers instead.
+	 * <p>
+	 * Only valid when there are no collectors for all matching docs besides top docs and total hit count.
+	 *
+	 * @param cachedTotalHitCount The total hit count of the previous execution.
+	 * @param cachedTopDocs The top docs of the previous execution, or {@code null}.
+	 * @throws IOException If applying collectors to top docs fails.
+	 */
+	public void collectFromCache(long cachedTotalHitCount, TopDocs cachedTopDocs) throws IOException {
+		if ( timeoutManager.checkTimedOut() ) {
 			return;
 		}
-		try {
-			applyCollectorsToTopDocs();
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			timeoutManager.forceTimedOut();
+
+		this.totalHitCount = cachedTotalHitCount;
+		this.topDocs = cachedTopDocs;
+		if ( topDocs == null ) {
+			return;
 		}
+
+		applyCollectorsToTopDocsIfNecessary();
 	}
 
 	public CollectorSet getCollectorsForAllMatchingDocs() {
@@ -118,6 +144,18 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
+	private void collectPerShard(int offset, Integer limit) throws IOException {
+		PerShardCollection.Result result = perShardCollection.collect( luceneQuery, offset, limit );
+		this.collectorsForAllMatchingDocs = result.getCollectorsForAllMatchingDocs();
+		this.totalHitCount = result.getTotalHitCount();
+		this.topDocs = result.getTopDocs();
+		if ( result.isTimedOut() ) {
+			// Some shards were only partially collected: this will throw an exception for hard timeouts,
+			// or just mark the result as partial for soft timeouts.
+			timeoutManager.forceTimedOut();
+		}
+	}
+
 	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
 		if ( limit == null ) {
 			topDocs = topDocsCollector.topDocs( offset );
@@ -142,6 +180,18 @@ private void handleRescoring(IndexSearcher indexSearcher, Query luceneQuery) thr
 		}
 	}
 
+	private void applyCollectorsToTopDocsIfNecessary() throws IOException {
+		if ( collectorsForTopDocsFactories.isEmpty() ) {
+			return;
+		}
+		try {
+			applyCollectorsToTopDocs();
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			timeoutManager.forceTimedOut();
+		}
+	}
+
 	private void applyCollectorsToTopDocs() throws IOException {
 		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( topDocs.scoreDocs );
 
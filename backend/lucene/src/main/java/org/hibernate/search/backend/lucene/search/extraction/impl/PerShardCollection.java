@@ -0,0 +1,250 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.similarities.Similarity;
+
+/**
+ * Collects all matching documents with one set of collectors per shard,
+ * each shard being searched in a separate thread,
+ * then merges the results of all shards.
+ * <p>
+ * A shard that reaches the timeout stops collecting, but the results it collected so far are still merged,
+ * so that soft timeouts lead to partial results instead of no results at all.
+ */
+final class PerShardCollection {
+
+	/**
+	 * @param indexReader An index reader.
+	 * @param collectorFactories The factories of collectors to apply to all matching documents,
+	 * besides top docs and total hit count.
+	 * @return {@code true} if the given reader spans multiple shards
+	 * and all the given collectors can be merged.
+	 */
+	static boolean isApplicable(IndexReader indexReader, Set<CollectorFactory<?>> collectorFactories) {
+		for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
+			if ( !collectorFactory.isMergeable() ) {
+				return false;
+			}
+		}
+		return groupLeavesByShard( indexReader.leaves() ).size() > 1;
+	}
+
+	private final PerShardIndexSearcher searcher;
+	private final Sort topDocsSort;
+	private final Set<CollectorFactory<?>> collectorFactories;
+	private final CollectorSetFactory collectorSetFactory;
+
+	PerShardCollection(IndexReader indexReader, Similarity similarity, Executor executor,
+			Sort topDocsSort, Set<CollectorFactory<?>> collectorFactories,
+			CollectorSetFactory collectorSetFactory) {
+		this.searcher = new PerShardIndexSearcher( indexReader, executor );
+		this.searcher.setSimilarity( similarity );
+		this.topDocsSort = topDocsSort;
+		this.collectorFactories = collectorFactories;
+		this.collectorSetFactory = collectorSetFactory;
+	}
+
+	Result collect(Query luceneQuery, int offset, Integer limit) throws IOException {
+		ShardCollectorManager collectorManager = new ShardCollectorManager();
+		List<ShardCollector> shardCollectors = searcher.search( luceneQuery, collectorManager );
+
+		boolean timedOut = false;
+		long totalHitCount = 0L;
+		List<CollectorSet> shardCollectorSets = new ArrayList<>( shardCollectors.size() );
+		List<TopDocs> shardTopDocs = new ArrayList<>( shardCollectors.size() );
+		for ( ShardCollector shardCollector : shardCollectors ) {
+			timedOut = timedOut || shardCollector.timedOut;
+			CollectorSet collectorSet = shardCollector.collectorSet;
+			shardCollectorSets.add( collectorSet );
+			totalHitCount += collectorSet.get( LuceneCollectors.TOTAL_HIT_COUNT_KEY ).getTotalHits();
+			TopDocsCollector<?> topDocsCollector = collectorSet.get( LuceneCollectors.TOP_DOCS_KEY );
+			if ( topDocsCollector != null ) {
+				shardTopDocs.add( topDocsCollector.topDocs() );
+			}
+		}
+
+		TopDocs topDocs = shardTopDocs.isEmpty() ? null : mergeTopDocs( shardTopDocs, offset, limit );
+
+		return new Result( timedOut, totalHitCount, topDocs,
+				CollectorSet.merge( shardCollectorSets, collectorFactories ) );
+	}
+
+	private TopDocs mergeTopDocs(List<TopDocs> shardTopDocs, int offset, Integer limit) {
+		int size;
+		if ( limit != null ) {
+			size = limit;
+		}
+		else {
+			int collectedHitCount = 0;
+			for ( TopDocs topDocs : shardTopDocs ) {
+				collectedHitCount += topDocs.scoreDocs.length;
+			}
+			size = Math.max( 0, collectedHitCount - offset );
+		}
+
+		// Shard indexes are assigned in the order of shards, which is also the order of document IDs,
+		// so ties are broken the same way as when collecting all shards sequentially.
+		if ( topDocsSort == null ) {
+			return TopDocs.merge( offset, size, shardTopDocs.toArray( new TopDocs[0] ), true );
+		}
+		else {
+			return TopDocs.merge( topDocsSort, offset, size, shardTopDocs.toArray( new TopFieldDocs[0] ), true );
+		}
+	}
+
+	private static Collection<List<LeafReaderContext>> groupLeavesByShard(List<LeafReaderContext> leaves) {
+		// The parent of each leaf is the context of the directory reader of its shard
+		Map<IndexReaderContext, List<LeafReaderContext>> leavesByShard = new LinkedHashMap<>();
+		for ( LeafReaderContext leaf : leaves ) {
+			leavesByShard.computeIfAbsent( leaf.parent, ignored -> new ArrayList<>() ).add( leaf );
+		}
+		return leavesByShard.values();
+	}
+
+	interface CollectorSetFactory {
+		CollectorSet create() throws IOException;
+	}
+
+	static final class Result {
+		private final boolean timedOut;
+		private final long totalHitCount;
+		private final TopDocs topDocs;
+		private final CollectorSet collectorsForAllMatchingDocs;
+
+		private Result(boolean timedOut, long totalHitCount, TopDocs topDocs,
+				CollectorSet collectorsForAllMatchingDocs) {
+			this.timedOut = timedOut;
+			this.totalHitCount = totalHitCount;
+			this.topDocs = topDocs;
+			this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		}
+
+		boolean isTimedOut() {
+			return timedOut;
+		}
+
+		long getTotalHitCount() {
+			return totalHitCount;
+		}
+
+		TopDocs getTopDocs() {
+			return topDocs;
+		}
+
+		CollectorSet getCollectorsForAllMatchingDocs() {
+			return collectorsForAllMatchingDocs;
+		}
+	}
+
+	/**
+	 * An index searcher that executes one slice per shard, each in a separate thread.
+	 */
+	private static final class PerShardIndexSearcher extends IndexSearcher {
+		private PerShardIndexSearcher(IndexReader reader, Executor executor) {
+			super( reader, executor );
+		}
+
+		@Override
+		protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+			Collection<List<LeafReaderContext>> leavesByShard = groupLeavesByShard( leaves );
+			LeafSlice[] slices = new LeafSlice[leavesByShard.size()];
+			int i = 0;
+			for ( List<LeafReaderContext> shardLeaves : leavesByShard ) {
+				slices[i] = new LeafSlice( shardLeaves.toArray( new LeafReaderContext[0] ) );
+				++i;
+			}
+			return slices;
+		}
+	}
+
+	private final class ShardCollectorManager implements CollectorManager<ShardCollector, List<ShardCollector>> {
+		@Override
+		public ShardCollector newCollector() throws IOException {
+			return new ShardCollector( collectorSetFactory.create() );
+		}
+
+		@Override
+		public List<ShardCollector> reduce(Collection<ShardCollector> collectors) {
+			return new ArrayList<>( collectors );
+		}
+	}
+
+	/**
+	 * Collects a single shard, and stops collecting when the timeout is reached
+	 * instead of failing the whole search.
+	 */
+	private static final class ShardCollector implements Collector {
+		private final CollectorSet collectorSet;
+		private final Collector delegate;
+		private boolean timedOut = false;
+
+		private ShardCollector(CollectorSet collectorSet) {
+			this.collectorSet = collectorSet;
+			this.delegate = collectorSet.getComposed();
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( timedOut ) {
+				throw new CollectionTerminatedException();
+			}
+			LeafCollector leafCollector;
+			try {
+				leafCollector = delegate.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				timedOut = true;
+				throw new CollectionTerminatedException();
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						timedOut = true;
+						throw new CollectionTerminatedException();
+					}
+				}
+			};
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return delegate.scoreMode();
+		}
+	}
+}
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.search.impl;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentFieldValueConvertContext;
@@ -17,6 +19,7 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentIdentifierValueConvertContextImpl;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
 
 import org.apache.lucene.search.Query;
 
@@ -33,6 +36,10 @@ public final class LuceneSearchContext {
 	// Global timing source
 	private final TimingSource timingSource;
 
+	private final SearchQueryMetrics queryMetrics;
+	private final LuceneSearchResultCache resultCache;
+	private final Executor perShardSearchExecutor;
+
 	// Targeted indexes
 	private final LuceneSearchIndexesContext indexes;
 
@@ -40,12 +47,18 @@ public LuceneSearchContext(BackendMappingContext mappingContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
+			SearchQueryMetrics queryMetrics,
+			LuceneSearchResultCache resultCache,
+			Executor perShardSearchExecutor,
 			LuceneSearchIndexesContext indexes) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
+		this.queryMetrics = queryMetrics;
+		this.resultCache = resultCache;
+		this.perShardSearchExecutor = perShardSearchExecutor;
 		this.indexes = indexes;
 	}
 
@@ -65,6 +78,22 @@ public LuceneSearchIndexesContext indexes() {
 		return indexes;
 	}
 
+	public SearchQueryMetrics queryMetrics() {
+		return queryMetrics;
+	}
+
+	public LuceneSearchResultCache resultCache() {
+		return resultCache;
+	}
+
+	/**
+	 * @return The executor to use to search each shard in a separate thread,
+	 * or {@code null} if shards should be searched sequentially.
+	 */
+	public Executor perShardSearchExecutorOrNull() {
+		return perShardSearchExecutor;
+	}
+
 	public Query filterOrNull(String tenantId) {
 		return multiTenancyStrategy.filterOrNull( tenantId );
 	}
@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -39,12 +40,13 @@
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private Duration took;
 	private Boolean timedOut;
+	private final SearchQueryProfiler profiler;
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
 			long hitCount, List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
-			Duration took, boolean timedOut) {
+			Duration took, boolean timedOut, SearchQueryProfiler profiler) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
@@ -52,9 +54,11 @@
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.profiler = profiler;
 	}
 
 	LuceneSearchResult<H> loadBlocking() {
+		long startTime = profiler.start();
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -88,6 +92,9 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut, extractContext.getTopDocs() );
+		profiler.recordSince( SearchQueryProfiler.PHASE_LOADING, startTime );
+
+		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut,
+				profiler.toProfile(), extractContext.getTopDocs() );
 	}
 }
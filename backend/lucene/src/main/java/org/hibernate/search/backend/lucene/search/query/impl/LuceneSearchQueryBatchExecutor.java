@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+
+/**
+ * Executes all queries of a batch targeting the same indexes against a single index reader,
+ * so that readers are opened only once per batch and all queries see the same snapshot of the indexes.
+ */
+final class LuceneSearchQueryBatchExecutor implements SearchQueryBatchExecutor {
+
+	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+
+	LuceneSearchQueryBatchExecutor(LuceneSyncWorkOrchestrator queryOrchestrator) {
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		LuceneSearchQueryBatchExecutor other = (LuceneSearchQueryBatchExecutor) obj;
+		return queryOrchestrator == other.queryOrchestrator;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode( queryOrchestrator );
+	}
+
+	@Override
+	public void execute(List<SearchQueryBatchElement<?>> elements) {
+		Map<List<Object>, List<LuceneSearchQueryImpl.BatchedExecution<?>>> executionsByReader = new LinkedHashMap<>();
+		for ( SearchQueryBatchElement<?> element : elements ) {
+			LuceneSearchQueryImpl.BatchedExecution<?> execution = prepare( element );
+			executionsByReader.computeIfAbsent( execution.readerKey(), ignored -> new ArrayList<>() )
+					.add( execution );
+		}
+
+		for ( List<LuceneSearchQueryImpl.BatchedExecution<?>> executions : executionsByReader.values() ) {
+			try {
+				executions.get( 0 ).submit( context -> {
+					for ( LuceneSearchQueryImpl.BatchedExecution<?> execution : executions ) {
+						execution.execute( context );
+					}
+					return null;
+				} );
+			}
+			catch (RuntimeException e) {
+				// Most likely we could not open the index reader
+				for ( LuceneSearchQueryImpl.BatchedExecution<?> execution : executions ) {
+					execution.fail( e );
+				}
+				continue;
+			}
+
+			for ( LuceneSearchQueryImpl.BatchedExecution<?> execution : executions ) {
+				// WARNING: this runs in the user thread, because loading may block.
+				execution.complete();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked") // By contract, only queries returning this executor are passed to execute()
+	private static <H> LuceneSearchQueryImpl.BatchedExecution<H> prepare(SearchQueryBatchElement<H> element) {
+		LuceneSearchQueryImpl<H> query = (LuceneSearchQueryImpl<H>) element.query();
+		return query.prepareBatchedExecution( element );
+	}
+
+}
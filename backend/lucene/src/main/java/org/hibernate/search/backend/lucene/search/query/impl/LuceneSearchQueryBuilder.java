@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.QueryOptimizer;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
@@ -166,8 +167,22 @@ public <A> void collectAggregation(AggregationKey<A> key, LuceneSearchAggregatio
 	public LuceneSearchQuery<H> build() {
 		LoadingContext<?, ?> loadingContext = loadingContextBuilder.build();
 
+		Sort luceneSort = null;
+		if ( sortFields != null && !sortFields.isEmpty() ) {
+			luceneSort = new Sort( sortFields.toArray( new SortField[0] ) );
+		}
+
+		ExtractionRequirements.Builder extractionRequirementsBuilder = new ExtractionRequirements.Builder();
+		SearchProjectionRequestContext projectionRequestContext =
+				new SearchProjectionRequestContext( extractionRequirementsBuilder );
+		rootProjection.request( projectionRequestContext );
+
+		boolean scoresNeeded = luceneSort == null || luceneSort.needsScores()
+				|| extractionRequirementsBuilder.isScoreRequired();
+		Query optimizedLuceneQuery = QueryOptimizer.optimize( luceneQuery, scoresNeeded );
+
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
-		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
+		luceneQueryBuilder.add( optimizedLuceneQuery, Occur.MUST );
 		luceneQueryBuilder.add( Queries.mainDocumentQuery(), Occur.FILTER );
 		if ( !routingKeys.isEmpty() ) {
 			Query routingKeysQuery = Queries.anyTerm( MetadataFields.routingKeyFieldName(), routingKeys );
@@ -181,11 +196,6 @@ public LuceneSearchQuery<H> build() {
 
 		Query definitiveLuceneQuery = luceneQueryBuilder.build();
 
-		Sort luceneSort = null;
-		if ( sortFields != null && !sortFields.isEmpty() ) {
-			luceneSort = new Sort( sortFields.toArray( new SortField[0] ) );
-		}
-
 		if ( nestedFieldSorts != null ) {
 			for ( LuceneFieldComparatorSource nestedField : nestedFieldSorts ) {
 				nestedField.setOriginalParentQuery( definitiveLuceneQuery );
@@ -196,10 +206,6 @@ public LuceneSearchQuery<H> build() {
 				sessionContext, loadingContext, definitiveLuceneQuery, luceneSort
 		);
 
-		ExtractionRequirements.Builder extractionRequirementsBuilder = new ExtractionRequirements.Builder();
-		SearchProjectionRequestContext projectionRequestContext =
-				new SearchProjectionRequestContext( extractionRequirementsBuilder );
-		rootProjection.request( projectionRequestContext );
 		if ( aggregations != null ) {
 			AggregationRequestContext aggregationRequestContext
 				= new AggregationRequestContext( extractionRequirementsBuilder, definitiveLuceneQuery );
@@ -216,6 +222,8 @@ public LuceneSearchQuery<H> build() {
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
+				searchContext.resultCache(),
+				searchContext.perShardSearchExecutorOrNull(),
 				timeoutManager
 		);
 
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -18,13 +20,20 @@
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchQueryMetrics;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
 import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
@@ -36,6 +45,7 @@
 		implements LuceneSearchQuery<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
@@ -89,8 +99,14 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
-		LuceneSearchResult<H> result = doSubmit( work )
+		SearchQueryMetrics metrics = searchContext.queryMetrics();
+		SearchQueryProfiler profiler = metrics.createProfiler();
+		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit, profiler );
+		long startTime = metrics.executionTimer().start();
+		LuceneLoadableSearchResult<H> loadableResult = doSubmit( work );
+		metrics.executionTimer().recordSince( startTime );
+		startTime = metrics.loadingTimer().start();
+		LuceneSearchResult<H> result = loadableResult
 				/*
 				 * WARNING: the following call must run in the user thread.
 				 * If we introduce async processing, we will have to add a loadAsync method here,
@@ -99,16 +115,32 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 				 * so we may choose to throw exceptions for those.
 				 */
 				.loadBlocking();
+		metrics.loadingTimer().recordSince( startTime );
 		timeoutManager.stop();
+		logIfSlow( result, metrics );
 		return result;
 	}
 
+	@Override
+	public SearchQueryBatchExecutor batchExecutor() {
+		return new LuceneSearchQueryBatchExecutor( queryOrchestrator );
+	}
+
+	BatchedExecution<H> prepareBatchedExecution(SearchQueryBatchElement<H> element) {
+		return new BatchedExecution<>( this, element );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
+		SearchQueryMetrics metrics = searchContext.queryMetrics();
+		SearchQueryProfiler profiler = metrics.createProfiler();
 		timeoutManager.start();
 		ReadWork<Integer> work = workFactory.count( searcher );
+		long profilerStartTime = profiler.start();
 		Integer result = doSubmit( work );
+		profiler.recordSince( SearchQueryProfiler.PHASE_COUNT, profilerStartTime );
 		timeoutManager.stop();
+		logIfSlow( profiler.toProfile(), metrics );
 		return result;
 	}
 
@@ -142,10 +174,21 @@ public Sort luceneSort() {
 		return luceneSort;
 	}
 
+	private void logIfSlow(LuceneSearchResult<H> result, SearchQueryMetrics metrics) {
+		result.profile().ifPresent( profile -> logIfSlow( profile, metrics ) );
+	}
+
+	private void logIfSlow(SearchQueryProfile profile, SearchQueryMetrics metrics) {
+		if ( profile != null && metrics.isSlow( profile ) ) {
+			queryLog.slowQuery( profile.total().toMillis(), luceneQuery, luceneSort, profile );
+		}
+	}
+
 	private <T> T doSubmit(ReadWork<T> work) {
 		return queryOrchestrator.submit(
 				searchContext.indexes().indexNames(),
 				searchContext.indexes().indexManagerContexts(),
+				sessionContext.tenantIdentifier(),
 				routingKeys,
 				work
 		);
@@ -168,4 +211,75 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		timeoutManager = searchContext.createTimeoutManager( luceneQuery, timeout, timeUnit, true );
 		searcher.setTimeoutManager( timeoutManager );
 	}
+
+	/**
+	 * The execution of this query as part of a batch,
+	 * against an index reader shared with other queries targeting the same indexes.
+	 */
+	static final class BatchedExecution<H> {
+		private final LuceneSearchQueryImpl<H> query;
+		private final SearchQueryBatchElement<H> element;
+		private final SearchQueryMetrics metrics;
+		private final SearchQueryProfiler profiler;
+
+		private LuceneLoadableSearchResult<H> loadableResult;
+		private RuntimeException failure;
+
+		private BatchedExecution(LuceneSearchQueryImpl<H> query, SearchQueryBatchElement<H> element) {
+			this.query = query;
+			this.element = element;
+			this.metrics = query.searchContext.queryMetrics();
+			this.profiler = metrics.createProfiler();
+		}
+
+		/**
+		 * @return A key identifying the index reader this query must be executed against.
+		 */
+		List<Object> readerKey() {
+			return Arrays.asList( query.searchContext.indexes().indexNames(),
+					query.sessionContext.tenantIdentifier(), query.routingKeys );
+		}
+
+		<T> T submit(ReadWork<T> work) {
+			return query.doSubmit( work );
+		}
+
+		void execute(ReadWorkExecutionContext context) {
+			query.timeoutManager.start();
+			ReadWork<LuceneLoadableSearchResult<H>> work =
+					query.workFactory.search( query.searcher, element.offset(), element.limit(), profiler );
+			long startTime = metrics.executionTimer().start();
+			try {
+				loadableResult = work.execute( context );
+			}
+			catch (RuntimeException e) {
+				// Do not prevent the execution of other queries of the batch.
+				failure = e;
+			}
+			metrics.executionTimer().recordSince( startTime );
+		}
+
+		void complete() {
+			if ( failure != null ) {
+				fail( failure );
+				return;
+			}
+			try {
+				long startTime = metrics.loadingTimer().start();
+				LuceneSearchResult<H> result = loadableResult.loadBlocking();
+				metrics.loadingTimer().recordSince( startTime );
+				query.timeoutManager.stop();
+				query.logIfSlow( result, metrics );
+				element.complete( result );
+			}
+			catch (RuntimeException e) {
+				fail( e );
+			}
+		}
+
+		void fail(RuntimeException e) {
+			query.timeoutManager.stop();
+			element.completeExceptionally( e );
+		}
+	}
 }
@@ -0,0 +1,237 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+
+/**
+ * A bounded, least-recently-used cache of search results, shared by all queries executed against a given backend.
+ * <p>
+ * Only the part of the result that depends exclusively on the index readers is cached:
+ * top docs and total hit count.
+ * Projections are still extracted for every execution,
+ * since they may depend on the session (e.g. entity loading).
+ * <p>
+ * Keys include the version of every index reader targeted by the query,
+ * so entries automatically become unreachable when an index reader is refreshed,
+ * and are eventually evicted as new entries are added.
+ */
+public final class LuceneSearchResultCache {
+
+	private static final String METRIC_HITS = "hibernate.search.query.result_cache.hits";
+	private static final String METRIC_MISSES = "hibernate.search.query.result_cache.misses";
+	private static final String METRIC_SIZE = "hibernate.search.query.result_cache.size";
+	private static final String TAG_BACKEND = "backend";
+
+	private static final LuceneSearchResultCache DISABLED = new LuceneSearchResultCache( 0, null, null );
+
+	/**
+	 * @param recorder The metrics recorder.
+	 * @param backendName The name of the backend, used to tag metrics.
+	 * @param maxEntries The maximum number of entries in the cache, or {@code 0} to disable the cache.
+	 * @return The cache.
+	 */
+	public static LuceneSearchResultCache create(MetricsRecorder recorder, String backendName, int maxEntries) {
+		if ( maxEntries <= 0 ) {
+			return DISABLED;
+		}
+		LuceneSearchResultCache cache = new LuceneSearchResultCache( maxEntries,
+				recorder.counter( METRIC_HITS, TAG_BACKEND, backendName ),
+				recorder.counter( METRIC_MISSES, TAG_BACKEND, backendName ) );
+		recorder.gauge( METRIC_SIZE, cache::size, TAG_BACKEND, backendName );
+		return cache;
+	}
+
+	private final int maxEntries;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Map<Key, Entry> entries;
+
+	private LuceneSearchResultCache(int maxEntries, Counter hitCounter, Counter missCounter) {
+		this.maxEntries = maxEntries;
+		this.hitCounter = hitCounter;
+		this.missCounter = missCounter;
+		// Access order: the eldest entry is the least recently used one
+		this.entries = new LinkedHashMap<Key, Entry>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, LuceneSearchResultCache.Entry> eldest) {
+				return size() > LuceneSearchResultCache.this.maxEntries;
+			}
+		};
+	}
+
+	public boolean isEnabled() {
+		return maxEntries > 0;
+	}
+
+	/**
+	 * @param indexReader The index reader the query will be executed against.
+	 * @param luceneQuery The definitive Lucene query, including tenant and routing filters.
+	 * @param luceneSort The Lucene sort, or {@code null}.
+	 * @param offset The offset.
+	 * @param limit The limit, or {@code null}.
+	 * @param scoreRequired Whether scores are required in the top docs.
+	 * @return A key for the given execution, or {@code null} if the cache is disabled
+	 * or the given reader cannot be identified reliably.
+	 */
+	public Key createKeyOrNull(IndexReader indexReader, Query luceneQuery, Sort luceneSort,
+			int offset, Integer limit, boolean scoreRequired) {
+		if ( !isEnabled() || !( indexReader instanceof HibernateSearchMultiReader ) ) {
+			return null;
+		}
+		return createKey( ( (HibernateSearchMultiReader) indexReader ).getDirectoryReaders(),
+				luceneQuery, luceneSort, offset, limit, scoreRequired );
+	}
+
+	Key createKey(List<DirectoryReader> directoryReaders, Query luceneQuery, Sort luceneSort,
+			int offset, Integer limit, boolean scoreRequired) {
+		List<ReaderVersion> readerVersions = new ArrayList<>( directoryReaders.size() );
+		for ( DirectoryReader directoryReader : directoryReaders ) {
+			readerVersions.add( new ReaderVersion( directoryReader.directory(), directoryReader.getVersion() ) );
+		}
+		return new Key( readerVersions, luceneQuery, luceneSort, offset, limit, scoreRequired );
+	}
+
+	/**
+	 * @param key A key returned by {@link #createKeyOrNull(IndexReader, Query, Sort, int, Integer, boolean)}.
+	 * @return The cached entry, or {@code null} if there is none.
+	 */
+	public Entry get(Key key) {
+		Entry entry;
+		synchronized ( entries ) {
+			entry = entries.get( key );
+		}
+		if ( entry == null ) {
+			missCounter.increment();
+		}
+		else {
+			hitCounter.increment();
+		}
+		return entry;
+	}
+
+	/**
+	 * @param key A key returned by {@link #createKeyOrNull(IndexReader, Query, Sort, int, Integer, boolean)}.
+	 * @param totalHitCount The total hit count.
+	 * @param topDocs The top docs, or {@code null} if top docs were not collected.
+	 * Must not be altered after this call.
+	 */
+	public void put(Key key, long totalHitCount, TopDocs topDocs) {
+		Entry entry = new Entry( totalHitCount, topDocs );
+		synchronized ( entries ) {
+			entries.put( key, entry );
+		}
+	}
+
+	private long size() {
+		synchronized ( entries ) {
+			return entries.size();
+		}
+	}
+
+	public static final class Key {
+		private final List<ReaderVersion> readerVersions;
+		private final Query luceneQuery;
+		private final Sort luceneSort;
+		private final int offset;
+		private final Integer limit;
+		private final boolean scoreRequired;
+		private final int hashCode;
+
+		private Key(List<ReaderVersion> readerVersions, Query luceneQuery, Sort luceneSort,
+				int offset, Integer limit, boolean scoreRequired) {
+			this.readerVersions = readerVersions;
+			this.luceneQuery = luceneQuery;
+			this.luceneSort = luceneSort;
+			this.offset = offset;
+			this.limit = limit;
+			this.scoreRequired = scoreRequired;
+			this.hashCode = Objects.hash( readerVersions, luceneQuery, luceneSort, offset, limit, scoreRequired );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( !( obj instanceof Key ) ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode
+					&& offset == other.offset
+					&& scoreRequired == other.scoreRequired
+					&& Objects.equals( limit, other.limit )
+					&& readerVersions.equals( other.readerVersions )
+					&& luceneQuery.equals( other.luceneQuery )
+					&& Objects.equals( luceneSort, other.luceneSort );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	public static final class Entry {
+		private final long totalHitCount;
+		private final TopDocs topDocs;
+
+		private Entry(long totalHitCount, TopDocs topDocs) {
+			this.totalHitCount = totalHitCount;
+			this.topDocs = topDocs;
+		}
+
+		public long getTotalHitCount() {
+			return totalHitCount;
+		}
+
+		public TopDocs getTopDocs() {
+			return topDocs;
+		}
+	}
+
+	private static final class ReaderVersion {
+		// Directories are compared by identity: each shard has its own directory instance
+		private final Directory directory;
+		private final long version;
+
+		private ReaderVersion(Directory directory, long version) {
+			this.directory = directory;
+			this.version = version;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( !( obj instanceof ReaderVersion ) ) {
+				return false;
+			}
+			ReaderVersion other = (ReaderVersion) obj;
+			return directory == other.directory && version == other.version;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode( directory ) + Long.hashCode( version );
+		}
+	}
+}
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 import org.apache.lucene.search.TopDocs;
@@ -22,8 +23,8 @@
 	private final TopDocs topDocs;
 
 	LuceneSearchResultImpl(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
-			Duration took, Boolean timedOut, TopDocs topDocs) {
-		super( hitCount, hits, aggregationResults, took, timedOut );
+			Duration took, Boolean timedOut, SearchQueryProfile profile, TopDocs topDocs) {
+		super( hitCount, hits, aggregationResults, took, timedOut, profile );
 		this.topDocs = topDocs;
 	}
 
@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
@@ -28,6 +29,7 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -48,6 +50,8 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final LuceneSearchResultCache resultCache;
+	private final Executor perShardExecutor;
 
 	private TimeoutManager timeoutManager;
 
@@ -55,11 +59,15 @@
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
+			LuceneSearchResultCache resultCache,
+			Executor perShardExecutor,
 			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
+		this.resultCache = resultCache;
+		this.perShardExecutor = perShardExecutor;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -76,21 +84,30 @@ public String toString() {
 	@Override
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
+			int offset, Integer limit, SearchQueryProfiler profiler) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
-
-		luceneCollectors.collect( offset, limit );
+		long startTime = profiler.start();
+		LuceneCollectors luceneCollectors = collect( indexSearcher, metadataResolver, offset, limit );
+		profiler.recordSince( PHASE_COLLECTION, startTime );
 
 		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				indexSearcher, luceneCollectors
 		);
 
+		startTime = profiler.start();
 		List<Object> extractedData = extractHits( extractContext );
+		profiler.recordSince( PHASE_HIT_EXTRACTION, startTime );
 
-		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext );
+		Map<AggregationKey<?>, ?> extractedAggregations;
+		if ( aggregations.isEmpty() ) {
+			extractedAggregations = Collections.emptyMap();
+		}
+		else {
+			startTime = profiler.start();
+			extractedAggregations = extractAggregations( extractContext );
+			profiler.recordSince( PHASE_AGGREGATION_EXTRACTION, startTime );
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				extractContext, rootProjection,
@@ -98,7 +115,8 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 				extractedData,
 				extractedAggregations,
 				timeoutManager.getTookTime(),
-				timeoutManager.isTimedOut()
+				timeoutManager.isTimedOut(),
+				profiler
 		);
 	}
 
@@ -131,6 +149,40 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 		this.timeoutManager = timeoutManager;
 	}
 
+	private LuceneCollectors collect(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
+			int offset, Integer limit) throws IOException {
+		LuceneSearchResultCache.Key cacheKey = null;
+		if ( extractionRequirements.isOnlyTopDocsRequiredForAllMatchingDocs() ) {
+			cacheKey = resultCache.createKeyOrNull( indexSearcher.getIndexReader(),
+					requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+					offset, limit, extractionRequirements.isScoreRequired() );
+		}
+
+		LuceneCollectors luceneCollectors;
+		if ( cacheKey == null ) {
+			luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
+			luceneCollectors.collect( offset, limit );
+			return luceneCollectors;
+		}
+
+		LuceneSearchResultCache.Entry cachedEntry = resultCache.get( cacheKey );
+		if ( cachedEntry != null ) {
+			luceneCollectors = extractionRequirements.createCollectorsForCachedTopDocs(
+					indexSearcher, requestContext.getLuceneQuery(), metadataResolver, timeoutManager
+			);
+			luceneCollectors.collectFromCache( cachedEntry.getTotalHitCount(), cachedEntry.getTopDocs() );
+			return luceneCollectors;
+		}
+
+		luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
+		luceneCollectors.collect( offset, limit );
+		// Never cache partial results
+		if ( !timeoutManager.isTimedOut() ) {
+			resultCache.put( cacheKey, luceneCollectors.getTotalHitCount(), luceneCollectors.getTopDocs() );
+		}
+		return luceneCollectors;
+	}
+
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit) throws IOException {
 		// TODO HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
@@ -140,7 +192,7 @@ private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReade
 
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager
+				metadataResolver, maxDocs, timeoutManager, perShardExecutor
 		);
 	}
 
@@ -12,6 +12,7 @@
 
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
 
@@ -75,6 +76,20 @@ public Query createExistsQuery(String absoluteFieldPath) {
 		}
 	}
 
+	public Query createRangeQuery(String absoluteFieldPath, E lowerLimit, E upperLimit) {
+		LuceneNumericDomain<E> domain = getDomain();
+		Query pointsQuery = domain.createRangeQuery( absoluteFieldPath, lowerLimit, upperLimit );
+		if ( !sortable && !aggregable ) {
+			return pointsQuery;
+		}
+		// Doc values are available: let Lucene use them instead of points
+		// when the range is not selective compared to the other clauses of the query.
+		return new IndexOrDocValuesQuery(
+				pointsQuery,
+				domain.createSortedDocValuesRangeQuery( absoluteFieldPath, lowerLimit, upperLimit )
+		);
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -11,6 +11,8 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.Ngrams;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.NgramWildcardQueryFactory;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Field;
@@ -22,6 +24,7 @@
 import org.apache.lucene.search.NormsFieldExistsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.util.BytesRef;
 
 public final class LuceneStringFieldCodec implements LuceneTextFieldCodec<String> {
@@ -36,14 +39,18 @@ public final class LuceneStringFieldCodec implements LuceneTextFieldCodec<String
 
 	private final Analyzer analyzerOrNormalizer;
 
+	private final boolean ngramIndexing;
+
 	public LuceneStringFieldCodec(boolean searchable, boolean sortable, boolean aggregable,
-			FieldType fieldType, String indexNullAsValue, Analyzer analyzerOrNormalizer) {
+			FieldType fieldType, String indexNullAsValue, Analyzer analyzerOrNormalizer,
+			boolean ngramIndexing) {
 		this.sortable = sortable;
 		this.searchable = searchable;
 		this.aggregable = aggregable;
 		this.fieldType = fieldType;
 		this.indexNullAsValue = indexNullAsValue;
 		this.analyzerOrNormalizer = analyzerOrNormalizer;
+		this.ngramIndexing = ngramIndexing;
 	}
 
 	@Override
@@ -61,11 +68,22 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			documentBuilder.addField( new Field( absoluteFieldPath, value, fieldType ) );
 		}
 
+		BytesRef normalized = null;
 		if ( sortable || aggregable ) {
-			BytesRef normalized = normalize( absoluteFieldPath, value );
+			normalized = normalize( absoluteFieldPath, value );
 			documentBuilder.addField( new SortedSetDocValuesField( absoluteFieldPath, normalized ) );
 		}
 
+		if ( ngramIndexing ) {
+			if ( normalized == null ) {
+				normalized = normalize( absoluteFieldPath, value );
+			}
+			String ngramFieldName = MetadataFields.ngramFieldName( absoluteFieldPath );
+			documentBuilder.addField( Ngrams.ngramField( ngramFieldName, normalized.utf8ToString() ) );
+			// For verification of matches, see NgramWildcardQueryFactory
+			documentBuilder.addField( new SortedSetDocValuesField( ngramFieldName, normalized ) );
+		}
+
 		if ( !sortable && fieldType.omitNorms() ) {
 			// For createExistsQuery()
 			documentBuilder.addFieldName( absoluteFieldPath );
@@ -89,6 +107,7 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		LuceneStringFieldCodec other = (LuceneStringFieldCodec) obj;
 
 		return ( sortable == other.sortable ) && ( searchable == other.searchable )
+				&& ( ngramIndexing == other.ngramIndexing )
 				&& Objects.equals( fieldType, other.fieldType );
 	}
 
@@ -105,6 +124,19 @@ else if ( sortable || aggregable ) {
 		}
 	}
 
+	@Override
+	public Query createWildcardQuery(String absoluteFieldPath, BytesRef analyzedWildcard) {
+		if ( ngramIndexing ) {
+			Query ngramQuery = NgramWildcardQueryFactory.createOrNull(
+					MetadataFields.ngramFieldName( absoluteFieldPath ), analyzedWildcard.utf8ToString()
+			);
+			if ( ngramQuery != null ) {
+				return ngramQuery;
+			}
+		}
+		return new WildcardQuery( new Term( absoluteFieldPath, analyzedWildcard ) );
+	}
+
 	@Override
 	public String encode(String value) {
 		return value;
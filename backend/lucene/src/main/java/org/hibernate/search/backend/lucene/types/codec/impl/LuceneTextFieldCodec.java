@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import org.apache.lucene.search.Query;
 import org.apache.lucene.util.BytesRef;
 
 /**
@@ -24,4 +25,11 @@
 	 */
 	BytesRef normalize(String absoluteFieldPath, String value);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param analyzedWildcard The wildcard pattern, already normalized.
+	 * @return A query matching documents whose value matches the given pattern.
+	 */
+	Query createWildcardQuery(String absoluteFieldPath, BytesRef analyzedWildcard);
+
 }
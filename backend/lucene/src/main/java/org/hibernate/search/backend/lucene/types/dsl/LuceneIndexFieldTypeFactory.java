@@ -20,6 +20,9 @@
 
 public interface LuceneIndexFieldTypeFactory extends IndexFieldTypeFactory {
 
+	@Override
+	LuceneStringIndexFieldTypeOptionsStep<?> asString();
+
 	/**
 	 * Define a native field type.
 	 * <p>
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.dsl;
+
+import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
+
+/**
+ * The initial and final step in a Lucene-specific "string" index field type definition,
+ * where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ */
+public interface LuceneStringIndexFieldTypeOptionsStep<S extends LuceneStringIndexFieldTypeOptionsStep<?>>
+		extends StringIndexFieldTypeOptionsStep<S>, LuceneStandardIndexFieldTypeOptionsStep<S, String> {
+
+	/**
+	 * Index the n-grams of field values in addition to the values themselves,
+	 * so that wildcard predicates whose pattern starts with a wildcard, e.g. {@code *phone*},
+	 * do not need to enumerate every indexed term.
+	 * <p>
+	 * Wildcard predicates transparently use these n-grams when the pattern starts with a wildcard
+	 * and contains at least a few consecutive literal characters.
+	 * <p>
+	 * Increases the size of the index significantly.
+	 * Incompatible with {@link #analyzer(String)}: only values indexed as a single term,
+	 * possibly {@link #normalizer(String) normalized}, are supported.
+	 * Disabled by default.
+	 *
+	 * @param ngramIndexing Whether n-grams should be indexed.
+	 * @return {@code this}, for method chaining.
+	 */
+	S ngramIndexing(boolean ngramIndexing);
+
+}
@@ -24,11 +24,11 @@
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldContributor;
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldValueExtractor;
 import org.hibernate.search.backend.lucene.types.dsl.LuceneIndexFieldTypeFactory;
+import org.hibernate.search.backend.lucene.types.dsl.LuceneStringIndexFieldTypeOptionsStep;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
-import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -124,8 +124,8 @@ else if ( BigInteger.class.equals( valueType ) ) {
 	}
 
 	@Override
-	public StringIndexFieldTypeOptionsStep<?> asString() {
-		return new LuceneStringIndexFieldTypeOptionsStep( this );
+	public LuceneStringIndexFieldTypeOptionsStep<?> asString() {
+		return new LuceneStringIndexFieldTypeOptionsStepImpl( this );
 	}
 
 	@Override
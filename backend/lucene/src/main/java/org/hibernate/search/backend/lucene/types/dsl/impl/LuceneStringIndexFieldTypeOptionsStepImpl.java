@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneTextFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.types.dsl.LuceneStringIndexFieldTypeOptionsStep;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexFieldType;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneTextFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneStandardFieldProjectionBuilderFactory;
@@ -20,7 +21,6 @@
 import org.hibernate.search.engine.backend.types.Norms;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.TermVector;
-import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -29,9 +29,9 @@
 import org.apache.lucene.index.IndexOptions;
 
 
-class LuceneStringIndexFieldTypeOptionsStep
-		extends AbstractLuceneStandardIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStep, String>
-		implements StringIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStep> {
+class LuceneStringIndexFieldTypeOptionsStepImpl
+		extends AbstractLuceneStandardIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStepImpl, String>
+		implements LuceneStringIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStepImpl> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -49,12 +49,14 @@
 
 	private Sortable sortable = Sortable.DEFAULT;
 
-	LuceneStringIndexFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext) {
+	private boolean ngramIndexing = false;
+
+	LuceneStringIndexFieldTypeOptionsStepImpl(LuceneIndexFieldTypeBuildContext buildContext) {
 		super( buildContext, String.class );
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep analyzer(String analyzerName) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl analyzer(String analyzerName) {
 		this.analyzerName = analyzerName;
 		this.analyzer = getAnalysisDefinitionRegistry().getAnalyzerDefinition( analyzerName );
 		if ( analyzer == null ) {
@@ -64,7 +66,7 @@ public LuceneStringIndexFieldTypeOptionsStep analyzer(String analyzerName) {
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep searchAnalyzer(String searchAnalyzerName) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl searchAnalyzer(String searchAnalyzerName) {
 		this.searchAnalyzerName = searchAnalyzerName;
 		this.searchAnalyzer = getAnalysisDefinitionRegistry().getAnalyzerDefinition( searchAnalyzerName );
 		if ( searchAnalyzer == null ) {
@@ -74,7 +76,7 @@ public LuceneStringIndexFieldTypeOptionsStep searchAnalyzer(String searchAnalyze
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep normalizer(String normalizerName) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl normalizer(String normalizerName) {
 		this.normalizerName = normalizerName;
 		this.normalizer = getAnalysisDefinitionRegistry().getNormalizerDefinition( normalizerName );
 		if ( normalizer == null ) {
@@ -84,23 +86,29 @@ public LuceneStringIndexFieldTypeOptionsStep normalizer(String normalizerName) {
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep norms(Norms norms) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl norms(Norms norms) {
 		this.norms = norms;
 		return this;
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep termVector(TermVector termVector) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl termVector(TermVector termVector) {
 		this.termVector = termVector;
 		return this;
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep sortable(Sortable sortable) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl sortable(Sortable sortable) {
 		this.sortable = sortable;
 		return this;
 	}
 
+	@Override
+	public LuceneStringIndexFieldTypeOptionsStepImpl ngramIndexing(boolean ngramIndexing) {
+		this.ngramIndexing = ngramIndexing;
+		return this;
+	}
+
 	@Override
 	public LuceneIndexFieldType<String> toIndexFieldType() {
 		boolean resolvedSortable = resolveDefault( sortable );
@@ -126,6 +134,10 @@ public LuceneIndexFieldType<String> toIndexFieldType() {
 			if ( resolvedAggregable ) {
 				throw log.cannotUseAnalyzerOnAggregableField( analyzerName, getBuildContext().getEventContext() );
 			}
+
+			if ( ngramIndexing ) {
+				throw log.cannotUseAnalyzerWithNgramIndexing( analyzerName, getBuildContext().getEventContext() );
+			}
 		}
 		else if ( searchAnalyzer != null ) {
 			throw log.searchAnalyzerWithoutAnalyzer( searchAnalyzerName, getBuildContext().getEventContext() );
@@ -140,7 +152,9 @@ else if ( searchAnalyzer != null ) {
 				resolvedSearchable, resolvedSortable, resolvedAggregable,
 				getFieldType( resolvedProjectable, resolvedSearchable, analyzer != null, resolvedNorms, resolvedTermVector ),
 				indexNullAsValue,
-				analyzerOrNormalizer
+				analyzerOrNormalizer,
+				// N-grams are only useful for predicates
+				ngramIndexing && resolvedSearchable
 		);
 
 		return new LuceneIndexFieldType<>(
@@ -158,7 +172,7 @@ else if ( searchAnalyzer != null ) {
 	}
 
 	@Override
-	protected LuceneStringIndexFieldTypeOptionsStep thisAsS() {
+	protected LuceneStringIndexFieldTypeOptionsStepImpl thisAsS() {
 		return this;
 	}
 
@@ -29,6 +29,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneDoubleDomain implements LuceneNumericDomain<Double> {
@@ -75,11 +76,23 @@ public Query createRangeQuery(String absoluteFieldPath, Double lowerLimit, Doubl
 		);
 	}
 
+	@Override
+	public Query createSortedDocValuesRangeQuery(String absoluteFieldPath, Double lowerLimit, Double upperLimit) {
+		return SortedNumericDocValuesField.newSlowRangeQuery(
+				absoluteFieldPath, NumericUtils.doubleToSortableLong( lowerLimit ), NumericUtils.doubleToSortableLong( upperLimit )
+		);
+	}
+
 	@Override
 	public Double sortedDocValueToTerm(long longValue) {
 		return NumericUtils.sortableLongToDouble( longValue );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.DOUBLE;
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
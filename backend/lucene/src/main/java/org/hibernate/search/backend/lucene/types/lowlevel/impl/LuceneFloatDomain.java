@@ -26,6 +26,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DoubleMultiValuesToSingleValuesSource;
@@ -76,11 +77,23 @@ public Query createRangeQuery(String absoluteFieldPath, Float lowerLimit, Float
 		);
 	}
 
+	@Override
+	public Query createSortedDocValuesRangeQuery(String absoluteFieldPath, Float lowerLimit, Float upperLimit) {
+		return SortedNumericDocValuesField.newSlowRangeQuery(
+				absoluteFieldPath, NumericUtils.floatToSortableInt( lowerLimit ), NumericUtils.floatToSortableInt( upperLimit )
+		);
+	}
+
 	@Override
 	public Float sortedDocValueToTerm(long longValue) {
 		return NumericUtils.sortableIntToFloat( (int) longValue );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.FLOAT;
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
@@ -25,6 +25,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
@@ -74,11 +75,23 @@ public Query createRangeQuery(String absoluteFieldPath, Integer lowerLimit, Inte
 		);
 	}
 
+	@Override
+	public Query createSortedDocValuesRangeQuery(String absoluteFieldPath, Integer lowerLimit, Integer upperLimit) {
+		return SortedNumericDocValuesField.newSlowRangeQuery(
+				absoluteFieldPath, lowerLimit.longValue(), upperLimit.longValue()
+		);
+	}
+
 	@Override
 	public Integer sortedDocValueToTerm(long longValue) {
 		return (int) longValue;
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.INT;
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
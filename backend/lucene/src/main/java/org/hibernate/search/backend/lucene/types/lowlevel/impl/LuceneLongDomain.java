@@ -25,6 +25,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
@@ -74,11 +75,23 @@ public Query createRangeQuery(String absoluteFieldPath, Long lowerLimit, Long up
 		);
 	}
 
+	@Override
+	public Query createSortedDocValuesRangeQuery(String absoluteFieldPath, Long lowerLimit, Long upperLimit) {
+		return SortedNumericDocValuesField.newSlowRangeQuery(
+				absoluteFieldPath, lowerLimit, upperLimit
+		);
+	}
+
 	@Override
 	public Long sortedDocValueToTerm(long longValue) {
 		return longValue;
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.LONG;
+	}
+
 	@Override
 	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException {
@@ -18,6 +18,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public interface LuceneNumericDomain<E extends Number> {
@@ -36,8 +37,20 @@
 
 	Query createRangeQuery(String absoluteFieldPath, E lowerLimit, E upperLimit);
 
+	/**
+	 * @return A range query relying on the doc values created by {@link #createSortedDocValuesField(String, Number)}.
+	 * Slow on its own, but efficient to verify matches of other, more selective queries.
+	 */
+	Query createSortedDocValuesRangeQuery(String absoluteFieldPath, E lowerLimit, E upperLimit);
+
 	E sortedDocValueToTerm(long longValue);
 
+	/**
+	 * @return The type to use in a {@link org.apache.lucene.search.SortedNumericSortField}
+	 * relying on the doc values created by {@link #createSortedDocValuesField(String, Number)}.
+	 */
+	SortField.Type getSortFieldType();
+
 	Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider) throws IOException;
 
@@ -52,7 +52,7 @@ public SearchPredicate build() {
 		@Override
 		protected Query buildQuery() {
 			LuceneNumericDomain<E> domain = codec.getDomain();
-			return domain.createRangeQuery(
+			return codec.createRangeQuery(
 					absoluteFieldPath,
 					getLowerValue( domain, range.lowerBoundValue(), range.lowerBoundInclusion() ),
 					getUpperValue( domain, range.upperBoundValue(), range.upperBoundInclusion() )
@@ -45,7 +45,7 @@ public PhrasePredicateBuilder createPhrasePredicateBuilder(LuceneSearchContext s
 	public WildcardPredicateBuilder createWildcardPredicateBuilder(LuceneSearchContext searchContext,
 			LuceneSearchFieldContext<F> field) {
 		checkSearchable( field );
-		return new LuceneTextWildcardPredicate.Builder<>( searchContext, field );
+		return new LuceneTextWildcardPredicate.Builder<>( searchContext, field, codec );
 	}
 
 	@Override
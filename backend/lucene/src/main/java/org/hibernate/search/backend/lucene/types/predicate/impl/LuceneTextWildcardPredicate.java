@@ -9,14 +9,13 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneLeafSingleFieldPredicate;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
 import org.hibernate.search.backend.lucene.types.predicate.parse.impl.LuceneWildcardExpressionHelper;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
-import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.util.BytesRef;
 
 class LuceneTextWildcardPredicate extends AbstractLuceneLeafSingleFieldPredicate {
@@ -27,12 +26,14 @@ private LuceneTextWildcardPredicate(Builder builder) {
 
 	static class Builder<F> extends AbstractBuilder<F> implements WildcardPredicateBuilder {
 
+		private final LuceneTextFieldCodec<F> codec;
 		private final Analyzer analyzerOrNormalizer;
 
 		private String pattern;
 
-		Builder(LuceneSearchContext searchContext, LuceneSearchFieldContext<F> field) {
+		Builder(LuceneSearchContext searchContext, LuceneSearchFieldContext<F> field, LuceneTextFieldCodec<F> codec) {
 			super( searchContext, field );
+			this.codec = codec;
 			this.analyzerOrNormalizer = field.type().searchAnalyzerOrNormalizer();
 		}
 
@@ -49,7 +50,7 @@ public SearchPredicate build() {
 		@Override
 		protected Query buildQuery() {
 			BytesRef analyzedWildcard = LuceneWildcardExpressionHelper.analyzeWildcard( analyzerOrNormalizer, absoluteFieldPath, pattern );
-			return new WildcardQuery( new Term( absoluteFieldPath, analyzedWildcard ) );
+			return codec.createWildcardQuery( absoluteFieldPath, analyzedWildcard );
 		}
 	}
 }
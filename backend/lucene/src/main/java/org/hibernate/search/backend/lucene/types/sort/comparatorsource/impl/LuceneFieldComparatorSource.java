@@ -6,11 +6,22 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
+/**
+ * A comparator source for Hibernate Search fields.
+ * <p>
+ * Implementations define {@link #equals(Object)} and {@link #hashCode()}
+ * so that two sorts built from the same definition are equal,
+ * which allows search results to be cached.
+ * The nested docs provider is ignored, since it is derived from the query, which must be compared separately.
+ */
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
 	protected final String nestedDocumentPath;
@@ -23,6 +34,24 @@ public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
 		this.filter = filter;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, filter );
+	}
+
 	public String getNestedDocumentPath() {
 		return nestedDocumentPath;
 	}
@@ -30,4 +59,15 @@ public String getNestedDocumentPath() {
 	public void setOriginalParentQuery(Query luceneQuery) {
 		this.nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, luceneQuery, filter );
 	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the sorted field.
+	 * @param reverse Whether the sort is in descending order.
+	 * @return A sort field that orders documents exactly like this comparator source
+	 * and can be used as an index sort, i.e. relies on doc values only,
+	 * or {@code null} if there is no such sort field.
+	 */
+	public SortField toIndexSortField(String absoluteFieldPath, boolean reverse) {
+		return null;
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GeoPointDistanceMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
@@ -30,6 +31,22 @@ public LuceneGeoPointDistanceComparatorSource(String nestedDocumentPath, GeoPoin
 		this.mode = mode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneGeoPointDistanceComparatorSource other = (LuceneGeoPointDistanceComparatorSource) obj;
+		return Double.compare( center.latitude(), other.center.latitude() ) == 0
+				&& Double.compare( center.longitude(), other.center.longitude() ) == 0
+				&& mode == other.mode;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), center.latitude(), center.longitude(), mode );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		GeoPointDistanceMultiValuesToSingleValuesSource source = new GeoPointDistanceMultiValuesToSingleValuesSource(
@@ -6,10 +6,15 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public class LuceneNumericFieldComparatorSource<E extends Number> extends LuceneFieldComparatorSource {
@@ -25,8 +30,47 @@ public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumer
 		this.sortMode = sortMode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericFieldComparatorSource<?> other = (LuceneNumericFieldComparatorSource<?>) obj;
+		return numericDomain.equals( other.numericDomain )
+				&& Objects.equals( missingValue, other.missingValue )
+				&& sortMode == other.sortMode;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( super.hashCode(), numericDomain, missingValue, sortMode );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		return numericDomain.createFieldComparator( fieldname, numHits, sortMode, missingValue, nestedDocsProvider );
 	}
+
+	@Override
+	public SortField toIndexSortField(String absoluteFieldPath, boolean reverse) {
+		if ( nestedDocumentPath != null || filter != null ) {
+			return null;
+		}
+		SortedNumericSelector.Type selector;
+		switch ( sortMode ) {
+			case MIN:
+				selector = SortedNumericSelector.Type.MIN;
+				break;
+			case MAX:
+				selector = SortedNumericSelector.Type.MAX;
+				break;
+			default:
+				// Other modes need to compute a value from all values of a document
+				return null;
+		}
+		SortField sortField = new SortedNumericSortField( absoluteFieldPath, numericDomain.getSortFieldType(),
+				reverse, selector );
+		sortField.setMissingValue( missingValue );
+		return sortField;
+	}
 }
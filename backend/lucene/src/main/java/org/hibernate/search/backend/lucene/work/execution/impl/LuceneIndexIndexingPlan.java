@@ -125,7 +125,7 @@ public void discard() {
 
 	private void collect(String documentId, String routingKey, SingleDocumentIndexingWork work) {
 		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( documentId, routingKey );
+		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( tenantId, documentId, routingKey );
 
 		List<SingleDocumentIndexingWork> works = worksByOrchestrator.get( orchestrator );
 		if ( works == null ) {
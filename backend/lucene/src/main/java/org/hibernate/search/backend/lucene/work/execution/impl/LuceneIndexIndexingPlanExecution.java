@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
@@ -70,7 +71,8 @@ CompletableFuture<IndexIndexingPlanExecutionReport<R>> execute() {
 		for ( int i = 0; i < works.size(); i++ ) {
 			CompletableFuture<Long> future = futures[i];
 			SingleDocumentIndexingWork work = works.get( i );
-			orchestrator.submit( future, work );
+			// Indexing plans are subject to the overflow strategy, unlike mass indexing which fills queues by design
+			orchestrator.submit( future, work, WorkSubmissionMode.OVERFLOW_STRATEGY );
 		}
 
 		return reportFuture;
@@ -6,18 +6,24 @@
  */
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class LuceneIndexWorkspace implements IndexWorkspace {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final LuceneWorkFactory factory;
 	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final DetachedBackendSessionContext sessionContext;
@@ -38,7 +44,7 @@ public CompletableFuture<?> mergeSegments() {
 	@Override
 	public CompletableFuture<?> purge(Set<String> routingKeys) {
 		return doSubmit(
-				indexManagerContext.getManagementOrchestrators( routingKeys ),
+				indexManagerContext.getManagementOrchestrators( sessionContext.tenantIdentifier(), routingKeys ),
 				factory.deleteAll( sessionContext.tenantIdentifier(), routingKeys ),
 				true
 		);
@@ -54,6 +60,22 @@ public CompletableFuture<?> refresh() {
 		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.refresh(), false );
 	}
 
+	@Override
+	public CompletableFuture<?> createFreshIndex() {
+		throw log.freshIndexNotSupported( EventContexts.fromIndexName( indexManagerContext.getIndexName() ) );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToFreshIndex() {
+		throw log.freshIndexNotSupported( EventContexts.fromIndexName( indexManagerContext.getIndexName() ) );
+	}
+
+	@Override
+	public CompletableFuture<?> dropFreshIndex() {
+		// createFreshIndex() always fails, so there is never anything to drop
+		return CompletableFuture.completedFuture( null );
+	}
+
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
 			IndexManagementWork<T> work, boolean commit) {
 		CompletableFuture<?>[] writeFutures = new CompletableFuture[orchestrators.size()];
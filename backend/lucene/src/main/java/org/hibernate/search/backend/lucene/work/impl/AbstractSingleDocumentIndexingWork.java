@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Objects;
+
 public abstract class AbstractSingleDocumentIndexingWork extends AbstractIndexingWork<Long>
 		implements SingleDocumentIndexingWork {
 
@@ -49,4 +51,34 @@ public Object getEntityIdentifier() {
 	public String getQueuingKey() {
 		return documentIdentifier;
 	}
+
+	@Override
+	public Object getCoalescingKey() {
+		return new CoalescingKey( tenantId, documentIdentifier );
+	}
+
+	private static final class CoalescingKey {
+		private final String tenantId;
+		private final String documentIdentifier;
+
+		private CoalescingKey(String tenantId, String documentIdentifier) {
+			this.tenantId = tenantId;
+			this.documentIdentifier = documentIdentifier;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			CoalescingKey other = (CoalescingKey) obj;
+			return Objects.equals( tenantId, other.tenantId )
+					&& documentIdentifier.equals( other.documentIdentifier );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( tenantId, documentIdentifier );
+		}
+	}
 }
@@ -40,4 +40,14 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	LuceneIndexEntry getIndexEntry() {
+		return indexEntry;
+	}
+
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		// Adding does not remove previous versions of the document
+		return false;
+	}
+
 }
@@ -52,4 +52,9 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		return true;
+	}
+
 }
@@ -0,0 +1,534 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.Ngrams;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Serializes indexing works, so that they can be forwarded to the node owning an index,
+ * and deserializes them on that node.
+ * <p>
+ * The format is a compact binary format that only supports what Hibernate Search puts into documents:
+ * fields holding a string, binary or numeric value, along with their field type,
+ * and n-gram fields, which are re-created from the value they were created from.
+ * Analysis is not performed before serialization: the receiving node analyzes text fields
+ * with its own, identical analyzers when it writes the documents.
+ * Both nodes are expected to run the same version of Hibernate Search and of the application.
+ */
+public final class IndexingWorkCodec {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte OPERATION_ADD = 0;
+	private static final byte OPERATION_UPDATE = 1;
+	private static final byte OPERATION_DELETE = 2;
+
+	private static final byte FLAG_STORED = 1;
+	private static final byte FLAG_TOKENIZED = 1 << 1;
+	private static final byte FLAG_TERM_VECTORS = 1 << 2;
+	private static final byte FLAG_TERM_VECTOR_OFFSETS = 1 << 3;
+	private static final byte FLAG_TERM_VECTOR_POSITIONS = 1 << 4;
+	private static final byte FLAG_TERM_VECTOR_PAYLOADS = 1 << 5;
+	private static final byte FLAG_OMIT_NORMS = 1 << 6;
+
+	private static final byte VALUE_STRING = 0;
+	private static final byte VALUE_BINARY = 1;
+	private static final byte VALUE_INT = 2;
+	private static final byte VALUE_LONG = 3;
+	private static final byte VALUE_FLOAT = 4;
+	private static final byte VALUE_DOUBLE = 5;
+	// N-gram fields hold a token stream, so we send the value they were created from instead
+	private static final byte VALUE_NGRAM = 6;
+
+	private static final byte RESULT_SUCCESS = 0;
+	private static final byte RESULT_SUCCESS_NO_VALUE = 1;
+	private static final byte RESULT_FAILURE = 2;
+
+	private static final IndexOptions[] INDEX_OPTIONS = IndexOptions.values();
+	private static final DocValuesType[] DOC_VALUES_TYPES = DocValuesType.values();
+
+	private IndexingWorkCodec() {
+	}
+
+	public enum RequestType {
+		WORKS,
+		COMMIT,
+		REFRESH
+	}
+
+	public static final class Request {
+		private final RequestType type;
+		private final List<SingleDocumentIndexingWork> works;
+
+		private Request(RequestType type, List<SingleDocumentIndexingWork> works) {
+			this.type = type;
+			this.works = works;
+		}
+
+		public RequestType type() {
+			return type;
+		}
+
+		public List<SingleDocumentIndexingWork> works() {
+			return works;
+		}
+	}
+
+	/**
+	 * @param works The works to serialize.
+	 * @param eventContext The event context of the index, for error messages.
+	 * @return The serialized works.
+	 * @throws org.hibernate.search.util.common.SearchException If one of the works cannot be serialized.
+	 */
+	public static byte[] encodeWorks(List<? extends IndexingWork<?>> works, EventContext eventContext) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeByte( FORMAT_VERSION );
+			out.writeByte( RequestType.WORKS.ordinal() );
+			out.writeInt( works.size() );
+			for ( IndexingWork<?> work : works ) {
+				writeWork( out, work, eventContext );
+			}
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected I/O failure when writing to memory", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	public static byte[] encodeCommit() {
+		return new byte[] { FORMAT_VERSION, (byte) RequestType.COMMIT.ordinal() };
+	}
+
+	public static byte[] encodeRefresh() {
+		return new byte[] { FORMAT_VERSION, (byte) RequestType.REFRESH.ordinal() };
+	}
+
+	/**
+	 * @param payload A payload created by {@link #encodeWorks(List, EventContext)},
+	 * {@link #encodeCommit()} or {@link #encodeRefresh()}.
+	 * @param workFactory The factory to re-create works with.
+	 * @param indexName The name of the target index.
+	 * @return The deserialized request.
+	 * @throws org.hibernate.search.util.common.SearchException If the payload is invalid.
+	 */
+	public static Request decodeRequest(byte[] payload, LuceneWorkFactory workFactory, String indexName) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( payload ) ) ) {
+			checkFormatVersion( in.readByte() );
+			RequestType type = RequestType.values()[in.readByte()];
+			if ( type != RequestType.WORKS ) {
+				return new Request( type, Collections.emptyList() );
+			}
+			int workCount = in.readInt();
+			List<SingleDocumentIndexingWork> works = new ArrayList<>( workCount );
+			for ( int i = 0; i < workCount; i++ ) {
+				works.add( readWork( in, workFactory, indexName ) );
+			}
+			return new Request( type, works );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.invalidForwardedIndexingWorks( e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * @param futures Completed futures, one for each work in the request.
+	 * @return A reply holding the result of each future.
+	 */
+	public static byte[] encodeReply(List<? extends CompletableFuture<?>> futures) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeByte( FORMAT_VERSION );
+			out.writeInt( futures.size() );
+			for ( CompletableFuture<?> future : futures ) {
+				if ( future.isCompletedExceptionally() ) {
+					out.writeByte( RESULT_FAILURE );
+					writeString( out, Throwables.getFirstNonNullMessage( Futures.getThrowableNow( future ) ) );
+					continue;
+				}
+				Object result = future.getNow( null );
+				if ( result instanceof Long ) {
+					out.writeByte( RESULT_SUCCESS );
+					out.writeLong( (Long) result );
+				}
+				else {
+					out.writeByte( RESULT_SUCCESS_NO_VALUE );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected I/O failure when writing to memory", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @param reply A reply created by {@link #encodeReply(List)}.
+	 * @param eventContext The event context of the index, for error messages.
+	 * @return Completed futures, one for each work in the request, in the same order.
+	 * @throws org.hibernate.search.util.common.SearchException If the reply is invalid.
+	 */
+	public static List<CompletableFuture<Long>> decodeReply(byte[] reply, EventContext eventContext) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( reply ) ) ) {
+			checkFormatVersion( in.readByte() );
+			int resultCount = in.readInt();
+			List<CompletableFuture<Long>> results = new ArrayList<>( resultCount );
+			for ( int i = 0; i < resultCount; i++ ) {
+				CompletableFuture<Long> result = new CompletableFuture<>();
+				byte status = in.readByte();
+				switch ( status ) {
+					case RESULT_SUCCESS:
+						result.complete( in.readLong() );
+						break;
+					case RESULT_SUCCESS_NO_VALUE:
+						result.complete( null );
+						break;
+					case RESULT_FAILURE:
+						result.completeExceptionally( log.forwardedIndexingWorkFailed( readString( in ), eventContext ) );
+						break;
+					default:
+						throw new IllegalStateException( "Unknown result status: " + status );
+				}
+				results.add( result );
+			}
+			return results;
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.invalidForwardedIndexingWorks( e.getMessage(), e );
+		}
+	}
+
+	private static void checkFormatVersion(byte version) {
+		if ( version != FORMAT_VERSION ) {
+			throw new IllegalStateException( "Unsupported format version: " + version
+					+ "; expected " + FORMAT_VERSION + ". Make sure all nodes run the same version." );
+		}
+	}
+
+	private static void writeWork(DataOutputStream out, IndexingWork<?> work, EventContext eventContext)
+			throws IOException {
+		LuceneIndexEntry indexEntry;
+		if ( work instanceof AddEntryWork ) {
+			out.writeByte( OPERATION_ADD );
+			indexEntry = ( (AddEntryWork) work ).getIndexEntry();
+		}
+		else if ( work instanceof UpdateEntryWork ) {
+			out.writeByte( OPERATION_UPDATE );
+			indexEntry = ( (UpdateEntryWork) work ).getIndexEntry();
+		}
+		else if ( work instanceof DeleteEntryWork ) {
+			out.writeByte( OPERATION_DELETE );
+			indexEntry = null;
+		}
+		else {
+			throw new AssertionFailure( "Unexpected work type for forwarding: " + work );
+		}
+
+		AbstractSingleDocumentIndexingWork singleDocumentWork = (AbstractSingleDocumentIndexingWork) work;
+		writeString( out, singleDocumentWork.tenantId );
+		writeString( out, singleDocumentWork.entityTypeName );
+		// The entity identifier is only used in failure reports on the receiving node.
+		writeString( out, singleDocumentWork.entityIdentifier == null
+				? null : singleDocumentWork.entityIdentifier.toString() );
+		writeString( out, singleDocumentWork.documentIdentifier );
+
+		if ( indexEntry == null ) {
+			return;
+		}
+		List<Document> documents = new ArrayList<>();
+		indexEntry.forEach( documents::add );
+		out.writeInt( documents.size() );
+		for ( Document document : documents ) {
+			List<IndexableField> fields = document.getFields();
+			out.writeInt( fields.size() );
+			for ( IndexableField field : fields ) {
+				writeField( out, field, eventContext );
+			}
+		}
+	}
+
+	private static SingleDocumentIndexingWork readWork(DataInputStream in, LuceneWorkFactory workFactory,
+			String indexName) throws IOException {
+		byte operation = in.readByte();
+		String tenantId = readString( in );
+		String entityTypeName = readString( in );
+		String entityIdentifier = readString( in );
+		String documentIdentifier = readString( in );
+
+		switch ( operation ) {
+			case OPERATION_ADD:
+				return workFactory.add( tenantId, entityTypeName, entityIdentifier, documentIdentifier,
+						readIndexEntry( in, indexName, documentIdentifier ) );
+			case OPERATION_UPDATE:
+				return workFactory.update( tenantId, entityTypeName, entityIdentifier, documentIdentifier,
+						readIndexEntry( in, indexName, documentIdentifier ) );
+			case OPERATION_DELETE:
+				return workFactory.delete( tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+			default:
+				throw new IllegalStateException( "Unknown operation: " + operation );
+		}
+	}
+
+	private static LuceneIndexEntry readIndexEntry(DataInputStream in, String indexName, String documentIdentifier)
+			throws IOException {
+		int documentCount = in.readInt();
+		List<Document> documents = new ArrayList<>( documentCount );
+		for ( int i = 0; i < documentCount; i++ ) {
+			Document document = new Document();
+			int fieldCount = in.readInt();
+			for ( int j = 0; j < fieldCount; j++ ) {
+				document.add( readField( in ) );
+			}
+			documents.add( document );
+		}
+		return new LuceneIndexEntry( indexName, documentIdentifier, documents );
+	}
+
+	private static void writeField(DataOutputStream out, IndexableField field, EventContext eventContext)
+			throws IOException {
+		String ngramSource = Ngrams.normalizedValueOrNull( field );
+		if ( ngramSource != null ) {
+			writeString( out, field.name() );
+			out.writeByte( VALUE_NGRAM );
+			writeString( out, ngramSource );
+			return;
+		}
+
+		if ( field instanceof Field && ( (Field) field ).tokenStreamValue() != null ) {
+			// Pre-analyzed content cannot be serialized.
+			throw log.cannotForwardField( field.name(), eventContext );
+		}
+
+		IndexableFieldType type = field.fieldType();
+		// Point fields index their binary value.
+		// The numeric value of single-dimension numeric points is derived from it,
+		// and is only used to re-create the same point on the receiving side.
+		Number numericValue = type.pointDimensionCount() > 1 ? null : field.numericValue();
+		if ( type.pointDimensionCount() == 1 && !isNumericPoint( numericValue, type ) ) {
+			numericValue = null;
+		}
+		BytesRef binaryValue = field.binaryValue();
+		String stringValue = field.stringValue();
+		byte valueType;
+		if ( numericValue instanceof Integer ) {
+			valueType = VALUE_INT;
+		}
+		else if ( numericValue instanceof Long ) {
+			valueType = VALUE_LONG;
+		}
+		else if ( numericValue instanceof Float ) {
+			valueType = VALUE_FLOAT;
+		}
+		else if ( numericValue instanceof Double ) {
+			valueType = VALUE_DOUBLE;
+		}
+		else if ( numericValue == null && binaryValue != null ) {
+			valueType = VALUE_BINARY;
+		}
+		else if ( numericValue == null && stringValue != null ) {
+			valueType = VALUE_STRING;
+		}
+		else {
+			// Reader values, other number types, ...
+			throw log.cannotForwardField( field.name(), eventContext );
+		}
+
+		writeString( out, field.name() );
+		out.writeByte( valueType );
+
+		int flags = 0;
+		flags |= type.stored() ? FLAG_STORED : 0;
+		flags |= type.tokenized() ? FLAG_TOKENIZED : 0;
+		flags |= type.storeTermVectors() ? FLAG_TERM_VECTORS : 0;
+		flags |= type.storeTermVectorOffsets() ? FLAG_TERM_VECTOR_OFFSETS : 0;
+		flags |= type.storeTermVectorPositions() ? FLAG_TERM_VECTOR_POSITIONS : 0;
+		flags |= type.storeTermVectorPayloads() ? FLAG_TERM_VECTOR_PAYLOADS : 0;
+		flags |= type.omitNorms() ? FLAG_OMIT_NORMS : 0;
+		out.writeByte( flags );
+		out.writeByte( type.indexOptions().ordinal() );
+		out.writeByte( type.docValuesType().ordinal() );
+		out.writeInt( type.pointDimensionCount() );
+		out.writeInt( type.pointIndexDimensionCount() );
+		out.writeInt( type.pointNumBytes() );
+
+		switch ( valueType ) {
+			case VALUE_INT:
+				out.writeInt( numericValue.intValue() );
+				break;
+			case VALUE_LONG:
+				out.writeLong( numericValue.longValue() );
+				break;
+			case VALUE_FLOAT:
+				out.writeFloat( numericValue.floatValue() );
+				break;
+			case VALUE_DOUBLE:
+				out.writeDouble( numericValue.doubleValue() );
+				break;
+			case VALUE_BINARY:
+				out.writeInt( binaryValue.length );
+				out.write( binaryValue.bytes, binaryValue.offset, binaryValue.length );
+				break;
+			case VALUE_STRING:
+			default:
+				writeString( out, stringValue );
+				break;
+		}
+	}
+
+	private static IndexableField readField(DataInputStream in) throws IOException {
+		String name = readString( in );
+		byte valueType = in.readByte();
+		if ( valueType == VALUE_NGRAM ) {
+			return Ngrams.ngramField( name, readString( in ) );
+		}
+
+		FieldType type = new FieldType();
+		int flags = in.readByte();
+		type.setStored( ( flags & FLAG_STORED ) != 0 );
+		type.setTokenized( ( flags & FLAG_TOKENIZED ) != 0 );
+		type.setStoreTermVectors( ( flags & FLAG_TERM_VECTORS ) != 0 );
+		type.setStoreTermVectorOffsets( ( flags & FLAG_TERM_VECTOR_OFFSETS ) != 0 );
+		type.setStoreTermVectorPositions( ( flags & FLAG_TERM_VECTOR_POSITIONS ) != 0 );
+		type.setStoreTermVectorPayloads( ( flags & FLAG_TERM_VECTOR_PAYLOADS ) != 0 );
+		type.setOmitNorms( ( flags & FLAG_OMIT_NORMS ) != 0 );
+		type.setIndexOptions( INDEX_OPTIONS[in.readByte()] );
+		type.setDocValuesType( DOC_VALUES_TYPES[in.readByte()] );
+		int pointDataDimensionCount = in.readInt();
+		int pointIndexDimensionCount = in.readInt();
+		int pointNumBytes = in.readInt();
+		if ( pointDataDimensionCount > 0 ) {
+			type.setDimensions( pointDataDimensionCount, pointIndexDimensionCount, pointNumBytes );
+		}
+		type.freeze();
+
+		Object value;
+		switch ( valueType ) {
+			case VALUE_INT:
+				value = in.readInt();
+				break;
+			case VALUE_LONG:
+				value = in.readLong();
+				break;
+			case VALUE_FLOAT:
+				value = in.readFloat();
+				break;
+			case VALUE_DOUBLE:
+				value = in.readDouble();
+				break;
+			case VALUE_BINARY:
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully( bytes );
+				value = new BytesRef( bytes );
+				break;
+			case VALUE_STRING:
+				value = readString( in );
+				break;
+			default:
+				throw new IllegalStateException( "Unknown value type: " + valueType );
+		}
+
+		if ( type.pointDimensionCount() == 1 && value instanceof Number ) {
+			return numericPoint( name, (Number) value );
+		}
+		return new ForwardedField( name, type, value );
+	}
+
+	private static boolean isNumericPoint(Number numericValue, IndexableFieldType type) {
+		if ( numericValue instanceof Integer || numericValue instanceof Float ) {
+			return type.pointNumBytes() == Integer.BYTES;
+		}
+		else if ( numericValue instanceof Long || numericValue instanceof Double ) {
+			return type.pointNumBytes() == Long.BYTES;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static Field numericPoint(String name, Number value) {
+		if ( value instanceof Integer ) {
+			return new IntPoint( name, value.intValue() );
+		}
+		else if ( value instanceof Long ) {
+			return new LongPoint( name, value.longValue() );
+		}
+		else if ( value instanceof Float ) {
+			return new FloatPoint( name, value.floatValue() );
+		}
+		else {
+			return new DoublePoint( name, value.doubleValue() );
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		if ( string == null ) {
+			out.writeInt( -1 );
+			return;
+		}
+		// Not using writeUTF(), which is limited to 64KB.
+		byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+		out.writeInt( bytes.length );
+		out.write( bytes );
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if ( length < 0 ) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * A field re-created from its serialized form.
+	 * <p>
+	 * Behaves like the original field when indexed,
+	 * since {@link Field} relies exclusively on the field type and value.
+	 */
+	private static final class ForwardedField extends Field {
+		private ForwardedField(String name, IndexableFieldType type, Object value) {
+			super( name, type );
+			this.fieldsData = value;
+		}
+	}
+}
@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
@@ -17,8 +18,13 @@
 
 public interface LuceneSearcher<R> {
 
+	String PHASE_SEARCHER_CREATION = "searcher_creation";
+	String PHASE_COLLECTION = "collection";
+	String PHASE_HIT_EXTRACTION = "hit_extraction";
+	String PHASE_AGGREGATION_EXTRACTION = "aggregation_extraction";
+
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException;
+			int offset, Integer limit, SearchQueryProfiler profiler) throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
 
@@ -9,6 +9,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
@@ -38,7 +39,7 @@ SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object
 
 	IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys);
 
-	<R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
+	<R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit, SearchQueryProfiler profiler);
 
 	ReadWork<Integer> count(LuceneSearcher<?> searcher);
 
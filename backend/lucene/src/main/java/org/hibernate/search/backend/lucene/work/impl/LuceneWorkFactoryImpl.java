@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -94,8 +95,9 @@ public IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys
 	}
 
 	@Override
-	public <R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit) {
-		return new SearchWork<>( searcher, offset, limit );
+	public <R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit,
+			SearchQueryProfiler profiler) {
+		return new SearchWork<>( searcher, offset, limit, profiler );
 	}
 
 	@Override
@@ -10,6 +10,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.search.query.spi.SearchQueryProfiler;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.IndexSearcher;
@@ -23,22 +24,27 @@
 
 	private final int offset;
 	private final Integer limit;
+	private final SearchQueryProfiler profiler;
 
 	SearchWork(LuceneSearcher<R> searcher,
 			Integer offset,
-			Integer limit) {
+			Integer limit,
+			SearchQueryProfiler profiler) {
 		this.offset = offset == null ? 0 : offset;
 		this.limit = limit;
 		this.searcher = searcher;
+		this.profiler = profiler;
 	}
 
 	@Override
 	public R execute(ReadWorkExecutionContext context) {
 		try {
+			long startTime = profiler.start();
 			IndexSearcher indexSearcher = context.createSearcher();
+			profiler.recordSince( LuceneSearcher.PHASE_SEARCHER_CREATION, startTime );
 
 			return searcher.search(
-					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit
+					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit, profiler
 			);
 		}
 		catch (IOException e) {
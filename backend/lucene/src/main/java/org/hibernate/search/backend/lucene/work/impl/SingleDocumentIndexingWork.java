@@ -13,4 +13,15 @@ public interface SingleDocumentIndexingWork extends IndexingWork<Long> {
 
 	Object getEntityIdentifier();
 
+	/**
+	 * @return A key identifying the document affected by this work within its index.
+	 */
+	Object getCoalescingKey();
+
+	/**
+	 * @return {@code true} if executing this work alone leads to the same document state
+	 * as executing any previous work on the same document followed by this work.
+	 */
+	boolean isSupersedingPreviousWorks();
+
 }
@@ -55,4 +55,13 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	LuceneIndexEntry getIndexEntry() {
+		return indexEntry;
+	}
+
+	@Override
+	public boolean isSupersedingPreviousWorks() {
+		return true;
+	}
+
 }
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The receiving end of an {@link IndexingWorkTransport}, executing works forwarded by other nodes.
+ * <p>
+ * Implemented by the backend.
+ */
+public interface IndexingWorkReceiver {
+
+	/**
+	 * Executes the works held in the given payload on the local node.
+	 * <p>
+	 * This method may block while the local indexing queues are full,
+	 * so that the sending node slows down instead of accumulating works.
+	 *
+	 * @param indexName The name of the index targeted by the sending node.
+	 * @param shardId The identifier of the shard targeted by the sending node,
+	 * or {@code null} if the index is not sharded.
+	 * @param payload The payload, as passed to {@link IndexingWorkTransport#send(String, String, byte[])}.
+	 * @return A future holding the reply to send back to the sending node.
+	 */
+	CompletableFuture<byte[]> receive(String indexName, String shardId, byte[] payload);
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A transport forwarding serialized indexing works to the node owning a given index or shard,
+ * so that a single node writes to each Lucene directory in a clustered deployment.
+ * <p>
+ * The transport decides which node owns each index or shard,
+ * and is responsible for delivering payloads to the {@link IndexingWorkReceiver} of that node.
+ * Payloads are opaque to the transport.
+ * <p>
+ * All methods could be invoked in parallel by independent threads.
+ * Implementations must thus be thread-safe.
+ */
+public interface IndexingWorkTransport {
+
+	/**
+	 * Starts the transport.
+	 * <p>
+	 * Called once when the backend starts, before any other method.
+	 *
+	 * @param receiver The receiver for works forwarded to this node by other nodes.
+	 */
+	void start(IndexingWorkReceiver receiver);
+
+	/**
+	 * @param indexName The name of an index.
+	 * @param shardId The identifier of a shard, or {@code null} if the index is not sharded.
+	 * @return {@code true} if the given index or shard is owned by this node, i.e. if indexing works
+	 * should be executed locally, {@code false} if they should be forwarded through {@link #send(String, String, byte[])}.
+	 */
+	boolean isLocal(String indexName, String shardId);
+
+	/**
+	 * Sends a payload to the node owning the given index or shard.
+	 * <p>
+	 * Implementations should not block:
+	 * the returned future is expected to complete when the reply is received.
+	 *
+	 * @param indexName The name of an index.
+	 * @param shardId The identifier of a shard, or {@code null} if the index is not sharded.
+	 * @param payload The payload to pass to {@link IndexingWorkReceiver#receive(String, String, byte[])} on the owning node.
+	 * @return A future holding the reply returned by the receiver on the owning node.
+	 */
+	CompletableFuture<byte[]> send(String indexName, String shardId, byte[] payload);
+
+	/**
+	 * Stops the transport.
+	 * <p>
+	 * Called once when the backend stops.
+	 */
+	void stop();
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+
+public class ParentFilterCacheTest {
+
+	private static final String NESTED_PATH = "nested";
+
+	private final ParentFilterCache cache = new ParentFilterCache();
+
+	private Directory directory;
+	private IndexWriter writer;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		// Don't merge segments behind our back: we want to control when segments become obsolete.
+		writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() )
+				.setMergePolicy( NoMergePolicy.INSTANCE ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void reuseAcrossSearches() throws IOException {
+		Query mainQuery = Queries.mainDocumentQuery();
+		Query nestedQuery = Queries.nestedDocumentPathQuery( NESTED_PATH );
+
+		addBlock();
+		addBlock();
+		writer.commit();
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+			BitSet mainBitSet = cache.getBitSet( mainQuery, leaf );
+			assertThat( mainBitSet.cardinality() ).isEqualTo( 2 );
+			BitSet nestedBitSet = cache.getBitSet( nestedQuery, leaf );
+			assertThat( nestedBitSet.cardinality() ).isEqualTo( 2 );
+			assertThat( nestedBitSet ).isNotSameAs( mainBitSet );
+
+			// Another search on the same segment: the bitsets should not be computed again
+			assertThat( cache.getBitSet( mainQuery, leaf ) ).isSameAs( mainBitSet );
+			assertThat( cache.getBitSet( nestedQuery, leaf ) ).isSameAs( nestedBitSet );
+			assertThat( cache.cachedSegmentCount() ).isEqualTo( 1 );
+
+			// Refresh: the unchanged segment is shared with the new reader, and so are its bitsets
+			addBlock();
+			writer.commit();
+			try ( DirectoryReader refreshedReader = DirectoryReader.openIfChanged( reader ) ) {
+				assertThat( refreshedReader.leaves() ).hasSize( 2 );
+				LeafReaderContext sameSegmentLeaf = refreshedReader.leaves().get( 0 );
+				assertThat( cache.getBitSet( mainQuery, sameSegmentLeaf ) ).isSameAs( mainBitSet );
+				assertThat( cache.cachedSegmentCount() ).isEqualTo( 1 );
+
+				LeafReaderContext newSegmentLeaf = refreshedReader.leaves().get( 1 );
+				assertThat( cache.getBitSet( mainQuery, newSegmentLeaf ).cardinality() ).isEqualTo( 1 );
+				assertThat( cache.cachedSegmentCount() ).isEqualTo( 2 );
+			}
+		}
+	}
+
+	@Test
+	public void invalidationOnRefresh() throws IOException {
+		Query mainQuery = Queries.mainDocumentQuery();
+
+		addBlock();
+		writer.commit();
+
+		DirectoryReader reader = DirectoryReader.open( directory );
+		try {
+			cache.getBitSet( mainQuery, reader.leaves().get( 0 ) );
+			assertThat( cache.cachedSegmentCount() ).isEqualTo( 1 );
+
+			// Replace the content of the index: the old segment becomes obsolete
+			writer.deleteAll();
+			addBlock();
+			addBlock();
+			writer.commit();
+			DirectoryReader refreshedReader = DirectoryReader.openIfChanged( reader );
+			reader.close();
+			reader = refreshedReader;
+
+			// The old segment was closed along with the old reader: its entries should be gone
+			assertThat( cache.cachedSegmentCount() ).isEqualTo( 0 );
+
+			assertThat( cache.getBitSet( mainQuery, reader.leaves().get( 0 ) ).cardinality() ).isEqualTo( 2 );
+			assertThat( cache.cachedSegmentCount() ).isEqualTo( 1 );
+		}
+		finally {
+			reader.close();
+		}
+
+		assertThat( cache.cachedSegmentCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void producerEquality() {
+		// Equality matters for query caching: producers for the same path must be equal
+		assertThat( new ParentBitSetProducer( null ) ).isEqualTo( new ParentBitSetProducer( null ) );
+		assertThat( new ParentBitSetProducer( NESTED_PATH ) ).isEqualTo( new ParentBitSetProducer( NESTED_PATH ) );
+		assertThat( new ParentBitSetProducer( NESTED_PATH ) ).isNotEqualTo( new ParentBitSetProducer( null ) );
+	}
+
+	private void addBlock() throws IOException {
+		Document child = new Document();
+		child.add( MetadataFields.childDocumentTypeField() );
+		child.add( MetadataFields.searchableMetadataField( MetadataFields.nestedDocumentPathFieldName(), NESTED_PATH ) );
+		Document parent = new Document();
+		parent.add( MetadataFields.mainDocumentTypeField() );
+		writer.addDocuments( Arrays.asList( child, parent ) );
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.Ngrams;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.BytesRef;
+
+public class NgramWildcardQueryFactoryTest {
+
+	private static final String FIELD = "partNumber";
+	private static final String NGRAM_FIELD = "partNumber_ngram";
+
+	private static final String[][] DOCUMENTS = {
+			{ "ab-1234-xyz" },
+			{ "ab-1234" },
+			{ "1234-ab" },
+			{ "zz-12-34" },
+			{ "xyz-123", "4-ab" },
+			{ "a" },
+			{ "" },
+			{ "😀-1234-😀" }
+	};
+
+	private final RAMDirectory directory = new RAMDirectory();
+	private DirectoryReader reader;
+	private IndexSearcher searcher;
+
+	@Before
+	public void index() throws IOException {
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) ) ) {
+			for ( String[] values : DOCUMENTS ) {
+				Document document = new Document();
+				for ( String value : values ) {
+					document.add( new StringField( FIELD, value, Field.Store.NO ) );
+					document.add( Ngrams.ngramField( NGRAM_FIELD, value ) );
+					document.add( new SortedSetDocValuesField( NGRAM_FIELD, new BytesRef( value ) ) );
+				}
+				writer.addDocument( document );
+			}
+		}
+		reader = DirectoryReader.open( directory );
+		searcher = new IndexSearcher( reader );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		reader.close();
+		directory.close();
+	}
+
+	@Test
+	public void literalPrefix() {
+		assertThat( NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, "ab*" ) ).isNull();
+		assertThat( NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, "ab-1234" ) ).isNull();
+		assertThat( NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, "" ) ).isNull();
+	}
+
+	@Test
+	public void notEnoughLiteralCharacters() {
+		assertThat( NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, "*" ) ).isNull();
+		assertThat( NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, "*ab*" ) ).isNull();
+		assertThat( NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, "?b*" ) ).isNull();
+	}
+
+	@Test
+	public void infix_noVerification() {
+		Query query = NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, "*1234*" );
+		assertThat( query ).isInstanceOf( ConstantScoreQuery.class );
+		assertThat( ( (ConstantScoreQuery) query ).getQuery().toString() )
+				.doesNotContain( SortedSetDocValuesWildcardQuery.class.getSimpleName() );
+	}
+
+	@Test
+	public void sameResultsAsWildcardQuery() throws IOException {
+		String[] patterns = {
+				"*1234*", "*1234", "*-ab", "*ab", "*b", "*234-*", "*12*34*", "*-12?4*", "?b-1234",
+				"*1\\*23*", "*😀-1234*", "*xyz*", "*-ab*", "*34-*ab", "*1234*xyz", "*a"
+		};
+		for ( String pattern : patterns ) {
+			Query query = NgramWildcardQueryFactory.createOrNull( NGRAM_FIELD, pattern );
+			if ( query == null ) {
+				continue;
+			}
+			assertThat( search( query ) )
+					.as( "Results for pattern '%s'", pattern )
+					.isEqualTo( search( new WildcardQuery( new Term( FIELD, pattern ) ) ) );
+		}
+	}
+
+	private List<Integer> search(Query query) throws IOException {
+		List<Integer> docs = new ArrayList<>();
+		for ( ScoreDoc scoreDoc : searcher.search( query, DOCUMENTS.length, Sort.INDEXORDER ).scoreDocs ) {
+			docs.add( scoreDoc.doc );
+		}
+		return docs;
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.BytesRef;
+
+public class QueryOptimizerTest {
+
+	private static final Query TERM_A = term( "field", "a" );
+	private static final Query TERM_B = term( "field", "b" );
+	private static final Query TERM_C = term( "otherField", "c" );
+	private static final Query RANGE = LongPoint.newRangeQuery( "number", 1L, 10L );
+
+	@Test
+	public void mustBecomesFilter_scoresNotNeeded() {
+		Query query = bool()
+				.add( TERM_A, Occur.MUST )
+				.add( RANGE, Occur.MUST )
+				.build();
+
+		assertThat( QueryOptimizer.optimize( query, false ) )
+				.isEqualTo( bool().add( TERM_A, Occur.FILTER ).add( RANGE, Occur.FILTER ).build() );
+		assertThat( QueryOptimizer.optimize( query, true ) )
+				.isEqualTo( query );
+	}
+
+	@Test
+	public void inlineNestedConjunction() {
+		Query query = bool()
+				.add( bool().add( TERM_A, Occur.MUST ).add( RANGE, Occur.FILTER ).build(), Occur.MUST )
+				.add( TERM_C, Occur.MUST )
+				.build();
+
+		assertThat( QueryOptimizer.optimize( query, true ) )
+				.isEqualTo( bool()
+						.add( TERM_A, Occur.MUST )
+						.add( RANGE, Occur.FILTER )
+						.add( TERM_C, Occur.MUST )
+						.build() );
+	}
+
+	@Test
+	public void inlineNestedConjunction_onlyMustNot() {
+		// A boolean query with only prohibited clauses matches nothing: it must not be inlined.
+		Query nested = bool().add( TERM_A, Occur.MUST_NOT ).build();
+		Query query = bool()
+				.add( nested, Occur.FILTER )
+				.add( TERM_C, Occur.FILTER )
+				.build();
+
+		assertThat( QueryOptimizer.optimize( query, false ) )
+				.isEqualTo( query );
+	}
+
+	@Test
+	public void inlineNestedDisjunction_mustNot() {
+		Query query = bool()
+				.add( new MatchAllDocsQuery(), Occur.FILTER )
+				.add( bool().add( TERM_A, Occur.SHOULD ).add( TERM_C, Occur.SHOULD ).build(), Occur.MUST_NOT )
+				.build();
+
+		assertThat( QueryOptimizer.optimize( query, true ) )
+				.isEqualTo( bool()
+						.add( new MatchAllDocsQuery(), Occur.FILTER )
+						.add( TERM_A, Occur.MUST_NOT )
+						.add( TERM_C, Occur.MUST_NOT )
+						.build() );
+	}
+
+	@Test
+	public void mergeTerms_should_scoresNotNeeded() {
+		Query query = bool()
+				.add( TERM_A, Occur.SHOULD )
+				.add( TERM_B, Occur.SHOULD )
+				.add( TERM_A, Occur.SHOULD )
+				.add( TERM_C, Occur.SHOULD )
+				.build();
+
+		assertThat( QueryOptimizer.optimize( query, false ) )
+				.isEqualTo( bool()
+						.add( new TermInSetQuery( "field", new BytesRef( "a" ), new BytesRef( "b" ) ), Occur.SHOULD )
+						.add( TERM_C, Occur.SHOULD )
+						.build() );
+		// Scores depend on which (and how many) clauses match: nothing can be merged
+		assertThat( QueryOptimizer.optimize( query, true ) )
+				.isEqualTo( query );
+	}
+
+	@Test
+	public void mergeTerms_should_minimumShouldMatch() {
+		BooleanQuery.Builder builder = bool()
+				.add( TERM_A, Occur.SHOULD )
+				.add( TERM_B, Occur.SHOULD )
+				.add( TERM_C, Occur.SHOULD );
+		builder.setMinimumNumberShouldMatch( 2 );
+		Query query = builder.build();
+
+		assertThat( QueryOptimizer.optimize( query, false ) )
+				.isEqualTo( query );
+	}
+
+	@Test
+	public void mergeTerms_mustNot() {
+		Query query = bool()
+				.add( RANGE, Occur.MUST )
+				.add( TERM_A, Occur.MUST_NOT )
+				.add( TERM_B, Occur.MUST_NOT )
+				.build();
+
+		assertThat( QueryOptimizer.optimize( query, true ) )
+				.isEqualTo( bool()
+						.add( RANGE, Occur.MUST )
+						.add( new TermInSetQuery( "field", Arrays.asList( new BytesRef( "a" ), new BytesRef( "b" ) ) ),
+								Occur.MUST_NOT )
+						.build() );
+	}
+
+	@Test
+	public void removeDuplicateFilters() {
+		Query query = bool()
+				.add( TERM_A, Occur.FILTER )
+				.add( RANGE, Occur.FILTER )
+				.add( TERM_A, Occur.FILTER )
+				.build();
+
+		assertThat( ( (BooleanQuery) QueryOptimizer.optimize( query, true ) ).clauses() )
+				.hasSize( 2 );
+	}
+
+	@Test
+	public void removeOptionalClauses_scoresNotNeeded() {
+		Query query = bool()
+				.add( RANGE, Occur.FILTER )
+				.add( TERM_A, Occur.SHOULD )
+				.build();
+
+		assertThat( QueryOptimizer.optimize( query, false ) )
+				.isEqualTo( bool().add( RANGE, Occur.FILTER ).build() );
+		assertThat( QueryOptimizer.optimize( query, true ) )
+				.isEqualTo( query );
+	}
+
+	private static BooleanQuery.Builder bool() {
+		return new BooleanQuery.Builder();
+	}
+
+	private static Query term(String field, String value) {
+		return new TermQuery( new Term( field, value ) );
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.replication.impl.CommitPointReplicator;
+import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class ReplicaIndexReaderProviderTest {
+
+	private static final int REFRESH_INTERVAL = 1000;
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final StubTimingSource timingSource = new StubTimingSource();
+
+	private Directory primaryDirectory;
+	private Directory replicaDirectory;
+	private IndexWriter primaryWriter;
+	private CommitPointReplicator replicator;
+	private ReplicaIndexReaderProvider provider;
+
+	@Before
+	public void setup() throws IOException {
+		primaryDirectory = new ByteBuffersDirectory();
+		replicaDirectory = new ByteBuffersDirectory();
+		primaryWriter = new IndexWriter( primaryDirectory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+		// Replicas start with an empty index, see IndexAccessorImpl#createIndexIfMissing
+		new IndexWriter( replicaDirectory, new IndexWriterConfig( new KeywordAnalyzer() ) ).close();
+		Path publicationPath = temporaryFolder.getRoot().toPath().resolve( "myIndex" );
+		replicator = new CommitPointReplicator( publicationPath );
+		provider = new ReplicaIndexReaderProvider( EventContexts.fromIndexName( "myIndex" ),
+				new StubDirectoryHolder( replicaDirectory ), replicator,
+				timingSource, REFRESH_INTERVAL, MetricsRecorder.noOp().timer( "refresh" ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		provider.clear();
+		primaryWriter.close();
+		primaryDirectory.close();
+		replicaDirectory.close();
+	}
+
+	@Test
+	public void nothingPublished() throws IOException {
+		assertThat( docCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void initialRead() throws IOException {
+		addDocumentAndPublish( "1" );
+
+		assertThat( docCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void refresh_afterExpiration() throws IOException {
+		addDocumentAndPublish( "1" );
+		assertThat( docCount() ).isEqualTo( 1 );
+
+		addDocumentAndPublish( "2" );
+
+		// The reader hasn't expired yet: the publication directory is not checked.
+		timingSource.time += REFRESH_INTERVAL;
+		assertThat( docCount() ).isEqualTo( 1 );
+
+		timingSource.time += 1;
+		assertThat( docCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void refresh_forced() throws IOException {
+		addDocumentAndPublish( "1" );
+		assertThat( docCount() ).isEqualTo( 1 );
+
+		addDocumentAndPublish( "2" );
+		assertThat( docCount() ).isEqualTo( 1 );
+
+		provider.refresh();
+		assertThat( docCount() ).isEqualTo( 2 );
+	}
+
+	private void addDocumentAndPublish(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		primaryWriter.addDocument( document );
+		primaryWriter.commit();
+		replicator.publish( primaryDirectory );
+	}
+
+	private int docCount() throws IOException {
+		DirectoryReader reader = provider.getOrCreate();
+		try {
+			return reader.numDocs();
+		}
+		finally {
+			reader.decRef();
+		}
+	}
+
+	private static class StubTimingSource implements TimingSource {
+		private long time = 0L;
+
+		@Override
+		public long monotonicTimeEstimate() {
+			return time;
+		}
+
+		@Override
+		public void stop() {
+		}
+
+		@Override
+		public void ensureInitialized() {
+		}
+	}
+
+	private static class StubDirectoryHolder implements DirectoryHolder {
+		private final Directory directory;
+
+		private StubDirectoryHolder(Directory directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		public void start() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public Directory get() {
+			return directory;
+		}
+	}
+
+}
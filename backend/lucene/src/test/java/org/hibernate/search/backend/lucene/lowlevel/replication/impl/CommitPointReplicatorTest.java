@@ -0,0 +1,184 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.replication.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class CommitPointReplicatorTest {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Directory primaryDirectory;
+	private Directory replicaDirectory;
+	private IndexWriter primaryWriter;
+	private CommitPointReplicator replicator;
+
+	@Before
+	public void setup() throws IOException {
+		primaryDirectory = new ByteBuffersDirectory();
+		replicaDirectory = new ByteBuffersDirectory();
+		primaryWriter = new IndexWriter( primaryDirectory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+		Path publicationPath = temporaryFolder.getRoot().toPath().resolve( "myIndex" );
+		replicator = new CommitPointReplicator( publicationPath );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		primaryWriter.close();
+		primaryDirectory.close();
+		replicaDirectory.close();
+	}
+
+	@Test
+	public void nothingPublished() throws IOException {
+		assertThat( replicator.update( replicaDirectory ) ).isFalse();
+		assertThat( DirectoryReader.indexExists( replicaDirectory ) ).isFalse();
+	}
+
+	@Test
+	public void publishThenUpdate() throws IOException {
+		addDocument( "1" );
+		addDocument( "2" );
+		commitAndPublish();
+
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+		assertThat( replicaDocCount() ).isEqualTo( 2 );
+
+		// Same commit point: nothing to copy
+		assertThat( replicator.update( replicaDirectory ) ).isFalse();
+
+		addDocument( "3" );
+		primaryWriter.deleteDocuments( new Term( "id", "1" ) );
+		commitAndPublish();
+
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+		assertThat( replicaDocCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void update_deletesUnreferencedFiles() throws IOException {
+		addDocument( "1" );
+		commitAndPublish();
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+
+		addDocument( "2" );
+		primaryWriter.forceMerge( 1 );
+		commitAndPublish();
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+
+		assertThat( replicaDirectory.listAll() )
+				.containsExactlyInAnyOrderElementsOf(
+						DirectoryReader.listCommits( primaryDirectory ).get( 0 ).getFileNames()
+				);
+	}
+
+	@Test
+	public void update_replicaWithEmptyCommit() throws IOException {
+		// Replicas create an empty index when starting, which has the same generation
+		// as the first commit of the primary.
+		new IndexWriter( replicaDirectory, new IndexWriterConfig( new KeywordAnalyzer() ) ).close();
+
+		addDocument( "1" );
+		commitAndPublish();
+
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+		assertThat( replicaDocCount() ).isEqualTo( 1 );
+		assertThat( replicaHasDocument( "1" ) ).isTrue();
+	}
+
+	@Test
+	public void update_primaryRecreated_lowerGeneration() throws IOException {
+		addDocument( "1" );
+		commitAndPublish();
+		addDocument( "2" );
+		commitAndPublish();
+		addDocument( "3" );
+		commitAndPublish();
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+		assertThat( replicaDocCount() ).isEqualTo( 3 );
+
+		recreatePrimary();
+		addDocument( "4" );
+		commitAndPublish();
+
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+		assertThat( replicaDocCount() ).isEqualTo( 1 );
+		assertThat( replicaHasDocument( "4" ) ).isTrue();
+	}
+
+	@Test
+	public void update_primaryRecreated_sameGeneration() throws IOException {
+		addDocument( "1" );
+		addDocument( "2" );
+		commitAndPublish();
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+		assertThat( replicaDocCount() ).isEqualTo( 2 );
+
+		recreatePrimary();
+		addDocument( "3" );
+		commitAndPublish();
+
+		assertThat( replicator.update( replicaDirectory ) ).isTrue();
+		assertThat( replicaDocCount() ).isEqualTo( 1 );
+		assertThat( replicaHasDocument( "3" ) ).isTrue();
+		assertThat( replicaHasDocument( "1" ) ).isFalse();
+	}
+
+	private void recreatePrimary() throws IOException {
+		primaryWriter.close();
+		primaryDirectory.close();
+		primaryDirectory = new ByteBuffersDirectory();
+		primaryWriter = new IndexWriter( primaryDirectory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		primaryWriter.addDocument( document );
+	}
+
+	private void commitAndPublish() throws IOException {
+		primaryWriter.commit();
+		replicator.publish( primaryDirectory );
+	}
+
+	private int replicaDocCount() throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( replicaDirectory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private boolean replicaHasDocument(String id) throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( replicaDirectory ) ) {
+			return new IndexSearcher( reader ).count( new TermQuery( new Term( "id", id ) ) ) > 0;
+		}
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.awaitility.Awaitility;
+
+public class IndexWriterDelegatorImplTest {
+
+	private static final int CONCURRENT_COMMITTER_COUNT = 8;
+
+	private final CommitCountingTimer commitTimer = new CommitCountingTimer();
+
+	private Directory directory;
+	private IndexWriterDelegatorImpl delegator;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+		delegator = new IndexWriterDelegatorImpl( writer, EventContexts.fromIndexName( "myIndex" ),
+				null, null, 0, null, commitTimer, null, null );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		commitTimer.releaseFirstCommit.countDown();
+		delegator.close();
+		directory.close();
+	}
+
+	@Test
+	public void commit_sequential() throws IOException {
+		for ( int i = 0; i < 3; i++ ) {
+			addDocument( String.valueOf( i ) );
+			delegator.commit();
+			assertThat( isCommitted( String.valueOf( i ) ) ).isTrue();
+		}
+
+		// Without concurrency, every call leads to its own commit
+		assertThat( commitTimer.commitCount.get() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void commit_concurrent() throws Exception {
+		commitTimer.blockFirstCommit = true;
+		List<Throwable> failures = Collections.synchronizedList( new ArrayList<>() );
+
+		// The first committer holds the commit lock until we release it
+		Thread firstCommitter = committer( "0", failures );
+		firstCommitter.start();
+		assertThat( commitTimer.firstCommitStarted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		// Other committers request a commit while the first commit is in progress
+		List<Thread> otherCommitters = new ArrayList<>();
+		for ( int i = 1; i < CONCURRENT_COMMITTER_COUNT; i++ ) {
+			Thread committer = committer( String.valueOf( i ), failures );
+			otherCommitters.add( committer );
+			committer.start();
+		}
+		Awaitility.await().untilAsserted( () -> assertThat( otherCommitters )
+				.allSatisfy( t -> assertThat( t.getState() ).isEqualTo( Thread.State.BLOCKED ) ) );
+
+		commitTimer.releaseFirstCommit.countDown();
+		firstCommitter.join( TimeUnit.SECONDS.toMillis( 10 ) );
+		for ( Thread committer : otherCommitters ) {
+			committer.join( TimeUnit.SECONDS.toMillis( 10 ) );
+		}
+
+		// Each committer checked that its own document was committed by the time commit() returned
+		assertThat( failures ).isEmpty();
+		// The committers waiting for the first commit shared a single commit
+		assertThat( commitTimer.commitCount.get() )
+				.isEqualTo( 2 )
+				.isLessThan( CONCURRENT_COMMITTER_COUNT );
+		for ( int i = 0; i < CONCURRENT_COMMITTER_COUNT; i++ ) {
+			assertThat( isCommitted( String.valueOf( i ) ) ).isTrue();
+		}
+	}
+
+	private Thread committer(String id, List<Throwable> failures) {
+		return new Thread( () -> {
+			try {
+				addDocument( id );
+				delegator.commit();
+				assertThat( isCommitted( id ) )
+						.as( "Document " + id + " committed when commit() returns" )
+						.isTrue();
+			}
+			catch (Throwable e) {
+				failures.add( e );
+			}
+		}, "committer-" + id );
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		delegator.addDocuments( Collections.singletonList( document ) );
+	}
+
+	private boolean isCommitted(String id) throws IOException {
+		// Opening a reader on the directory only sees committed changes
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return new IndexSearcher( reader ).count( new TermQuery( new Term( "id", id ) ) ) == 1;
+		}
+	}
+
+	/**
+	 * Counts commits, since {@link IndexWriterDelegatorImpl} starts the timer exactly once per commit,
+	 * and optionally blocks the first commit until released.
+	 */
+	private static class CommitCountingTimer implements Timer {
+		private final AtomicInteger commitCount = new AtomicInteger();
+		private final CountDownLatch firstCommitStarted = new CountDownLatch( 1 );
+		private final CountDownLatch releaseFirstCommit = new CountDownLatch( 1 );
+		private volatile boolean blockFirstCommit = false;
+
+		@Override
+		public long start() {
+			int count = commitCount.incrementAndGet();
+			if ( blockFirstCommit && count == 1 ) {
+				firstCommitStarted.countDown();
+				try {
+					releaseFirstCommit.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return 0L;
+		}
+
+		@Override
+		public void recordSince(long startTime) {
+			// Nothing to do
+		}
+
+		@Override
+		public void record(long durationNanos) {
+			// Nothing to do
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.DocumentReferenceCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.RAMDirectory;
+
+public class PerShardCollectionTest {
+
+	private static final String TEXT_FIELD = "text";
+	private static final String NUMERIC_FIELD = "numeric";
+
+	private static final TimingSource TIMING_SOURCE = new TimingSource() {
+		@Override
+		public long monotonicTimeEstimate() {
+			return System.nanoTime() / 1_000_000L;
+		}
+
+		@Override
+		public void stop() {
+		}
+
+		@Override
+		public void ensureInitialized() {
+		}
+	};
+
+	private final List<RAMDirectory> directories = new ArrayList<>();
+	private final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+	private MultiReader reader;
+
+	@Before
+	public void setup() throws IOException {
+		DirectoryReader[] shardReaders = new DirectoryReader[3];
+		for ( int shard = 0; shard < shardReaders.length; shard++ ) {
+			RAMDirectory directory = new RAMDirectory();
+			directories.add( directory );
+			try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+				for ( int i = 0; i < 20; i++ ) {
+					Document document = new Document();
+					// Vary term frequency so that scores differ
+					StringBuilder text = new StringBuilder( "common" );
+					for ( int j = 0; j < ( i + shard ) % 5; j++ ) {
+						text.append( " common" );
+					}
+					document.add( new TextField( TEXT_FIELD, text.toString(), Field.Store.NO ) );
+					document.add( new NumericDocValuesField( NUMERIC_FIELD, ( i * 7L + shard * 3L ) % 23L ) );
+					writer.addDocument( document );
+				}
+				// Two segments per shard
+				writer.commit();
+				Document document = new Document();
+				document.add( new TextField( TEXT_FIELD, "common", Field.Store.NO ) );
+				document.add( new NumericDocValuesField( NUMERIC_FIELD, shard ) );
+				writer.addDocument( document );
+			}
+			shardReaders[shard] = DirectoryReader.open( directory );
+		}
+		reader = new MultiReader( shardReaders, true );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		executor.shutdownNow();
+		reader.close();
+		for ( RAMDirectory directory : directories ) {
+			directory.close();
+		}
+	}
+
+	@Test
+	public void isApplicable() {
+		assertThat( PerShardCollection.isApplicable( reader, Collections.emptySet() ) ).isTrue();
+		assertThat( PerShardCollection.isApplicable( reader,
+				Collections.<CollectorFactory<?>>singleton( DocumentReferenceCollector.FACTORY ) ) )
+				.isFalse();
+		assertThat( PerShardCollection.isApplicable( reader.leaves().get( 0 ).reader(), Collections.emptySet() ) )
+				.isFalse();
+	}
+
+	@Test
+	public void scoreSort() throws IOException {
+		assertSameAsSequential( null, 0, 10 );
+		assertSameAsSequential( null, 5, 10 );
+		assertSameAsSequential( null, 0, null );
+		assertSameAsSequential( null, 50, null );
+	}
+
+	@Test
+	public void fieldSort() throws IOException {
+		Sort sort = new Sort( new SortField( NUMERIC_FIELD, SortField.Type.LONG ) );
+		assertSameAsSequential( sort, 0, 10 );
+		assertSameAsSequential( sort, 7, 20 );
+		assertSameAsSequential( sort, 0, null );
+
+		Sort reverseSort = new Sort( new SortField( NUMERIC_FIELD, SortField.Type.LONG, true ) );
+		assertSameAsSequential( reverseSort, 3, 15 );
+	}
+
+	@Test
+	public void facets() throws IOException {
+		ExtractionRequirements.Builder builder = new ExtractionRequirements.Builder();
+		builder.requireCollectorForAllMatchingDocs( FacetsCollectorFactory.INSTANCE );
+		ExtractionRequirements requirements = builder.build();
+
+		LuceneCollectors collectors = collect( requirements, null, 0, 10, executor );
+
+		FacetsCollector facetsCollector = collectors.getCollectorsForAllMatchingDocs().get( FacetsCollectorFactory.KEY );
+		int facetHits = 0;
+		for ( FacetsCollector.MatchingDocs matchingDocs : facetsCollector.getMatchingDocs() ) {
+			facetHits += matchingDocs.totalHits;
+		}
+		assertThat( facetHits ).isEqualTo( reader.numDocs() );
+		assertThat( collectors.getTotalHitCount() ).isEqualTo( reader.numDocs() );
+	}
+
+	private void assertSameAsSequential(Sort sort, int offset, Integer limit) throws IOException {
+		ExtractionRequirements requirements = new ExtractionRequirements.Builder().build();
+
+		LuceneCollectors sequential = collect( requirements, sort, offset, limit, null );
+		LuceneCollectors concurrent = collect( requirements, sort, offset, limit, executor );
+
+		assertThat( concurrent.getTotalHitCount() ).isEqualTo( sequential.getTotalHitCount() );
+		assertThat( toDocIds( concurrent.getTopDocs() ) ).containsExactlyElementsOf( toDocIds( sequential.getTopDocs() ) );
+	}
+
+	private LuceneCollectors collect(ExtractionRequirements requirements, Sort sort, int offset, Integer limit,
+			ExecutorService executorOrNull) throws IOException {
+		IndexSearcher searcher = new IndexSearcher( reader );
+		Query query = new TermQuery( new Term( TEXT_FIELD, "common" ) );
+		TimeoutManager timeoutManager = TimeoutManager.noTimeout( TIMING_SOURCE, query );
+		timeoutManager.start();
+		int maxDocs = limit == null ? reader.maxDoc() : Math.min( offset + limit, reader.maxDoc() );
+		LuceneCollectors collectors = requirements.createCollectors( searcher, query, sort, null, maxDocs,
+				timeoutManager, executorOrNull );
+		collectors.collect( offset, limit );
+		return collectors;
+	}
+
+	private static List<Integer> toDocIds(TopDocs topDocs) {
+		List<Integer> docIds = new ArrayList<>();
+		for ( ScoreDoc scoreDoc : topDocs.scoreDocs ) {
+			docIds.add( scoreDoc.doc );
+		}
+		return docIds;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.RAMDirectory;
+
+public class LuceneSearchResultCacheTest {
+
+	private static final String FIELD = "myField";
+
+	private final RAMDirectory directory = new RAMDirectory();
+	private IndexWriter writer;
+	private DirectoryReader reader;
+
+	@Before
+	public void setup() throws IOException {
+		writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		addDocument( "foo" );
+		reader = DirectoryReader.open( writer );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		reader.close();
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void disabled() {
+		LuceneSearchResultCache cache = LuceneSearchResultCache.create( MetricsRecorder.noOp(), "myBackend", 0 );
+
+		assertThat( cache.isEnabled() ).isFalse();
+		assertThat( cache.createKeyOrNull( reader, new MatchAllDocsQuery(), null, 0, 10, false ) ).isNull();
+	}
+
+	@Test
+	public void hit() {
+		LuceneSearchResultCache cache = LuceneSearchResultCache.create( MetricsRecorder.noOp(), "myBackend", 10 );
+		TopDocs topDocs = new TopDocs( new TotalHits( 1L, TotalHits.Relation.EQUAL_TO ),
+				new ScoreDoc[] { new ScoreDoc( 0, 1.0f ) } );
+
+		cache.put( key( cache, termQuery( "foo" ), 0, 10 ), 1L, topDocs );
+
+		LuceneSearchResultCache.Entry entry = cache.get( key( cache, termQuery( "foo" ), 0, 10 ) );
+		assertThat( entry ).isNotNull();
+		assertThat( entry.getTotalHitCount() ).isEqualTo( 1L );
+		assertThat( entry.getTopDocs() ).isSameAs( topDocs );
+	}
+
+	@Test
+	public void miss_differentQueryOrPagination() {
+		LuceneSearchResultCache cache = LuceneSearchResultCache.create( MetricsRecorder.noOp(), "myBackend", 10 );
+
+		cache.put( key( cache, termQuery( "foo" ), 0, 10 ), 1L, null );
+
+		assertThat( cache.get( key( cache, termQuery( "bar" ), 0, 10 ) ) ).isNull();
+		assertThat( cache.get( key( cache, termQuery( "foo" ), 10, 10 ) ) ).isNull();
+		assertThat( cache.get( key( cache, termQuery( "foo" ), 0, null ) ) ).isNull();
+		assertThat( cache.get( cache.createKey( readers(), termQuery( "foo" ), null, 0, 10, true ) ) ).isNull();
+	}
+
+	@Test
+	public void miss_afterRefresh() throws IOException {
+		LuceneSearchResultCache cache = LuceneSearchResultCache.create( MetricsRecorder.noOp(), "myBackend", 10 );
+
+		cache.put( key( cache, termQuery( "foo" ), 0, 10 ), 1L, null );
+
+		addDocument( "foo" );
+		DirectoryReader newReader = DirectoryReader.openIfChanged( reader );
+		assertThat( newReader ).isNotNull();
+		reader.close();
+		reader = newReader;
+
+		assertThat( cache.get( key( cache, termQuery( "foo" ), 0, 10 ) ) ).isNull();
+	}
+
+	@Test
+	public void eviction_leastRecentlyUsed() {
+		LuceneSearchResultCache cache = LuceneSearchResultCache.create( MetricsRecorder.noOp(), "myBackend", 2 );
+
+		cache.put( key( cache, termQuery( "1" ), 0, 10 ), 1L, null );
+		cache.put( key( cache, termQuery( "2" ), 0, 10 ), 2L, null );
+		// Access the first entry, so that the second one becomes the least recently used
+		assertThat( cache.get( key( cache, termQuery( "1" ), 0, 10 ) ) ).isNotNull();
+		cache.put( key( cache, termQuery( "3" ), 0, 10 ), 3L, null );
+
+		assertThat( cache.get( key( cache, termQuery( "1" ), 0, 10 ) ) ).isNotNull();
+		assertThat( cache.get( key( cache, termQuery( "2" ), 0, 10 ) ) ).isNull();
+		assertThat( cache.get( key( cache, termQuery( "3" ), 0, 10 ) ) ).isNotNull();
+	}
+
+	private LuceneSearchResultCache.Key key(LuceneSearchResultCache cache, Query query, int offset, Integer limit) {
+		return cache.createKey( readers(), query, null, offset, limit, false );
+	}
+
+	private List<DirectoryReader> readers() {
+		return Collections.singletonList( reader );
+	}
+
+	private static Query termQuery(String value) {
+		return new TermQuery( new Term( FIELD, value ) );
+	}
+
+	private void addDocument(String value) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( FIELD, value, Field.Store.NO ) );
+		writer.addDocument( document );
+	}
+}
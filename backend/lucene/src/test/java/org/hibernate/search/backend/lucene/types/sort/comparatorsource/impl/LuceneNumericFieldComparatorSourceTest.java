@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneDoubleDomain;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneLongDomain;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.RAMDirectory;
+
+public class LuceneNumericFieldComparatorSourceTest {
+
+	private static final String FIELD = "myField";
+	private static final String ID = "id";
+
+	private final RAMDirectory directory = new RAMDirectory();
+
+	@After
+	public void cleanup() {
+		directory.close();
+	}
+
+	@Test
+	public void toIndexSortField_sortsLikeComparator() throws IOException {
+		LuceneNumericDomain<Long> domain = LuceneLongDomain.get();
+		index( domain, null, new Long[] { 3L }, new Long[] { 1L, 7L }, new Long[0], new Long[] { 5L, 2L }, new Long[] { 3L } );
+
+		for ( boolean reverse : new boolean[] { false, true } ) {
+			LuceneNumericFieldComparatorSource<Long> comparatorSource = defaultComparatorSource( domain, reverse );
+			Sort sort = new Sort( new SortField( FIELD, comparatorSource, reverse ) );
+			Sort equivalentSort = new Sort( comparatorSource.toIndexSortField( FIELD, reverse ) );
+
+			assertThat( search( equivalentSort ) ).containsExactlyElementsOf( search( sort ) );
+		}
+	}
+
+	@Test
+	public void toIndexSortField_floatingPoint() throws IOException {
+		LuceneNumericDomain<Double> domain = LuceneDoubleDomain.get();
+		index( domain, null, new Double[] { -1.5 }, new Double[] { 0.0, 42.0 }, new Double[0], new Double[] { -3.0 } );
+
+		for ( boolean reverse : new boolean[] { false, true } ) {
+			LuceneNumericFieldComparatorSource<Double> comparatorSource = defaultComparatorSource( domain, reverse );
+			Sort sort = new Sort( new SortField( FIELD, comparatorSource, reverse ) );
+			Sort equivalentSort = new Sort( comparatorSource.toIndexSortField( FIELD, reverse ) );
+
+			assertThat( search( equivalentSort ) ).containsExactlyElementsOf( search( sort ) );
+		}
+	}
+
+	@Test
+	public void toIndexSortField_noEquivalent() {
+		LuceneNumericDomain<Long> domain = LuceneLongDomain.get();
+
+		assertThat( new LuceneNumericFieldComparatorSource<>( null, domain, domain.getMaxValue(),
+				MultiValueMode.AVG, null ).toIndexSortField( FIELD, false ) )
+				.isNull();
+		assertThat( new LuceneNumericFieldComparatorSource<>( "nested", domain, domain.getMaxValue(),
+				MultiValueMode.MIN, null ).toIndexSortField( FIELD, false ) )
+				.isNull();
+		assertThat( new LuceneNumericFieldComparatorSource<>( null, domain, domain.getMaxValue(),
+				MultiValueMode.MIN, new TermQuery( new Term( ID, "0" ) ) ).toIndexSortField( FIELD, false ) )
+				.isNull();
+	}
+
+	@Test
+	public void equality() {
+		LuceneNumericDomain<Long> domain = LuceneLongDomain.get();
+		Sort sort = new Sort( new SortField( FIELD, defaultComparatorSource( domain, false ), false ) );
+
+		assertThat( new Sort( new SortField( FIELD, defaultComparatorSource( domain, false ), false ) ) )
+				.isEqualTo( sort )
+				.hasSameHashCodeAs( sort );
+		assertThat( new Sort( new SortField( FIELD, defaultComparatorSource( domain, true ), false ) ) )
+				.isNotEqualTo( sort );
+		assertThat( new Sort( new SortField( FIELD, defaultComparatorSource( LuceneDoubleDomain.get(), false ), false ) ) )
+				.isNotEqualTo( sort );
+		assertThat( new Sort( new SortField( FIELD, new LuceneNumericFieldComparatorSource<>( null, domain,
+				domain.getMaxValue(), MultiValueMode.MIN, new TermQuery( new Term( ID, "0" ) ) ), false ) ) )
+				.isNotEqualTo( sort );
+	}
+
+	@Test
+	public void toIndexSortField_earlyTermination() throws IOException {
+		LuceneNumericDomain<Long> domain = LuceneLongDomain.get();
+		SortField indexSortField = defaultComparatorSource( domain, true ).toIndexSortField( FIELD, true );
+		assertThat( indexSortField ).isInstanceOf( SortedNumericSortField.class );
+		Long[][] values = new Long[100][];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = new Long[] { (long) i };
+		}
+		index( domain, new Sort( indexSortField ), values );
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			Sort equivalentSort = new Sort( defaultComparatorSource( domain, true ).toIndexSortField( FIELD, true ) );
+			TopFieldCollector collector = TopFieldCollector.create( equivalentSort, 3, 3 );
+			searcher.search( new MatchAllDocsQuery(), collector );
+			TopDocs topDocs = collector.topDocs();
+
+			assertThat( topDocs.totalHits.relation ).isEqualTo( TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO );
+			assertThat( topDocs.totalHits.value ).isLessThan( values.length );
+			List<String> ids = new ArrayList<>();
+			for ( ScoreDoc scoreDoc : topDocs.scoreDocs ) {
+				ids.add( searcher.doc( scoreDoc.doc ).get( ID ) );
+			}
+			assertThat( ids ).containsExactly( "99", "98", "97" );
+		}
+	}
+
+	private static <E extends Number> LuceneNumericFieldComparatorSource<E> defaultComparatorSource(
+			LuceneNumericDomain<E> domain, boolean reverse) {
+		// Same defaults as the sort DSL: missing values last
+		return new LuceneNumericFieldComparatorSource<>( null, domain,
+				reverse ? domain.getMinValue() : domain.getMaxValue(),
+				reverse ? MultiValueMode.MAX : MultiValueMode.MIN,
+				null );
+	}
+
+	@SafeVarargs
+	private final <E extends Number> void index(LuceneNumericDomain<E> domain, Sort indexSort, E[]... documentValues)
+			throws IOException {
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() );
+		if ( indexSort != null ) {
+			config.setIndexSort( indexSort );
+		}
+		try ( IndexWriter writer = new IndexWriter( directory, config ) ) {
+			for ( int i = 0; i < documentValues.length; i++ ) {
+				Document document = new Document();
+				document.add( new StoredField( ID, String.valueOf( i ) ) );
+				for ( E value : documentValues[i] ) {
+					document.add( domain.createSortedDocValuesField( FIELD, value ) );
+				}
+				writer.addDocument( document );
+			}
+			writer.commit();
+		}
+	}
+
+	private List<String> search(Sort sort) throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			TopDocs topDocs = searcher.search( new MatchAllDocsQuery(), 100, sort );
+			List<String> ids = new ArrayList<>();
+			for ( ScoreDoc scoreDoc : topDocs.scoreDocs ) {
+				ids.add( searcher.doc( scoreDoc.doc ).get( ID ) );
+			}
+			return ids;
+		}
+	}
+
+}
@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkSubmissionMode;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
@@ -92,9 +93,12 @@ public void success() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -157,9 +161,12 @@ public void failure_work() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -226,10 +233,14 @@ public void failure_multipleWorks() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
-		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -304,10 +315,14 @@ public void failure_multipleWorksAndCreateEntityReference() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
-		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work4FutureCapture ), eq( workMocks.get( 3 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -390,9 +405,12 @@ public void failure_commit() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -458,9 +476,12 @@ public void failure_refresh() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -529,9 +550,12 @@ public void failure_workAndCommit() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
@@ -598,9 +622,12 @@ public void failure_workAndRefresh() {
 		verifyAll();
 
 		resetAll();
-		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ) );
-		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ) );
-		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ) );
+		orchestratorMock.submit( capture( work1FutureCapture ), eq( workMocks.get( 0 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work2FutureCapture ), eq( workMocks.get( 1 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
+		orchestratorMock.submit( capture( work3FutureCapture ), eq( workMocks.get( 2 ) ),
+				eq( WorkSubmissionMode.OVERFLOW_STRATEGY ) );
 		replayAll();
 		planExecutionFuture = execution.execute();
 		verifyAll();
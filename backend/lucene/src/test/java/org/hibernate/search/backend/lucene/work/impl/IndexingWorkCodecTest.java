@@ -0,0 +1,225 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.Ngrams;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+public class IndexingWorkCodecTest {
+
+	private static final String INDEX_NAME = "indexName";
+	private static final EventContext EVENT_CONTEXT = EventContexts.fromIndexName( INDEX_NAME );
+
+	private final LuceneWorkFactory workFactory = new LuceneWorkFactoryImpl( new NoMultiTenancyStrategy() );
+
+	@Test
+	public void works() throws IOException {
+		List<SingleDocumentIndexingWork> works = Arrays.asList(
+				workFactory.add( null, "MyEntity", 1, "1", indexEntry( "1", "first text" ) ),
+				workFactory.update( null, "MyEntity", 2, "2", indexEntry( "2", "second text" ) ),
+				workFactory.delete( null, "MyEntity", 3, "3" )
+		);
+
+		IndexingWorkCodec.Request request = IndexingWorkCodec.decodeRequest(
+				IndexingWorkCodec.encodeWorks( works, EVENT_CONTEXT ), workFactory, INDEX_NAME );
+
+		assertThat( request.type() ).isEqualTo( IndexingWorkCodec.RequestType.WORKS );
+		List<SingleDocumentIndexingWork> decoded = request.works();
+		assertThat( decoded ).hasSize( 3 );
+
+		assertThat( decoded.get( 0 ) ).isInstanceOf( AddEntryWork.class );
+		assertThat( decoded.get( 0 ).getEntityTypeName() ).isEqualTo( "MyEntity" );
+		assertThat( decoded.get( 0 ).getEntityIdentifier() ).isEqualTo( "1" );
+		assertThat( decoded.get( 0 ).getQueuingKey() ).isEqualTo( "1" );
+		assertSameFields( ( (AddEntryWork) decoded.get( 0 ) ).getIndexEntry(),
+				( (AddEntryWork) works.get( 0 ) ).getIndexEntry() );
+
+		assertThat( decoded.get( 1 ) ).isInstanceOf( UpdateEntryWork.class );
+		assertThat( decoded.get( 1 ).getQueuingKey() ).isEqualTo( "2" );
+		assertSameFields( ( (UpdateEntryWork) decoded.get( 1 ) ).getIndexEntry(),
+				( (UpdateEntryWork) works.get( 1 ) ).getIndexEntry() );
+
+		assertThat( decoded.get( 2 ) ).isInstanceOf( DeleteEntryWork.class );
+		assertThat( decoded.get( 2 ).getQueuingKey() ).isEqualTo( "3" );
+	}
+
+	@Test
+	public void works_decodedDocumentsAreIndexable() throws IOException {
+		SingleDocumentIndexingWork work = workFactory.add( null, "MyEntity", 1, "1", indexEntry( "1", "some text" ) );
+
+		IndexingWorkCodec.Request request = IndexingWorkCodec.decodeRequest(
+				IndexingWorkCodec.encodeWorks( Collections.singletonList( work ), EVENT_CONTEXT ),
+				workFactory, INDEX_NAME );
+		LuceneIndexEntry decodedEntry = ( (AddEntryWork) request.works().get( 0 ) ).getIndexEntry();
+
+		try ( Directory directory = new ByteBuffersDirectory();
+				IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			writer.addDocuments( decodedEntry );
+			writer.commit();
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				IndexSearcher searcher = new IndexSearcher( reader );
+				// Analysis happens on the receiving side
+				assertThat( searcher.count( new TermQuery( new Term( "text", "some" ) ) ) ).isEqualTo( 1 );
+				assertThat( searcher.count( new TermQuery( new Term( "id", "1" ) ) ) ).isEqualTo( 1 );
+				assertThat( searcher.count( IntPoint.newExactQuery( "int", 42 ) ) ).isEqualTo( 1 );
+				// The first n-gram of "value", i.e. the start marker followed by "va"
+				assertThat( searcher.count( new TermQuery( new Term( "ngram", "\u0002va" ) ) ) ).isEqualTo( 1 );
+				// The root document is written after its nested documents
+				assertThat( searcher.doc( reader.maxDoc() - 1 ).getBinaryValue( "stored" ) )
+						.isEqualTo( new BytesRef( new byte[] { 1, 2, 3 } ) );
+			}
+		}
+	}
+
+	@Test
+	public void commitAndRefresh() {
+		assertThat( IndexingWorkCodec.decodeRequest( IndexingWorkCodec.encodeCommit(), workFactory, INDEX_NAME )
+				.type() )
+				.isEqualTo( IndexingWorkCodec.RequestType.COMMIT );
+		assertThat( IndexingWorkCodec.decodeRequest( IndexingWorkCodec.encodeRefresh(), workFactory, INDEX_NAME )
+				.type() )
+				.isEqualTo( IndexingWorkCodec.RequestType.REFRESH );
+	}
+
+	@Test
+	public void reply() {
+		CompletableFuture<Long> failed = new CompletableFuture<>();
+		failed.completeExceptionally( new IllegalStateException( "Some failure" ) );
+		List<CompletableFuture<?>> futures = Arrays.asList(
+				CompletableFuture.completedFuture( 3L ),
+				CompletableFuture.completedFuture( null ),
+				failed
+		);
+
+		List<CompletableFuture<Long>> decoded =
+				IndexingWorkCodec.decodeReply( IndexingWorkCodec.encodeReply( futures ), EVENT_CONTEXT );
+
+		assertThat( decoded ).hasSize( 3 );
+		assertThat( decoded.get( 0 ) ).isCompletedWithValue( 3L );
+		assertThat( decoded.get( 1 ) ).isCompletedWithValue( null );
+		assertThat( decoded.get( 2 ) ).isCompletedExceptionally();
+		assertThatThrownBy( decoded.get( 2 )::join )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasStackTraceContaining( "Indexing work failed on the node owning this index" )
+				.hasStackTraceContaining( "Some failure" );
+	}
+
+	@Test
+	public void tokenStreamField() {
+		Document document = new Document();
+		document.add( new TextField( "text", new KeywordAnalyzer().tokenStream( "text", "token" ) ) );
+		SingleDocumentIndexingWork work = workFactory.add( null, "MyEntity", 1, "1",
+				new LuceneIndexEntry( INDEX_NAME, "1", Collections.singletonList( document ) ) );
+
+		assertThatThrownBy( () -> IndexingWorkCodec.encodeWorks( Collections.singletonList( work ), EVENT_CONTEXT ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to forward field 'text'" );
+	}
+
+	@Test
+	public void invalidPayload() {
+		assertThatThrownBy( () -> IndexingWorkCodec.decodeRequest( new byte[] { 42 }, workFactory, INDEX_NAME ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid forwarded indexing works" )
+				.hasMessageContaining( "Unsupported format version" );
+		assertThatThrownBy( () -> IndexingWorkCodec.decodeRequest( new byte[] { 1, 0, 0 }, workFactory, INDEX_NAME ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid forwarded indexing works" );
+	}
+
+	private static LuceneIndexEntry indexEntry(String id, String text) {
+		Document nested = new Document();
+		nested.add( new StringField( "nested.keyword", "nestedValue", Field.Store.NO ) );
+
+		Document root = new Document();
+		root.add( new StringField( "id", id, Field.Store.YES ) );
+		root.add( new TextField( "text", text, Field.Store.NO ) );
+		root.add( new IntPoint( "int", 42 ) );
+		root.add( new NumericDocValuesField( "int", 42L ) );
+		root.add( new StoredField( "stored", new byte[] { 1, 2, 3 } ) );
+		root.add( new StoredField( "double", 4.2d ) );
+		root.add( new SortedSetDocValuesField( "keyword", new BytesRef( "value" ) ) );
+		root.add( Ngrams.ngramField( "ngram", "value" ) );
+
+		return new LuceneIndexEntry( INDEX_NAME, id, Arrays.asList( nested, root ) );
+	}
+
+	private static void assertSameFields(LuceneIndexEntry actual, LuceneIndexEntry expected) {
+		List<Document> actualDocuments = new ArrayList<>();
+		actual.forEach( actualDocuments::add );
+		List<Document> expectedDocuments = new ArrayList<>();
+		expected.forEach( expectedDocuments::add );
+		assertThat( actualDocuments ).hasSameSizeAs( expectedDocuments );
+
+		for ( int i = 0; i < expectedDocuments.size(); i++ ) {
+			List<IndexableField> actualFields = actualDocuments.get( i ).getFields();
+			List<IndexableField> expectedFields = expectedDocuments.get( i ).getFields();
+			assertThat( actualFields ).hasSameSizeAs( expectedFields );
+			for ( int j = 0; j < expectedFields.size(); j++ ) {
+				IndexableField actualField = actualFields.get( j );
+				IndexableField expectedField = expectedFields.get( j );
+				assertThat( actualField.name() ).isEqualTo( expectedField.name() );
+				assertThat( actualField.stringValue() ).isEqualTo( expectedField.stringValue() );
+				assertThat( actualField.binaryValue() ).isEqualTo( expectedField.binaryValue() );
+				assertThat( actualField.numericValue() ).isEqualTo( expectedField.numericValue() );
+				assertThat( Ngrams.normalizedValueOrNull( actualField ) )
+						.isEqualTo( Ngrams.normalizedValueOrNull( expectedField ) );
+				assertSameType( actualField.fieldType(), expectedField.fieldType() );
+			}
+		}
+	}
+
+	private static void assertSameType(IndexableFieldType actual, IndexableFieldType expected) {
+		assertThat( actual.stored() ).isEqualTo( expected.stored() );
+		assertThat( actual.tokenized() ).isEqualTo( expected.tokenized() );
+		assertThat( actual.omitNorms() ).isEqualTo( expected.omitNorms() );
+		assertThat( actual.storeTermVectors() ).isEqualTo( expected.storeTermVectors() );
+		assertThat( actual.indexOptions() ).isEqualTo( expected.indexOptions() );
+		assertThat( actual.docValuesType() ).isEqualTo( expected.docValuesType() );
+		assertThat( actual.pointDimensionCount() ).isEqualTo( expected.pointDimensionCount() );
+		assertThat( actual.pointIndexDimensionCount() ).isEqualTo( expected.pointIndexDimensionCount() );
+		assertThat( actual.pointNumBytes() ).isEqualTo( expected.pointNumBytes() );
+	}
+}
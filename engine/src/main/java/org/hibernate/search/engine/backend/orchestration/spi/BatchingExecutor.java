@@ -8,13 +8,21 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Distribution;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -26,37 +34,79 @@
  * <p>
  * Useful when works can be merged together for optimization purposes (bulking in Elasticsearch),
  * or when they should never be executed in parallel (writes to a Lucene index).
+ * <p>
+ * Optionally, works affecting the same document can be coalesced:
+ * see {@link CoalescableBatchedWork}.
+ * <p>
+ * When the queue is full, submitting threads either block, possibly up to a timeout,
+ * or have their work fail immediately: see {@link IndexingQueueOverflowStrategyName}.
+ * The overflow strategy only applies to works submitted with {@link WorkSubmissionMode#OVERFLOW_STRATEGY};
+ * other works always wait for room in the queue.
+ * <p>
+ * The executor exposes the size and capacity of its queue, the number of submissions to a full queue,
+ * the time spent blocking on a full queue, the number of works rejected because the queue was full,
+ * the size of its batches, the duration of each batch and the number of coalesced works
+ * through a {@link MetricsRecorder}, tagged with {@code executor=<name>}.
  */
 public final class BatchingExecutor<P extends BatchedWorkProcessor> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final String METRIC_QUEUE_SIZE = "hibernate.search.indexing.queue.size";
+	private static final String METRIC_QUEUE_CAPACITY = "hibernate.search.indexing.queue.capacity";
+	private static final String METRIC_QUEUE_FULL = "hibernate.search.indexing.queue.full";
+	private static final String METRIC_QUEUE_BLOCKED = "hibernate.search.indexing.queue.blocked";
+	private static final String METRIC_QUEUE_REJECTED = "hibernate.search.indexing.queue.rejected";
+	private static final String METRIC_BATCH_SIZE = "hibernate.search.indexing.batch.size";
+	private static final String METRIC_BATCH_DURATION = "hibernate.search.indexing.batch.duration";
+	private static final String METRIC_COALESCED_WORKS = "hibernate.search.indexing.coalesced";
+	private static final String TAG_EXECUTOR = "executor";
+
 	private final String name;
 
 	private final FailureHandler failureHandler;
 
 	private final BlockingQueue<BatchedWork<? super P>> workQueue;
+	private final int queueCapacity;
 	private final BatchWorker<P> worker;
+	private final Integer coalescingWindow;
+	// Applies to works submitted with WorkSubmissionMode.OVERFLOW_STRATEGY only.
+	// Negative to block indefinitely, zero to fail immediately.
+	private final long overflowTimeoutMillis;
+	private final OverflowMetrics overflowMetrics;
 
 	private SingletonTask processingTask;
 
 	/**
 	 * @param name The name of the executor thread (and of this executor when reporting errors)
 	 * @param processor A task processor. May not be thread-safe.
-	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
-	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
-	 * @param fair if {@code true} tasks are always submitted to the
-	 * processor in FIFO order, if {@code false} tasks submitted
-	 * when the internal queue is full may be submitted out of order.
+	 * @param settings The settings of this executor: batch size, fairness, coalescing, metrics, overflow strategy.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
-	public BatchingExecutor(String name,
-			P processor, int maxTasksPerBatch, boolean fair,
+	public BatchingExecutor(String name, P processor, BatchingExecutorSettings settings,
 			FailureHandler failureHandler) {
+		int maxTasksPerBatch = settings.maxTasksPerBatch();
+		MetricsRecorder metricsRecorder = settings.metricsRecorder();
 		this.name = name;
 		this.failureHandler = failureHandler;
-		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, settings.fair() );
+		this.queueCapacity = maxTasksPerBatch;
+		this.coalescingWindow = settings.coalescingWindow();
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch, coalescingWindow != null,
+				new BatchMetrics( metricsRecorder, name ) );
+		switch ( settings.overflowStrategy() ) {
+			case FAIL:
+				this.overflowTimeoutMillis = 0L;
+				break;
+			case BLOCK:
+			default:
+				Long overflowTimeout = settings.overflowTimeout();
+				this.overflowTimeoutMillis = overflowTimeout == null ? -1L : Math.max( 0L, overflowTimeout );
+				break;
+		}
+		this.overflowMetrics = new OverflowMetrics( metricsRecorder, name );
+		metricsRecorder.gauge( METRIC_QUEUE_SIZE, workQueue::size, TAG_EXECUTOR, name );
+		metricsRecorder.gauge( METRIC_QUEUE_CAPACITY, () -> queueCapacity, TAG_EXECUTOR, name );
 	}
 
 	@Override
@@ -74,11 +124,12 @@ public String toString() {
 	 *
 	 * @param executorService An executor service with at least one thread.
 	 */
-	public synchronized void start(ExecutorService executorService) {
+	public synchronized void start(ScheduledExecutorService executorService) {
 		log.startingExecutor( name );
 		processingTask = new SingletonTask(
 				name, worker,
-				new BatchScheduler( executorService ),
+				new BatchScheduler( executorService, workQueue,
+						coalescingWindow == null ? 0 : coalescingWindow ),
 				failureHandler
 		);
 	}
@@ -101,23 +152,81 @@ public synchronized void stop() {
 	}
 
 	/**
-	 * Submit a work for execution.
+	 * Submit a work for execution, blocking as long as necessary if the queue is full.
 	 * <p>
 	 * Must not be called when the executor is stopped.
 	 * @param work A work to execute.
 	 * @throws InterruptedException If the current thread is interrupted while enqueuing the work.
+	 * @see WorkSubmissionMode#BLOCKING
 	 */
 	public void submit(BatchedWork<? super P> work) throws InterruptedException {
+		submit( work, WorkSubmissionMode.BLOCKING );
+	}
+
+	/**
+	 * Submit a work for execution.
+	 * <p>
+	 * Must not be called when the executor is stopped.
+	 * <p>
+	 * If the queue is full, this method blocks or,
+	 * with {@link WorkSubmissionMode#OVERFLOW_STRATEGY},
+	 * marks the work as failed depending on the
+	 * {@link BatchingExecutorSettings.Builder#overflow(IndexingQueueOverflowStrategyName, Long) overflow strategy}.
+	 * @param work A work to execute.
+	 * @param submissionMode How to behave if the queue is full.
+	 * @throws InterruptedException If the current thread is interrupted while enqueuing the work.
+	 */
+	public void submit(BatchedWork<? super P> work, WorkSubmissionMode submissionMode) throws InterruptedException {
 		if ( processingTask == null ) {
 			throw new AssertionFailure(
 					"Attempt to submit a work to executor '" + name + "', which is stopped"
 					+ " There is probably a bug in Hibernate Search, please report it."
 			);
 		}
-		workQueue.put( work );
+		long timeoutMillis = WorkSubmissionMode.OVERFLOW_STRATEGY.equals( submissionMode ) ? overflowTimeoutMillis : -1L;
+		boolean enqueued;
+		if ( workQueue.remainingCapacity() > 0 ) {
+			// Most likely there is room in the queue: don't bother measuring the time spent blocking.
+			enqueued = enqueue( work, timeoutMillis );
+		}
+		else {
+			overflowMetrics.queueFull.increment();
+			long startTime = overflowMetrics.blockedTime.start();
+			try {
+				enqueued = enqueue( work, timeoutMillis );
+			}
+			finally {
+				overflowMetrics.blockedTime.recordSince( startTime );
+			}
+		}
+		if ( !enqueued ) {
+			overflowMetrics.rejectedWorks.increment();
+			work.markAsFailed( log.indexingQueueOverflow( name, queueCapacity, overflowTimeoutMillis ) );
+			return;
+		}
 		processingTask.ensureScheduled();
 	}
 
+	private boolean enqueue(BatchedWork<? super P> work, long timeoutMillis) throws InterruptedException {
+		if ( timeoutMillis < 0L ) {
+			workQueue.put( work );
+			return true;
+		}
+		else if ( timeoutMillis == 0L ) {
+			return workQueue.offer( work );
+		}
+		else {
+			return workQueue.offer( work, timeoutMillis, TimeUnit.MILLISECONDS );
+		}
+	}
+
+	/**
+	 * @return The number of works currently waiting in the queue of this executor.
+	 */
+	public int queueSize() {
+		return workQueue.size();
+	}
+
 	/**
 	 * @return A future that completes when all works submitted to the executor so far are completely executed.
 	 * Works submitted to the executor after entering this method may delay the wait.
@@ -141,14 +250,18 @@ public CompletableFuture<?> completion() {
 		private final BlockingQueue<BatchedWork<? super P>> workQueue;
 		private final int maxTasksPerBatch;
 		private final List<BatchedWork<? super P>> workBuffer;
+		private final Map<Object, Integer> lastWorkIndexByCoalescingKey;
+		private final BatchMetrics metrics;
 
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, boolean coalesce, BatchMetrics metrics) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.lastWorkIndexByCoalescingKey = coalesce ? new HashMap<>() : null;
+			this.metrics = metrics;
 		}
 
 		@Override
@@ -162,7 +275,18 @@ public CompletableFuture<?> work() {
 			}
 
 			int workCount = workBuffer.size();
+			long startTime = metrics.batchDuration.start();
+			metrics.batchSize.record( workCount );
 			boolean debugEnabled = log.isDebugEnabled();
+			if ( lastWorkIndexByCoalescingKey != null ) {
+				int supersededWorkCount = coalesce();
+				if ( supersededWorkCount > 0 ) {
+					metrics.coalescedWorks.increment( supersededWorkCount );
+					if ( debugEnabled ) {
+						log.debugf( "Coalesced %d works in executor '%s'", supersededWorkCount, name );
+					}
+				}
+			}
 			if ( debugEnabled ) {
 				log.debugf( "Processing %d works in executor '%s'", workCount, name );
 			}
@@ -170,6 +294,10 @@ public CompletableFuture<?> work() {
 			processor.beginBatch();
 
 			for ( BatchedWork<? super P> work : workBuffer ) {
+				if ( work == null ) {
+					// Superseded by a later work
+					continue;
+				}
 				try {
 					work.submitTo( processor );
 				}
@@ -180,11 +308,12 @@ public CompletableFuture<?> work() {
 
 			// Nothing more to do, end the batch and terminate
 			CompletableFuture<?> future = processor.endBatch();
-			if ( debugEnabled ) {
-				future.whenComplete( (result, throwable) -> {
+			future.whenComplete( (result, throwable) -> {
+				metrics.batchDuration.recordSince( startTime );
+				if ( debugEnabled ) {
 					log.debugf( "Processed %d works in executor '%s'", workCount, name );
-				} );
-			}
+				}
+			} );
 
 			return future;
 		}
@@ -193,19 +322,99 @@ public CompletableFuture<?> work() {
 		public void complete() {
 			processor.complete();
 		}
+
+		/**
+		 * Replaces works superseded by a later work on the same document with {@code null}.
+		 *
+		 * @return The number of superseded works.
+		 */
+		private int coalesce() {
+			int supersededWorkCount = 0;
+			try {
+				for ( int i = 0; i < workBuffer.size(); i++ ) {
+					BatchedWork<? super P> work = workBuffer.get( i );
+					if ( !( work instanceof CoalescableBatchedWork ) ) {
+						continue;
+					}
+					try {
+						if ( supersedePrevious( (CoalescableBatchedWork<?>) work, i ) ) {
+							++supersededWorkCount;
+						}
+					}
+					catch (RuntimeException e) {
+						// Coalescing is just an optimization: execute the work normally.
+						log.debugf( e, "Unable to coalesce work %s in executor '%s'", work, name );
+					}
+				}
+			}
+			finally {
+				lastWorkIndexByCoalescingKey.clear();
+			}
+			return supersededWorkCount;
+		}
+
+		private boolean supersedePrevious(CoalescableBatchedWork<?> work, int index) {
+			Object key = work.getCoalescingKey();
+			if ( key == null ) {
+				return false;
+			}
+			Integer previousIndex = lastWorkIndexByCoalescingKey.put( key, index );
+			if ( previousIndex == null ) {
+				return false;
+			}
+			CoalescableBatchedWork<?> previousWork = (CoalescableBatchedWork<?>) workBuffer.get( previousIndex );
+			if ( work.supersede( previousWork ) ) {
+				workBuffer.set( previousIndex, null );
+				return true;
+			}
+			return false;
+		}
+	}
+
+	private static final class BatchMetrics {
+		private final Distribution batchSize;
+		private final Timer batchDuration;
+		private final Counter coalescedWorks;
+
+		private BatchMetrics(MetricsRecorder recorder, String executorName) {
+			this.batchSize = recorder.distribution( METRIC_BATCH_SIZE, TAG_EXECUTOR, executorName );
+			this.batchDuration = recorder.timer( METRIC_BATCH_DURATION, TAG_EXECUTOR, executorName );
+			this.coalescedWorks = recorder.counter( METRIC_COALESCED_WORKS, TAG_EXECUTOR, executorName );
+		}
+	}
+
+	private static final class OverflowMetrics {
+		private final Counter queueFull;
+		private final Timer blockedTime;
+		private final Counter rejectedWorks;
+
+		private OverflowMetrics(MetricsRecorder recorder, String executorName) {
+			this.queueFull = recorder.counter( METRIC_QUEUE_FULL, TAG_EXECUTOR, executorName );
+			this.blockedTime = recorder.timer( METRIC_QUEUE_BLOCKED, TAG_EXECUTOR, executorName );
+			this.rejectedWorks = recorder.counter( METRIC_QUEUE_REJECTED, TAG_EXECUTOR, executorName );
+		}
 	}
 
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
-		private final ExecutorService delegate;
+		private final ScheduledExecutorService delegate;
+		private final BlockingQueue<?> workQueue;
+		private final int delay;
 
-		public BatchScheduler(ExecutorService delegate) {
+		public BatchScheduler(ScheduledExecutorService delegate, BlockingQueue<?> workQueue, int delay) {
 			this.delegate = delegate;
+			this.workQueue = workQueue;
+			this.delay = delay;
 		}
 
 		@Override
 		public Future<?> schedule(Runnable runnable) {
-			// Schedule the task for execution as soon as possible.
-			return delegate.submit( runnable );
+			if ( delay <= 0 || workQueue.remainingCapacity() == 0 ) {
+				// Schedule the task for execution as soon as possible.
+				// Waiting for more works is pointless if the queue is already full.
+				return delegate.submit( runnable );
+			}
+			// Wait a little, to give the executor a chance to coalesce works.
+			return delegate.schedule( runnable, delay, TimeUnit.MILLISECONDS );
 		}
 	}
 
@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+
+/**
+ * Routes works to one {@link BatchingExecutor} among many, based on a queuing key.
+ * <p>
+ * Works with the same queuing key are always executed in the order they were submitted.
+ * <p>
+ * Without rebalancing, each queuing key is statically assigned to an executor using a hash function.
+ * With rebalancing, a queuing key is only assigned to an executor while it has pending works:
+ * when a work is submitted for a queuing key with no pending work,
+ * it is routed to the executor with the shortest queue, preferring the executor picked by the hash function.
+ * This prevents a few very active keys from saturating one executor
+ * while other keys that happen to share the same hash sit in its queue and other executors are idle.
+ * <p>
+ * The router exposes the imbalance between queues (the difference between the longest and the shortest queue)
+ * and the number of works routed away from the executor picked by the hash function
+ * through a {@link MetricsRecorder}, tagged with {@code orchestrator=<name>}.
+ *
+ * @param <P> The type of processor used by the executors.
+ */
+public final class BatchingExecutorRouter<P extends BatchedWorkProcessor> {
+
+	private static final String METRIC_QUEUE_IMBALANCE = "hibernate.search.indexing.queue.imbalance";
+	private static final String METRIC_REBALANCED_WORKS = "hibernate.search.indexing.queue.rebalanced";
+	private static final String TAG_ORCHESTRATOR = "orchestrator";
+
+	private final BatchingExecutor<P>[] executors;
+	private final Map<String, Assignment> assignments;
+	private final Counter rebalancedWorks;
+
+	/**
+	 * @param name The name of the orchestrator owning the executors, used to tag metrics.
+	 * @param executors The executors to route works to.
+	 * @param rebalance Whether queuing keys without pending works may be routed to the least loaded executor,
+	 * instead of always being routed to the same executor.
+	 * @param metricsRecorder A recorder for metrics about the routing.
+	 */
+	public BatchingExecutorRouter(String name, BatchingExecutor<P>[] executors, boolean rebalance,
+			MetricsRecorder metricsRecorder) {
+		this.executors = executors;
+		this.assignments = rebalance ? new ConcurrentHashMap<>() : null;
+		this.rebalancedWorks = metricsRecorder.counter( METRIC_REBALANCED_WORKS, TAG_ORCHESTRATOR, name );
+		metricsRecorder.gauge( METRIC_QUEUE_IMBALANCE, this::imbalance, TAG_ORCHESTRATOR, name );
+	}
+
+	/**
+	 * Submit a work to the executor assigned to its queuing key.
+	 *
+	 * @param queuingKey The queuing key of the work.
+	 * @param work The work to submit.
+	 * @param workFuture A future that completes when the work is executed.
+	 * Used to release the assignment of the queuing key to an executor when rebalancing is enabled.
+	 * @throws InterruptedException If the current thread is interrupted while enqueuing the work.
+	 */
+	public void submit(String queuingKey, BatchedWork<? super P> work, CompletableFuture<?> workFuture)
+			throws InterruptedException {
+		submit( queuingKey, work, workFuture, WorkSubmissionMode.BLOCKING );
+	}
+
+	/**
+	 * Submit a work to the executor assigned to its queuing key.
+	 *
+	 * @param queuingKey The queuing key of the work.
+	 * @param work The work to submit.
+	 * @param workFuture A future that completes when the work is executed.
+	 * Used to release the assignment of the queuing key to an executor when rebalancing is enabled.
+	 * @param submissionMode How to behave if the queue of the executor is full.
+	 * @throws InterruptedException If the current thread is interrupted while enqueuing the work.
+	 */
+	public void submit(String queuingKey, BatchedWork<? super P> work, CompletableFuture<?> workFuture,
+			WorkSubmissionMode submissionMode) throws InterruptedException {
+		if ( assignments == null ) {
+			SimpleHashFunction.pick( executors, queuingKey ).submit( work, submissionMode );
+			return;
+		}
+
+		Assignment assignment = assignments.compute( queuingKey, (key, existing) -> {
+			if ( existing == null ) {
+				existing = new Assignment( leastLoadedExecutorIndex( key ) );
+			}
+			++existing.pendingWorks;
+			return existing;
+		} );
+		try {
+			executors[assignment.executorIndex].submit( work, submissionMode );
+		}
+		catch (InterruptedException | RuntimeException e) {
+			release( queuingKey );
+			throw e;
+		}
+		workFuture.whenComplete( (result, throwable) -> release( queuingKey ) );
+	}
+
+	private void release(String queuingKey) {
+		assignments.computeIfPresent( queuingKey,
+				(key, assignment) -> --assignment.pendingWorks <= 0 ? null : assignment );
+	}
+
+	private int leastLoadedExecutorIndex(String queuingKey) {
+		int hashIndex = SimpleHashFunction.pickIndex( executors.length, queuingKey );
+		int bestIndex = hashIndex;
+		int bestSize = executors[hashIndex].queueSize();
+		for ( int i = 0; i < executors.length && bestSize > 0; i++ ) {
+			int size = executors[i].queueSize();
+			if ( size < bestSize ) {
+				bestIndex = i;
+				bestSize = size;
+			}
+		}
+		if ( bestIndex != hashIndex ) {
+			rebalancedWorks.increment();
+		}
+		return bestIndex;
+	}
+
+	private long imbalance() {
+		int min = Integer.MAX_VALUE;
+		int max = 0;
+		for ( BatchingExecutor<P> executor : executors ) {
+			int size = executor.queueSize();
+			min = Math.min( min, size );
+			max = Math.max( max, size );
+		}
+		return executors.length == 0 ? 0L : max - min;
+	}
+
+	private static final class Assignment {
+		private final int executorIndex;
+		// Only accessed from within ConcurrentHashMap.compute*, which is atomic for a given key.
+		private int pendingWorks;
+
+		private Assignment(int executorIndex) {
+			this.executorIndex = executorIndex;
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+
+/**
+ * Settings of a {@link BatchingExecutor}.
+ */
+public final class BatchingExecutorSettings {
+
+	/**
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch,
+	 * which is also the capacity of the queue.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @return A new {@link BatchingExecutorSettings} builder.
+	 */
+	public static Builder builder(int maxTasksPerBatch) {
+		return new Builder( maxTasksPerBatch );
+	}
+
+	private final int maxTasksPerBatch;
+	private final boolean fair;
+	private final Integer coalescingWindow;
+	private final MetricsRecorder metricsRecorder;
+	private final IndexingQueueOverflowStrategyName overflowStrategy;
+	private final Long overflowTimeout;
+
+	private BatchingExecutorSettings(Builder builder) {
+		this.maxTasksPerBatch = builder.maxTasksPerBatch;
+		this.fair = builder.fair;
+		this.coalescingWindow = builder.coalescingWindow;
+		this.metricsRecorder = builder.metricsRecorder;
+		this.overflowStrategy = builder.overflowStrategy;
+		this.overflowTimeout = builder.overflowTimeout;
+	}
+
+	int maxTasksPerBatch() {
+		return maxTasksPerBatch;
+	}
+
+	boolean fair() {
+		return fair;
+	}
+
+	Integer coalescingWindow() {
+		return coalescingWindow;
+	}
+
+	MetricsRecorder metricsRecorder() {
+		return metricsRecorder;
+	}
+
+	IndexingQueueOverflowStrategyName overflowStrategy() {
+		return overflowStrategy;
+	}
+
+	Long overflowTimeout() {
+		return overflowTimeout;
+	}
+
+	public static final class Builder {
+
+		private final int maxTasksPerBatch;
+		private boolean fair = true;
+		private Integer coalescingWindow;
+		private MetricsRecorder metricsRecorder = MetricsRecorder.noOp();
+		private IndexingQueueOverflowStrategyName overflowStrategy = IndexingQueueOverflowStrategyName.BLOCK;
+		private Long overflowTimeout;
+
+		private Builder(int maxTasksPerBatch) {
+			this.maxTasksPerBatch = maxTasksPerBatch;
+		}
+
+		/**
+		 * @param fair if {@code true} tasks are always submitted to the
+		 * processor in FIFO order, if {@code false} tasks submitted
+		 * when the internal queue is full may be submitted out of order.
+		 * Defaults to {@code true}.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder fair(boolean fair) {
+			this.fair = fair;
+			return this;
+		}
+
+		/**
+		 * @param coalescingWindow The delay, in milliseconds, to wait for more works before processing a batch,
+		 * so that {@link CoalescableBatchedWork coalescable works} affecting the same document can be merged.
+		 * {@code 0} to coalesce works without waiting, {@code null} to disable coalescing.
+		 * Defaults to {@code null}.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder coalescingWindow(Integer coalescingWindow) {
+			this.coalescingWindow = coalescingWindow;
+			return this;
+		}
+
+		/**
+		 * @param metricsRecorder A recorder for metrics about the executor.
+		 * Defaults to {@link MetricsRecorder#noOp()}.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder metricsRecorder(MetricsRecorder metricsRecorder) {
+			this.metricsRecorder = metricsRecorder;
+			return this;
+		}
+
+		/**
+		 * @param overflowStrategy What to do when a work is submitted while the queue is full.
+		 * Defaults to {@link IndexingQueueOverflowStrategyName#BLOCK}.
+		 * @param overflowTimeout With the {@link IndexingQueueOverflowStrategyName#BLOCK block} strategy,
+		 * the maximum time to wait for room in the queue, in milliseconds, before marking the work as failed;
+		 * {@code null} to wait indefinitely. Ignored with other strategies.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder overflow(IndexingQueueOverflowStrategyName overflowStrategy, Long overflowTimeout) {
+			this.overflowStrategy = overflowStrategy;
+			this.overflowTimeout = overflowTimeout;
+			return this;
+		}
+
+		public BatchingExecutorSettings build() {
+			return new BatchingExecutorSettings( this );
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+/**
+ * A {@link BatchedWork} that may be merged with other works affecting the same document
+ * when the {@link BatchingExecutor} it is submitted to coalesces works.
+ *
+ * @param <P> The type of processor this work can be submitted to.
+ *
+ * @see BatchingExecutor
+ */
+public interface CoalescableBatchedWork<P> extends BatchedWork<P> {
+
+	/**
+	 * @return A key identifying the document affected by this work,
+	 * or {@code null} if this work must never be coalesced with other works.
+	 * Works returning equal keys must affect the same document.
+	 */
+	Object getCoalescingKey();
+
+	/**
+	 * Attempts to supersede a work affecting the same document, submitted before this one.
+	 * <p>
+	 * On success, the previous work will not be submitted to the processor:
+	 * this work becomes responsible for completing the previous work
+	 * with the same outcome as its own.
+	 *
+	 * @param previousWork A work with the same {@link #getCoalescingKey() coalescing key},
+	 * submitted before this work.
+	 * @return {@code true} if this work superseded the previous work,
+	 * {@code false} if both works must be executed.
+	 */
+	boolean supersede(CoalescableBatchedWork<?> previousWork);
+
+}
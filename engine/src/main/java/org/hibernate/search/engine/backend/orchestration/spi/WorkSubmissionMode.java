@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
+
+/**
+ * How a {@link BatchingExecutor} should behave when a work is submitted while its queue is full.
+ */
+public enum WorkSubmissionMode {
+
+	/**
+	 * Wait for room in the queue as long as necessary, ignoring the configured overflow strategy.
+	 * <p>
+	 * Appropriate for works that are expected to fill the queue and must never be dropped,
+	 * such as works submitted by mass indexing or index-scale operations.
+	 */
+	BLOCKING,
+	/**
+	 * Apply the {@link IndexingQueueOverflowStrategyName overflow strategy} configured on the executor,
+	 * possibly marking the work as failed.
+	 * <p>
+	 * Appropriate for works submitted by indexing plans, e.g. automatic indexing.
+	 */
+	OVERFLOW_STRATEGY
+
+}
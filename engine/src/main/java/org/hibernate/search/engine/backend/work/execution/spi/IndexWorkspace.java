@@ -22,4 +22,34 @@ public interface IndexWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	/**
+	 * Creates a fresh, empty copy of the index, tuned for bulk indexing,
+	 * and redirects writes to that copy, while reads keep targeting the current index.
+	 * <p>
+	 * Until the fresh copy is switched to or dropped,
+	 * indexing plans must write to both the current index and the fresh copy,
+	 * so that their changes are visible to searches and survive a call to {@link #dropFreshIndex()}.
+	 * <p>
+	 * Must be followed by a call to either {@link #switchToFreshIndex()} or {@link #dropFreshIndex()}.
+	 *
+	 * @return A future that completes when writes have been redirected to the fresh index.
+	 */
+	CompletableFuture<?> createFreshIndex();
+
+	/**
+	 * Restores the settings of the fresh index created by {@link #createFreshIndex()},
+	 * then atomically redirects reads to the fresh index and drops the previous one.
+	 *
+	 * @return A future that completes when reads have been redirected to the fresh index.
+	 */
+	CompletableFuture<?> switchToFreshIndex();
+
+	/**
+	 * Redirects writes back to the previous index and drops the fresh index created by {@link #createFreshIndex()},
+	 * if any.
+	 *
+	 * @return A future that completes when the fresh index has been dropped.
+	 */
+	CompletableFuture<?> dropFreshIndex();
+
 }
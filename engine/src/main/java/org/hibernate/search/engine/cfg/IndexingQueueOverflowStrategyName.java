@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The behavior of indexing queues when they are full and another indexing operation is submitted.
+ */
+public enum IndexingQueueOverflowStrategyName {
+
+	/**
+	 * Block the submitting thread until there is room in the queue,
+	 * or until the queue overflow timeout expires, if any,
+	 * in which case the operation fails.
+	 */
+	BLOCK( "block" ),
+	/**
+	 * Fail the operation immediately, without blocking the submitting thread.
+	 * The failure is reported like any other indexing failure.
+	 */
+	FAIL( "fail" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IndexingQueueOverflowStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				IndexingQueueOverflowStrategyName.values(),
+				IndexingQueueOverflowStrategyName::externalRepresentation,
+				log::invalidIndexingQueueOverflowStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IndexingQueueOverflowStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+
+}
@@ -12,6 +12,7 @@
 import org.hibernate.search.engine.cfg.EngineSettings;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 
@@ -49,6 +50,18 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link MetricsRecorder} used to expose runtime statistics:
+	 * indexing queue sizes, batch sizes, commit/refresh latencies, request latencies, search latencies, ...
+	 * <p>
+	 * Expects a reference to a bean of type {@link MetricsRecorder}.
+	 * Built-in implementations are available under the names {@code noop}, which records nothing,
+	 * and {@code jmx}, which exposes each metric as an MBean in the platform MBean server.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_RECORDER}.
+	 */
+	public static final String METRICS_RECORDER = PREFIX + Radicals.METRICS_RECORDER;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -59,6 +72,7 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String METRICS_RECORDER = "metrics_recorder";
 	}
 
 	/**
@@ -72,5 +86,7 @@ private Defaults() {
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
 		public static final BeanReference<? extends ThreadProvider> THREAD_PROVIDER =
 				BeanReference.of( DefaultThreadProvider.class );
+		public static final BeanReference<? extends MetricsRecorder> METRICS_RECORDER =
+				BeanReference.of( MetricsRecorder.class, "noop" );
 	}
 }
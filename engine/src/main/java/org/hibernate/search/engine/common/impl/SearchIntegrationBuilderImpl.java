@@ -59,6 +59,7 @@
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
@@ -76,6 +77,12 @@ public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final ConfigurationProperty<BeanReference<? extends MetricsRecorder>> METRICS_RECORDER =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_RECORDER )
+					.asBeanReference( MetricsRecorder.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS_RECORDER )
+					.build();
+
 	private final ConfigurationPropertyChecker propertyChecker;
 	private final ConfigurationPropertySource propertySource;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -149,6 +156,7 @@ public <PBM extends MappingPartialBuildState> SearchIntegrationBuilder addMappin
 	public SearchIntegrationPartialBuildState prepareBuild() {
 		BeanHolder<? extends FailureHandler> failureHandlerHolder = null;
 		BeanHolder<? extends ThreadProvider> threadProviderHolder = null;
+		BeanHolder<? extends MetricsRecorder> metricsRecorderHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -195,10 +203,13 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			threadProviderHolder = THREAD_PROVIDER.getAndTransform( propertySource, beanResolver::resolve );
 			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder );
 
+			metricsRecorderHolder = METRICS_RECORDER.getAndTransform( propertySource, beanResolver::resolve );
+
 			RootBuildContext rootBuildContext = new RootBuildContext(
 					propertySource,
 					classResolver, resourceResolver, beanResolver,
-					failureCollector, threadPoolProvider, failureHandler
+					failureCollector, threadPoolProvider, failureHandler,
+					metricsRecorderHolder.get()
 			);
 
 			indexManagerBuildingStateHolder = new IndexManagerBuildingStateHolder( beanResolver, propertySource, rootBuildContext );
@@ -263,6 +274,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					beanProvider, beanResolver,
 					failureHandlerHolder,
 					threadPoolProvider,
+					metricsRecorderHolder,
 					partiallyBuiltMappings,
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
 					indexManagerBuildingStateHolder.getIndexManagersNonStartedStates(),
@@ -306,6 +318,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( holder -> holder.closeOnFailure( closer ), indexManagerBuildingStateHolder );
 			// Close environment resources before aborting
 			closer.pushAll( BeanHolder::close, threadProviderHolder );
+			closer.pushAll( BeanHolder::close, metricsRecorderHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 
 			throw rethrownException;
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.impl;
+
+/**
+ * The JMX view of a counter, distribution or timer.
+ * <p>
+ * For timers, values are expressed in nanoseconds.
+ */
+public interface JmxMetricMBean {
+
+	/**
+	 * @return The number of recorded events.
+	 * For counters, the sum of all increments.
+	 */
+	long getCount();
+
+	/**
+	 * @return The sum of recorded values.
+	 */
+	long getTotal();
+
+	/**
+	 * @return The maximum recorded value.
+	 */
+	long getMax();
+
+	/**
+	 * @return The mean of recorded values.
+	 */
+	double getMean();
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Distribution;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A metrics recorder that exposes each metric as an MBean in the platform MBean server.
+ * <p>
+ * MBeans are named
+ * {@code org.hibernate.search:type=Metric,integration=<integration>,name=<metric name>,<tag key>=<tag value>,...},
+ * where {@code <integration>} is a number identifying the Hibernate Search instance within the JVM,
+ * so that multiple instances (e.g. multiple persistence units) do not collide.
+ * <p>
+ * This is mainly useful for quick diagnostics through JConsole or similar tools;
+ * integrators wishing to feed a metrics library (Micrometer, Dropwizard Metrics, ...)
+ * should rather implement {@link MetricsRecorder} directly on top of that library.
+ */
+public final class JmxMetricsRecorder implements MetricsRecorder {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String DOMAIN = "org.hibernate.search";
+
+	private static final AtomicLong INTEGRATION_ID_GENERATOR = new AtomicLong();
+
+	public static BeanHolder<MetricsRecorder> create() {
+		JmxMetricsRecorder recorder = new JmxMetricsRecorder( ManagementFactory.getPlatformMBeanServer() );
+		return new BeanHolder<MetricsRecorder>() {
+			@Override
+			public MetricsRecorder get() {
+				return recorder;
+			}
+
+			@Override
+			public void close() {
+				recorder.close();
+			}
+		};
+	}
+
+	private final MBeanServer mbeanServer;
+	private final String integrationId;
+	private final Map<ObjectName, Object> metrics = new ConcurrentHashMap<>();
+	// Only the names this recorder actually registered: never unregister MBeans owned by someone else
+	private final Set<ObjectName> registeredNames = ConcurrentHashMap.newKeySet();
+
+	private JmxMetricsRecorder(MBeanServer mbeanServer) {
+		this.mbeanServer = mbeanServer;
+		this.integrationId = String.valueOf( INTEGRATION_ID_GENERATOR.incrementAndGet() );
+	}
+
+	String integrationId() {
+		return integrationId;
+	}
+
+	@Override
+	public Counter counter(String name, String... tags) {
+		return metric( name, tags );
+	}
+
+	@Override
+	public Distribution distribution(String name, String... tags) {
+		return metric( name, tags );
+	}
+
+	@Override
+	public Timer timer(String name, String... tags) {
+		return metric( name, tags );
+	}
+
+	@Override
+	public void gauge(String name, LongSupplier valueSupplier, String... tags) {
+		ObjectName objectName = toObjectName( name, tags );
+		JmxGauge gauge = new JmxGauge( valueSupplier );
+		// Gauges are not aggregated: the last registered gauge wins.
+		Object previous = metrics.put( objectName, gauge );
+		if ( previous != null ) {
+			unregister( objectName );
+		}
+		register( objectName, gauge, JmxGaugeMBean.class );
+	}
+
+	private void close() {
+		for ( ObjectName objectName : registeredNames ) {
+			unregister( objectName );
+		}
+		metrics.clear();
+	}
+
+	private JmxMetric metric(String name, String[] tags) {
+		ObjectName objectName = toObjectName( name, tags );
+		Object metric = metrics.computeIfAbsent( objectName, key -> {
+			JmxMetric newMetric = new JmxMetric();
+			register( key, newMetric, JmxMetricMBean.class );
+			return newMetric;
+		} );
+		if ( !( metric instanceof JmxMetric ) ) {
+			throw new AssertionFailure( "Metric '" + objectName + "' was registered both as a gauge and as another type" );
+		}
+		return (JmxMetric) metric;
+	}
+
+	private <T> void register(ObjectName objectName, T metric, Class<T> mbeanInterface) {
+		try {
+			mbeanServer.registerMBean( new StandardMBean( metric, mbeanInterface ), objectName );
+			registeredNames.add( objectName );
+		}
+		catch (JMException | RuntimeException e) {
+			log.unableToRegisterMetricMBean( objectName.toString(), e.getMessage(), e );
+		}
+	}
+
+	private void unregister(ObjectName objectName) {
+		if ( !registeredNames.remove( objectName ) ) {
+			return;
+		}
+		try {
+			mbeanServer.unregisterMBean( objectName );
+		}
+		catch (JMException | RuntimeException e) {
+			log.unableToUnregisterMetricMBean( objectName.toString(), e.getMessage(), e );
+		}
+	}
+
+	private ObjectName toObjectName(String name, String[] tags) {
+		if ( tags.length % 2 != 0 ) {
+			throw new AssertionFailure( "Metric tags must be passed as alternating keys and values; got an odd number of arguments" );
+		}
+		StringBuilder builder = new StringBuilder( DOMAIN )
+				.append( ":type=Metric,integration=" ).append( integrationId )
+				.append( ",name=" ).append( ObjectName.quote( name ) );
+		for ( int i = 0; i < tags.length; i += 2 ) {
+			builder.append( ',' ).append( tags[i] ).append( '=' )
+					.append( ObjectName.quote( String.valueOf( tags[i + 1] ) ) );
+		}
+		try {
+			return new ObjectName( builder.toString() );
+		}
+		catch (MalformedObjectNameException e) {
+			throw new AssertionFailure( "Invalid metric name or tags: " + builder, e );
+		}
+	}
+
+	private static final class JmxMetric implements JmxMetricMBean, Counter, Distribution, Timer {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator( Math::max, 0L );
+
+		@Override
+		public void increment(long amount) {
+			// For counters, each unit of the increment is an event: the count is the counter value
+			count.add( amount );
+			total.add( amount );
+		}
+
+		@Override
+		public void record(long value) {
+			count.increment();
+			total.add( value );
+			max.accumulate( value );
+		}
+
+		@Override
+		public long start() {
+			return System.nanoTime();
+		}
+
+		@Override
+		public void recordSince(long startTime) {
+			record( System.nanoTime() - startTime );
+		}
+
+		@Override
+		public long getCount() {
+			return count.sum();
+		}
+
+		@Override
+		public long getTotal() {
+			return total.sum();
+		}
+
+		@Override
+		public long getMax() {
+			return max.get();
+		}
+
+		@Override
+		public double getMean() {
+			long currentCount = count.sum();
+			return currentCount == 0L ? 0.0 : (double) total.sum() / currentCount;
+		}
+	}
+
+	private static final class JmxGauge implements JmxGaugeMBean {
+		private final LongSupplier valueSupplier;
+
+		private JmxGauge(LongSupplier valueSupplier) {
+			this.valueSupplier = valueSupplier;
+		}
+
+		@Override
+		public long getValue() {
+			return valueSupplier.getAsLong();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.impl;
+
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Distribution;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+
+/**
+ * A metrics recorder that ignores all values.
+ * <p>
+ * All metrics are the same stateless singleton,
+ * so that recording a value is just a call to an empty method.
+ */
+public final class NoOpMetricsRecorder implements MetricsRecorder {
+
+	public static final NoOpMetricsRecorder INSTANCE = new NoOpMetricsRecorder();
+
+	private static final NoOpMetric METRIC = new NoOpMetric();
+
+	private NoOpMetricsRecorder() {
+	}
+
+	@Override
+	public Counter counter(String name, String... tags) {
+		return METRIC;
+	}
+
+	@Override
+	public Distribution distribution(String name, String... tags) {
+		return METRIC;
+	}
+
+	@Override
+	public Timer timer(String name, String... tags) {
+		return METRIC;
+	}
+
+	@Override
+	public void gauge(String name, LongSupplier valueSupplier, String... tags) {
+		// Nothing to do
+	}
+
+	private static final class NoOpMetric implements Counter, Distribution, Timer {
+		@Override
+		public void increment(long amount) {
+			// Nothing to do
+		}
+
+		@Override
+		public void record(long value) {
+			// Nothing to do
+		}
+
+		@Override
+		public long start() {
+			// Don't even read the clock
+			return 0L;
+		}
+
+		@Override
+		public void recordSince(long startTime) {
+			// Nothing to do
+		}
+	}
+}
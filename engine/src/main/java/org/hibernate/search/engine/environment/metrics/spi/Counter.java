@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+/**
+ * A monotonically increasing count of events, e.g. documents indexed.
+ */
+public interface Counter {
+
+	void increment(long amount);
+
+	default void increment() {
+		increment( 1L );
+	}
+
+}
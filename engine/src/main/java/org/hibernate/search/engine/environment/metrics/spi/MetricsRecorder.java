@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+import java.util.function.LongSupplier;
+
+import org.hibernate.search.engine.environment.metrics.impl.NoOpMetricsRecorder;
+
+/**
+ * The metrics recorder, used to expose runtime statistics
+ * (queue sizes, batch sizes, latencies, ...) to monitoring systems.
+ * <p>
+ * Metrics are identified by a name and a set of tags.
+ * Tags are passed as alternating keys and values, e.g. {@code "index", "myIndex", "shard", "0"}.
+ * <p>
+ * Components are expected to retrieve their metrics once, when they are created,
+ * and to keep a reference to them, so that recording a value does not involve any lookup.
+ * <p>
+ * Recorders can be called from multiple threads simultaneously: implementations must be thread-safe.
+ */
+public interface MetricsRecorder {
+
+	/**
+	 * @param name The name of the counter.
+	 * @param tags The tags of the counter, as alternating keys and values.
+	 * @return A counter. Calling this method multiple times with the same name and tags
+	 * may or may not return the same instance, but values will be aggregated either way.
+	 */
+	Counter counter(String name, String... tags);
+
+	/**
+	 * @param name The name of the distribution.
+	 * @param tags The tags of the distribution, as alternating keys and values.
+	 * @return A distribution, used to record values such as batch sizes.
+	 * Calling this method multiple times with the same name and tags
+	 * may or may not return the same instance, but values will be aggregated either way.
+	 */
+	Distribution distribution(String name, String... tags);
+
+	/**
+	 * @param name The name of the timer.
+	 * @param tags The tags of the timer, as alternating keys and values.
+	 * @return A timer, used to record durations such as latencies.
+	 * Calling this method multiple times with the same name and tags
+	 * may or may not return the same instance, but values will be aggregated either way.
+	 */
+	Timer timer(String name, String... tags);
+
+	/**
+	 * Register a gauge, i.e. a value that is sampled by the monitoring system when necessary.
+	 *
+	 * @param name The name of the gauge.
+	 * @param valueSupplier A supplier for the current value of the gauge.
+	 * Will be called from arbitrary threads: must be thread-safe.
+	 * @param tags The tags of the gauge, as alternating keys and values.
+	 */
+	void gauge(String name, LongSupplier valueSupplier, String... tags);
+
+	/**
+	 * @return A recorder that ignores all values.
+	 * Useful as a default, since it adds near-zero overhead.
+	 */
+	static MetricsRecorder noOp() {
+		return NoOpMetricsRecorder.INSTANCE;
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.spi;
+
+/**
+ * The distribution of the duration of events, e.g. the latency of each commit.
+ * <p>
+ * Expected usage:
+ * <pre>{@code
+ * long startTime = timer.start();
+ * // ... do something ...
+ * timer.recordSince( startTime );
+ * }</pre>
+ */
+public interface Timer {
+
+	/**
+	 * @return The current time, to be passed to {@link #recordSince(long)}.
+	 * Implementations that do not record anything may skip reading the clock and return any value.
+	 */
+	long start();
+
+	/**
+	 * @param startTime The start time, as returned by {@link #start()}.
+	 */
+	void recordSince(long startTime);
+
+	/**
+	 * @param durationNanos The duration to record, in nanoseconds.
+	 */
+	void record(long durationNanos);
+
+}
@@ -9,6 +9,8 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
+import org.hibernate.search.engine.environment.metrics.impl.JmxMetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.LogFailureHandler;
 
@@ -19,5 +21,13 @@ public void configure(BeanConfigurationContext context) {
 				FailureHandler.class, "log",
 				factoryCreationContext -> BeanHolder.of( new LogFailureHandler() )
 		);
+		context.define(
+				MetricsRecorder.class, "noop",
+				factoryCreationContext -> BeanHolder.of( MetricsRecorder.noOp() )
+		);
+		context.define(
+				MetricsRecorder.class, "jmx",
+				factoryCreationContext -> JmxMetricsRecorder.create()
+		);
 	}
 }
@@ -326,4 +326,37 @@ SearchException fieldTemplateNameCannotContainDot(String relativeFieldName,
 					+ " Obsolete properties: %1$s.")
 	SearchException obsoleteConfigurationPropertiesFromSearch5(Set<String> propertyKeys);
 
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Unable to register metric '%1$s' with the JMX MBean server: %2$s."
+					+ " This metric will still be recorded, but will not be exposed through JMX.")
+	void unableToRegisterMetricMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "Unable to unregister metric '%1$s' from the JMX MBean server: %2$s.")
+	void unableToUnregisterMetricMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "Cannot retrieve the result of a query added to a search query batch before the batch is executed."
+					+ " Call execute() on the batch first.")
+	SearchException searchQueryBatchNotExecuted();
+
+	@Message(id = ID_OFFSET_2 + 77,
+			value = "Invalid indexing queue overflow strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIndexingQueueOverflowStrategyName(String invalidRepresentation,
+			List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 78,
+			value = "Unable to submit an indexing operation to queue '%1$s': the queue is full (capacity: %2$s)"
+					+ " and the operation could not be enqueued within %3$sms."
+					+ " Consider increasing the queue size or the number of queues,"
+					+ " or reducing the indexing load.")
+	SearchException indexingQueueOverflow(String executorName, int capacity, long timeoutMillis);
+
+	@Message(id = ID_OFFSET_2 + 79,
+			value = "Cannot load entities asynchronously: the mapper does not support asynchronous entity loading."
+					+ " Use fetch() instead of fetchAsync(), or only use projections that do not load entities.")
+	SearchException cannotLoadEntitiesAsynchronously();
+
 }
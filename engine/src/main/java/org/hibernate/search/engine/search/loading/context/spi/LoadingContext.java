@@ -19,4 +19,14 @@
 
 	ProjectionHitMapper<R, E> createProjectionHitMapper();
 
+	/**
+	 * @return {@code true} if entities can be loaded through {@link ProjectionHitMapper#loadAsync()},
+	 * i.e. without blocking and from any thread, {@code false} otherwise.
+	 * If this method returns {@code false}, asynchronous queries that need to load entities
+	 * are executed in the calling thread, blocking it.
+	 */
+	default boolean supportsAsyncLoading() {
+		return false;
+	}
+
 }
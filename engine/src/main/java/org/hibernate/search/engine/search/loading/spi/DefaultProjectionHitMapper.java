@@ -7,7 +7,10 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
@@ -42,6 +45,17 @@ public LoadingResult<E> loadBlocking() {
 		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
 	}
 
+	@Override
+	public CompletionStage<LoadingResult<E>> loadAsync() {
+		if ( referencesToLoad.isEmpty() ) {
+			// Nothing to load: don't involve the entity loader,
+			// which may not support asynchronous loading.
+			return CompletableFuture.completedFuture( new DefaultLoadingResult<E>( Collections.emptyList() ) );
+		}
+		return objectLoader.loadAsync( referencesToLoad )
+				.thenApply( loadedObjects -> new DefaultLoadingResult<E>( loadedObjects ) );
+	}
+
 	private static class DefaultLoadingResult<E> implements LoadingResult<E> {
 
 		private final List<? extends E> loadedObjects;
@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Loads objects into memory using a reference and implementation-specific context.
@@ -25,6 +26,25 @@
 	 */
 	List<E> loadBlocking(List<R> references);
 
+	/**
+	 * Loads the entities corresponding to the given references, without blocking the current thread.
+	 * <p>
+	 * This method may be called from a backend thread, e.g. the thread that received the response to an HTTP request,
+	 * so it must never block.
+	 * The default implementation returns a stage completed exceptionally:
+	 * implementations able to load entities without blocking should override this method,
+	 * and the corresponding {@link org.hibernate.search.engine.search.loading.context.spi.LoadingContext}
+	 * should {@link org.hibernate.search.engine.search.loading.context.spi.LoadingContext#supportsAsyncLoading() declare it}.
+	 *
+	 * @param references A list of references to the objects to load.
+	 * @return A {@link CompletionStage} that will be completed with a list of entities,
+	 * in the same order the references were given.
+	 * {@code null} is inserted when an object is not found.
+	 */
+	default CompletionStage<List<E>> loadAsync(List<R> references) {
+		return UnsupportedAsyncEntityLoading.get();
+	}
+
 	static <T> EntityLoader<T, T> identity() {
 		return IdentityEntityLoader.get();
 	}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.loading.spi;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.backend.common.DocumentReference;
 
 /**
@@ -39,4 +41,13 @@
 	 */
 	LoadingResult<E> loadBlocking();
 
+	/**
+	 * Loads the entities planned for loading in one go, without blocking the current thread if possible.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the loaded entities,
+	 * or completed exceptionally if the entities cannot be loaded asynchronously.
+	 * @see EntityLoader#loadAsync(java.util.List)
+	 */
+	CompletionStage<LoadingResult<E>> loadAsync();
+
 }
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,73 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return the {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * Backends that communicate with a remote cluster, such as the Elasticsearch backend,
+	 * execute the query and load entities without blocking the calling thread.
+	 * Other backends execute the query in the calling thread and return an already completed stage.
+	 * <p>
+	 * Queries that load entities can only be executed asynchronously if the mapper supports asynchronous loading.
+	 * For example the Hibernate ORM mapper does not, because a Hibernate ORM session
+	 * must not be used from multiple threads:
+	 * with the Hibernate ORM mapper, only queries that do not load entities
+	 * (e.g. field or reference projections) are executed asynchronously.
+	 * Other queries are executed in the calling thread, regardless of the backend,
+	 * and the returned stage is already completed.
+	 * <p>
+	 * Failures are reported by completing the returned stage exceptionally,
+	 * with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the hits as a {@link List},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return the total hit count.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 }
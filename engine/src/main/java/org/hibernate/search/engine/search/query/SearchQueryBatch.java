@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchElement;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBatchExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchQueryImplementor;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A group of independent queries to execute together.
+ * <p>
+ * Executing queries as a batch allows backends to reduce the overhead of each query:
+ * the Elasticsearch backend sends all queries targeting the same cluster in a single request,
+ * and the Lucene backend executes all queries targeting the same indexes against a single reader.
+ * Queries that cannot be batched are simply executed one after the other.
+ * <p>
+ * Usage:
+ * <ol>
+ * <li>{@link #create() Create} a batch.</li>
+ * <li>{@link #add(SearchQuery, Integer, Integer) Add} queries to the batch,
+ * keeping a reference to the returned {@link Entry entries}.</li>
+ * <li>{@link #execute() Execute} the batch.</li>
+ * <li>Retrieve results from each {@link Entry#result() entry}.</li>
+ * </ol>
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe.
+ */
+public final class SearchQueryBatch {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @return A new, empty batch.
+	 */
+	public static SearchQueryBatch create() {
+		return new SearchQueryBatch();
+	}
+
+	private final List<SearchQueryBatchElement<?>> pendingElements = new ArrayList<>();
+
+	private SearchQueryBatch() {
+	}
+
+	/**
+	 * Add a query to this batch, to fetch all hits.
+	 *
+	 * @param query The query to execute.
+	 * @param <H> The type of query hits.
+	 * @return An entry, to retrieve the result of the query once the batch is executed.
+	 */
+	public <H> Entry<H> add(SearchQuery<H> query) {
+		return add( query, null, null );
+	}
+
+	/**
+	 * Add a query to this batch, to fetch hits from the first one.
+	 *
+	 * @param query The query to execute.
+	 * @param limit The maximum number of hits to include in the result.
+	 * {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return An entry, to retrieve the result of the query once the batch is executed.
+	 * @see SearchFetchable#fetch(Integer)
+	 */
+	public <H> Entry<H> add(SearchQuery<H> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	/**
+	 * Add a query to this batch.
+	 *
+	 * @param query The query to execute.
+	 * @param offset The number of hits to skip before adding the hits to the result.
+	 * {@code null} means no offset.
+	 * @param limit The maximum number of hits to include in the result.
+	 * {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return An entry, to retrieve the result of the query once the batch is executed.
+	 * @see SearchFetchable#fetch(Integer, Integer)
+	 */
+	public <H> Entry<H> add(SearchQuery<H> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		SearchQueryBatchElement<H> element = new SearchQueryBatchElement<>( query, offset, limit );
+		pendingElements.add( element );
+		return new Entry<>( element.result() );
+	}
+
+	/**
+	 * Execute all queries added to this batch since the last execution.
+	 * <p>
+	 * The failure of a query does not prevent the execution of other queries:
+	 * failures are reported when calling {@link Entry#result()} on the corresponding entry.
+	 */
+	public void execute() {
+		Map<SearchQueryBatchExecutor, List<SearchQueryBatchElement<?>>> elementsByExecutor = new LinkedHashMap<>();
+		List<SearchQueryBatchElement<?>> elements = new ArrayList<>( pendingElements );
+		pendingElements.clear();
+
+		for ( SearchQueryBatchElement<?> element : elements ) {
+			SearchQueryBatchExecutor executor = null;
+			if ( element.query() instanceof SearchQueryImplementor ) {
+				executor = ( (SearchQueryImplementor<?>) element.query() ).batchExecutor();
+			}
+			if ( executor == null ) {
+				executeIndividually( element );
+			}
+			else {
+				elementsByExecutor.computeIfAbsent( executor, ignored -> new ArrayList<>() ).add( element );
+			}
+		}
+
+		for ( Map.Entry<SearchQueryBatchExecutor, List<SearchQueryBatchElement<?>>> group
+				: elementsByExecutor.entrySet() ) {
+			try {
+				group.getKey().execute( group.getValue() );
+			}
+			catch (RuntimeException e) {
+				// Elements that were already completed are not affected.
+				for ( SearchQueryBatchElement<?> element : group.getValue() ) {
+					element.completeExceptionally( e );
+				}
+			}
+		}
+	}
+
+	private <H> void executeIndividually(SearchQueryBatchElement<H> element) {
+		try {
+			element.complete( element.query().fetch( element.offset(), element.limit() ) );
+		}
+		catch (RuntimeException e) {
+			element.completeExceptionally( e );
+		}
+	}
+
+	/**
+	 * A query added to a {@link SearchQueryBatch}.
+	 *
+	 * @param <H> The type of query hits.
+	 */
+	public static final class Entry<H> {
+
+		private final CompletableFuture<SearchResult<H>> result;
+
+		private Entry(CompletableFuture<SearchResult<H>> result) {
+			this.result = result;
+		}
+
+		/**
+		 * @return The result of the query.
+		 * @throws org.hibernate.search.util.common.SearchException If the batch was not executed yet,
+		 * or if the query failed.
+		 */
+		public SearchResult<H> result() {
+			if ( !result.isDone() ) {
+				throw log.searchQueryBatchNotExecuted();
+			}
+			return Futures.unwrappedExceptionJoin( result );
+		}
+
+		/**
+		 * @return The hits of the query.
+		 * @throws org.hibernate.search.util.common.SearchException If the batch was not executed yet,
+		 * or if the query failed.
+		 * @see #result()
+		 */
+		public List<H> hits() {
+			return result().hits();
+		}
+
+	}
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Timings of the different phases of a search query execution.
+ * <p>
+ * Only available when query profiling is enabled in the backend configuration.
+ */
+public interface SearchQueryProfile {
+
+	/**
+	 * @return The time spent in each phase of the query execution, in execution order.
+	 * Phase names depend on the backend; see the reference documentation for details.
+	 */
+	Map<String, Duration> phases();
+
+	/**
+	 * @return The sum of the durations of all phases.
+	 */
+	Duration total();
+
+}
@@ -8,6 +8,7 @@
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
@@ -94,4 +95,16 @@ default boolean isTimedOut() {
 		return timedOut();
 	}
 
+	/**
+	 * @return The timings of each phase of the query execution,
+	 * or an empty optional if query profiling is disabled.
+	 * Only {@link SearchFetchable#fetch(Integer, Integer) fetch} and its variants return a result,
+	 * so queries executed through {@link SearchFetchable#fetchHits(Integer, Integer) fetchHits}
+	 * or {@link SearchFetchable#fetchTotalHitCount() fetchTotalHitCount} expose no profile to the caller;
+	 * they are still profiled and reported in the slow query log when it is enabled.
+	 */
+	default Optional<SearchQueryProfile> profile() {
+		return Optional.empty();
+	}
+
 }
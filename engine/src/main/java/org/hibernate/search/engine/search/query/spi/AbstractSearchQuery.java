@@ -9,10 +9,13 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -75,4 +78,39 @@ else if ( fetchedHitCount > 1 ) {
 		}
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
+	/**
+	 * Executes the query in the calling thread and returns an already completed stage.
+	 * <p>
+	 * Backends able to execute queries without blocking the calling thread should override this method.
+	 */
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> CompletableFuture.<SearchResult<H>>completedFuture( fetch( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return fetchHitsAsync( null, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return fetchAsync( offset, limit ).thenApply( SearchResult::hits );
+	}
+
+	/**
+	 * Executes the query in the calling thread and returns an already completed stage.
+	 * <p>
+	 * Backends able to execute queries without blocking the calling thread should override this method.
+	 */
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+
+/**
+ * A query added to a {@link org.hibernate.search.engine.search.query.SearchQueryBatch},
+ * along with its pagination and its (future) result.
+ *
+ * @param <H> The type of query hits.
+ */
+public final class SearchQueryBatchElement<H> {
+
+	private final SearchQuery<H> query;
+	private final Integer offset;
+	private final Integer limit;
+	private final CompletableFuture<SearchResult<H>> result = new CompletableFuture<>();
+
+	public SearchQueryBatchElement(SearchQuery<H> query, Integer offset, Integer limit) {
+		this.query = query;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + query + ", offset=" + offset + ", limit=" + limit + "]";
+	}
+
+	/**
+	 * @return The query. Backends can safely cast it to their own implementation
+	 * when this element is passed to the {@link SearchQueryBatchExecutor} returned by that query.
+	 */
+	public SearchQuery<H> query() {
+		return query;
+	}
+
+	public Integer offset() {
+		return offset;
+	}
+
+	public Integer limit() {
+		return limit;
+	}
+
+	public CompletableFuture<SearchResult<H>> result() {
+		return result;
+	}
+
+	public void complete(SearchResult<H> searchResult) {
+		result.complete( searchResult );
+	}
+
+	public void completeExceptionally(Throwable throwable) {
+		result.completeExceptionally( throwable );
+	}
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+/**
+ * Executes multiple queries together, e.g. in a single request to the backend.
+ * <p>
+ * When a {@link org.hibernate.search.engine.search.query.SearchQueryBatch} is executed,
+ * its queries are grouped by {@link SearchQueryImplementor#batchExecutor() executor},
+ * and each group is passed to a single call to {@link #execute(List)}.
+ * Implementations must thus implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+ * so that executors of queries that can be batched together are equal.
+ */
+public interface SearchQueryBatchExecutor {
+
+	/**
+	 * Executes the given queries, then completes each element with its result or failure.
+	 * <p>
+	 * This method is called from the user thread and may block, in particular to load hits.
+	 * The failure of a single query should not prevent the completion of other elements.
+	 *
+	 * @param elements The elements to execute. Never empty.
+	 */
+	void execute(List<SearchQueryBatchElement<?>> elements);
+
+}
@@ -21,4 +21,13 @@
 public interface SearchQueryImplementor<H> extends SearchQuery<H> {
 
 	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * @return The executor to use when this query is part of a
+	 * {@link org.hibernate.search.engine.search.query.SearchQueryBatch},
+	 * or {@code null} if this query cannot be batched and must be executed on its own.
+	 */
+	default SearchQueryBatchExecutor batchExecutor() {
+		return null;
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.metrics.spi.Timer;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
+
+/**
+ * Metrics and profiling settings shared by all queries executed against a given backend.
+ * <p>
+ * The execution of a query is split in two phases:
+ * the execution of the query by the backend, including the extraction of hits,
+ * and the loading of hits by the mapper, e.g. loading of entities from the database.
+ * <p>
+ * When profiling is enabled, backends additionally record finer-grained phases
+ * through a {@link SearchQueryProfiler} created for each execution.
+ */
+public final class SearchQueryMetrics {
+
+	private static final String METRIC_EXECUTION = "hibernate.search.query.execution";
+	private static final String METRIC_LOADING = "hibernate.search.query.loading";
+	private static final String TAG_BACKEND = "backend";
+
+	/**
+	 * @param recorder The metrics recorder.
+	 * @param backendName The name of the backend, used to tag metrics.
+	 * @param profilingEnabled Whether profiles should be recorded and attached to every search result.
+	 * @param slowQueryThresholdMillis The duration above which a query is considered slow, in milliseconds,
+	 * or {@code null} to disable the slow query log.
+	 * Enabling the slow query log implies profiling, since profiles are included in slow query logs.
+	 * @return The metrics.
+	 */
+	public static SearchQueryMetrics create(MetricsRecorder recorder, String backendName,
+			boolean profilingEnabled, Long slowQueryThresholdMillis) {
+		return new SearchQueryMetrics(
+				recorder.timer( METRIC_EXECUTION, TAG_BACKEND, backendName ),
+				recorder.timer( METRIC_LOADING, TAG_BACKEND, backendName ),
+				profilingEnabled || slowQueryThresholdMillis != null,
+				slowQueryThresholdMillis == null ? -1L : TimeUnit.MILLISECONDS.toNanos( slowQueryThresholdMillis )
+		);
+	}
+
+	private final Timer executionTimer;
+	private final Timer loadingTimer;
+	private final boolean profilingEnabled;
+	private final long slowQueryThresholdNanos;
+
+	private SearchQueryMetrics(Timer executionTimer, Timer loadingTimer,
+			boolean profilingEnabled, long slowQueryThresholdNanos) {
+		this.executionTimer = executionTimer;
+		this.loadingTimer = loadingTimer;
+		this.profilingEnabled = profilingEnabled;
+		this.slowQueryThresholdNanos = slowQueryThresholdNanos;
+	}
+
+	/**
+	 * @return A timer for the execution of queries by the backend, including the extraction of hits.
+	 */
+	public Timer executionTimer() {
+		return executionTimer;
+	}
+
+	/**
+	 * @return A timer for the loading of hits, e.g. entity loading.
+	 */
+	public Timer loadingTimer() {
+		return loadingTimer;
+	}
+
+	/**
+	 * @return A profiler for a single query execution; does not record anything if profiling is disabled.
+	 */
+	public SearchQueryProfiler createProfiler() {
+		return SearchQueryProfiler.create( profilingEnabled );
+	}
+
+	/**
+	 * @param profile The profile of a query execution.
+	 * @return {@code true} if the slow query log is enabled and the query took longer than the configured threshold.
+	 */
+	public boolean isSlow(SearchQueryProfile profile) {
+		return slowQueryThresholdNanos >= 0L && profile.total().toNanos() >= slowQueryThresholdNanos;
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
+
+/**
+ * Records the time spent in each phase of a single query execution.
+ * <p>
+ * When profiling is disabled, a shared instance is returned that does not record anything,
+ * so that callers can use it unconditionally.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe:
+ * a profiler must only be used for a single query execution.
+ */
+public final class SearchQueryProfiler {
+
+	/**
+	 * The phase during which hits are loaded from the mapper, e.g. entities loaded from the database.
+	 */
+	public static final String PHASE_LOADING = "loading";
+
+	/**
+	 * The phase during which the total hit count is computed,
+	 * when the query is executed through {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchTotalHitCount()}.
+	 */
+	public static final String PHASE_COUNT = "count";
+
+	private static final SearchQueryProfiler DISABLED = new SearchQueryProfiler( false );
+
+	public static SearchQueryProfiler create(boolean enabled) {
+		return enabled ? new SearchQueryProfiler( true ) : DISABLED;
+	}
+
+	private final boolean enabled;
+	private final Map<String, Long> phaseNanos;
+
+	private SearchQueryProfiler(boolean enabled) {
+		this.enabled = enabled;
+		this.phaseNanos = enabled ? new LinkedHashMap<>() : Collections.emptyMap();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return A start time to pass to {@link #recordSince(String, long)}.
+	 */
+	public long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * @param phase The name of the phase that just ended.
+	 * @param startTime The value returned by {@link #start()} when the phase started.
+	 * If the same phase is recorded multiple times, durations are summed.
+	 */
+	public void recordSince(String phase, long startTime) {
+		if ( enabled ) {
+			phaseNanos.merge( phase, System.nanoTime() - startTime, Long::sum );
+		}
+	}
+
+	/**
+	 * @return The recorded profile, or {@code null} if profiling is disabled.
+	 */
+	public SearchQueryProfile toProfile() {
+		if ( !enabled ) {
+			return null;
+		}
+		Map<String, Duration> phases = new LinkedHashMap<>();
+		long totalNanos = 0L;
+		for ( Map.Entry<String, Long> entry : phaseNanos.entrySet() ) {
+			phases.put( entry.getKey(), Duration.ofNanos( entry.getValue() ) );
+			totalNanos += entry.getValue();
+		}
+		return new SimpleSearchQueryProfile( Collections.unmodifiableMap( phases ),
+				Duration.ofNanos( totalNanos ) );
+	}
+
+	private static final class SimpleSearchQueryProfile implements SearchQueryProfile {
+		private final Map<String, Duration> phases;
+		private final Duration total;
+
+		private SimpleSearchQueryProfile(Map<String, Duration> phases, Duration total) {
+			this.phases = phases;
+			this.total = total;
+		}
+
+		@Override
+		public Map<String, Duration> phases() {
+			return phases;
+		}
+
+		@Override
+		public Duration total() {
+			return total;
+		}
+
+		@Override
+		public String toString() {
+			StringJoiner joiner = new StringJoiner( ", ", "{", "}" );
+			for ( Map.Entry<String, Duration> entry : phases.entrySet() ) {
+				joiner.add( entry.getKey() + "=" + entry.getValue().toNanos() / 1_000_000.0 + "ms" );
+			}
+			return joiner.toString();
+		}
+	}
+}
@@ -10,10 +10,12 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.StringJoiner;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -26,14 +28,21 @@
 	private final Map<AggregationKey<?>, ?> aggregationResults;
 	private final Duration took;
 	private final boolean timedOut;
+	private final SearchQueryProfile profile;
 
 	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut) {
+		this( hitCount, hits, aggregationResults, took, timedOut, null );
+	}
+
+	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Duration took, Boolean timedOut, SearchQueryProfile profile) {
 		this.hitCount = hitCount;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
 		this.took = took;
 		this.timedOut = ( timedOut != null ) && timedOut;
+		this.profile = profile;
 	}
 
 	@Override
@@ -66,6 +75,11 @@ public boolean timedOut() {
 		return timedOut;
 	}
 
+	@Override
+	public Optional<SearchQueryProfile> profile() {
+		return Optional.ofNullable( profile );
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", SimpleSearchResult.class.getSimpleName() + "[", "]" )
@@ -74,6 +88,7 @@ public String toString() {
 				.add( "aggregationResults=" + aggregationResults )
 				.add( "took=" + took )
 				.add( "timedOut=" + timedOut )
+				.add( "profile=" + profile )
 				.toString();
 	}
 }
@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+import org.hibernate.search.engine.reporting.impl.LogFailureHandler;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchingExecutorRouterTest {
+
+	private final ThreadPoolProviderImpl threadPoolProvider =
+			new ThreadPoolProviderImpl( BeanHolder.of( new DefaultThreadProvider() ) );
+
+	private final RecordingProcessor[] processors = { new RecordingProcessor(), new RecordingProcessor() };
+	@SuppressWarnings("unchecked")
+	private final BatchingExecutor<RecordingProcessor>[] executors = new BatchingExecutor[processors.length];
+
+	private final CountDownLatch executorServiceUnblocked = new CountDownLatch( 1 );
+	private ScheduledExecutorService executorService;
+
+	@Before
+	public void setup() {
+		// A single thread, blocked until we unblock it, so that works pile up in queues.
+		executorService = threadPoolProvider.newScheduledExecutor( 1, "BatchingExecutorRouterTest" );
+		executorService.submit( () -> {
+			executorServiceUnblocked.await();
+			return null;
+		} );
+		for ( int i = 0; i < executors.length; i++ ) {
+			executors[i] = new BatchingExecutor<>( "executor-" + i, processors[i],
+					BatchingExecutorSettings.builder( 100 ).build(), new LogFailureHandler() );
+			executors[i].start( executorService );
+		}
+	}
+
+	@After
+	public void cleanup() {
+		executorServiceUnblocked.countDown();
+		for ( BatchingExecutor<?> executor : executors ) {
+			executor.stop();
+		}
+		executorService.shutdownNow();
+		threadPoolProvider.close();
+	}
+
+	@Test
+	public void noRebalancing() throws Exception {
+		BatchingExecutorRouter<RecordingProcessor> router =
+				new BatchingExecutorRouter<>( "router", executors, false, MetricsRecorder.noOp() );
+		String hotKey = "hot";
+		String collidingKey = keyWithSameIndexAs( hotKey );
+		int hashIndex = SimpleHashFunction.pickIndex( executors.length, hotKey );
+
+		submit( router, hotKey );
+		submit( router, hotKey );
+		CompletableFuture<?> last = submit( router, collidingKey );
+
+		executorServiceUnblocked.countDown();
+		last.get( 10, TimeUnit.SECONDS );
+
+		assertThat( processors[hashIndex].keys ).containsExactly( hotKey, hotKey, collidingKey );
+		assertThat( processors[1 - hashIndex].keys ).isEmpty();
+	}
+
+	@Test
+	public void rebalancing() throws Exception {
+		BatchingExecutorRouter<RecordingProcessor> router =
+				new BatchingExecutorRouter<>( "router", executors, true, MetricsRecorder.noOp() );
+		String hotKey = "hot";
+		String collidingKey = keyWithSameIndexAs( hotKey );
+		int hashIndex = SimpleHashFunction.pickIndex( executors.length, hotKey );
+
+		submit( router, hotKey );
+		submit( router, hotKey );
+		// The hot key has pending works: this one must go to the same queue to preserve ordering,
+		// even though the other queue is shorter.
+		submit( router, collidingKey );
+		CompletableFuture<?> lastHot = submit( router, hotKey );
+
+		executorServiceUnblocked.countDown();
+		lastHot.get( 10, TimeUnit.SECONDS );
+		for ( BatchingExecutor<?> executor : executors ) {
+			executor.completion().get( 10, TimeUnit.SECONDS );
+		}
+
+		// The colliding key had no pending work: it was routed to the idle queue.
+		assertThat( processors[hashIndex].keys ).containsExactly( hotKey, hotKey, hotKey );
+		assertThat( processors[1 - hashIndex].keys ).containsExactly( collidingKey );
+
+		// Once all works are executed, keys are routed to the queue picked by the hash function again.
+		submit( router, collidingKey ).get( 10, TimeUnit.SECONDS );
+		assertThat( processors[hashIndex].keys ).containsExactly( hotKey, hotKey, hotKey, collidingKey );
+	}
+
+	private CompletableFuture<?> submit(BatchingExecutorRouter<RecordingProcessor> router, String key)
+			throws InterruptedException {
+		RecordingWork work = new RecordingWork( key );
+		router.submit( key, work, work.future );
+		return work.future;
+	}
+
+	private String keyWithSameIndexAs(String key) {
+		int index = SimpleHashFunction.pickIndex( executors.length, key );
+		for ( int i = 0; ; i++ ) {
+			String candidate = "other" + i;
+			if ( SimpleHashFunction.pickIndex( executors.length, candidate ) == index ) {
+				return candidate;
+			}
+		}
+	}
+
+	private static final class RecordingProcessor implements BatchedWorkProcessor {
+		private final List<String> keys = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void beginBatch() {
+		}
+
+		@Override
+		public CompletableFuture<?> endBatch() {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public void complete() {
+		}
+	}
+
+	private static final class RecordingWork implements BatchedWork<RecordingProcessor> {
+		private final String key;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		private RecordingWork(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public void submitTo(RecordingProcessor processor) {
+			processor.keys.add( key );
+			future.complete( null );
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			future.completeExceptionally( t );
+		}
+	}
+
+}
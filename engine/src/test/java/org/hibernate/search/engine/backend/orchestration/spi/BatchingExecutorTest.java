@@ -16,11 +16,13 @@
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.hibernate.search.engine.cfg.IndexingQueueOverflowStrategyName;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.test.FutureAssert;
 
 import org.junit.After;
@@ -288,6 +290,227 @@ public void endBatchFailure() throws InterruptedException {
 		checkPostExecution();
 	}
 
+	@Test
+	public void coalescing() throws InterruptedException {
+		createAndStartExecutor( 4, true, 0 );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubCoalescableWork work1Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work2Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work3Mock = createMock( StubCoalescableWork.class );
+		StubWork work4Mock = createMock( StubWork.class );
+		resetAll();
+		replayAll();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		executor.submit( work4Mock );
+		verifyAll();
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		expect( work1Mock.getCoalescingKey() ).andReturn( "doc1" );
+		expect( work2Mock.getCoalescingKey() ).andReturn( "doc2" );
+		expect( work3Mock.getCoalescingKey() ).andReturn( "doc1" );
+		// Work 3 affects the same document as work 1, and supersedes it
+		expect( work3Mock.supersede( work1Mock ) ).andReturn( true );
+		processorMock.beginBatch();
+		// Work 1 should not be submitted to the processor
+		work2Mock.submitTo( processorMock );
+		work3Mock.submitTo( processorMock );
+		work4Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		// Since the queue is empty, works should be considered complete.
+		processorMock.complete();
+		completionListenerAfterSubmit.onComplete();
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		checkPostExecution();
+	}
+
+	@Test
+	public void coalescing_notSuperseding() throws InterruptedException {
+		createAndStartExecutor( 4, true, 0 );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubCoalescableWork work1Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work2Mock = createMock( StubCoalescableWork.class );
+		resetAll();
+		replayAll();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		verifyAll();
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		expect( work1Mock.getCoalescingKey() ).andReturn( "doc1" );
+		expect( work2Mock.getCoalescingKey() ).andReturn( "doc1" );
+		// Work 2 affects the same document as work 1, but cannot supersede it
+		expect( work2Mock.supersede( work1Mock ) ).andReturn( false );
+		processorMock.beginBatch();
+		work1Mock.submitTo( processorMock );
+		work2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		// Since the queue is empty, works should be considered complete.
+		processorMock.complete();
+		completionListenerAfterSubmit.onComplete();
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		checkPostExecution();
+	}
+
+	@Test
+	public void overflow_fail() throws InterruptedException {
+		createAndStartExecutor( 2, true, null, IndexingQueueOverflowStrategyName.FAIL, null );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubWork work1Mock = createMock( StubWork.class );
+		StubWork work2Mock = createMock( StubWork.class );
+		StubWork work3Mock = createMock( StubWork.class );
+		Capture<Throwable> failureCapture = Capture.newInstance();
+		resetAll();
+		// The queue is full when work 3 is submitted: it should fail immediately
+		work3Mock.markAsFailed( capture( failureCapture ) );
+		replayAll();
+		executor.submit( work1Mock, WorkSubmissionMode.OVERFLOW_STRATEGY );
+		executor.submit( work2Mock, WorkSubmissionMode.OVERFLOW_STRATEGY );
+		executor.submit( work3Mock, WorkSubmissionMode.OVERFLOW_STRATEGY );
+		verifyAll();
+
+		assertThat( failureCapture.getValue() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to submit an indexing operation to queue '" + NAME + "'" )
+				.hasMessageContaining( "the queue is full (capacity: 2)" );
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		// Works that were accepted should still be processed
+		processorMock.beginBatch();
+		work1Mock.submitTo( processorMock );
+		work2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		// Since the queue is empty, works should be considered complete.
+		processorMock.complete();
+		completionListenerAfterSubmit.onComplete();
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		checkPostExecution();
+	}
+
+	@Test
+	public void overflow_blockWithTimeout() throws InterruptedException {
+		createAndStartExecutor( 2, true, null, IndexingQueueOverflowStrategyName.BLOCK, 100L );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubWork work1Mock = createMock( StubWork.class );
+		StubWork work2Mock = createMock( StubWork.class );
+		StubWork work3Mock = createMock( StubWork.class );
+		Capture<Throwable> failureCapture = Capture.newInstance();
+		resetAll();
+		// The queue stays full while work 3 is being submitted: it should fail after the timeout
+		work3Mock.markAsFailed( capture( failureCapture ) );
+		replayAll();
+		executor.submit( work1Mock, WorkSubmissionMode.OVERFLOW_STRATEGY );
+		executor.submit( work2Mock, WorkSubmissionMode.OVERFLOW_STRATEGY );
+		long start = System.nanoTime();
+		executor.submit( work3Mock, WorkSubmissionMode.OVERFLOW_STRATEGY );
+		long elapsedMillis = ( System.nanoTime() - start ) / 1_000_000L;
+		verifyAll();
+
+		assertThat( elapsedMillis ).isGreaterThanOrEqualTo( 100L );
+		assertThat( failureCapture.getValue() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "could not be enqueued within 100ms" );
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		processorMock.beginBatch();
+		work1Mock.submitTo( processorMock );
+		work2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		// Since the queue is empty, works should be considered complete.
+		processorMock.complete();
+		completionListenerAfterSubmit.onComplete();
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		checkPostExecution();
+	}
+
+	@Test
+	public void overflow_fail_blockingSubmission() throws InterruptedException {
+		createAndStartExecutor( 2, true, null, IndexingQueueOverflowStrategyName.FAIL, null );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubWork work1Mock = createMock( StubWork.class );
+		StubWork work2Mock = createMock( StubWork.class );
+		StubWork work3Mock = createMock( StubWork.class );
+		resetAll();
+		replayAll();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		// The queue is full when work 3 is submitted,
+		// but blocking submissions (e.g. from mass indexing) ignore the overflow strategy: it should wait.
+		CompletableFuture<Void> work3SubmitFuture = CompletableFuture.runAsync( () -> {
+			try {
+				executor.submit( work3Mock );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		}, asyncExecutor );
+		Thread.sleep( 100L );
+		FutureAssert.assertThat( work3SubmitFuture ).isPending();
+		verifyAll();
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		CompletableFuture<Object> batch2Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		// All works should be processed, none should fail
+		processorMock.beginBatch();
+		work1Mock.submitTo( processorMock );
+		work2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		processorMock.beginBatch();
+		work3Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch2Future );
+		// Since the queue is empty, works should be considered complete.
+		// The queue may also be empty between the two batches, before the blocked submission of work 3 resumes.
+		processorMock.complete();
+		expectLastCall().times( 1, 2 );
+		completionListenerAfterSubmit.onComplete();
+		expectLastCall().times( 1, 2 );
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+		FutureAssert.assertThat( work3SubmitFuture ).isSuccessful();
+
+		checkPostExecution();
+	}
+
 	private void verifyAllAsynchronously() {
 		await().untilAsserted( () -> {
 			// Synchronize on the processor, like in the batching executor,
@@ -318,8 +541,23 @@ private Runnable blockExecutor()
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
+		createAndStartExecutor( maxTasksPerBatch, fair, null );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, Integer coalescingWindow) {
+		createAndStartExecutor( maxTasksPerBatch, fair, coalescingWindow, IndexingQueueOverflowStrategyName.BLOCK, null );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, Integer coalescingWindow,
+			IndexingQueueOverflowStrategyName overflowStrategy, Long overflowTimeout) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock,
+				BatchingExecutorSettings.builder( maxTasksPerBatch )
+						.fair( fair )
+						.coalescingWindow( coalescingWindow )
+						.overflow( overflowStrategy, overflowTimeout )
+						.build(),
+				failureHandlerMock
 		);
 
 		// Having multiple threads should not matter:
@@ -383,6 +621,9 @@ private void checkPostExecution() throws InterruptedException {
 	private interface StubWork extends BatchedWork<StubWorkProcessor> {
 	}
 
+	private interface StubCoalescableWork extends CoalescableBatchedWork<StubWorkProcessor> {
+	}
+
 	private interface StubWorkProcessor extends BatchedWorkProcessor {
 	}
 
@@ -0,0 +1,111 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.environment.metrics.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.Distribution;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class JmxMetricsRecorderTest {
+
+	private final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+
+	private final BeanHolder<MetricsRecorder> recorderHolder = JmxMetricsRecorder.create();
+
+	@After
+	public void cleanup() {
+		recorderHolder.close();
+	}
+
+	@Test
+	public void counter() throws Exception {
+		MetricsRecorder recorder = recorderHolder.get();
+		Counter counter = recorder.counter( "test.counter", "index", "myIndex" );
+		counter.increment( 3 );
+		counter.increment( 5 );
+
+		// Requesting the same metric again must return the same aggregate
+		recorder.counter( "test.counter", "index", "myIndex" ).increment();
+
+		ObjectName objectName = objectName( recorder, "test.counter", "index", "myIndex" );
+		assertThat( mbeanServer.isRegistered( objectName ) ).isTrue();
+		// The count of a counter is the sum of increments, not the number of calls
+		assertThat( mbeanServer.getAttribute( objectName, "Count" ) ).isEqualTo( 9L );
+		assertThat( mbeanServer.getAttribute( objectName, "Total" ) ).isEqualTo( 9L );
+
+		recorderHolder.close();
+		assertThat( mbeanServer.isRegistered( objectName ) ).isFalse();
+	}
+
+	@Test
+	public void distribution() throws Exception {
+		MetricsRecorder recorder = recorderHolder.get();
+		Distribution distribution = recorder.distribution( "test.distribution", "index", "myIndex" );
+		distribution.record( 3 );
+		distribution.record( 5 );
+
+		ObjectName objectName = objectName( recorder, "test.distribution", "index", "myIndex" );
+		assertThat( mbeanServer.getAttribute( objectName, "Count" ) ).isEqualTo( 2L );
+		assertThat( mbeanServer.getAttribute( objectName, "Total" ) ).isEqualTo( 8L );
+		assertThat( mbeanServer.getAttribute( objectName, "Max" ) ).isEqualTo( 5L );
+		assertThat( mbeanServer.getAttribute( objectName, "Mean" ) ).isEqualTo( 4.0 );
+	}
+
+	@Test
+	public void gauge() throws Exception {
+		AtomicLong value = new AtomicLong( 42L );
+		MetricsRecorder recorder = recorderHolder.get();
+		recorder.gauge( "test.gauge", value::get, "executor", "myExecutor" );
+
+		ObjectName objectName = objectName( recorder, "test.gauge", "executor", "myExecutor" );
+		assertThat( mbeanServer.getAttribute( objectName, "Value" ) ).isEqualTo( 42L );
+		value.set( 7L );
+		assertThat( mbeanServer.getAttribute( objectName, "Value" ) ).isEqualTo( 7L );
+	}
+
+	@Test
+	public void multipleRecorders() throws Exception {
+		MetricsRecorder recorder1 = recorderHolder.get();
+		try ( BeanHolder<MetricsRecorder> otherRecorderHolder = JmxMetricsRecorder.create() ) {
+			MetricsRecorder recorder2 = otherRecorderHolder.get();
+			recorder1.counter( "test.counter", "index", "myIndex" ).increment( 1 );
+			recorder2.counter( "test.counter", "index", "myIndex" ).increment( 2 );
+
+			// Each recorder registers its own MBean: they must not collide
+			ObjectName objectName1 = objectName( recorder1, "test.counter", "index", "myIndex" );
+			ObjectName objectName2 = objectName( recorder2, "test.counter", "index", "myIndex" );
+			assertThat( objectName1 ).isNotEqualTo( objectName2 );
+			assertThat( mbeanServer.getAttribute( objectName1, "Count" ) ).isEqualTo( 1L );
+			assertThat( mbeanServer.getAttribute( objectName2, "Count" ) ).isEqualTo( 2L );
+
+			// Closing one recorder must leave the MBeans of the other untouched
+			recorderHolder.close();
+			assertThat( mbeanServer.isRegistered( objectName1 ) ).isFalse();
+			assertThat( mbeanServer.isRegistered( objectName2 ) ).isTrue();
+		}
+	}
+
+	private static ObjectName objectName(MetricsRecorder recorder, String name, String tagKey, String tagValue)
+			throws MalformedObjectNameException {
+		return new ObjectName( "org.hibernate.search:type=Metric,integration="
+				+ ( (JmxMetricsRecorder) recorder ).integrationId()
+				+ ",name=\"" + name + "\"," + tagKey + "=\"" + tagValue + "\"" );
+	}
+
+}
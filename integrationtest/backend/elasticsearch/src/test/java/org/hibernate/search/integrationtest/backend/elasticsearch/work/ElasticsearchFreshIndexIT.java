@@ -0,0 +1,156 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultPrimaryName;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubEntityReference;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Tests filling a fresh index through {@link IndexWorkspace#createFreshIndex()},
+ * then either switching to it or dropping it.
+ */
+public class ElasticsearchFreshIndexIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private URLEncodedString previousPrimaryName;
+	private URLEncodedString freshPrimaryName;
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		previousPrimaryName = defaultPrimaryName( index.name() );
+		freshPrimaryName = encodeName( index.name() + "-000002" );
+
+		IndexWorkspace workspace = index.createWorkspace();
+		IndexIndexer indexer = index.createIndexer();
+		indexer.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ).join();
+		indexer.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "initial" ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ).join();
+		workspace.refresh().join();
+
+		assertThat( query( "initial" ) ).hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+	}
+
+	@Test
+	public void switchToFreshIndex() {
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.createFreshIndex().join();
+		Assertions.assertThat( elasticsearchClient.index( freshPrimaryName, null, null ).exists() ).isTrue();
+
+		// Simulate mass indexing: only document 1 is reindexed into the fresh index
+		reindex( "1", "reindexed" );
+		workspace.refresh().join();
+
+		// Searches still target the previous index
+		assertThat( query( "initial" ) ).hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+		assertThat( query( "reindexed" ) ).hasNoHits();
+
+		// Simulate automatic indexing while mass indexing is in progress
+		IndexIndexingPlan<StubEntityReference> plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().text, "automatic" ) );
+		plan.execute().join();
+
+		// Writes from indexing plans are visible immediately, even before the switch
+		assertThat( query( "automatic" ) ).hasDocRefHitsAnyOrder( index.typeName(), "3" );
+
+		workspace.switchToFreshIndex().join();
+
+		// Searches now target the fresh index, which also received writes from indexing plans
+		assertThat( query( "initial" ) ).hasNoHits();
+		assertThat( query( "reindexed" ) ).hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThat( query( "automatic" ) ).hasDocRefHitsAnyOrder( index.typeName(), "3" );
+		Assertions.assertThat( elasticsearchClient.index( previousPrimaryName, null, null ).exists() ).isFalse();
+
+		// Writes after the switch go to the fresh index
+		plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "4" ), document -> document.addValue( index.binding().text, "automatic" ) );
+		plan.execute().join();
+		assertThat( query( "automatic" ) ).hasDocRefHitsAnyOrder( index.typeName(), "3", "4" );
+		Assertions.assertThat( elasticsearchClient.index( previousPrimaryName, null, null ).exists() ).isFalse();
+	}
+
+	@Test
+	public void dropFreshIndex() {
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.createFreshIndex().join();
+
+		reindex( "1", "reindexed" );
+		workspace.refresh().join();
+
+		IndexIndexingPlan<StubEntityReference> plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().text, "automatic" ) );
+		plan.delete( referenceProvider( "2" ) );
+		plan.execute().join();
+
+		// Simulate a mass indexing failure
+		workspace.dropFreshIndex().join();
+		Assertions.assertThat( elasticsearchClient.index( freshPrimaryName, null, null ).exists() ).isFalse();
+
+		// Searches still target the previous index, and writes from indexing plans were not lost
+		assertThat( query( "initial" ) ).hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThat( query( "reindexed" ) ).hasNoHits();
+		assertThat( query( "automatic" ) ).hasDocRefHitsAnyOrder( index.typeName(), "3" );
+
+		// Writes after the rollback go to the previous index again
+		reindex( "1", "reindexed" );
+		workspace.refresh().join();
+		assertThat( query( "initial" ) ).hasNoHits();
+		assertThat( query( "reindexed" ) ).hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		Assertions.assertThat( elasticsearchClient.index( freshPrimaryName, null, null ).exists() ).isFalse();
+	}
+
+	private void reindex(String id, String text) {
+		index.createIndexer().add( referenceProvider( id ), document -> document.addValue( index.binding().text, text ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ).join();
+	}
+
+	private SearchQuery<DocumentReference> query(String text) {
+		return index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( text ) )
+				.toQuery();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.replication;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Tests replication of commit points from a primary node to a replica node,
+ * with two backends in the same JVM sharing a replication root.
+ */
+public class LuceneReplicationIT {
+
+	@Rule
+	public final TemporaryFolder replicationRoot = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper primarySetupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final SearchSetupHelper replicaSetupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> primaryIndex = SimpleMappedIndex.of( IndexBinding::new );
+	private final SimpleMappedIndex<IndexBinding> replicaIndex = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void replicaSeesCommittedDocuments() {
+		setupPrimary();
+		setupReplica();
+
+		SearchQuery<DocumentReference> query = replicaIndex.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = primaryIndex.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> document.addValue( primaryIndex.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// The replica checks the replication root for new commit points after the refresh interval
+		Awaitility.await().untilAsserted( () -> assertThat( query )
+				.hasDocRefHitsAnyOrder( replicaIndex.typeName(), "1" ) );
+	}
+
+	@Test
+	public void replicaIsReadOnly() {
+		setupPrimary();
+		setupReplica();
+
+		IndexIndexingPlan<?> plan = replicaIndex.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> document.addValue( replicaIndex.binding().textField, "text1" ) );
+
+		assertThatThrownBy( () -> plan.execute().join() )
+				.hasStackTraceContaining( "this index uses the 'replica' I/O strategy and is read-only" );
+	}
+
+	@Test
+	public void replicaRefreshIntervalZero() {
+		assertThatThrownBy( () -> replicaSetupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_TYPE, "local-heap" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.REPLICATION_ROOT, replicationRoot.getRoot().getAbsolutePath() )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_STRATEGY, "replica" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, 0 )
+				.withIndex( replicaIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "The 'replica' I/O strategy requires a strictly positive refresh interval" );
+	}
+
+	private void setupPrimary() {
+		primarySetupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_TYPE, "local-heap" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.REPLICATION_ROOT, replicationRoot.getRoot().getAbsolutePath() )
+				.withIndex( primaryIndex )
+				.setup();
+	}
+
+	private void setupReplica() {
+		replicaSetupHelper.start()
+				// The replica must not share its index directory with the primary node.
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_TYPE, "local-heap" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.REPLICATION_ROOT, replicationRoot.getRoot().getAbsolutePath() )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_STRATEGY, "replica" )
+				.withIndex( replicaIndex )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> textField;
+
+		IndexBinding(IndexSchemaElement root) {
+			textField = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
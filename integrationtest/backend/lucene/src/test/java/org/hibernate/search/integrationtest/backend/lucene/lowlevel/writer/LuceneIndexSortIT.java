@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+public class LuceneIndexSortIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int BATCH_COUNT = 5;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void defaults() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+
+		assertThat( getIndexSorts() )
+				.isNotEmpty()
+				.containsOnlyNulls();
+	}
+
+	@Test
+	public void custom() throws IOException {
+		setup( "number:desc, date" );
+
+		assertThat( getIndexSorts() )
+				.isNotEmpty()
+				.allSatisfy( sort -> {
+					SortField[] sortFields = sort.getSort();
+					assertThat( sortFields ).hasSize( 2 );
+					assertThat( sortFields[0].getField() ).isEqualTo( "number" );
+					assertThat( sortFields[0].getReverse() ).isTrue();
+					assertThat( sortFields[1].getField() ).isEqualTo( "date" );
+					assertThat( sortFields[1].getReverse() ).isFalse();
+				} );
+	}
+
+	@Test
+	public void invalidOrder() {
+		assertThatThrownBy( () -> setup( "number:sideways" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort order 'sideways' for field 'number'" );
+	}
+
+	@Test
+	public void invalidField_unknown() {
+		assertThatThrownBy( () -> setup( "unknown" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort field 'unknown'" );
+	}
+
+	@Test
+	public void invalidField_notSortable() {
+		assertThatThrownBy( () -> setup( "notSortableNumber" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort field 'notSortableNumber'" );
+	}
+
+	@Test
+	public void invalidField_notNumeric() {
+		assertThatThrownBy( () -> setup( "parity" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort field 'parity'" );
+	}
+
+	@Test
+	public void nestedDocuments() {
+		SimpleMappedIndex<NestedIndexBinding> nestedIndex = SimpleMappedIndex.of( NestedIndexBinding::new );
+
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_WRITER_INDEX_SORT, "number" )
+				.withIndex( nestedIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot sort an index that includes nested documents" );
+	}
+
+	@Test
+	public void sortedQuery_matchingIndexSort() {
+		setup( "number:desc" );
+		initData();
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.match().field( "parity" ).matching( "even" ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 5 );
+
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "98", "96", "94", "92", "90" )
+				// Collection of top hits stops early, but the total hit count must remain exact
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void sortedQuery_notMatchingIndexSort() {
+		setup( "number:desc" );
+		initData();
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.match().field( "parity" ).matching( "odd" ) )
+				.sort( f -> f.field( "number" ).asc() )
+				.fetch( 5 );
+
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "1", "3", "5", "7", "9" )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_WRITER_INDEX_SORT, indexSort )
+				.withIndex( index )
+				.setup();
+	}
+
+	private List<Sort> getIndexSorts() throws IOException {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		List<Sort> sorts = new ArrayList<>();
+		for ( Shard shard : luceneIndexManager.getShardsForTests() ) {
+			IndexWriter writer = shard.getIndexAccessorForTests().getWriterForTests();
+			sorts.add( writer.getConfig().getIndexSort() );
+		}
+		return sorts;
+	}
+
+	private void initData() {
+		int batchSize = DOCUMENT_COUNT / BATCH_COUNT;
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			// Each batch is committed separately, so that the index includes multiple segments
+			IndexIndexingPlan<?> plan = index.createIndexingPlan();
+			for ( int i = batch * batchSize; i < ( batch + 1 ) * batchSize; i++ ) {
+				// Index documents in an order unrelated to the index sort
+				int number = ( i * 37 ) % DOCUMENT_COUNT;
+				plan.add( referenceProvider( String.valueOf( number ) ), document -> {
+					document.addValue( index.binding().number, number );
+					document.addValue( index.binding().parity, number % 2 == 0 ? "even" : "odd" );
+				} );
+			}
+			plan.execute().join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> parity;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			root.field( "date", f -> f.asLocalDate().sortable( Sortable.YES ) ).toReference();
+			root.field( "notSortableNumber", f -> f.asInteger().sortable( Sortable.NO ) ).toReference();
+			parity = root.field( "parity", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+
+	private static class NestedIndexBinding {
+		NestedIndexBinding(IndexSchemaElement root) {
+			root.field( "number", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			root.objectField( "nested", ObjectStructure.NESTED ).toReference();
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckBackendHelper;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for sharding by tenant identifier,
+ * i.e. explicit sharding with one shard per tenant and {@link LuceneIndexSettings#SHARDING_ROUTE_BY_TENANT} enabled.
+ */
+public class ShardingRouteByTenantIT {
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+	private static final String MISSING_TENANT = "tenant_missing";
+
+	@Rule
+	public final SearchSetupHelper setupHelper =
+			new SearchSetupHelper( TckBackendHelper::createMultiTenancyBackendSetupStrategy );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final StubBackendSessionContext tenant1SessionContext = new StubBackendSessionContext( TENANT_1 );
+	private final StubBackendSessionContext tenant2SessionContext = new StubBackendSessionContext( TENANT_2 );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "explicit" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_SHARD_IDENTIFIERS, TENANT_1 + "," + TENANT_2 )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_ROUTE_BY_TENANT, true )
+				.withIndex( index )
+				.withMultiTenancy()
+				.setup();
+
+		// Same document ID in both tenants, on purpose
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( tenant1SessionContext );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().string, "text1" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().string, "text2" ) );
+		plan.execute().join();
+
+		plan = index.createIndexingPlan( tenant2SessionContext );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().string, "text1" ) );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().string, "text3" ) );
+		plan.add( referenceProvider( "4" ), document -> document.addValue( index.binding().string, "text4" ) );
+		plan.execute().join();
+	}
+
+	@Test
+	public void isolation() throws IOException {
+		// Each tenant has its own shard, and each shard only contains the documents of its tenant
+		assertThat( countDocumentsInShard( TENANT_1 ) ).isEqualTo( 2 );
+		assertThat( countDocumentsInShard( TENANT_2 ) ).isEqualTo( 3 );
+
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+		SearchResultAssert.assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3", "4" );
+
+		// Updates and deletes only affect the shard of the tenant
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( tenant2SessionContext );
+		plan.update( referenceProvider( "1" ), document -> document.addValue( index.binding().string, "updated" ) );
+		plan.delete( referenceProvider( "3" ) );
+		plan.execute().join();
+
+		assertThat( countDocumentsInShard( TENANT_1 ) ).isEqualTo( 2 );
+		assertThat( countDocumentsInShard( TENANT_2 ) ).isEqualTo( 2 );
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.match().field( "string" ).matching( "text1" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		SearchResultAssert.assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.match().field( "string" ).matching( "updated" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+	}
+
+	@Test
+	public void massIndexing() throws IOException {
+		IndexIndexer indexer = index.createIndexer( tenant1SessionContext );
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+		for ( int i = 0; i < futures.length; i++ ) {
+			String id = String.valueOf( 10 + i );
+			futures[i] = indexer.add( referenceProvider( id ),
+					document -> document.addValue( index.binding().string, "mass" + id ),
+					DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		}
+		CompletableFuture.allOf( futures ).join();
+		index.createWorkspace( tenant1SessionContext ).flush().join();
+		index.createWorkspace( tenant1SessionContext ).refresh().join();
+
+		assertThat( countDocumentsInShard( TENANT_1 ) ).isEqualTo( 5 );
+		assertThat( countDocumentsInShard( TENANT_2 ) ).isEqualTo( 3 );
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "10", "11", "12" );
+		SearchResultAssert.assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3", "4" );
+	}
+
+	@Test
+	public void purge() throws IOException {
+		index.createWorkspace( tenant1SessionContext ).purge( Collections.emptySet() ).join();
+		index.createWorkspace( tenant1SessionContext ).flush().join();
+		index.createWorkspace( tenant1SessionContext ).refresh().join();
+
+		assertThat( countDocumentsInShard( TENANT_1 ) ).isEqualTo( 0 );
+		assertThat( countDocumentsInShard( TENANT_2 ) ).isEqualTo( 3 );
+		SearchResultAssert.assertThat( index.createScope().query( tenant1SessionContext )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasNoHits();
+		SearchResultAssert.assertThat( index.createScope().query( tenant2SessionContext )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3", "4" );
+	}
+
+	@Test
+	public void missingTenant() throws IOException {
+		StubBackendSessionContext missingTenantSessionContext = new StubBackendSessionContext( MISSING_TENANT );
+
+		assertThatThrownBy( () -> index.createIndexingPlan( missingTenantSessionContext )
+				.add( referenceProvider( "5" ), document -> document.addValue( index.binding().string, "text5" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid routing key: '" + MISSING_TENANT + "'", TENANT_1, TENANT_2 );
+
+		assertThatThrownBy( () -> index.createScope().query( missingTenantSessionContext )
+				.where( f -> f.matchAll() )
+				.fetchAll() )
+				.isInstanceOf( SearchException.class )
+				.hasStackTraceContaining( "Invalid routing key: '" + MISSING_TENANT + "'" );
+
+		// Nothing was indexed anywhere
+		assertThat( countDocumentsInShard( TENANT_1 ) ).isEqualTo( 2 );
+		assertThat( countDocumentsInShard( TENANT_2 ) ).isEqualTo( 3 );
+	}
+
+	private int countDocumentsInShard(String shardId) throws IOException {
+		return LuceneIndexContentUtils.readShard( setupHelper, index.name(), shardId, reader -> reader.numDocs() );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
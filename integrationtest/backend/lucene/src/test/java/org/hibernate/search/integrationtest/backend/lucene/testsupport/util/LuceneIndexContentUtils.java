@@ -29,6 +29,17 @@ public static <T> T readIndex(SearchSetupHelper setupHelper,
 		}
 	}
 
+	// Reads directly from one shard of the index, without going through Hibernate Search
+	public static <T> T readShard(SearchSetupHelper setupHelper,
+			String indexName, String shardId, ThrowingExtractor<DirectoryReader, T, IOException> action)
+			throws IOException {
+		LuceneTckBackendAccessor accessor = (LuceneTckBackendAccessor) setupHelper.getBackendAccessor();
+		try ( Directory directory = accessor.openDirectory( indexName, shardId );
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return action.apply( reader );
+		}
+	}
+
 	public static boolean indexExists(SearchSetupHelper setupHelper, String indexName) throws IOException {
 		LuceneTckBackendAccessor accessor = (LuceneTckBackendAccessor) setupHelper.getBackendAccessor();
 		try ( Directory directory = accessor.openDirectory( indexName ) ) {
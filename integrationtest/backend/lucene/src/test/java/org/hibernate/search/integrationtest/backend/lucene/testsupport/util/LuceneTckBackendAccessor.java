@@ -88,6 +88,10 @@ public Directory openDirectory(String indexName) throws IOException {
 		return FSDirectory.open( indexesPath.resolve( indexName ) );
 	}
 
+	public Directory openDirectory(String indexName, String shardId) throws IOException {
+		return FSDirectory.open( indexesPath.resolve( indexName ).resolve( shardId ) );
+	}
+
 	private void deleteOrLogRecursively(Path path, String indexName) {
 		try {
 			Files.walkFileTree( path, new SimpleFileVisitor<Path>() {
@@ -0,0 +1,261 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkReceiver;
+import org.hibernate.search.backend.lucene.work.spi.IndexingWorkTransport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests forwarding of indexing works from one node to the node owning the index,
+ * with two backends in the same JVM connected through a loopback transport.
+ */
+public class LuceneIndexingWorkForwardingIT {
+
+	@Rule
+	public final SearchSetupHelper ownerSetupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final SearchSetupHelper forwarderSetupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> ownerIndex = SimpleMappedIndex.of( IndexBinding::new );
+	private final SimpleMappedIndex<IndexBinding> forwarderIndex = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final ExecutorService transportExecutor = Executors.newCachedThreadPool();
+	private final LoopbackTransport ownerTransport = new LoopbackTransport( transportExecutor, null );
+	private final LoopbackTransport forwarderTransport = new LoopbackTransport( transportExecutor, ownerTransport );
+
+	@Before
+	public void setup() {
+		ownerSetupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.INDEXING_FORWARDING_TRANSPORT,
+						BeanReference.ofInstance( ownerTransport ) )
+				.withIndex( ownerIndex )
+				.setup();
+		forwarderSetupHelper.start()
+				// The forwarding node must not write to the directory of the owning node.
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_TYPE, "local-heap" )
+				.withBackendProperty( LuceneBackendSettings.INDEXING_FORWARDING_TRANSPORT,
+						BeanReference.ofInstance( forwarderTransport ) )
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.withIndex( forwarderIndex )
+				.setup();
+	}
+
+	@After
+	public void cleanup() {
+		transportExecutor.shutdownNow();
+	}
+
+	@Test
+	public void indexingPlan() {
+		IndexIndexingPlan<?> plan = forwarderIndex.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( forwarderIndex.binding().string, "value1" );
+			document.addValue( forwarderIndex.binding().text, "some text" );
+		} );
+		plan.add( referenceProvider( "2" ), document -> {
+			document.addValue( forwarderIndex.binding().string, "value2" );
+			document.addValue( forwarderIndex.binding().text, "other text" );
+		} );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( forwarderIndex.binding().string, "value3" ) );
+		plan.execute().join();
+
+		// The commit and refresh requested by the plan were forwarded as well
+		SearchResultAssert.assertThat( ownerIndex.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( ownerIndex.typeName(), "1", "2", "3" );
+		// Text is analyzed on the owning node
+		SearchResultAssert.assertThat( ownerIndex.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "TEXT" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( ownerIndex.typeName(), "1", "2" );
+		// Nothing was written locally
+		SearchResultAssert.assertThat( forwarderIndex.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasNoHits();
+
+		plan = forwarderIndex.createIndexingPlan();
+		plan.update( referenceProvider( "1" ), document -> document.addValue( forwarderIndex.binding().string, "updated" ) );
+		plan.delete( referenceProvider( "2" ) );
+		plan.execute().join();
+
+		SearchResultAssert.assertThat( ownerIndex.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( ownerIndex.typeName(), "1", "3" );
+		SearchResultAssert.assertThat( ownerIndex.createScope().query()
+				.where( f -> f.match().field( "string" ).matching( "updated" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( ownerIndex.typeName(), "1" );
+	}
+
+	@Test
+	public void batching() throws InterruptedException {
+		CountDownLatch releaseFirstSend = new CountDownLatch( 1 );
+		ownerTransport.blockReceptionUntil( releaseFirstSend );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		futures.add( executeAdd( "0" ) );
+		// Wait for the first batch to be sent: the queue won't start another batch until it gets a reply
+		assertThat( ownerTransport.receptionStarted.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		for ( int i = 1; i <= 10; i++ ) {
+			futures.add( executeAdd( String.valueOf( i ) ) );
+		}
+		releaseFirstSend.countDown();
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		// The works submitted while the first batch was in flight were sent as a single batch
+		assertThat( forwarderTransport.sendCount.get() ).isEqualTo( 2 );
+
+		ownerIndex.createWorkspace().refresh().join();
+		SearchResultAssert.assertThat( ownerIndex.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasTotalHitCount( 11 );
+	}
+
+	@Test
+	public void transportFailure() {
+		forwarderTransport.failWith( new IllegalStateException( "Simulated transport failure" ) );
+
+		IndexIndexingPlan<?> plan = forwarderIndex.createIndexingPlan(
+				new StubBackendSessionContext(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( forwarderIndex.binding().string, "value1" ) );
+
+		assertThatThrownBy( () -> plan.execute().join() )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasStackTraceContaining( "Unable to forward indexing works to the node owning this index" )
+				.hasStackTraceContaining( "Simulated transport failure" );
+	}
+
+	private CompletableFuture<?> executeAdd(String id) {
+		IndexIndexingPlan<?> plan = forwarderIndex.createIndexingPlan(
+				new StubBackendSessionContext(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( id ), document -> document.addValue( forwarderIndex.binding().string, id ) );
+		return plan.execute();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+			text = root.field( "text", f -> f.asString()
+					.analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD_ENGLISH.name ) )
+					.toReference();
+		}
+	}
+
+	/**
+	 * A transport connecting two backends in the same JVM.
+	 * <p>
+	 * When {@code owner} is {@code null}, this transport considers all indexes local;
+	 * otherwise, it considers all indexes owned by the backend using {@code owner}.
+	 */
+	private static class LoopbackTransport implements IndexingWorkTransport {
+		private final ExecutorService executor;
+		private final LoopbackTransport owner;
+
+		private final AtomicInteger sendCount = new AtomicInteger();
+		private final CountDownLatch receptionStarted = new CountDownLatch( 1 );
+		private volatile IndexingWorkReceiver receiver;
+		private volatile CountDownLatch receptionGate;
+		private volatile RuntimeException failure;
+
+		private LoopbackTransport(ExecutorService executor, LoopbackTransport owner) {
+			this.executor = executor;
+			this.owner = owner;
+		}
+
+		@Override
+		public void start(IndexingWorkReceiver receiver) {
+			this.receiver = receiver;
+		}
+
+		@Override
+		public boolean isLocal(String indexName, String shardId) {
+			return owner == null;
+		}
+
+		@Override
+		public CompletableFuture<byte[]> send(String indexName, String shardId, byte[] payload) {
+			sendCount.incrementAndGet();
+			if ( failure != null ) {
+				CompletableFuture<byte[]> result = new CompletableFuture<>();
+				result.completeExceptionally( failure );
+				return result;
+			}
+			// Copy the payload to make sure nothing is shared between the two backends
+			byte[] copy = payload.clone();
+			return CompletableFuture.supplyAsync( () -> owner.receive( indexName, shardId, copy ), executor )
+					.thenCompose( reply -> reply );
+		}
+
+		@Override
+		public void stop() {
+			this.receiver = null;
+		}
+
+		void blockReceptionUntil(CountDownLatch gate) {
+			this.receptionGate = gate;
+		}
+
+		void failWith(RuntimeException failure) {
+			this.failure = failure;
+		}
+
+		private CompletableFuture<byte[]> receive(String indexName, String shardId, byte[] payload) {
+			receptionStarted.countDown();
+			CountDownLatch gate = receptionGate;
+			if ( gate != null ) {
+				try {
+					gate.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException( e );
+				}
+			}
+			return receiver.receive( indexName, shardId, payload );
+		}
+	}
+}
@@ -20,6 +20,7 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
@@ -185,6 +186,54 @@ public void fetchTotalHitCount() {
 		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync() {
+		assertThat( matchAllQuery().fetchAsync( 1, 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+
+		assertThat( matchFirstHalfQuery().fetchAsync( null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( index.typeName(), docId( i ) );
+					}
+				} );
+
+		assertThat( matchAllQuery().fetchHitsAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void batch() {
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		SearchQueryBatch.Entry<DocumentReference> all = batch.add( matchAllQuery().toQuery(), 1, 2 );
+		SearchQueryBatch.Entry<DocumentReference> firstHalf = batch.add( matchFirstHalfQuery().toQuery() );
+		SearchQueryBatch.Entry<DocumentReference> one = batch.add( matchOneQuery( 4 ).toQuery(), 10 );
+
+		Assertions.assertThatThrownBy( all::result )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "before the batch is executed" );
+
+		batch.execute();
+
+		assertThat( all.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+		assertThat( firstHalf.result() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( index.typeName(), docId( i ) );
+					}
+				} );
+		assertThat( one.hits() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 4 ) );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -0,0 +1,99 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryProfile;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchQueryProfilingIT {
+
+	private static final String PROFILING_ENABLED = "query.profiling.enabled";
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void disabledByDefault() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+
+		SearchResult<DocumentReference> result = matchAllQuery().fetch( null );
+		assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.profile() ).isEmpty();
+	}
+
+	@Test
+	public void enabled_fetch() {
+		setupHelper.start().withBackendProperty( PROFILING_ENABLED, true ).withIndex( index ).setup();
+		initData();
+
+		SearchResult<DocumentReference> result = matchAllQuery().fetch( null );
+		assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+
+		Optional<SearchQueryProfile> profile = result.profile();
+		assertThat( profile ).isPresent();
+		assertThat( profile.get().phases() ).isNotEmpty()
+				// Loading is the only phase shared by all backends
+				.containsKey( "loading" );
+		assertThat( profile.get().phases().values() )
+				.allSatisfy( duration -> assertThat( duration ).isGreaterThanOrEqualTo( Duration.ZERO ) );
+		Duration sum = profile.get().phases().values().stream().reduce( Duration.ZERO, Duration::plus );
+		assertThat( profile.get().total() ).isEqualTo( sum );
+	}
+
+	@Test
+	public void enabled_fetchHitsAndTotalHitCount() {
+		setupHelper.start().withBackendProperty( PROFILING_ENABLED, true ).withIndex( index ).setup();
+		initData();
+
+		// These methods do not expose a profile, but profiling must not affect their results
+		assertThat( matchAllQuery().fetchHits( null ) ).hasSize( DOCUMENT_COUNT );
+		assertThat( matchAllQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		return index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+}
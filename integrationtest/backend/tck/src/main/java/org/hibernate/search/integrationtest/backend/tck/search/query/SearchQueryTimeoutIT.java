@@ -20,6 +20,7 @@
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchQueryBatch;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
@@ -133,6 +134,56 @@ public void timeout_fastCount_largeTimeout() {
 		assertThat( query.fetchTotalHitCount() ).isEqualTo( 0 );
 	}
 
+	@Test
+	public void timeout_batch_slowQuery_smallTimeout_raiseAnException_notBatched() {
+		// Queries that fail on timeout may be executed on their own instead of being batched,
+		// for example with Elasticsearch, because their client-side timeout would apply to the whole batch.
+		// Either way, failing on timeout must only affect the query that timed out.
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		SearchQueryBatch.Entry<DocumentReference> slow = batch.add( startSlowQuery()
+				.failAfter( 1, TimeUnit.NANOSECONDS )
+				.toQuery() );
+		SearchQueryBatch.Entry<DocumentReference> fast = batch.add( startFastQuery()
+				.failAfter( 1, TimeUnit.DAYS )
+				.toQuery() );
+
+		batch.execute();
+
+		Assertions.assertThatThrownBy( slow::result )
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( " exceeded the timeout of 0s, 0ms and 1ns: " );
+
+		SearchResult<DocumentReference> fastResult = fast.result();
+		SearchResultAssert.assertThat( fastResult ).hasNoHits();
+		assertThat( fastResult.timedOut() ).isFalse();
+	}
+
+	@Test
+	public void timeout_batch_slowQuery_smallTimeout_limitFetching() {
+		Assume.assumeTrue(
+				"backend should have a fast timeout resolution in order to run this test correctly",
+				TckConfiguration.get().getBackendFeatures().fastTimeoutResolution()
+		);
+
+		SearchQueryBatch batch = SearchQueryBatch.create();
+		SearchQueryBatch.Entry<DocumentReference> slow = batch.add( startSlowQuery()
+				.truncateAfter( 1, TimeUnit.NANOSECONDS )
+				.toQuery() );
+		SearchQueryBatch.Entry<DocumentReference> fast = batch.add( startFastQuery()
+				.truncateAfter( 1, TimeUnit.DAYS )
+				.toQuery() );
+
+		batch.execute();
+
+		SearchResult<DocumentReference> slowResult = slow.result();
+		assertThat( slowResult.totalHitCount() ).isLessThan( TOTAL_DOCUMENT_COUNT );
+		assertThat( slowResult.timedOut() ).isTrue();
+
+		SearchResult<DocumentReference> fastResult = fast.result();
+		SearchResultAssert.assertThat( fastResult ).hasNoHits();
+		assertThat( fastResult.timedOut() ).isFalse();
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> startSlowQuery() {
 		return index.createScope().query()
 				.where( f -> f.bool( b -> {
@@ -0,0 +1,250 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InvalidClassException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.common.impl.IdentifierSerializer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test automatic indexing with the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} strategy.
+ */
+public class OutboxPollingAutomaticIndexingIT {
+
+	private static final String OUTBOX_TABLE_NAME =
+			HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Test
+	public void insertUpdateDelete() {
+		setup( true );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+
+			// Events are processed in a background thread, in a separate transaction:
+			// entities are reloaded and reindexed as a whole.
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.update( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.processedThenExecuted();
+		} );
+		awaitExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.update( "1", b -> b.field( "indexedField", "updatedValue" ) )
+					.processedThenExecuted();
+		} );
+		awaitExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+
+			session.delete( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.delete( "1" )
+					.processedThenExecuted();
+		} );
+		awaitExpectationsMet();
+
+		// Processed events are removed from the outbox table, in a separate transaction after indexing
+		Awaitility.await().untilAsserted( () -> assertThat( countOutboxEvents() ).isZero() );
+	}
+
+	@Test
+	public void rollback() {
+		setup( true );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Transaction transaction = session.beginTransaction();
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+			session.flush();
+
+			// No work expected: events are written in the user transaction, so they are rolled back with it
+			transaction.rollback();
+		} );
+
+		assertThat( countOutboxEvents() ).isZero();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void processingDisabled() {
+		setup( false );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+			// No work expected: this node only writes events
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( countOutboxEvents() ).isEqualTo( 1L );
+
+		// Do not leave events behind for other tests
+		OrmUtils.withinTransaction( sessionFactory, session -> session.doWork( connection -> {
+			try ( PreparedStatement statement = connection.prepareStatement( "delete from " + OUTBOX_TABLE_NAME ) ) {
+				statement.executeUpdate();
+			}
+		} ) );
+	}
+
+	@Test
+	public void retryAfterFailure() {
+		setup( true );
+
+		CompletableFuture<?> failingFuture = new CompletableFuture<>();
+		failingFuture.completeExceptionally( new RuntimeException( "Indexing failure" ) );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+
+			// The first attempt fails: the event should be retried later
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.update( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.processedThenExecuted( failingFuture );
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.update( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.processedThenExecuted();
+		} );
+		awaitExpectationsMet();
+
+		Awaitility.await().untilAsserted( () -> assertThat( countOutboxEvents() ).isZero() );
+	}
+
+	@Test
+	public void identifierSerializer() {
+		setup( false );
+
+		IdentifierSerializer serializer = IdentifierSerializer.create(
+				sessionFactory.unwrap( SessionFactoryImplementor.class ), new ArrayList<>() );
+
+		// Identifier types of entities can be deserialized
+		assertThat( serializer.deserialize( serializer.serialize( 42 ) ) ).isEqualTo( 42 );
+
+		// Other types are rejected, without even loading the class
+		String serializedList = serializer.serialize( new ArrayList<>() );
+		assertThatThrownBy( () -> serializer.deserialize( serializedList ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to deserialize an identifier stored in the database" )
+				.hasCauseInstanceOf( InvalidClassException.class );
+	}
+
+	private void setup(boolean processingEnabled) {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_STRATEGY,
+						AutomaticIndexingStrategyName.OUTBOX_POLLING )
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED,
+						processingEnabled )
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL, 10 )
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY, 10 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void awaitExpectationsMet() {
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+	}
+
+	private long countOutboxEvents() {
+		long[] result = new long[1];
+		OrmUtils.withinTransaction( sessionFactory, session -> session.doWork( connection -> {
+			try ( PreparedStatement statement = connection.prepareStatement( "select count(*) from " + OUTBOX_TABLE_NAME );
+					ResultSet resultSet = statement.executeQuery() ) {
+				resultSet.next();
+				result[0] = resultSet.getLong( 1 );
+			}
+		} ) );
+		return result[0];
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
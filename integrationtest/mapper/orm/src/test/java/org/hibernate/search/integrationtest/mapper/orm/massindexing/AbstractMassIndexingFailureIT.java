@@ -316,6 +316,78 @@ public void refresh() {
 		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
 	}
 
+	@Test
+	public void freshIndexes_create() {
+		SessionFactory sessionFactory = setup();
+
+		String exceptionMessage = "CREATE_FRESH_INDEX failure";
+		String failingOperationAsString = "MassIndexer operation";
+
+		expectMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+
+		doMassIndexingWithFailure(
+				Search.mapping( sessionFactory ).scope( Object.class ).massIndexer().indexIntoFreshIndexes( true ),
+				ThreadExpectation.NOT_CREATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SimulatedFailure.class )
+						.hasMessageContaining( exceptionMessage ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.CREATE_FRESH_INDEX, ExecutionExpectation.FAIL ),
+				// No document must be indexed, and the fresh index must be dropped
+				expectIndexScaleWork( StubIndexScaleWork.Type.DROP_FRESH_INDEX, ExecutionExpectation.SUCCEED )
+		);
+
+		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+	}
+
+	@Test
+	public void freshIndexes_refresh() {
+		SessionFactory sessionFactory = setup();
+
+		String exceptionMessage = "REFRESH failure";
+		String failingOperationAsString = "MassIndexer operation";
+
+		expectMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+
+		doMassIndexingWithFailure(
+				Search.mapping( sessionFactory ).scope( Object.class ).massIndexer().indexIntoFreshIndexes( true ),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SimulatedFailure.class )
+						.hasMessageContaining( exceptionMessage ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.CREATE_FRESH_INDEX, ExecutionExpectation.SUCCEED ),
+				expectIndexingWorks( ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.FLUSH, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.REFRESH, ExecutionExpectation.FAIL ),
+				// Searches must not be switched to the incomplete fresh index
+				expectIndexScaleWork( StubIndexScaleWork.Type.DROP_FRESH_INDEX, ExecutionExpectation.SUCCEED )
+		);
+
+		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+	}
+
+	@Test
+	public void freshIndexes_switch() {
+		SessionFactory sessionFactory = setup();
+
+		String exceptionMessage = "SWITCH_TO_FRESH_INDEX failure";
+		String failingOperationAsString = "MassIndexer operation";
+
+		expectMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+
+		doMassIndexingWithFailure(
+				Search.mapping( sessionFactory ).scope( Object.class ).massIndexer().indexIntoFreshIndexes( true ),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SimulatedFailure.class )
+						.hasMessageContaining( exceptionMessage ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.CREATE_FRESH_INDEX, ExecutionExpectation.SUCCEED ),
+				expectIndexingWorks( ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.FLUSH, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.REFRESH, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.SWITCH_TO_FRESH_INDEX, ExecutionExpectation.FAIL ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.DROP_FRESH_INDEX, ExecutionExpectation.SUCCEED )
+		);
+
+		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+	}
+
 	@Test
 	public void indexingAndFlush() {
 		SessionFactory sessionFactory = setup();
@@ -208,6 +208,54 @@ public void mergeSegmentsOnFinish() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void indexIntoFreshIndexes() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					.indexIntoFreshIndexes( true )
+					// Ignored when indexing into fresh indexes
+					.dropAndCreateSchemaOnStart( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			// The fresh index is created instead of purging the current index,
+			// and searches are only switched to it once everything has been flushed and refreshed:
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.createFreshIndex()
+					.flush()
+					.refresh()
+					.switchToFreshIndex();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void fromMappingWithoutSession() throws Exception {
 		SearchMapping searchMapping = Search.mapping( sessionFactory );
@@ -0,0 +1,304 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests mass indexing of only part of the entities,
+ * through {@link MassIndexer#reindexOnly(String, Map)} and {@link MassIndexer#checkpointStore(MassIndexingCheckpointStore)}.
+ */
+public class MassIndexingIncrementalIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String AUTHOR_1 = "Charles Dickens";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String AUTHOR_2 = "James Joyce";
+	public static final String TITLE_3 = "Frankenstein";
+	public static final String AUTHOR_3 = "Mary Shelley";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void reindexOnly() throws InterruptedException {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.reindexOnly( "e.publicationYear >= :since", Collections.singletonMap( "since", 1900 ) );
+
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.processedThenExecuted();
+
+		// Only some entities are reindexed, so the index must not be purged.
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		indexer.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void checkpointStore_initialRun() throws InterruptedException {
+		StubCheckpointStore checkpointStore = new StubCheckpointStore();
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.checkpointStore( checkpointStore );
+
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+
+		// No checkpoint: this is a full reindexing, starting with a purge.
+		// Indexes are flushed before the last checkpoint is saved, then again when mass indexing ends.
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.purge()
+				.mergeSegments()
+				.flush()
+				.flush()
+				.refresh();
+
+		indexer.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointStore.events ).containsExactly( "save Book 3", "clear Book" );
+	}
+
+	@Test
+	public void checkpointStore_resume() throws InterruptedException {
+		StubCheckpointStore checkpointStore = new StubCheckpointStore();
+		checkpointStore.checkpoints.put( Book.NAME, 1 );
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.checkpointStore( checkpointStore );
+
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+
+		// Resuming: entities up to the checkpoint are already indexed, so the index must not be purged.
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.flush()
+				.refresh();
+
+		indexer.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointStore.events ).containsExactly( "save Book 3", "clear Book" );
+		assertThat( checkpointStore.checkpoints ).isEmpty();
+	}
+
+	@Test
+	public void checkpointStore_entityFailure() {
+		StubCheckpointStore checkpointStore = new StubCheckpointStore();
+		// Load entities one by one, in order, so that each entity gets its own list of identifiers
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.batchSizeToLoadObjects( 1 )
+				.threadsToLoadObjects( 1 )
+				.checkpointStore( checkpointStore );
+
+		CompletableFuture<?> failingFuture = new CompletableFuture<>();
+		failingFuture.completeExceptionally( new RuntimeException( "Indexing failure" ) );
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.processedThenExecuted( failingFuture );
+
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.purge()
+				.mergeSegments()
+				.flush()
+				.flush()
+				.refresh();
+
+		assertThatThrownBy( indexer::startAndWait )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "1 entities could not be indexed" );
+
+		backendMock.verifyExpectationsMet();
+		// The checkpoint must never move past an entity that could not be indexed.
+		assertThat( checkpointStore.events ).containsExactly( "save Book 1", "clear Book" );
+	}
+
+	@Test
+	public void indexIntoFreshIndexes_incompatible() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.indexIntoFreshIndexes( true )
+				.checkpointStore( new StubCheckpointStore() );
+
+		assertThatThrownBy( indexer::startAndWait )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot index into fresh indexes when mass indexing only part of the entities" );
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_1, AUTHOR_1, 1838 ) );
+			session.persist( new Book( 2, TITLE_2, AUTHOR_2, 1922 ) );
+			session.persist( new Book( 3, TITLE_3, AUTHOR_3, 1818 ) );
+		} );
+	}
+
+	private static class StubCheckpointStore implements MassIndexingCheckpointStore {
+		private final Map<String, Object> checkpoints = new ConcurrentHashMap<>();
+		private final List<String> events = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public Object load(String entityName) {
+			return checkpoints.get( entityName );
+		}
+
+		@Override
+		public void save(String entityName, Object lastIndexedId) {
+			events.add( "save " + entityName + " " + lastIndexedId );
+			checkpoints.put( entityName, lastIndexedId );
+		}
+
+		@Override
+		public void clear(String entityName) {
+			events.add( "clear " + entityName );
+			checkpoints.remove( entityName );
+		}
+	}
+
+	@Entity(name = Book.NAME)
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String NAME = "Book";
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@GenericField
+		private String author;
+
+		private Integer publicationYear;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, String author, Integer publicationYear) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publicationYear = publicationYear;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public String getAuthor() {
+			return author;
+		}
+
+		public Integer getPublicationYear() {
+			return publicationYear;
+		}
+	}
+}
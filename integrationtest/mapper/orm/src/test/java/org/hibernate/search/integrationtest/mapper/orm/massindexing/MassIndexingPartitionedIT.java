@@ -0,0 +1,244 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests partitioned mass indexing, through {@link MassIndexer#partitioned(String, int)}.
+ * <p>
+ * The partition table outlives each test, so each test uses its own job name.
+ */
+public class MassIndexingPartitionedIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String AUTHOR_1 = "Charles Dickens";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String AUTHOR_2 = "James Joyce";
+	public static final String TITLE_3 = "Frankenstein";
+	public static final String AUTHOR_3 = "Mary Shelley";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void partitioned() throws InterruptedException {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.partitioned( "partitioned", 2 );
+
+		// Partitions are claimed in order: first identifiers [1, 3), then identifiers [3, +infinity)
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.processedThenExecuted();
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+
+		// Other nodes may be indexing concurrently, so the index must not be purged.
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		indexer.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void partitioned_reindexOnly() throws InterruptedException {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.reindexOnly( "e.publicationYear < :before", Collections.singletonMap( "before", 1900 ) )
+				.partitioned( "partitioned_reindexOnly", 2 );
+
+		// Only entities matching the condition are split into partitions: [1, 3), then [3, +infinity)
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.processedThenExecuted();
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		indexer.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void partitioned_jobAlreadyDone() throws InterruptedException {
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.partitioned( "partitioned_jobAlreadyDone", 1 )
+				.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+
+		// All partitions are done: a node joining the job afterwards has nothing to index.
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.partitioned( "partitioned_jobAlreadyDone", 1 )
+				.startAndWait();
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void indexIntoFreshIndexes_incompatible() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.indexIntoFreshIndexes( true )
+				.partitioned( "indexIntoFreshIndexes_incompatible", 2 );
+
+		assertThatThrownBy( indexer::startAndWait )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot index into fresh indexes or resume from checkpoints"
+						+ " when mass indexing with partitions" );
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_1, AUTHOR_1, 1838 ) );
+			session.persist( new Book( 2, TITLE_2, AUTHOR_2, 1922 ) );
+			session.persist( new Book( 3, TITLE_3, AUTHOR_3, 1818 ) );
+		} );
+	}
+
+	@Entity(name = Book.NAME)
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String NAME = "Book";
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@GenericField
+		private String author;
+
+		private Integer publicationYear;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, String author, Integer publicationYear) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publicationYear = publicationYear;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public String getAuthor() {
+			return author;
+		}
+
+		public Integer getPublicationYear() {
+			return publicationYear;
+		}
+	}
+}
@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -515,6 +516,64 @@ public void select_compositeAndLoading() {
 		} );
 	}
 
+	@Test
+	public void fetchAsync_projection() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			SearchQuery<String> query = searchSession.search( Book.class )
+					.select( f -> f.field( "title", String.class ) )
+					.where( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchProjection(
+					Arrays.asList( Book.NAME ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							2L,
+							TITLE_4_3_2_1,
+							TITLE_CIDER_HOUSE
+					)
+			);
+
+			// No entity to load: asynchronous execution is fine
+			Assertions.assertThat( query.fetchHitsAsync( null ).toCompletableFuture().join() ).containsExactly(
+					TITLE_4_3_2_1,
+					TITLE_CIDER_HOUSE
+			);
+		} );
+	}
+
+	@Test
+	public void fetchAsync_entityLoading() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.NAME ),
+					b -> b.limit( 10 ),
+					StubSearchWorkBehavior.of(
+							2L,
+							reference( Book.NAME, "1" ),
+							reference( Book.NAME, "2" )
+					)
+			);
+
+			// Hibernate ORM sessions cannot be used from backend threads:
+			// the query is executed and entities are loaded in the calling thread.
+			CompletableFuture<List<Book>> future = query.fetchHitsAsync( 10 ).toCompletableFuture();
+			Assertions.assertThat( future ).isDone();
+			Assertions.assertThat( future.join() ).containsExactly(
+					session.load( Book.class, 1 ),
+					session.load( Book.class, 2 )
+			);
+		} );
+	}
+
 	/**
 	 * A smoke test for components (predicate, sort, ...) created from the mapping without a session
 	 */
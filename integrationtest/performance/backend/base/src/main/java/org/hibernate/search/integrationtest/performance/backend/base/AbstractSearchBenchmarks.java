@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.common.data.Range;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to searching,
+ * i.e. queries executed against an index that is not being written to.
+ * <p>
+ * Indexes are populated with the initial documents from the {@link #getIndexInitializer() index initializer}
+ * before each iteration, and are not modified during the iteration.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> SHORT_TEXT_TERMS_KEY =
+			AggregationKey.of( "shortTextTerms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> NUMERIC_RANGES_KEY =
+			AggregationKey.of( "numericRanges" );
+
+	/**
+	 * The text to match against the long text field in full-text queries.
+	 */
+	@Param({ "hibernate search" })
+	private String fullTextQuery;
+
+	/**
+	 * The offset of the page to fetch in deep pagination queries.
+	 */
+	@Param({ "1000" })
+	private int deepPaginationOffset;
+
+	/**
+	 * The maximum number of terms to return in terms aggregations.
+	 */
+	@Param({ "10" })
+	private int maxTermCount;
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void fullText(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( fullTextQuery ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void sort(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ).desc()
+						.then().field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void termsAggregation(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( SHORT_TEXT_TERMS_KEY, f -> f.terms()
+						.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class )
+						.maxTermCount( maxTermCount ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+		blackhole.consume( results.aggregation( SHORT_TEXT_TERMS_KEY ) );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void rangeAggregation(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( NUMERIC_RANGES_KEY, f -> f.range()
+						.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( null, 100L )
+						.range( 100L, 1_000L )
+						.range( 1_000L, 10_000L )
+						.range( 10_000L, null ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+		blackhole.consume( results.aggregation( NUMERIC_RANGES_KEY ) );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void projection(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<List<?>> results = index.createScope().query()
+				.select( f -> f.composite(
+						f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+				) )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.totalHitCount() );
+		for ( List<?> hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void deepPagination(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( deepPaginationOffset, params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	private static void consume(SearchResult<DocumentReference> results, Blackhole blackhole) {
+		blackhole.consume( results.totalHitCount() );
+		for ( DocumentReference hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
@@ -55,6 +55,7 @@ public void test() throws RunnerException {
 				.param( "initialIndexSize", "100" )
 				.param( "batchSize", "10" )
 				.param( "maxResults", "10" )
+				.param( "deepPaginationOffset", "50" )
 				.shouldFailOnError( true )
 				.forks( 0 ) // To simplify debugging; Remember this implies JVM parameters via @Fork won't be applied.
 				.build();
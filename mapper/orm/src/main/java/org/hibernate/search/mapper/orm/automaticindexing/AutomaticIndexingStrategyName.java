@@ -30,7 +30,20 @@ public enum AutomaticIndexingStrategyName {
 	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session:
 	 * entity insertion, update etc.
 	 */
-	SESSION("session");
+	SESSION("session"),
+
+	/**
+	 * Changes are detected automatically when entities are modified in the Hibernate ORM session,
+	 * just like with {@link #SESSION},
+	 * but instead of being applied to the indexes on transaction commit,
+	 * they are written to an outbox table in the database, as part of the same transaction.
+	 * <p>
+	 * Background processors running on every application node then poll that table,
+	 * reload the changed entities and reindex them in batches.
+	 * Indexing thus survives application crashes and is decoupled from the latency of user transactions,
+	 * at the cost of a short delay before changes become visible in the indexes.
+	 */
+	OUTBOX_POLLING("outbox-polling");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
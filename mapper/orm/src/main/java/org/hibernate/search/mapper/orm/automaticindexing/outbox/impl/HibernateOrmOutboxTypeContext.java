@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.type.Type;
+
+public interface HibernateOrmOutboxTypeContext {
+
+	PojoRawTypeIdentifier<?> typeIdentifier();
+
+	String jpaEntityName();
+
+	String hibernateOrmEntityName();
+
+	EntityPersister entityPersister();
+
+	boolean indexed();
+
+	Object toIndexingPlanProvidedId(Object entityId);
+
+	/**
+	 * @param entityId The identifier of a deleted entity.
+	 * @param entity The deleted entity.
+	 * @return The value to extract the document identifier from when deleting the document,
+	 * which may not be the entity identifier if the document identifier is mapped to another property.
+	 */
+	Object toDeletedDocumentProvidedId(Object entityId, Object entity);
+
+	/**
+	 * @return The Hibernate ORM type of the values returned by {@link #toDeletedDocumentProvidedId(Object, Object)},
+	 * used to restrict which classes may be deserialized from the outbox table.
+	 * Only relevant for {@link #indexed() indexed} types.
+	 */
+	Type documentIdSourcePropertyType();
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+/**
+ * A lightweight representation of a change to an entity,
+ * as stored in the outbox table.
+ * <p>
+ * Events only hold references to entities (name and identifier), never entity data:
+ * entities are reloaded from the database when events are processed.
+ */
+public final class OutboxEvent {
+
+	public enum Type {
+		/**
+		 * The entity was added or updated.
+		 */
+		ADD_OR_UPDATE,
+		/**
+		 * The entity was deleted.
+		 */
+		DELETE,
+		/**
+		 * The document was explicitly purged from the index.
+		 * Entities to reindex as a result of this operation must not be resolved.
+		 */
+		PURGE
+	}
+
+	private final String id;
+	private final long created;
+	private final long processAfter;
+	private final int attempts;
+	private final int shard;
+	private final Type type;
+	private final String entityName;
+	private final String serializedEntityId;
+	private final String serializedDocumentId;
+	private final String routingKey;
+	private final String dirtyPaths;
+
+	OutboxEvent(String id, long created, long processAfter, int attempts, int shard,
+			Type type, String entityName, String serializedEntityId, String serializedDocumentId,
+			String routingKey, String dirtyPaths) {
+		this.id = id;
+		this.created = created;
+		this.processAfter = processAfter;
+		this.attempts = attempts;
+		this.shard = shard;
+		this.type = type;
+		this.entityName = entityName;
+		this.serializedEntityId = serializedEntityId;
+		this.serializedDocumentId = serializedDocumentId;
+		this.routingKey = routingKey;
+		this.dirtyPaths = dirtyPaths;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "id=" + id
+				+ ", type=" + type
+				+ ", entityName=" + entityName
+				+ ", serializedEntityId=" + serializedEntityId
+				+ ", attempts=" + attempts
+				+ "]";
+	}
+
+	public String id() {
+		return id;
+	}
+
+	public long created() {
+		return created;
+	}
+
+	public long processAfter() {
+		return processAfter;
+	}
+
+	public int attempts() {
+		return attempts;
+	}
+
+	public int shard() {
+		return shard;
+	}
+
+	public Type type() {
+		return type;
+	}
+
+	public String entityName() {
+		return entityName;
+	}
+
+	/**
+	 * @return The serialized entity identifier, or {@code null} for {@link Type#PURGE purge} events.
+	 */
+	public String serializedEntityId() {
+		return serializedEntityId;
+	}
+
+	/**
+	 * @return The serialized value to extract the document identifier from,
+	 * or {@code null} if this event is not a {@link Type#DELETE deletion} or a {@link Type#PURGE purge}.
+	 */
+	public String serializedDocumentId() {
+		return serializedDocumentId;
+	}
+
+	public String routingKey() {
+		return routingKey;
+	}
+
+	/**
+	 * @return The dirty paths, separated by commas, or {@code null} if all paths must be considered dirty.
+	 */
+	public String dirtyPaths() {
+		return dirtyPaths;
+	}
+
+}
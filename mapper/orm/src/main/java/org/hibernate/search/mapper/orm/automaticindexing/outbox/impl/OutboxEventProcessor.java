@@ -0,0 +1,353 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.common.impl.DatabaseClock;
+import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
+import org.hibernate.search.mapper.orm.common.impl.IdentifierSerializer;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Polls the outbox table periodically, claims events, reloads the corresponding entities
+ * and indexes them.
+ * <p>
+ * Events are claimed by taking a time-limited lease on them in a short transaction,
+ * so that indexing happens without holding any lock on the outbox table
+ * and processors do not block each other.
+ * Once indexing is done, events are deleted in another short transaction.
+ * Events that failed are released with an incremented attempt counter
+ * and a delay, until they reach the maximum number of attempts.
+ * Events whose lease expired, e.g. because the processor holding them crashed,
+ * are claimed again by any processor.
+ * Lease times are based on the {@link DatabaseClock clock of the database},
+ * so that nodes with skewed clocks do not steal each other's events.
+ */
+final class OutboxEventProcessor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String THREAD_NAME_PREFIX = "Outbox event processor";
+
+	private final HibernateOrmOutboxMappingContext mappingContext;
+	private final FailureHandler failureHandler;
+	private final OutboxTable table;
+	private final IdentifierSerializer serializer;
+	private final int pollingInterval;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final int retryDelay;
+	private final int leaseDuration;
+	private final List<Integer> assignedShards;
+	private final Dialect dialect;
+	// Identifies the events claimed by this processor in the outbox table
+	private final String owner = UUID.randomUUID().toString();
+
+	private ScheduledExecutorService executor;
+	private volatile boolean stopped = false;
+
+	OutboxEventProcessor(HibernateOrmOutboxMappingContext mappingContext,
+			OutboxTable table, IdentifierSerializer serializer,
+			int pollingInterval, int batchSize, int maxAttempts, int retryDelay, int leaseDuration,
+			List<Integer> assignedShards) {
+		this.mappingContext = mappingContext;
+		this.failureHandler = mappingContext.failureHandler();
+		this.table = table;
+		this.serializer = serializer;
+		this.pollingInterval = pollingInterval;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.retryDelay = retryDelay;
+		this.leaseDuration = leaseDuration;
+		this.assignedShards = assignedShards;
+		this.dialect = mappingContext.sessionFactory().getJdbcServices().getDialect();
+	}
+
+	void start() {
+		log.debugf( "Starting outbox event processor for %s, shards %s", table,
+				assignedShards == null ? "<all>" : assignedShards );
+		executor = mappingContext.threadPoolProvider().newScheduledExecutor( 1, THREAD_NAME_PREFIX );
+		executor.scheduleWithFixedDelay( this::run, 0, pollingInterval, TimeUnit.MILLISECONDS );
+	}
+
+	void stop() {
+		stopped = true;
+		if ( executor == null ) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		executor = null;
+	}
+
+	private void run() {
+		try {
+			boolean mayHaveMoreEvents = true;
+			while ( mayHaveMoreEvents && !stopped ) {
+				mayHaveMoreEvents = processBatch();
+			}
+		}
+		catch (RuntimeException e) {
+			// Never let exceptions escape: that would cancel the scheduled task.
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.outboxEventProcessing() );
+			failureHandler.handle( contextBuilder.build() );
+		}
+	}
+
+	/**
+	 * @return {@code true} if a full batch of events was retrieved,
+	 * meaning more events may be waiting to be processed.
+	 */
+	private boolean processBatch() {
+		// Claim events in a short transaction, so that row locks are released before indexing
+		ClaimedBatch batch = inTransaction( session -> session.doReturningWork( connection -> {
+			long now = DatabaseClock.currentTimeMillis( connection, dialect );
+			List<OutboxEvent> polled = table.poll( connection, assignedShards, now, batchSize );
+			List<OutboxEvent> claimed = table.claim( connection, polled, owner, now, now + leaseDuration );
+			return new ClaimedBatch( polled.size(), claimed );
+		} ) );
+		if ( batch.polledCount == 0 ) {
+			return false;
+		}
+		log.tracef( "Claimed %s outbox events out of %s polled events", batch.claimed.size(), batch.polledCount );
+		if ( batch.claimed.isEmpty() ) {
+			return batch.polledCount >= batchSize;
+		}
+
+		Throwable failure = inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			return index( session.unwrap( SessionImplementor.class ), batch.claimed );
+		} );
+
+		if ( failure == null ) {
+			inTransaction( session -> {
+				session.doWork( connection -> table.delete( connection, batch.claimed, owner ) );
+				return null;
+			} );
+		}
+		else {
+			handleFailure( batch.claimed, failure );
+		}
+		return batch.polledCount >= batchSize;
+	}
+
+	private <T> T inTransaction(Function<Session, T> work) {
+		try ( Session session = mappingContext.sessionFactory().openSession() ) {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			Transaction transaction = session.beginTransaction();
+			try {
+				T result = work.apply( session );
+				transaction.commit();
+				return result;
+			}
+			catch (RuntimeException e) {
+				transaction.rollback();
+				throw e;
+			}
+		}
+	}
+
+	private Throwable index(SessionImplementor session, List<OutboxEvent> events) {
+		PojoIndexingPlan<EntityReference> plan = mappingContext.createIndexingPlan( session,
+				DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		try {
+			Map<String, Map<String, EntityEvents>> eventsPerEntityName = new LinkedHashMap<>();
+			for ( OutboxEvent event : events ) {
+				HibernateOrmOutboxTypeContext typeContext =
+						mappingContext.typeContextProvider().forHibernateOrmEntityName( event.entityName() );
+				if ( typeContext == null ) {
+					log.outboxEventForUnknownEntity( event.entityName(), event );
+					continue;
+				}
+				if ( OutboxEvent.Type.PURGE.equals( event.type() ) ) {
+					if ( typeContext.indexed() ) {
+						plan.purge( typeContext.typeIdentifier(),
+								serializer.deserialize( event.serializedDocumentId() ), event.routingKey() );
+					}
+					continue;
+				}
+				eventsPerEntityName.computeIfAbsent( event.entityName(), ignored -> new LinkedHashMap<>() )
+						.computeIfAbsent( event.serializedEntityId(), ignored -> new EntityEvents( typeContext ) )
+						.add( event );
+			}
+
+			for ( Map.Entry<String, Map<String, EntityEvents>> entry : eventsPerEntityName.entrySet() ) {
+				addToPlan( session, plan, entry.getKey(), entry.getValue() );
+			}
+
+			IndexIndexingPlanExecutionReport<EntityReference> report =
+					Futures.unwrappedExceptionJoin( plan.executeAndReport() );
+			return report.throwable().orElse( null );
+		}
+		catch (RuntimeException e) {
+			plan.discard();
+			return e;
+		}
+	}
+
+	private void addToPlan(SessionImplementor session, PojoIndexingPlan<EntityReference> plan,
+			String entityName, Map<String, EntityEvents> eventsPerSerializedId) {
+		List<EntityEvents> entityEventsList = new ArrayList<>( eventsPerSerializedId.values() );
+		List<Serializable> ids = new ArrayList<>( entityEventsList.size() );
+		for ( EntityEvents entityEvents : entityEventsList ) {
+			ids.add( serializer.deserialize( entityEvents.serializedEntityId ) );
+		}
+		List<?> entities = session.byMultipleIds( entityName ).multiLoad( ids );
+		for ( int i = 0; i < entityEventsList.size(); i++ ) {
+			EntityEvents entityEvents = entityEventsList.get( i );
+			HibernateOrmOutboxTypeContext typeContext = entityEvents.typeContext;
+			Serializable id = ids.get( i );
+			Object entity = entities.get( i );
+			if ( entity != null ) {
+				Object providedId = typeContext.toIndexingPlanProvidedId( id );
+				if ( entityEvents.dirtyPaths == null ) {
+					plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity );
+				}
+				else {
+					plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity,
+							entityEvents.dirtyPaths.toArray( new String[0] ) );
+				}
+			}
+			else if ( typeContext.indexed() && entityEvents.serializedDocumentId != null ) {
+				// The entity no longer exists: delete the corresponding document
+				plan.purge( typeContext.typeIdentifier(),
+						serializer.deserialize( entityEvents.serializedDocumentId ), entityEvents.routingKey );
+			}
+			// else: the entity was deleted in a later transaction,
+			// and the corresponding deletion event will take care of the document.
+		}
+	}
+
+	private void handleFailure(List<OutboxEvent> events, Throwable failure) {
+		List<OutboxEvent> toRetry = new ArrayList<>();
+		List<OutboxEvent> abandoned = new ArrayList<>();
+		for ( OutboxEvent event : events ) {
+			if ( event.attempts() + 1 < maxAttempts ) {
+				toRetry.add( event );
+			}
+			else {
+				abandoned.add( event );
+			}
+		}
+		if ( !toRetry.isEmpty() ) {
+			log.debugf( failure, "Outbox event processing failed; will retry %s events later", toRetry.size() );
+		}
+		inTransaction( session -> {
+			session.doWork( connection -> {
+				long now = DatabaseClock.currentTimeMillis( connection, dialect );
+				table.retryLater( connection, toRetry, owner, now + retryDelay );
+				table.delete( connection, abandoned, owner );
+			} );
+			return null;
+		} );
+		if ( !abandoned.isEmpty() ) {
+			EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+			contextBuilder.throwable( log.outboxEventProcessingAbandoned( maxAttempts, failure.getMessage(), failure ) );
+			contextBuilder.failingOperation( log.outboxEventProcessing() );
+			for ( OutboxEvent event : abandoned ) {
+				contextBuilder.entityReference( toEntityReference( event ) );
+			}
+			failureHandler.handle( contextBuilder.build() );
+		}
+	}
+
+	private Object toEntityReference(OutboxEvent event) {
+		HibernateOrmOutboxTypeContext typeContext =
+				mappingContext.typeContextProvider().forHibernateOrmEntityName( event.entityName() );
+		String serializedId = event.serializedEntityId() != null
+				? event.serializedEntityId() : event.serializedDocumentId();
+		Object id;
+		try {
+			id = serializer.deserialize( serializedId );
+		}
+		catch (RuntimeException e) {
+			id = serializedId;
+		}
+		if ( typeContext == null ) {
+			return event.entityName() + "#" + id;
+		}
+		return new EntityReferenceImpl( typeContext.typeIdentifier(), typeContext.jpaEntityName(), id );
+	}
+
+	private static final class ClaimedBatch {
+		private final int polledCount;
+		private final List<OutboxEvent> claimed;
+
+		private ClaimedBatch(int polledCount, List<OutboxEvent> claimed) {
+			this.polledCount = polledCount;
+			this.claimed = claimed;
+		}
+	}
+
+	private static final class EntityEvents {
+		private final HibernateOrmOutboxTypeContext typeContext;
+		private String serializedEntityId;
+		private String serializedDocumentId;
+		private String routingKey;
+		private boolean considerAllDirty = false;
+		private Set<String> dirtyPaths;
+
+		private EntityEvents(HibernateOrmOutboxTypeContext typeContext) {
+			this.typeContext = typeContext;
+		}
+
+		void add(OutboxEvent event) {
+			serializedEntityId = event.serializedEntityId();
+			if ( event.serializedDocumentId() != null ) {
+				serializedDocumentId = event.serializedDocumentId();
+				routingKey = event.routingKey();
+			}
+			if ( considerAllDirty ) {
+				return;
+			}
+			if ( !OutboxEvent.Type.ADD_OR_UPDATE.equals( event.type() ) || event.dirtyPaths() == null ) {
+				considerAllDirty = true;
+				dirtyPaths = null;
+				return;
+			}
+			if ( dirtyPaths == null ) {
+				dirtyPaths = new LinkedHashSet<>();
+			}
+			Collections.addAll( dirtyPaths, event.dirtyPaths().split( "," ) );
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.AssertionFailure;
+
+/**
+ * An indexing plan that, instead of indexing entities,
+ * records which entities changed and writes that information to the outbox table.
+ * <p>
+ * Events are coalesced per entity within a single plan,
+ * so that an entity updated multiple times in the same transaction only leads to one event.
+ */
+public final class OutboxIndexingPlan implements PojoIndexingPlan<EntityReference> {
+
+	private final OutboxPollingAutomaticIndexing outbox;
+	private final HibernateOrmOutboxTypeContextProvider typeContextProvider;
+	private final SessionImplementor session;
+
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<EntityKey, PendingEvent> pendingEntityEvents = new LinkedHashMap<>();
+	private final List<OutboxEvent> pendingPurgeEvents = new ArrayList<>();
+
+	OutboxIndexingPlan(OutboxPollingAutomaticIndexing outbox,
+			HibernateOrmOutboxTypeContextProvider typeContextProvider,
+			SessionImplementor session) {
+		this.outbox = outbox;
+		this.typeContextProvider = typeContextProvider;
+		this.session = session;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		addOrUpdate( typeIdentifier, providedId, entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		HibernateOrmOutboxTypeContext typeContext = typeContext( typeIdentifier );
+		pendingEvent( typeContext, providedId, entity ).addOrUpdate( null );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			String... dirtyPaths) {
+		HibernateOrmOutboxTypeContext typeContext = typeContext( typeIdentifier );
+		pendingEvent( typeContext, providedId, entity ).addOrUpdate( dirtyPaths );
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		HibernateOrmOutboxTypeContext typeContext = typeContext( typeIdentifier );
+		PendingEvent event = pendingEvent( typeContext, providedId, entity );
+		Object documentId = entity == null ? providedId
+				: typeContext.toDeletedDocumentProvidedId( event.key.entityId, entity );
+		event.delete( documentId );
+	}
+
+	@Override
+	public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey) {
+		HibernateOrmOutboxTypeContext typeContext = typeContext( typeIdentifier );
+		pendingPurgeEvents.add( outbox.createEvent( OutboxEvent.Type.PURGE, typeContext.hibernateOrmEntityName(),
+				null, providedId, providedRoutingKey, null ) );
+	}
+
+	@Override
+	public void process() {
+		// Nothing to do: entity data is never extracted in the user's transaction,
+		// entities are reloaded when events are processed.
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> executeAndReport() {
+		try {
+			List<OutboxEvent> events = new ArrayList<>( pendingEntityEvents.size() + pendingPurgeEvents.size() );
+			for ( PendingEvent pendingEvent : pendingEntityEvents.values() ) {
+				events.add( pendingEvent.toOutboxEvent() );
+			}
+			events.addAll( pendingPurgeEvents );
+			outbox.write( session, events );
+		}
+		finally {
+			discard();
+		}
+		// Events are written synchronously as part of the current transaction:
+		// if we get here, there was no failure.
+		return CompletableFuture.completedFuture( IndexIndexingPlanExecutionReport.<EntityReference>builder().build() );
+	}
+
+	@Override
+	public void discard() {
+		pendingEntityEvents.clear();
+		pendingPurgeEvents.clear();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		// Nothing is ever processed before execution: discard everything.
+		discard();
+	}
+
+	private HibernateOrmOutboxTypeContext typeContext(PojoRawTypeIdentifier<?> typeIdentifier) {
+		HibernateOrmOutboxTypeContext typeContext = typeContextProvider.forExactType( typeIdentifier );
+		if ( typeContext == null ) {
+			throw new AssertionFailure(
+					"Type " + typeIdentifier + " is not indexed and hasn't been detected as contained in an indexed type"
+			);
+		}
+		return typeContext;
+	}
+
+	private PendingEvent pendingEvent(HibernateOrmOutboxTypeContext typeContext, Object providedId, Object entity) {
+		Object entityId = entity == null ? providedId
+				: typeContext.entityPersister().getIdentifier( entity, session );
+		EntityKey key = new EntityKey( typeContext.hibernateOrmEntityName(), entityId );
+		return pendingEntityEvents.computeIfAbsent( key, PendingEvent::new );
+	}
+
+	private static final class EntityKey {
+		private final String entityName;
+		private final Object entityId;
+
+		private EntityKey(String entityName, Object entityId) {
+			this.entityName = entityName;
+			this.entityId = entityId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			EntityKey other = (EntityKey) obj;
+			return entityName.equals( other.entityName ) && Objects.equals( entityId, other.entityId );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( entityName, entityId );
+		}
+	}
+
+	private final class PendingEvent {
+		private final EntityKey key;
+
+		private OutboxEvent.Type type;
+		private Object documentId;
+		private boolean considerAllDirty;
+		private Set<String> dirtyPaths;
+
+		private PendingEvent(EntityKey key) {
+			this.key = key;
+		}
+
+		void addOrUpdate(String[] newDirtyPaths) {
+			if ( OutboxEvent.Type.DELETE.equals( type ) ) {
+				// The entity was deleted, then re-created with the same identifier:
+				// the indexed document must be rebuilt from scratch.
+				considerAllDirty = true;
+			}
+			type = OutboxEvent.Type.ADD_OR_UPDATE;
+			documentId = null;
+			if ( newDirtyPaths == null ) {
+				considerAllDirty = true;
+			}
+			if ( considerAllDirty ) {
+				dirtyPaths = null;
+			}
+			else {
+				if ( dirtyPaths == null ) {
+					dirtyPaths = new LinkedHashSet<>();
+				}
+				Collections.addAll( dirtyPaths, newDirtyPaths );
+			}
+		}
+
+		void delete(Object documentId) {
+			type = OutboxEvent.Type.DELETE;
+			this.documentId = documentId;
+			considerAllDirty = false;
+			dirtyPaths = null;
+		}
+
+		OutboxEvent toOutboxEvent() {
+			String dirtyPathsAsString = considerAllDirty || dirtyPaths == null ? null : String.join( ",", dirtyPaths );
+			return outbox.createEvent( type, key.entityName, key.entityId, documentId, null, dirtyPathsAsString );
+		}
+	}
+}
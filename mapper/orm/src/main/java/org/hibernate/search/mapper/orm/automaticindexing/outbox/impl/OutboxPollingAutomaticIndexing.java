@@ -0,0 +1,255 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.common.impl.IdentifierSerializer;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * The entry point of the "outbox-polling" automatic indexing strategy.
+ * <p>
+ * Changes to entities are written to an outbox table in the same transaction as the changes themselves,
+ * and are picked up asynchronously by an {@link OutboxEventProcessor},
+ * which reloads the entities and indexes them.
+ */
+public final class OutboxPollingAutomaticIndexing {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<String> TABLE_NAME =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME )
+					.asString()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> CREATE_TABLE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> PROCESSING_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_DELAY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> LEASE_DURATION =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SHARDS_TOTAL_COUNT =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<Integer>> SHARDS_ASSIGNED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_SHARDS_ASSIGNED )
+					.asInteger()
+					.multivalued()
+					.build();
+
+	public static OutboxPollingAutomaticIndexing create(ConfigurationPropertySource propertySource,
+			SessionFactoryImplementor sessionFactory, HibernateOrmOutboxTypeContextProvider typeContextProvider) {
+		if ( !MultiTenancyStrategy.NONE.equals( sessionFactory.getSessionFactoryOptions().getMultiTenancyStrategy() ) ) {
+			throw log.outboxMultiTenancyNotSupported();
+		}
+
+		int totalShardCount = SHARDS_TOTAL_COUNT.get( propertySource );
+		Optional<List<Integer>> assignedShardsOptional = SHARDS_ASSIGNED.get( propertySource );
+		List<Integer> assignedShards = null;
+		if ( assignedShardsOptional.isPresent() ) {
+			// Remove duplicates and sort, so that the SQL query is always the same
+			TreeSet<Integer> sortedShards = new TreeSet<>( assignedShardsOptional.get() );
+			for ( Integer shard : sortedShards ) {
+				if ( shard < 0 || shard >= totalShardCount ) {
+					throw log.outboxInvalidAssignedShard( shard, totalShardCount );
+				}
+			}
+			if ( sortedShards.size() < totalShardCount ) {
+				assignedShards = Collections.unmodifiableList( new ArrayList<>( sortedShards ) );
+			}
+			// else: all shards are assigned, no need to filter
+		}
+
+		// Document identifiers may come from a property other than the entity identifier
+		List<Type> documentIdSourcePropertyTypes = new ArrayList<>();
+		for ( HibernateOrmOutboxTypeContext typeContext : typeContextProvider.allIndexed() ) {
+			documentIdSourcePropertyTypes.add( typeContext.documentIdSourcePropertyType() );
+		}
+
+		return new OutboxPollingAutomaticIndexing(
+				typeContextProvider,
+				new OutboxTable( TABLE_NAME.get( propertySource ) ),
+				IdentifierSerializer.create( sessionFactory, documentIdSourcePropertyTypes ),
+				CREATE_TABLE.get( propertySource ),
+				PROCESSING_ENABLED.get( propertySource ),
+				POLLING_INTERVAL.get( propertySource ),
+				BATCH_SIZE.get( propertySource ),
+				MAX_ATTEMPTS.get( propertySource ),
+				RETRY_DELAY.get( propertySource ),
+				LEASE_DURATION.get( propertySource ),
+				totalShardCount, assignedShards
+		);
+	}
+
+	private final HibernateOrmOutboxTypeContextProvider typeContextProvider;
+	private final OutboxTable table;
+	private final IdentifierSerializer serializer;
+	private final boolean createTable;
+	private final boolean processingEnabled;
+	private final int pollingInterval;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final int retryDelay;
+	private final int leaseDuration;
+	private final int totalShardCount;
+	private final List<Integer> assignedShards;
+
+	private OutboxEventProcessor processor;
+
+	private OutboxPollingAutomaticIndexing(HibernateOrmOutboxTypeContextProvider typeContextProvider,
+			OutboxTable table, IdentifierSerializer serializer,
+			boolean createTable, boolean processingEnabled,
+			int pollingInterval, int batchSize, int maxAttempts, int retryDelay, int leaseDuration,
+			int totalShardCount, List<Integer> assignedShards) {
+		this.typeContextProvider = typeContextProvider;
+		this.table = table;
+		this.serializer = serializer;
+		this.createTable = createTable;
+		this.processingEnabled = processingEnabled;
+		this.pollingInterval = pollingInterval;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.retryDelay = retryDelay;
+		this.leaseDuration = leaseDuration;
+		this.totalShardCount = totalShardCount;
+		this.assignedShards = assignedShards;
+	}
+
+	public void start(HibernateOrmOutboxMappingContext mappingContext) {
+		if ( createTable ) {
+			createTableIfAbsent( mappingContext.sessionFactory() );
+		}
+		if ( processingEnabled ) {
+			processor = new OutboxEventProcessor( mappingContext, table, serializer,
+					pollingInterval, batchSize, maxAttempts, retryDelay, leaseDuration, assignedShards );
+			processor.start();
+		}
+	}
+
+	public void stop() {
+		if ( processor != null ) {
+			processor.stop();
+			processor = null;
+		}
+	}
+
+	public OutboxIndexingPlan createIndexingPlan(SessionImplementor session) {
+		return new OutboxIndexingPlan( this, typeContextProvider, session );
+	}
+
+	OutboxEvent createEvent(OutboxEvent.Type type, String entityName, Object entityId, Object documentId,
+			String routingKey, String dirtyPaths) {
+		String serializedEntityId = serializer.serialize( entityId );
+		String serializedDocumentId = serializer.serialize( documentId );
+		long now = System.currentTimeMillis();
+		String shardingKey = entityName + "#"
+				+ ( serializedEntityId != null ? serializedEntityId : serializedDocumentId );
+		int shard = Math.floorMod( shardingKey.hashCode(), totalShardCount );
+		// Events are ready for processing immediately.
+		// Processing dates are compared to the clock of the database, so we can't use the clock of this JVM here;
+		// the creation date is only used to process events in order, so the clock of this JVM is good enough.
+		return new OutboxEvent( UUID.randomUUID().toString(), now, 0L, 0, shard,
+				type, entityName, serializedEntityId, serializedDocumentId, routingKey, dirtyPaths );
+	}
+
+	void write(SessionImplementor session, List<OutboxEvent> events) {
+		if ( events.isEmpty() ) {
+			return;
+		}
+		session.doWork( connection -> table.insert( connection, events ) );
+	}
+
+	private void createTableIfAbsent(SessionFactoryImplementor sessionFactory) {
+		JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		Dialect dialect = jdbcServices.getDialect();
+		// Don't use a Session here: flushing it would wait for Hibernate Search to finish booting,
+		// and we're in the middle of booting.
+		JdbcConnectionAccess connectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
+		try {
+			Connection connection = connectionAccess.obtainConnection();
+			try {
+				table.createIfAbsent( connection, dialect );
+				if ( !connection.getAutoCommit() ) {
+					connection.commit();
+				}
+			}
+			catch (SQLException | RuntimeException e) {
+				if ( !connection.getAutoCommit() ) {
+					connection.rollback();
+				}
+				throw e;
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			throw log.outboxTableCreationFailure( table.tableName(), e.getMessage(), e );
+		}
+	}
+}
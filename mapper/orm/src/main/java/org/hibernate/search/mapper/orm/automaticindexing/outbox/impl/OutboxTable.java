@@ -0,0 +1,319 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Low-level access to the outbox table through JDBC.
+ * <p>
+ * We deliberately do not map the outbox table as an entity:
+ * that would require contributing to the user's Hibernate ORM metamodel,
+ * and would trigger our own event listeners.
+ */
+final class OutboxTable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final int ENTITY_NAME_LENGTH = 255;
+	private static final int SERIALIZED_ID_LENGTH = 1024;
+	private static final int ROUTING_KEY_LENGTH = 255;
+	private static final int DIRTY_PATHS_LENGTH = 4000;
+
+	private static final String COLUMNS = "ID, CREATED, PROCESS_AFTER, ATTEMPTS, SHARD, EVENT_TYPE,"
+			+ " ENTITY_NAME, ENTITY_ID, DOCUMENT_ID, ROUTING_KEY, DIRTY_PATHS";
+
+	private final String tableName;
+	private final String insertSql;
+	private final String claimSql;
+	private final String deleteSql;
+	private final String retrySql;
+
+	OutboxTable(String tableName) {
+		this.tableName = tableName;
+		this.insertSql = "insert into " + tableName + " (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		this.claimSql = "update " + tableName + " set OWNER = ?, PROCESS_AFTER = ? where ID = ? and PROCESS_AFTER <= ?";
+		this.deleteSql = "delete from " + tableName + " where ID = ? and OWNER = ?";
+		this.retrySql = "update " + tableName + " set ATTEMPTS = ATTEMPTS + 1, PROCESS_AFTER = ?, OWNER = null"
+				+ " where ID = ? and OWNER = ?";
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + tableName + "]";
+	}
+
+	String tableName() {
+		return tableName;
+	}
+
+	void createIfAbsent(Connection connection, Dialect dialect) throws SQLException {
+		if ( exists( connection ) ) {
+			log.debugf( "Outbox table '%s' already exists", tableName );
+			return;
+		}
+		String varchar36 = dialect.getTypeName( Types.VARCHAR, 36, 0, 0 );
+		String bigint = dialect.getTypeName( Types.BIGINT );
+		String integer = dialect.getTypeName( Types.INTEGER );
+		String ddl = dialect.getCreateTableString() + " " + tableName + " ("
+				+ "ID " + varchar36 + " not null, "
+				+ "CREATED " + bigint + " not null, "
+				+ "PROCESS_AFTER " + bigint + " not null, "
+				+ "ATTEMPTS " + integer + " not null, "
+				+ "SHARD " + integer + " not null, "
+				+ "EVENT_TYPE " + dialect.getTypeName( Types.VARCHAR, 20, 0, 0 ) + " not null, "
+				+ "ENTITY_NAME " + dialect.getTypeName( Types.VARCHAR, ENTITY_NAME_LENGTH, 0, 0 ) + " not null, "
+				+ "ENTITY_ID " + dialect.getTypeName( Types.VARCHAR, SERIALIZED_ID_LENGTH, 0, 0 ) + ", "
+				+ "DOCUMENT_ID " + dialect.getTypeName( Types.VARCHAR, SERIALIZED_ID_LENGTH, 0, 0 ) + ", "
+				+ "ROUTING_KEY " + dialect.getTypeName( Types.VARCHAR, ROUTING_KEY_LENGTH, 0, 0 ) + ", "
+				+ "DIRTY_PATHS " + dialect.getTypeName( Types.VARCHAR, DIRTY_PATHS_LENGTH, 0, 0 ) + ", "
+				+ "OWNER " + varchar36 + ", "
+				+ "primary key (ID))";
+		// Polling filters events on their processing date and orders them by creation date:
+		// without indexes, each poll would scan and sort the whole table.
+		// The first index lets the database skip events that are leased or waiting for a retry,
+		// the second one lets it read ready events in order when most events are ready.
+		String processAfterIndexDdl = "create index " + tableName + "_PROCESS_AFTER_IDX on " + tableName
+				+ " (PROCESS_AFTER, CREATED, ID)";
+		String createdIndexDdl = "create index " + tableName + "_CREATED_IDX on " + tableName + " (CREATED, ID)";
+		log.debugf( "Creating outbox table '%s': %s; %s; %s", tableName, ddl, processAfterIndexDdl, createdIndexDdl );
+		try ( Statement statement = connection.createStatement() ) {
+			statement.executeUpdate( ddl );
+			statement.executeUpdate( processAfterIndexDdl );
+			statement.executeUpdate( createdIndexDdl );
+		}
+	}
+
+	void insert(Connection connection, Collection<OutboxEvent> events) throws SQLException {
+		if ( events.isEmpty() ) {
+			return;
+		}
+		try ( PreparedStatement statement = connection.prepareStatement( insertSql ) ) {
+			for ( OutboxEvent event : events ) {
+				int i = 1;
+				statement.setString( i++, event.id() );
+				statement.setLong( i++, event.created() );
+				statement.setLong( i++, event.processAfter() );
+				statement.setInt( i++, event.attempts() );
+				statement.setInt( i++, event.shard() );
+				statement.setString( i++, event.type().name() );
+				statement.setString( i++, event.entityName() );
+				setNullableString( statement, i++, event.serializedEntityId() );
+				setNullableString( statement, i++, event.serializedDocumentId() );
+				setNullableString( statement, i++, event.routingKey() );
+				setNullableString( statement, i, truncateDirtyPaths( event.dirtyPaths() ) );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @param shards The shards to retrieve events for, or {@code null} to retrieve events for all shards.
+	 * @param now The current time, in milliseconds since the epoch.
+	 * @param maxResults The maximum number of events to retrieve.
+	 * @return The oldest events that are ready for processing.
+	 * @throws SQLException If the table cannot be queried.
+	 */
+	List<OutboxEvent> poll(Connection connection, List<Integer> shards, long now, int maxResults)
+			throws SQLException {
+		StringBuilder sql = new StringBuilder( "select " ).append( COLUMNS )
+				.append( " from " ).append( tableName )
+				.append( " where PROCESS_AFTER <= ?" );
+		if ( shards != null ) {
+			sql.append( " and SHARD in (" );
+			for ( int i = 0; i < shards.size(); i++ ) {
+				if ( i > 0 ) {
+					sql.append( ", " );
+				}
+				sql.append( "?" );
+			}
+			sql.append( ")" );
+		}
+		sql.append( " order by CREATED, ID" );
+
+		List<OutboxEvent> result = new ArrayList<>();
+		try ( PreparedStatement statement = connection.prepareStatement( sql.toString() ) ) {
+			statement.setMaxRows( maxResults );
+			statement.setFetchSize( maxResults );
+			int i = 1;
+			statement.setLong( i++, now );
+			if ( shards != null ) {
+				for ( Integer shard : shards ) {
+					statement.setInt( i++, shard );
+				}
+			}
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				while ( resultSet.next() ) {
+					result.add( new OutboxEvent(
+							resultSet.getString( 1 ),
+							resultSet.getLong( 2 ),
+							resultSet.getLong( 3 ),
+							resultSet.getInt( 4 ),
+							resultSet.getInt( 5 ),
+							OutboxEvent.Type.valueOf( resultSet.getString( 6 ) ),
+							resultSet.getString( 7 ),
+							resultSet.getString( 8 ),
+							resultSet.getString( 9 ),
+							resultSet.getString( 10 ),
+							resultSet.getString( 11 )
+					) );
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Take a lease on events, provided they are still ready for processing, thereby claiming them.
+	 * <p>
+	 * Claiming an event pushes back its processing date to the end of the lease,
+	 * so that other processors stop polling it until the lease expires.
+	 * When multiple processors claim the same events concurrently,
+	 * the database will block all but one of them until the first transaction ends,
+	 * at which point the other processors will notice the event is no longer ready.
+	 * <p>
+	 * Updates are sent as a single JDBC batch.
+	 * Drivers that do not report the update count of each statement in a batch
+	 * make us consider every event as claimed: at worst, an entity is reindexed twice, which is harmless.
+	 *
+	 * @param connection The connection to use.
+	 * @param events The events to claim.
+	 * @param owner The identifier of the claiming processor.
+	 * @param now The current time, in milliseconds since the epoch.
+	 * @param leaseExpiration The time the lease expires, in milliseconds since the epoch.
+	 * @return The events that were successfully claimed, i.e. that were not already claimed by another processor.
+	 * @throws SQLException If the table cannot be updated.
+	 */
+	List<OutboxEvent> claim(Connection connection, List<OutboxEvent> events, String owner,
+			long now, long leaseExpiration) throws SQLException {
+		if ( events.isEmpty() ) {
+			return events;
+		}
+		int[] updateCounts;
+		try ( PreparedStatement statement = connection.prepareStatement( claimSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setString( 1, owner );
+				statement.setLong( 2, leaseExpiration );
+				statement.setString( 3, event.id() );
+				statement.setLong( 4, now );
+				statement.addBatch();
+			}
+			updateCounts = statement.executeBatch();
+		}
+		List<OutboxEvent> claimed = new ArrayList<>( events.size() );
+		for ( int i = 0; i < events.size(); i++ ) {
+			OutboxEvent event = events.get( i );
+			if ( isUpdated( updateCounts[i] ) ) {
+				claimed.add( event );
+			}
+			else {
+				log.tracef( "Outbox event %s was claimed by another processor; skipping", event );
+			}
+		}
+		return claimed;
+	}
+
+	/**
+	 * Delete processed events, provided the given processor still holds their lease.
+	 *
+	 * @param connection The connection to use.
+	 * @param events The events to delete.
+	 * @param owner The identifier of the processor that claimed the events.
+	 * @throws SQLException If the table cannot be updated.
+	 */
+	void delete(Connection connection, Collection<OutboxEvent> events, String owner) throws SQLException {
+		if ( events.isEmpty() ) {
+			return;
+		}
+		try ( PreparedStatement statement = connection.prepareStatement( deleteSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setString( 1, event.id() );
+				statement.setString( 2, owner );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * Release events whose processing failed so that they are processed again later,
+	 * provided the given processor still holds their lease.
+	 *
+	 * @param connection The connection to use.
+	 * @param events The events to release.
+	 * @param owner The identifier of the processor that claimed the events.
+	 * @param processAfter The time after which the events should be processed again, in milliseconds since the epoch.
+	 * @throws SQLException If the table cannot be updated.
+	 */
+	void retryLater(Connection connection, Collection<OutboxEvent> events, String owner, long processAfter)
+			throws SQLException {
+		if ( events.isEmpty() ) {
+			return;
+		}
+		try ( PreparedStatement statement = connection.prepareStatement( retrySql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setLong( 1, processAfter );
+				statement.setString( 2, event.id() );
+				statement.setString( 3, owner );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private boolean exists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		// Databases differ in how they store unquoted identifiers: try the most common variants.
+		for ( String candidate : new String[] { tableName, tableName.toUpperCase( Locale.ROOT ),
+				tableName.toLowerCase( Locale.ROOT ) } ) {
+			try ( ResultSet tables = metaData.getTables( null, null, candidate, new String[] { "TABLE" } ) ) {
+				if ( tables.next() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isUpdated(int updateCount) {
+		return updateCount > 0 || updateCount == Statement.SUCCESS_NO_INFO;
+	}
+
+	private static void setNullableString(PreparedStatement statement, int index, String value) throws SQLException {
+		if ( value == null ) {
+			statement.setNull( index, Types.VARCHAR );
+		}
+		else {
+			statement.setString( index, value );
+		}
+	}
+
+	private static String truncateDirtyPaths(String dirtyPaths) {
+		if ( dirtyPaths != null && dirtyPaths.length() > DIRTY_PATHS_LENGTH ) {
+			// Too many dirty paths to store: consider everything dirty instead.
+			return null;
+		}
+		return dirtyPaths;
+	}
+}
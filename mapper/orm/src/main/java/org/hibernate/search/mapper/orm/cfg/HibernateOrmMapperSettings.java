@@ -78,6 +78,135 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The name of the database table holding automatic indexing events
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Expects a String, such as "HSEARCH_OUTBOX_EVENT".
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME;
+
+	/**
+	 * Whether the outbox table should be created on startup if it does not exist yet,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE;
+
+	/**
+	 * Whether events written to the outbox table should be processed by this application node,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * When disabled, this node will only write events to the outbox table,
+	 * and other nodes will be responsible for processing them.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED;
+
+	/**
+	 * How long to wait, in milliseconds, before polling the outbox table again
+	 * after the outbox table was found empty,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of outbox events to process in a single transaction,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Higher values mean fewer, larger indexing batches,
+	 * but also longer transactions and higher memory usage.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 50},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE;
+
+	/**
+	 * How many times processing of an outbox event will be attempted before giving up
+	 * and reporting the failure to the {@link org.hibernate.search.engine.cfg.EngineSettings#BACKGROUND_FAILURE_HANDLER failure handler},
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS;
+
+	/**
+	 * How long to wait, in milliseconds, before processing an outbox event again after a failure,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY;
+
+	/**
+	 * How long, in milliseconds, an application node may hold outbox events it claimed before processing them,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Once the lease expires, for example because the node holding the events crashed,
+	 * the events can be claimed and processed by another node.
+	 * The lease should be longer than the time it takes to index a batch of events:
+	 * otherwise events may be processed twice.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 60000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION;
+
+	/**
+	 * The total number of shards outbox events are spread across,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * All events related to the same entity are always assigned to the same shard.
+	 * When each shard is {@link #AUTOMATIC_INDEXING_OUTBOX_SHARDS_ASSIGNED assigned} to exactly one application node,
+	 * changes to a given entity are guaranteed to be indexed in order.
+	 * <p>
+	 * This value must be the same on every application node.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT;
+
+	/**
+	 * The shards whose outbox events should be processed by this application node,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling} automatic indexing strategy.
+	 * <p>
+	 * Expects a comma-separated list of shard indexes between {@code 0} (inclusive)
+	 * and {@link #AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT the total shard count} (exclusive),
+	 * such as {@code 0,2}.
+	 * <p>
+	 * Defaults to all shards.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_SHARDS_ASSIGNED = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_SHARDS_ASSIGNED;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -134,6 +263,33 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String SCHEMA_MANAGEMENT_STRATEGY = PREFIX + Radicals.SCHEMA_MANAGEMENT_STRATEGY;
 
+	/**
+	 * The name of the table used to coordinate partitioned mass indexing across multiple application nodes,
+	 * i.e. when using {@link org.hibernate.search.mapper.orm.massindexing.MassIndexer#partitioned(String, int)}.
+	 * <p>
+	 * The table is created automatically if it does not exist.
+	 * <p>
+	 * Expects a String, such as "HSEARCH_MASS_INDEXING_PARTITION".
+	 * <p>
+	 * Defaults to {@link Defaults#MASS_INDEXING_PARTITION_TABLE_NAME}.
+	 */
+	public static final String MASS_INDEXING_PARTITION_TABLE_NAME = PREFIX + Radicals.MASS_INDEXING_PARTITION_TABLE_NAME;
+
+	/**
+	 * How long, in milliseconds, a node may hold a mass indexing partition without renewing its lease,
+	 * when using {@link org.hibernate.search.mapper.orm.massindexing.MassIndexer#partitioned(String, int) partitioned mass indexing}.
+	 * <p>
+	 * Leases are renewed automatically while the partition is being indexed;
+	 * once a lease expires, for example because the node holding it crashed,
+	 * the partition can be claimed by another node.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 60000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#MASS_INDEXING_PARTITION_LEASE_DURATION}.
+	 */
+	public static final String MASS_INDEXING_PARTITION_LEASE_DURATION = PREFIX + Radicals.MASS_INDEXING_PARTITION_LEASE_DURATION;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -146,11 +302,23 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = "automatic_indexing.strategy";
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = "automatic_indexing.synchronization.strategy";
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = "automatic_indexing.enable_dirty_check";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME = "automatic_indexing.outbox.table_name";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE = "automatic_indexing.outbox.create_table";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED = "automatic_indexing.outbox.processing.enabled";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = "automatic_indexing.outbox.processing.polling_interval";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = "automatic_indexing.outbox.processing.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = "automatic_indexing.outbox.processing.max_attempts";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY = "automatic_indexing.outbox.processing.retry_delay";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION = "automatic_indexing.outbox.processing.lease_duration";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT = "automatic_indexing.outbox.shards.total_count";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_SHARDS_ASSIGNED = "automatic_indexing.outbox.shards.assigned";
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
+		public static final String MASS_INDEXING_PARTITION_TABLE_NAME = "mass_indexing.partition.table_name";
+		public static final String MASS_INDEXING_PARTITION_LEASE_DURATION = "mass_indexing.partition.lease_duration";
 	}
 
 	/**
@@ -167,11 +335,22 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE_NAME = "HSEARCH_OUTBOX_EVENT";
+		public static final boolean AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE = true;
+		public static final boolean AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED = true;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = 100;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = 50;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = 5;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY = 1000;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_LEASE_DURATION = 60_000;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_SHARDS_TOTAL_COUNT = 1;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY = SchemaManagementStrategyName.CREATE_OR_VALIDATE;
+		public static final String MASS_INDEXING_PARTITION_TABLE_NAME = "HSEARCH_MASS_INDEXING_PARTITION";
+		public static final long MASS_INDEXING_PARTITION_LEASE_DURATION = 60_000L;
 	}
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.common.impl;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.dialect.Dialect;
+
+/**
+ * Retrieves the current time from the database,
+ * so that application nodes with skewed clocks agree on deadlines stored in database tables.
+ */
+public final class DatabaseClock {
+
+	private DatabaseClock() {
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @param dialect The dialect of the database.
+	 * @return The current time according to the database, in milliseconds,
+	 * or according to this JVM if the dialect does not support retrieving the current time.
+	 * @throws SQLException If the database cannot be queried.
+	 */
+	public static long currentTimeMillis(Connection connection, Dialect dialect) throws SQLException {
+		if ( !dialect.supportsCurrentTimestampSelection() ) {
+			return System.currentTimeMillis();
+		}
+		// Always interpret the timestamp in the same time zone,
+		// so that all nodes get the same value regardless of their default time zone.
+		Calendar calendar = Calendar.getInstance( TimeZone.getTimeZone( "UTC" ), Locale.ROOT );
+		String sql = dialect.getCurrentTimestampSelectString();
+		Timestamp timestamp;
+		if ( dialect.isCurrentTimestampSelectStringCallable() ) {
+			try ( CallableStatement statement = connection.prepareCall( sql ) ) {
+				statement.registerOutParameter( 1, Types.TIMESTAMP );
+				statement.execute();
+				timestamp = statement.getTimestamp( 1, calendar );
+			}
+		}
+		else {
+			try ( PreparedStatement statement = connection.prepareStatement( sql );
+					ResultSet resultSet = statement.executeQuery() ) {
+				resultSet.next();
+				timestamp = resultSet.getTimestamp( 1, calendar );
+			}
+		}
+		return timestamp.getTime();
+	}
+}
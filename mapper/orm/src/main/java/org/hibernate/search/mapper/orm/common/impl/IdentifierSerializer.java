@@ -0,0 +1,190 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.common.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Converts identifiers to strings that can be stored in a database table, and back.
+ * <p>
+ * Identifiers can be of any type, including user-defined composite types,
+ * so we rely on Java serialization, with Base64 encoding on top.
+ * <p>
+ * Since the serialized form is read from the database, deserialization only ever resolves
+ * a fixed set of JDK value types and the identifier types found in the Hibernate ORM metamodel:
+ * any other class in the serialized stream is rejected before it is even loaded.
+ * <p>
+ * Used to store identifiers of entities in the outbox table,
+ * and the bounds of partitions in partitioned mass indexing.
+ */
+public final class IdentifierSerializer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Set<String> JDK_ALLOWED_CLASS_NAMES = Collections.unmodifiableSet( new HashSet<>( Arrays.asList(
+			String.class.getName(), Number.class.getName(), Boolean.class.getName(), Character.class.getName(),
+			Byte.class.getName(), Short.class.getName(), Integer.class.getName(), Long.class.getName(),
+			Float.class.getName(), Double.class.getName(), Enum.class.getName(),
+			BigInteger.class.getName(), BigDecimal.class.getName(),
+			UUID.class.getName(), Date.class.getName(),
+			java.sql.Date.class.getName(), java.sql.Time.class.getName(), java.sql.Timestamp.class.getName(),
+			// All java.time types are serialized through this class
+			"java.time.Ser"
+	) ) );
+
+	/**
+	 * @param sessionFactory The session factory whose entity identifier types should be accepted.
+	 * @param additionalTypes Additional Hibernate ORM types whose values should be accepted,
+	 * such as the types of properties used as document identifiers.
+	 * @return A serializer.
+	 */
+	public static IdentifierSerializer create(SessionFactoryImplementor sessionFactory,
+			Collection<? extends Type> additionalTypes) {
+		Set<String> allowedClassNames = new HashSet<>( JDK_ALLOWED_CLASS_NAMES );
+		for ( EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values() ) {
+			collectAllowedClassNames( allowedClassNames, persister.getIdentifierType() );
+		}
+		for ( Type type : additionalTypes ) {
+			collectAllowedClassNames( allowedClassNames, type );
+		}
+		return new IdentifierSerializer(
+				sessionFactory.getServiceRegistry().getService( ClassLoaderService.class ),
+				Collections.unmodifiableSet( allowedClassNames )
+		);
+	}
+
+	private static void collectAllowedClassNames(Set<String> collector, Type type) {
+		// Checking the result of add() avoids infinite recursion on recursive component types
+		boolean added = collector.add( type.getReturnedClass().getName() );
+		if ( added && type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				collectAllowedClassNames( collector, subtype );
+			}
+		}
+	}
+
+	private final ClassLoaderService classLoaderService;
+	private final Set<String> allowedClassNames;
+
+	private IdentifierSerializer(ClassLoaderService classLoaderService, Set<String> allowedClassNames) {
+		this.classLoaderService = classLoaderService;
+		this.allowedClassNames = allowedClassNames;
+	}
+
+	public String serialize(Object identifier) {
+		if ( identifier == null ) {
+			return null;
+		}
+		if ( !( identifier instanceof Serializable ) ) {
+			throw log.nonSerializableIdentifier( identifier, identifier.getClass(), Serializable.class );
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( identifier );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+		return Base64.getEncoder().encodeToString( bytes.toByteArray() );
+	}
+
+	public Serializable deserialize(String serialized) {
+		if ( serialized == null ) {
+			return null;
+		}
+		try ( ObjectInputStream in = new RestrictedObjectInputStream(
+				new ByteArrayInputStream( Base64.getDecoder().decode( serialized ) ),
+				classLoaderService, allowedClassNames ) ) {
+			return (Serializable) in.readObject();
+		}
+		catch (IOException | ClassNotFoundException | IllegalArgumentException | ClassCastException e) {
+			throw log.identifierDeserializationFailure( e.getMessage(), e );
+		}
+	}
+
+	private static final class RestrictedObjectInputStream extends ObjectInputStream {
+		private final ClassLoaderService classLoaderService;
+		private final Set<String> allowedClassNames;
+
+		RestrictedObjectInputStream(InputStream in, ClassLoaderService classLoaderService,
+				Set<String> allowedClassNames)
+				throws IOException {
+			super( in );
+			this.classLoaderService = classLoaderService;
+			this.allowedClassNames = allowedClassNames;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			String className = desc.getName();
+			if ( !isAllowed( className ) ) {
+				// Reject before loading the class, so that no static initializer can run
+				throw new InvalidClassException( className, "not an identifier type of any entity" );
+			}
+			try {
+				return classLoaderService.classForName( desc.getName() );
+			}
+			catch (ClassLoadingException e) {
+				// Primitive types and arrays are not handled by the class loader service
+				return super.resolveClass( desc );
+			}
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+			throw new InvalidClassException( "Proxy classes are never valid identifiers" );
+		}
+
+		private boolean isAllowed(String className) {
+			// Strip array dimensions, e.g. "[[Ljava.lang.Integer;" or "[B"
+			int elementStart = 0;
+			while ( elementStart < className.length() && className.charAt( elementStart ) == '[' ) {
+				elementStart++;
+			}
+			if ( elementStart == 0 ) {
+				return allowedClassNames.contains( className );
+			}
+			String elementName = className.substring( elementStart );
+			if ( elementName.length() == 1 ) {
+				// Array of primitives
+				return true;
+			}
+			// Array of objects: "Lsome.Class;"
+			return elementName.startsWith( "L" ) && elementName.endsWith( ";" )
+					&& allowedClassNames.contains( elementName.substring( 1, elementName.length() - 1 ) );
+		}
+	}
+}
@@ -277,4 +277,83 @@ SearchException invalidEntitySuperType(String entityName,
 	@Message(id = ID_OFFSET_2 + 35, value = "Hibernate Search shutdown failed: %1$s")
 	void shutdownFailed(String causeMessage, @Cause Throwable cause);
 
+	@Message(id = ID_OFFSET_2 + 36,
+			value = "The 'outbox-polling' automatic indexing strategy does not support multi-tenancy."
+					+ " Use a different automatic indexing strategy, or disable multi-tenancy.")
+	SearchException outboxMultiTenancyNotSupported();
+
+	@Message(id = ID_OFFSET_2 + 37,
+			value = "Unable to serialize identifier '%1$s': identifier type '%2$s' does not implement '%3$s'."
+					+ " Identifiers must be serializable when using the 'outbox-polling' automatic indexing strategy"
+					+ " or partitioned mass indexing.")
+	SearchException nonSerializableIdentifier(Object identifier,
+			@FormatWith(ClassFormatter.class) Class<?> identifierType,
+			@FormatWith(ClassFormatter.class) Class<?> serializableType);
+
+	@Message(id = ID_OFFSET_2 + 38,
+			value = "Invalid outbox shard assignment: shard '%1$s' is out of bounds."
+					+ " Assigned shards must be between 0 (inclusive) and the total shard count %2$s (exclusive).")
+	SearchException outboxInvalidAssignedShard(int shard, int totalShardCount);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 39,
+			value = "Ignoring outbox event for entity '%1$s': this entity is not indexed nor contained in an indexed entity."
+					+ " Event: %2$s")
+	void outboxEventForUnknownEntity(String entityName, Object event);
+
+	@Message(id = ID_OFFSET_2 + 40, value = "Unable to create the outbox table '%1$s': %2$s")
+	SearchException outboxTableCreationFailure(String tableName, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 41,
+			value = "Processing of outbox events failed %1$s times; giving up on these events: %2$s")
+	SearchException outboxEventProcessingAbandoned(int attempts, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 43,
+			value = "Cannot index into fresh indexes when mass indexing only part of the entities:"
+					+ " fresh indexes would only contain the reindexed entities."
+					+ " Either disable indexing into fresh indexes,"
+					+ " or do not restrict reindexed entities and do not set a checkpoint store.")
+	SearchException freshIndexesIncompatibleWithIncrementalMassIndexing();
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 44,
+			value = "Resuming mass indexing of entity '%1$s' after checkpoint: identifier '%2$s'.")
+	void resumingMassIndexing(String entityName, Object checkpointId);
+
+	@Message(id = ID_OFFSET_2 + 45, value = "Unable to access the mass indexing partition table '%1$s': %2$s")
+	SearchException massIndexingPartitionTableAccessFailure(String tableName, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 46,
+			value = "Cannot index into fresh indexes or resume from checkpoints when mass indexing with partitions:"
+					+ " partitions are indexed concurrently by multiple application nodes,"
+					+ " which keep track of progress in the partition table instead.")
+	SearchException partitionedMassIndexingIncompatibleOptions();
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 47,
+			value = "Mass indexing job '%1$s': indexed partition %3$s of entity '%2$s'."
+					+ " %4$s out of %5$s partitions of this job are now done.")
+	void massIndexingPartitionDone(String jobName, String entityName, int partitionIndex,
+			long donePartitionCount, long totalPartitionCount);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 48,
+			value = "Mass indexing job '%1$s': lost the lease on partition %3$s of entity '%2$s'."
+					+ " Another application node may be indexing the same entities concurrently;"
+					+ " consider increasing the lease duration.")
+	void massIndexingPartitionLeaseLost(String jobName, String entityName, int partitionIndex);
+
+	@Message(id = ID_OFFSET_2 + 49,
+			value = "Unable to deserialize an identifier stored in the database: %1$s")
+	SearchException identifierDeserializationFailure(String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 50,
+			value = "Cannot mass index with partitions when multi-tenancy is enabled:"
+					+ " the partition table does not keep track of tenants,"
+					+ " so jobs of different tenants would interfere with each other.")
+	SearchException partitionedMassIndexingNotSupportedWithMultiTenancy();
+
+	@Message(value = "Processing of outbox events for automatic indexing")
+	String outboxEventProcessing();
+
 }
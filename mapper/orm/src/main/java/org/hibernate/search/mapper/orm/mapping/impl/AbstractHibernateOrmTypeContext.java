@@ -12,6 +12,7 @@
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContext;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
@@ -21,7 +22,7 @@
 
 abstract class AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmScopeTypeContext<E>, HibernateOrmListenerTypeContext,
-				HibernateOrmSessionTypeContext<E> {
+				HibernateOrmSessionTypeContext<E>, HibernateOrmOutboxTypeContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
@@ -48,10 +49,12 @@ public String jpaEntityName() {
 		return jpaEntityName;
 	}
 
+	@Override
 	public String hibernateOrmEntityName() {
 		return entityPersister.getEntityName();
 	}
 
+	@Override
 	public EntityPersister entityPersister() {
 		return entityPersister;
 	}
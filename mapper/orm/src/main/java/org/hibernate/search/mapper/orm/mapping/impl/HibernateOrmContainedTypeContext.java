@@ -10,6 +10,7 @@
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeContainedTypeContext;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoContainedTypeExtendedMappingCollector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.type.Type;
 
 class HibernateOrmContainedTypeContext<E> extends AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmScopeContainedTypeContext<E> {
@@ -26,6 +27,23 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 		return entityId;
 	}
 
+	@Override
+	public boolean indexed() {
+		return false;
+	}
+
+	@Override
+	public Object toDeletedDocumentProvidedId(Object entityId, Object entity) {
+		// There is no document to delete for contained types
+		return null;
+	}
+
+	@Override
+	public Type documentIdSourcePropertyType() {
+		// There is no document for contained types
+		return null;
+	}
+
 	static class Builder<E> implements PojoContainedTypeExtendedMappingCollector {
 		private final PojoRawTypeIdentifier<E> typeIdentifier;
 		private final String jpaEntityName;
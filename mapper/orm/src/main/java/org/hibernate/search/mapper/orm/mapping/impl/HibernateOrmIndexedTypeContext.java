@@ -20,11 +20,14 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.type.Type;
 
 class HibernateOrmIndexedTypeContext<E> extends AbstractHibernateOrmTypeContext<E>
 		implements SearchIndexedEntity, HibernateOrmSessionIndexedTypeContext<E>, HibernateOrmScopeIndexedTypeContext<E> {
 
 	private final boolean documentIdIsEntityId;
+	private final ValueReadHandle<?> documentIdSourcePropertyHandle;
+	private final Type documentIdSourcePropertyType;
 	private final EntityLoaderFactory loaderFactory;
 	private final IdentifierMapping identifierMapping;
 
@@ -35,6 +38,7 @@ private HibernateOrmIndexedTypeContext(Builder<E> builder, SessionFactoryImpleme
 
 		if ( entityPersister().getIdentifierPropertyName().equals( builder.documentIdSourcePropertyName ) ) {
 			documentIdIsEntityId = true;
+			documentIdSourcePropertyType = entityPersister().getIdentifierType();
 			loaderFactory = HibernateOrmEntityIdEntityLoader.factory(
 					sessionFactory, entityPersister()
 			);
@@ -43,11 +47,13 @@ sessionFactory, entityPersister()
 			// The entity ID is not the property used to generate the document ID
 			// We need to use a criteria query to load entities from the document IDs
 			documentIdIsEntityId = false;
+			documentIdSourcePropertyType = entityPersister().getPropertyType( builder.documentIdSourcePropertyName );
 			loaderFactory = HibernateOrmNonEntityIdPropertyEntityLoader.factory(
 					entityPersister(), builder.documentIdSourcePropertyName, builder.documentIdSourcePropertyHandle
 			);
 		}
 
+		this.documentIdSourcePropertyHandle = builder.documentIdSourcePropertyHandle;
 		this.identifierMapping = builder.identifierMapping;
 		this.indexManager = builder.indexManager;
 	}
@@ -79,6 +85,29 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 		}
 	}
 
+	@Override
+	public boolean indexed() {
+		return true;
+	}
+
+	@Override
+	public Object toDeletedDocumentProvidedId(Object entityId, Object entity) {
+		if ( documentIdIsEntityId ) {
+			return entityId;
+		}
+		else {
+			// The entity ID is not the property used to generate the document ID:
+			// the entity will no longer be available when the deletion is processed,
+			// so extract the document ID source now.
+			return documentIdSourcePropertyHandle.get( entity );
+		}
+	}
+
+	@Override
+	public Type documentIdSourcePropertyType() {
+		return documentIdSourcePropertyType;
+	}
+
 	@Override
 	public IdentifierMapping getIdentifierMapping() {
 		return identifierMapping;
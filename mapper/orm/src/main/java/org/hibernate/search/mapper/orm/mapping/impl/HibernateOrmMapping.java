@@ -22,17 +22,23 @@
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPreStopContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxMappingContext;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxPollingAutomaticIndexing;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
@@ -60,16 +66,24 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class HibernateOrmMapping extends AbstractPojoMappingImplementor<HibernateOrmMapping>
 		implements SearchMapping, HibernateOrmMappingContext,
 				HibernateOrmListenerContextProvider,
-				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext {
+				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext,
+				HibernateOrmOutboxMappingContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends AutomaticIndexingSynchronizationStrategy>> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.asBeanReference( AutomaticIndexingSynchronizationStrategy.class )
@@ -94,6 +108,18 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.SCHEMA_MANAGEMENT_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<String> MASS_INDEXING_PARTITION_TABLE_NAME =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MASS_INDEXING_PARTITION_TABLE_NAME )
+					.asString()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MASS_INDEXING_PARTITION_TABLE_NAME )
+					.build();
+
+	private static final ConfigurationProperty<Long> MASS_INDEXING_PARTITION_LEASE_DURATION =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MASS_INDEXING_PARTITION_LEASE_DURATION )
+					.asLong()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MASS_INDEXING_PARTITION_LEASE_DURATION )
+					.build();
+
 	public static MappingImplementor<HibernateOrmMapping> create(
 			PojoMappingDelegate mappingDelegate, HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory, ConfigurationPropertySource propertySource,
@@ -112,11 +138,21 @@ public static MappingImplementor<HibernateOrmMapping> create(
 			SchemaManagementStrategyName schemaManagementStrategyName = SCHEMA_MANAGEMENT_STRATEGY.get( propertySource );
 			SchemaManagementListener schemaManagementListener = new SchemaManagementListener( schemaManagementStrategyName );
 
+			OutboxPollingAutomaticIndexing outbox = null;
+			if ( AutomaticIndexingStrategyName.OUTBOX_POLLING.equals( AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) ) ) {
+				outbox = OutboxPollingAutomaticIndexing.create( propertySource, sessionFactory, typeContextContainer );
+			}
+
+			String massIndexingPartitionTableName = MASS_INDEXING_PARTITION_TABLE_NAME.get( propertySource );
+			long massIndexingPartitionLeaseDuration = MASS_INDEXING_PARTITION_LEASE_DURATION.get( propertySource );
+
 			return new HibernateOrmMapping(
 					mappingDelegate, typeContextContainer, sessionFactory,
 					synchronizationStrategyHolder,
 					cacheLookupStrategy, fetchSize,
-					schemaManagementListener
+					schemaManagementListener,
+					outbox,
+					massIndexingPartitionTableName, massIndexingPartitionLeaseDuration
 			);
 		}
 		catch (RuntimeException e) {
@@ -134,13 +170,20 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 	private final SchemaManagementListener schemaManagementListener;
 
+	private final OutboxPollingAutomaticIndexing outbox;
+
+	private final String massIndexingPartitionTableName;
+	private final long massIndexingPartitionLeaseDuration;
+
 	private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
 			int fetchSize,
-			SchemaManagementListener schemaManagementListener) {
+			SchemaManagementListener schemaManagementListener,
+			OutboxPollingAutomaticIndexing outbox,
+			String massIndexingPartitionTableName, long massIndexingPartitionLeaseDuration) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
 		this.sessionFactory = sessionFactory;
@@ -148,6 +191,9 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
 		this.schemaManagementListener = schemaManagementListener;
+		this.outbox = outbox;
+		this.massIndexingPartitionTableName = massIndexingPartitionTableName;
+		this.massIndexingPartitionLeaseDuration = massIndexingPartitionLeaseDuration;
 	}
 
 	@Override
@@ -158,11 +204,20 @@ public CompletableFuture<?> start(MappingStartContext context) {
 			return CompletableFuture.completedFuture( null );
 		}
 		PojoScopeSchemaManager schemaManager = scope.get().schemaManagerDelegate();
-		return schemaManagementListener.onStart( context, schemaManager );
+		CompletableFuture<?> schemaManagementFuture = schemaManagementListener.onStart( context, schemaManager );
+		if ( outbox == null ) {
+			return schemaManagementFuture;
+		}
+		// Only start processing outbox events once indexes exist
+		return schemaManagementFuture.thenRun( () -> outbox.start( this ) );
 	}
 
 	@Override
 	public CompletableFuture<?> preStop(MappingPreStopContext context) {
+		if ( outbox != null ) {
+			// Stop processing outbox events before indexes get dropped
+			outbox.stop();
+		}
 		Optional<SearchScopeImpl<Object>> scope = createAllScope();
 		if ( !scope.isPresent() ) {
 			// No indexed type
@@ -174,7 +229,10 @@ public CompletableFuture<?> preStop(MappingPreStopContext context) {
 
 	@Override
 	protected void doStop() {
-		defaultSynchronizationStrategyHolder.close();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( OutboxPollingAutomaticIndexing::stop, outbox );
+			closer.push( BeanHolder::close, defaultSynchronizationStrategyHolder );
+		}
 	}
 
 	@Override
@@ -269,6 +327,21 @@ public FailureHandler failureHandler() {
 		return delegate().failureHandler();
 	}
 
+	@Override
+	public MetricsRecorder metricsRecorder() {
+		return delegate().metricsRecorder();
+	}
+
+	@Override
+	public String massIndexingPartitionTableName() {
+		return massIndexingPartitionTableName;
+	}
+
+	@Override
+	public long massIndexingPartitionLeaseDuration() {
+		return massIndexingPartitionLeaseDuration;
+	}
+
 	@Override
 	public HibernateOrmScopeSessionContext sessionContext(EntityManager entityManager) {
 		return HibernateOrmSearchSession.get( this, HibernateOrmUtils.toSessionImplementor( entityManager ) );
@@ -285,6 +358,12 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(SessionImplementor
 		return HibernateOrmSearchSession.get( this, session ).currentIndexingPlan( createIfDoesNotExist );
 	}
 
+	@Override
+	public PojoIndexingPlan<EntityReference> createIndexingPlan(SessionImplementor session,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		return HibernateOrmSearchSession.get( this, session ).createDirectIndexingPlan( commitStrategy, refreshStrategy );
+	}
+
 	@Override
 	public ConfiguredAutomaticIndexingSynchronizationStrategy currentAutomaticIndexingSynchronizationStrategy(
 			SessionImplementor session) {
@@ -327,7 +406,8 @@ public HibernateOrmSearchSession.Builder createSessionBuilder(
 		return new HibernateOrmSearchSession.Builder(
 				this, typeContextContainer,
 				sessionImplementor,
-				defaultSynchronizationStrategyHolder.get()
+				defaultSynchronizationStrategyHolder.get(),
+				outbox
 		);
 	}
 
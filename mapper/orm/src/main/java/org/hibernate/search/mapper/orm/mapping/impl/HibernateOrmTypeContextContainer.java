@@ -14,6 +14,7 @@
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContextProvider;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmBasicTypeMetadataProvider;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContextProvider;
@@ -23,7 +24,8 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContextProvider, HibernateOrmSessionTypeContextProvider {
+class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContextProvider, HibernateOrmSessionTypeContextProvider,
+		HibernateOrmOutboxTypeContextProvider {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -71,6 +73,18 @@ public <E> HibernateOrmContainedTypeContext<E> containedForExactType(PojoRawType
 		return (HibernateOrmContainedTypeContext<E>) containedTypeContexts.get( typeIdentifier );
 	}
 
+	@Override
+	public AbstractHibernateOrmTypeContext<?> forExactType(PojoRawTypeIdentifier<?> typeIdentifier) {
+		AbstractHibernateOrmTypeContext<?> result = indexedTypeContexts.get( typeIdentifier );
+		if ( result != null ) {
+			return result;
+		}
+
+		result = containedTypeContexts.get( typeIdentifier );
+
+		return result;
+	}
+
 	@Override
 	public AbstractHibernateOrmTypeContext<?> forHibernateOrmEntityName(String hibernateOrmEntityName) {
 		AbstractHibernateOrmTypeContext<?> result =
@@ -107,7 +121,8 @@ public PojoRawTypeIdentifier<?> typeIdentifierForEntityName(String entityName) {
 		return result;
 	}
 
-	Collection<HibernateOrmIndexedTypeContext<?>> allIndexed() {
+	@Override
+	public Collection<HibernateOrmIndexedTypeContext<?>> allIndexed() {
 		return indexedTypeContexts.values();
 	}
 
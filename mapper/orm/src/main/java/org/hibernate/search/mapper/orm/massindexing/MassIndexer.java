@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.massindexing;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.CacheMode;
@@ -24,6 +25,9 @@ public interface MassIndexer {
 	/**
 	 * Sets the number of entity types to be indexed in parallel.
 	 * <p>
+	 * When mass indexing is {@link #partitioned(String, int) partitioned},
+	 * sets the number of partitions to be indexed in parallel on this node instead.
+	 * <p>
 	 * Defaults to {@code 1}.
 	 *
 	 * @param threadsToIndexObjects  number of entity types to be indexed in parallel
@@ -106,6 +110,34 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Indexes into fresh, empty copies of the indexes, then switches searches to these copies atomically when indexing ends.
+	 * <p>
+	 * Searches keep targeting the current indexes until indexing ends, so there is no search downtime,
+	 * and fresh copies can be tuned for bulk indexing: for example the Elasticsearch backend
+	 * disables periodic refreshes and replicas until the switch, and merges segments just before the switch.
+	 * On failure, the fresh copies are dropped and the current indexes are left untouched.
+	 * <p>
+	 * Changes applied by automatic indexing in this application instance while mass indexing is in progress
+	 * are written to both the current indexes and the fresh copies,
+	 * so they remain visible to searches and are not lost if the fresh copies are dropped.
+	 * Changes applied while the switch is in progress only become visible to searches after the switch.
+	 * Other application instances are not aware of the fresh copies:
+	 * their changes are only written to the fresh copies, and are lost if the fresh copies are dropped.
+	 * Thus this option should only be used when this application instance is the only one writing to the indexes.
+	 * <p>
+	 * When enabled, {@link #purgeAllOnStart(boolean)}, {@link #mergeSegmentsAfterPurge(boolean)}
+	 * and {@link #dropAndCreateSchemaOnStart(boolean)} are ignored, since the fresh copies are created empty.
+	 * <p>
+	 * Only supported by the Elasticsearch backend, with multi-tenancy disabled.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to index into fresh copies of the indexes, {@code false} to index into the current indexes.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer indexIntoFreshIndexes(boolean enable);
+
 	/**
 	 * Stops indexing after having indexed a set amount of objects.
 	 * <p>
@@ -117,6 +149,76 @@ public interface MassIndexer {
 	@Incubating
 	MassIndexer limitIndexedObjectsTo(long maximum);
 
+	/**
+	 * Only reindexes entities matching the given condition, e.g. entities changed since the last mass indexing.
+	 * <p>
+	 * The condition is a JPQL/HQL conditional expression, referring to the indexed entity with the alias {@code e},
+	 * for example {@code e.lastUpdated >= :since} or {@code e.version > :lastVersion}.
+	 * It applies to all indexed entity types targeted by this mass indexer.
+	 * <p>
+	 * Since only some entities are reindexed, {@link #purgeAllOnStart(boolean)},
+	 * {@link #mergeSegmentsAfterPurge(boolean)} and {@link #dropAndCreateSchemaOnStart(boolean)} are ignored,
+	 * and {@link #indexIntoFreshIndexes(boolean)} cannot be enabled.
+	 * Note that entities deleted from the database are not removed from the indexes.
+	 *
+	 * @param conditionalExpression A JPQL/HQL conditional expression.
+	 * @param parameters The values of the named parameters used in the conditional expression, indexed by name.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer reindexOnly(String conditionalExpression, Map<String, ?> parameters);
+
+	/**
+	 * Sets the {@link MassIndexingCheckpointStore} used to persist progress,
+	 * so that an interrupted mass indexing resumes where it stopped instead of starting over.
+	 * <p>
+	 * When a checkpoint store is set, identifiers are loaded in ascending order,
+	 * which requires the identifier of each targeted entity type to be a single, orderable column.
+	 * If the store holds a checkpoint for any targeted entity type, this mass indexing is considered a resumption:
+	 * {@link #purgeAllOnStart(boolean)}, {@link #mergeSegmentsAfterPurge(boolean)}
+	 * and {@link #dropAndCreateSchemaOnStart(boolean)} are ignored.
+	 * {@link #indexIntoFreshIndexes(boolean)} cannot be enabled.
+	 * <p>
+	 * Defaults to no checkpoint store: interrupted mass indexing starts over.
+	 *
+	 * @param checkpointStore The store for progress checkpoints.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer checkpointStore(MassIndexingCheckpointStore checkpointStore);
+
+	/**
+	 * Splits each targeted entity type into ranges of identifiers, called partitions,
+	 * that can be indexed concurrently by multiple application nodes running the same job.
+	 * <p>
+	 * Partitions are recorded in a database table, named according to the
+	 * {@link org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#MASS_INDEXING_PARTITION_TABLE_NAME}
+	 * configuration property and created automatically if necessary.
+	 * The first node to start the job plans the partitions;
+	 * every node, including the first one, then claims partitions through time-limited leases
+	 * and indexes them until no partition is left.
+	 * Partitions held by a node that stopped renewing its lease are claimed by other nodes,
+	 * and the number of done partitions is logged each time a partition is done.
+	 * Starting the job again after all partitions are done has no effect: use a new job name to reindex again.
+	 * Rows of done jobs are never removed from the partition table:
+	 * once every node is done with a job, delete the rows whose {@code JOB_NAME} is the job name if necessary.
+	 * <p>
+	 * Identifiers of targeted entity types must be a single, orderable and serializable column.
+	 * Every node must write to the same indexes, for example through the Elasticsearch backend:
+	 * with the Lucene backend, a node writing to its own local indexes would only index the partitions it claimed.
+	 * Since nodes index concurrently, {@link #purgeAllOnStart(boolean)}, {@link #mergeSegmentsAfterPurge(boolean)}
+	 * and {@link #dropAndCreateSchemaOnStart(boolean)} are ignored: prepare the indexes before starting the job.
+	 * {@link #indexIntoFreshIndexes(boolean)} cannot be enabled and no {@link #checkpointStore(MassIndexingCheckpointStore)}
+	 * can be set.
+	 * Multi-tenancy is not supported: the partition table does not keep track of tenants.
+	 *
+	 * @param jobName The name of the job, identical on every node taking part in the job.
+	 * @param partitionsPerType The maximum number of partitions to split each entity type into.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer partitioned(String jobName, int partitionsPerType);
+
 	/**
 	 * Starts the indexing process in background (asynchronous).
 	 * <p>
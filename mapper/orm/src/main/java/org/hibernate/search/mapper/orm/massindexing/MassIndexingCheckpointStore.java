@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A component that persists the progress of mass indexing,
+ * so that an interrupted mass indexing can resume where it stopped instead of starting over.
+ * <p>
+ * When a checkpoint store is passed to
+ * {@link org.hibernate.search.mapper.orm.massindexing.MassIndexer#checkpointStore(MassIndexingCheckpointStore)},
+ * identifiers of each entity type are loaded in ascending order,
+ * and the mass indexer periodically saves the greatest identifier
+ * such that this entity and all entities with a lower identifier have been indexed and flushed to the index.
+ * On the next run, only entities with a greater identifier are indexed.
+ * Checkpoints are cleared when mass indexing completes successfully.
+ * <p>
+ * Persistence is entirely up to the implementation: a file, a database table, etc.
+ * <p>
+ * Implementations must be threadsafe.
+ */
+@Incubating
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @param entityName The name of an entity type.
+	 * @return The identifier saved in the last checkpoint for this entity type,
+	 * or {@code null} if there is no checkpoint, i.e. if all entities of this type must be indexed.
+	 */
+	Object load(String entityName);
+
+	/**
+	 * Persist a checkpoint.
+	 * <p>
+	 * This method is invoked periodically during indexing, for each entity type,
+	 * with identifiers in ascending order.
+	 *
+	 * @param entityName The name of an entity type.
+	 * @param lastIndexedId The identifier of the last indexed entity:
+	 * all entities of this type with a lower or equal identifier have been indexed.
+	 */
+	void save(String entityName, Object lastIndexedId);
+
+	/**
+	 * Remove the checkpoint of an entity type, if any.
+	 * <p>
+	 * This method is invoked for each entity type when mass indexing completes successfully.
+	 *
+	 * @param entityName The name of an entity type.
+	 */
+	void clear(String entityName);
+
+}
@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -18,10 +22,13 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.mapper.orm.logging.impl.HibernateOrmEventContextMessages;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -34,6 +41,8 @@
  */
 public class BatchCoordinator extends FailureHandledRunnable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final HibernateOrmMassIndexingMappingContext mappingContext;
 	private final DetachedBackendSessionContext sessionContext;
 	// Entity types to reindex, guaranteed not to be subtypes of each other.
@@ -49,9 +58,15 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final boolean indexIntoFreshIndexes;
 	private final long objectsLimit;
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
+	private final String conditionalExpression;
+	private final Map<String, ?> conditionalExpressionParameters;
+	private final MassIndexingCheckpointStore checkpointStore;
+	private final String partitionedJobName;
+	private final int partitionsPerType;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
 	BatchCoordinator(HibernateOrmMassIndexingMappingContext mappingContext,
@@ -62,7 +77,11 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
-			int idFetchSize, Integer transactionTimeout) {
+			boolean indexIntoFreshIndexes,
+			int idFetchSize, Integer transactionTimeout,
+			String conditionalExpression, Map<String, ?> conditionalExpressionParameters,
+			MassIndexingCheckpointStore checkpointStore,
+			String partitionedJobName, int partitionsPerType) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -80,7 +99,13 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.indexIntoFreshIndexes = indexIntoFreshIndexes;
 		this.objectsLimit = objectsLimit;
+		this.conditionalExpression = conditionalExpression;
+		this.conditionalExpressionParameters = conditionalExpressionParameters;
+		this.checkpointStore = checkpointStore;
+		this.partitionedJobName = partitionedJobName;
+		this.partitionsPerType = partitionsPerType;
 	}
 
 	@Override
@@ -89,22 +114,40 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchCoordinator instance not expected to be reused" );
 		}
 
-		beforeBatch(); // purgeAll and mergeSegments if enabled
-		doBatchWork();
+		if ( partitionedJobName != null ) {
+			// Other nodes may be indexing partitions already: never drop or purge indexes here
+			doPartitionedBatchWork();
+			afterBatch();
+			return;
+		}
+
+		Map<String, Object> checkpoints = loadCheckpoints();
+		beforeBatch( !checkpoints.isEmpty() ); // purgeAll and mergeSegments if enabled
+		doBatchWork( checkpoints );
 		afterBatch(); // mergeSegments if enabled and flush
+		clearCheckpoints();
 	}
 
 	@Override
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		cancelPendingTasks();
+		if ( indexIntoFreshIndexes ) {
+			// The fresh indexes are incomplete: discard them and keep the current indexes
+			Futures.unwrappedExceptionGet( scopeWorkspace.dropFreshIndexes() );
+			return;
+		}
 		// Indexing performed before the exception must still be committed,
 		// in order to leave the index in a consistent state
 		afterBatchOnInterruption();
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
+	protected void cleanUpOnFailure() throws InterruptedException {
 		cancelPendingTasks();
+		if ( indexIntoFreshIndexes ) {
+			// The fresh indexes are incomplete: discard them and keep the current indexes
+			Futures.unwrappedExceptionGet( scopeWorkspace.dropFreshIndexes() );
+		}
 	}
 
 	@Override
@@ -136,11 +179,14 @@ private void cancelPendingTasks() {
 	 *
 	 * @throws InterruptedException if interrupted while waiting for endAllSignal.
 	 */
-	private void doBatchWork() throws InterruptedException {
+	private void doBatchWork(Map<String, Object> checkpoints) throws InterruptedException {
 		ExecutorService executor = mappingContext.threadPoolProvider()
 				.newFixedThreadPool( typesToIndexInParallel, MassIndexerImpl.THREAD_NAME_PREFIX + "Workspace" );
 		for ( HibernateOrmMassIndexingIndexedTypeContext<?> type : rootEntityTypes ) {
-			indexingFutures.add( Futures.runAsync( createBatchIndexingWorkspace( type ), executor ) );
+			indexingFutures.add( Futures.runAsync(
+					createBatchIndexingWorkspace( type, checkpoints.get( type.jpaEntityName() ) ),
+					executor
+			) );
 		}
 		executor.shutdown();
 
@@ -150,19 +196,124 @@ private void doBatchWork() throws InterruptedException {
 		);
 	}
 
-	private <E> BatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type) {
-		EntityType<E> typeDescriptor = type.entityTypeDescriptor();
-		SingularAttribute<? super E, ?> idAttributeOfType = typeDescriptor.getId( typeDescriptor.getIdType().getJavaType() );
+	/**
+	 * Will spawn as many threads as types to index in parallel,
+	 * each of them claiming and indexing partitions until there is no partition left.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for partitions to be indexed.
+	 */
+	private void doPartitionedBatchWork() throws InterruptedException {
+		try ( MassIndexingPartitionCoordinator partitions = new MassIndexingPartitionCoordinator(
+				mappingContext, sessionContext.tenantIdentifier(), partitionedJobName, partitionsPerType ) ) {
+			partitions.start();
+			Map<String, HibernateOrmMassIndexingIndexedTypeContext<?>> typesByEntityName = new LinkedHashMap<>();
+			for ( HibernateOrmMassIndexingIndexedTypeContext<?> type : rootEntityTypes ) {
+				partitions.plan( type.jpaEntityName(), idAttribute( type ).getName(),
+						conditionalExpression, conditionalExpressionParameters );
+				typesByEntityName.put( type.jpaEntityName(), type );
+			}
+
+			ExecutorService executor = mappingContext.threadPoolProvider()
+					.newFixedThreadPool( typesToIndexInParallel, MassIndexerImpl.THREAD_NAME_PREFIX + "Workspace" );
+			for ( int i = 0; i < typesToIndexInParallel; i++ ) {
+				indexingFutures.add( Futures.runAsync( () -> indexPartitions( partitions, typesByEntityName ), executor ) );
+			}
+			executor.shutdown();
+
+			// Wait for the executor to finish
+			Futures.unwrappedExceptionGet(
+					CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
+			);
+		}
+	}
+
+	private void indexPartitions(MassIndexingPartitionCoordinator partitions,
+			Map<String, HibernateOrmMassIndexingIndexedTypeContext<?>> typesByEntityName) {
+		MassIndexingPartition partition;
+		while ( !Thread.currentThread().isInterrupted()
+				&& ( partition = partitions.claimNext( typesByEntityName.keySet() ) ) != null ) {
+			boolean done = false;
+			try {
+				createBatchIndexingWorkspace( typesByEntityName.get( partition.entityName() ), partitions, partition )
+						.run();
+				// The workspace does not propagate interruptions, it only restores the interruption flag
+				done = !Thread.currentThread().isInterrupted();
+			}
+			finally {
+				if ( done ) {
+					partitions.complete( partition );
+				}
+				else {
+					// Let another node, or a later run of this job, index the partition
+					partitions.release( partition );
+				}
+			}
+		}
+	}
+
+	private <E> BatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type,
+			Object checkpointId) {
+		return createBatchIndexingWorkspace( type, idAttribute( type ),
+				conditionalExpression, conditionalExpressionParameters,
+				checkpointId, checkpointStore );
+	}
 
+	private <E> BatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type,
+			MassIndexingPartitionCoordinator partitions, MassIndexingPartition partition) {
+		SingularAttribute<? super E, ?> idAttributeOfType = idAttribute( type );
+		return createBatchIndexingWorkspace( type, idAttributeOfType,
+				partitions.conditionalExpression( partition, idAttributeOfType.getName(), conditionalExpression ),
+				partitions.conditionalExpressionParameters( partition, conditionalExpressionParameters ),
+				null, null );
+	}
+
+	@SuppressWarnings("unchecked") // The checkpoint was saved from an identifier of this entity type
+	private <E, I> BatchIndexingWorkspace<E, I> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type,
+			SingularAttribute<? super E, I> idAttributeOfType,
+			String conditionalExpression, Map<String, ?> conditionalExpressionParameters,
+			Object checkpointId, MassIndexingCheckpointStore checkpointStore) {
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				type, idAttributeOfType,
 				documentBuilderThreads, cacheMode,
 				objectLoadingBatchSize,
-				objectsLimit, idFetchSize, transactionTimeout
+				objectsLimit, idFetchSize, transactionTimeout,
+				conditionalExpression, conditionalExpressionParameters,
+				(I) checkpointId,
+				IdentifierCheckpointTracker.create( checkpointStore, type.jpaEntityName(), scopeWorkspace::flush )
 		);
 	}
 
+	private static <E> SingularAttribute<? super E, ?> idAttribute(HibernateOrmMassIndexingIndexedTypeContext<E> type) {
+		EntityType<E> typeDescriptor = type.entityTypeDescriptor();
+		return typeDescriptor.getId( typeDescriptor.getIdType().getJavaType() );
+	}
+
+	private Map<String, Object> loadCheckpoints() {
+		if ( checkpointStore == null ) {
+			return Collections.emptyMap();
+		}
+		Map<String, Object> checkpoints = new HashMap<>();
+		for ( HibernateOrmMassIndexingIndexedTypeContext<?> type : rootEntityTypes ) {
+			String entityName = type.jpaEntityName();
+			Object checkpointId = checkpointStore.load( entityName );
+			if ( checkpointId != null ) {
+				log.resumingMassIndexing( entityName, checkpointId );
+				checkpoints.put( entityName, checkpointId );
+			}
+		}
+		return checkpoints;
+	}
+
+	private void clearCheckpoints() {
+		if ( checkpointStore == null ) {
+			return;
+		}
+		for ( HibernateOrmMassIndexingIndexedTypeContext<?> type : rootEntityTypes ) {
+			checkpointStore.clear( type.jpaEntityName() );
+		}
+	}
+
 	/**
 	 * Operations to do after all subthreads finished their work on index
 	 */
@@ -172,6 +323,9 @@ private void afterBatch() throws InterruptedException {
 		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
+		if ( this.indexIntoFreshIndexes ) {
+			Futures.unwrappedExceptionGet( scopeWorkspace.switchToFreshIndexes() );
+		}
 	}
 
 	/**
@@ -184,8 +338,21 @@ private void afterBatchOnInterruption() throws InterruptedException {
 
 	/**
 	 * Optional operations to do before the multiple-threads start indexing
+	 *
+	 * @param resuming Whether this mass indexing resumes a previous, interrupted one.
 	 */
-	private void beforeBatch() throws InterruptedException {
+	private void beforeBatch(boolean resuming) throws InterruptedException {
+		if ( this.indexIntoFreshIndexes ) {
+			// Fresh indexes are created empty: no need to drop or purge anything
+			Futures.unwrappedExceptionGet( scopeWorkspace.createFreshIndexes() );
+			return;
+		}
+
+		if ( this.conditionalExpression != null || resuming ) {
+			// Only some entities will be reindexed: documents of other entities must be kept
+			return;
+		}
+
 		if ( this.dropAndCreateSchemaOnStart ) {
 			RootFailureCollector failureCollector = new RootFailureCollector(
 					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -54,6 +55,12 @@
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
 
+	// incremental indexing options
+	private final String conditionalExpression;
+	private final Map<String, ?> conditionalExpressionParameters;
+	private final I checkpointId;
+	private final IdentifierCheckpointTracker<I> checkpointTracker;
+
 	private final List<CompletableFuture<?>> identifierProducingFutures = new ArrayList<>();
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
@@ -63,7 +70,9 @@
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
 			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
 			long objectsLimit,
-			int idFetchSize, Integer transactionTimeout) {
+			int idFetchSize, Integer transactionTimeout,
+			String conditionalExpression, Map<String, ?> conditionalExpressionParameters,
+			I checkpointId, IdentifierCheckpointTracker<I> checkpointTracker) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -84,6 +93,11 @@
 		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
 
 		this.objectsLimit = objectsLimit;
+
+		this.conditionalExpression = conditionalExpression;
+		this.conditionalExpressionParameters = conditionalExpressionParameters;
+		this.checkpointId = checkpointId;
+		this.checkpointTracker = checkpointTracker;
 	}
 
 	@Override
@@ -101,6 +115,8 @@ public void runWithFailureHandler() throws InterruptedException {
 		Futures.unwrappedExceptionGet(
 				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
 		);
+		// Record progress for entities indexed since the last periodic checkpoint, if any.
+		checkpointTracker.saveNow();
 		log.debugf( "Indexing for %s is done", type.jpaEntityName() );
 	}
 
@@ -135,7 +151,9 @@ private void startProducingPrimaryKeys(BatchTransactionalContext transactionalCo
 						objectLoadingBatchSize,
 						type, idAttributeOfType,
 						objectsLimit,
-						idFetchSize
+						idFetchSize,
+						conditionalExpression, conditionalExpressionParameters,
+						checkpointId, checkpointTracker
 				),
 				transactionTimeout, sessionContext.tenantIdentifier()
 		);
@@ -159,7 +177,8 @@ private void startIndexing() {
 				type, idAttributeOfType,
 				primaryKeyStream,
 				cacheMode,
-				transactionTimeout
+				transactionTimeout,
+				checkpointTracker
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
 				documentBuilderThreads,
@@ -8,6 +8,7 @@
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
@@ -20,6 +21,12 @@ public interface HibernateOrmMassIndexingMappingContext {
 
 	FailureHandler failureHandler();
 
+	MetricsRecorder metricsRecorder();
+
+	String massIndexingPartitionTableName();
+
+	long massIndexingPartitionLeaseDuration();
+
 	PojoIndexer createIndexer(SessionImplementor sessionImplementor);
 
 }
@@ -0,0 +1,191 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Tracks which lists of identifiers produced by an {@link IdentifierProducer} have been indexed,
+ * and periodically saves the last identifier of the longest sequence of indexed lists
+ * to a {@link MassIndexingCheckpointStore}.
+ * <p>
+ * Lists are indexed concurrently by several consumers and may be indexed in any order,
+ * so a list can only be checkpointed once all lists produced before it have been indexed.
+ * This assumes identifiers are produced in ascending order.
+ * <p>
+ * If the entities of a list could not all be indexed, the checkpoint stops advancing
+ * for the rest of the mass indexing, so that a resumed mass indexing reindexes the failed entities.
+ *
+ * @param <I> The identifier type
+ */
+class IdentifierCheckpointTracker<I> {
+
+	private static final long SAVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 10 );
+
+	private static final IdentifierCheckpointTracker<?> DISABLED =
+			new IdentifierCheckpointTracker<>( null, null, null );
+
+	@SuppressWarnings("unchecked")
+	static <I> IdentifierCheckpointTracker<I> create(MassIndexingCheckpointStore store, String entityName,
+			Supplier<CompletableFuture<?>> flush) {
+		if ( store == null ) {
+			return (IdentifierCheckpointTracker<I>) DISABLED;
+		}
+		return new IdentifierCheckpointTracker<>( store, entityName, flush );
+	}
+
+	private final MassIndexingCheckpointStore store;
+	private final String entityName;
+	private final Supplier<CompletableFuture<?>> flush;
+
+	// Guarded by "this"
+	private final Deque<PendingList<I>> pendingLists = new ArrayDeque<>();
+	private I lastIndexedId;
+	private I lastSavedId;
+	private boolean failed;
+	private long lastSaveTime = System.nanoTime();
+
+	// Ensures only one thread flushes and saves at a time.
+	private final ReentrantLock saveLock = new ReentrantLock();
+
+	private IdentifierCheckpointTracker(MassIndexingCheckpointStore store, String entityName,
+			Supplier<CompletableFuture<?>> flush) {
+		this.store = store;
+		this.entityName = entityName;
+		this.flush = flush;
+	}
+
+	boolean isEnabled() {
+		return store != null;
+	}
+
+	/**
+	 * @param ids A non-empty list of identifiers, about to be passed to consumers.
+	 */
+	void listProduced(List<I> ids) {
+		if ( store == null ) {
+			return;
+		}
+		synchronized ( this ) {
+			if ( failed ) {
+				return;
+			}
+			pendingLists.addLast( new PendingList<>( ids ) );
+		}
+	}
+
+	/**
+	 * @param ids A list of identifiers previously passed to {@link #listProduced(List)},
+	 * whose entities have all been indexed successfully.
+	 * @throws InterruptedException If interrupted while flushing indexes before saving a checkpoint.
+	 */
+	void listIndexed(List<I> ids) throws InterruptedException {
+		if ( store == null ) {
+			return;
+		}
+		boolean saveDue;
+		synchronized ( this ) {
+			for ( PendingList<I> pending : pendingLists ) {
+				if ( pending.ids == ids ) {
+					pending.indexed = true;
+					break;
+				}
+			}
+			while ( !pendingLists.isEmpty() && pendingLists.peekFirst().indexed ) {
+				List<I> indexedIds = pendingLists.pollFirst().ids;
+				lastIndexedId = indexedIds.get( indexedIds.size() - 1 );
+			}
+			saveDue = System.nanoTime() - lastSaveTime >= SAVE_INTERVAL_NANOS;
+		}
+		if ( saveDue && saveLock.tryLock() ) {
+			// If another thread is already saving, just let it do its job.
+			try {
+				save();
+			}
+			finally {
+				saveLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * @param ids A list of identifiers previously passed to {@link #listProduced(List)},
+	 * whose entities could not all be indexed.
+	 */
+	void listFailed(List<I> ids) {
+		if ( store == null ) {
+			return;
+		}
+		synchronized ( this ) {
+			failed = true;
+			if ( pendingLists.stream().noneMatch( pending -> pending.ids == ids ) ) {
+				// Produced after an earlier failure: this list is no longer tracked.
+				return;
+			}
+			// Lists produced before this one may still be indexed successfully and advance the checkpoint,
+			// but the checkpoint must never move past this list:
+			// leave it pending forever and stop tracking lists produced after it.
+			while ( !pendingLists.isEmpty() && pendingLists.peekLast().ids != ids ) {
+				pendingLists.pollLast();
+			}
+		}
+	}
+
+	/**
+	 * Saves a final checkpoint for entities indexed so far.
+	 * @throws InterruptedException If interrupted while flushing indexes before saving the checkpoint.
+	 */
+	void saveNow() throws InterruptedException {
+		if ( store == null ) {
+			return;
+		}
+		saveLock.lockInterruptibly();
+		try {
+			save();
+		}
+		finally {
+			saveLock.unlock();
+		}
+	}
+
+	private void save() throws InterruptedException {
+		I idToSave;
+		synchronized ( this ) {
+			idToSave = lastIndexedId;
+			if ( idToSave == null || idToSave.equals( lastSavedId ) ) {
+				return;
+			}
+		}
+		// Documents up to the checkpoint must be safely stored in the indexes before the checkpoint is saved,
+		// otherwise they would be lost if the application crashes before the next commit.
+		Futures.unwrappedExceptionGet( flush.get() );
+		store.save( entityName, idToSave );
+		synchronized ( this ) {
+			lastSavedId = idToSave;
+			lastSaveTime = System.nanoTime();
+		}
+	}
+
+	private static final class PendingList<I> {
+		private final List<I> ids;
+		private boolean indexed;
+
+		private PendingList(List<I> ids) {
+			this.ids = ids;
+		}
+	}
+
+}
@@ -57,6 +57,7 @@
 	private final ProducerConsumerQueue<List<I>> source;
 	private final CacheMode cacheMode;
 	private final Integer transactionTimeout;
+	private final IdentifierCheckpointTracker<I> checkpointTracker;
 
 	/**
 	 * The JTA transaction manager or {@code null} if not in a JTA environment
@@ -69,7 +70,8 @@
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			CacheMode cacheMode,
-			Integer transactionTimeout
+			Integer transactionTimeout,
+			IdentifierCheckpointTracker<I> checkpointTracker
 			) {
 		this.mappingContext = mappingContext;
 		this.tenantId = tenantId;
@@ -79,6 +81,7 @@
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.transactionTimeout = transactionTimeout;
+		this.checkpointTracker = checkpointTracker;
 		this.transactionManager = mappingContext.sessionFactory()
 				.getServiceRegistry()
 				.getService( JtaPlatform.class )
@@ -117,7 +120,19 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 				idList = source.take();
 				if ( idList != null ) {
 					log.tracef( "received list of ids %s", idList );
-					loadList( idList, session, indexer );
+					boolean allIndexed = false;
+					try {
+						allIndexed = loadList( idList, session, indexer );
+					}
+					finally {
+						if ( !allIndexed ) {
+							// Do not checkpoint past entities that were not indexed.
+							checkpointTracker.listFailed( idList );
+						}
+					}
+					if ( allIndexed ) {
+						checkpointTracker.listIndexed( idList );
+					}
 				}
 			}
 			while ( idList != null );
@@ -136,8 +151,9 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 	 * @param listIds the list of entity identifiers (of type
 	 * @param session the session to be used
 	 * @param indexer the indexer to be used
+	 * @return {@code true} if all entities were indexed successfully, {@code false} otherwise.
 	 */
-	private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
+	private boolean loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
 			throws InterruptedException, NotSupportedException, SystemException {
 		try {
 			beginTransaction( session );
@@ -155,8 +171,9 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer i
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexAllQueue( session, indexer, query.getResultList() );
+			boolean allIndexed = indexAllQueue( session, indexer, query.getResultList() );
 			session.clear();
+			return allIndexed;
 		}
 		finally {
 			// it's read-only, so no need to commit
@@ -191,9 +208,9 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
+	private boolean indexAllQueue(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
-			return;
+			return true;
 		}
 
 		notifier.notifyEntitiesLoaded( entities.size() );
@@ -227,6 +244,7 @@ private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entitie
 		}
 
 		notifier.notifyDocumentsAdded( successfulEntities );
+		return successfulEntities == entities.size();
 	}
 
 	private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws InterruptedException {
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
@@ -44,6 +45,9 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	static final String ENTITY_ALIAS = "e";
+	private static final String CHECKPOINT_PARAMETER = "hsearchMassIndexingCheckpoint";
+
 	private final SessionFactory sessionFactory;
 	private final MassIndexingNotifier notifier;
 	private final String tenantId;
@@ -55,6 +59,10 @@
 	private final int batchSize;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final String conditionalExpression;
+	private final Map<String, ?> conditionalExpressionParameters;
+	private final I checkpointId;
+	private final IdentifierCheckpointTracker<I> checkpointTracker;
 
 	/**
 	 * @param sessionFactory the Hibernate SessionFactory to use to load entities
@@ -66,13 +74,20 @@
 	 * @param idAttributeOfType the id attribute to be loaded
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
+	 * @param conditionalExpression a JPQL/HQL condition restricting the entities to load, or {@code null}
+	 * @param conditionalExpressionParameters the values of named parameters in the condition
+	 * @param checkpointId if not null, only identifiers greater than this one are loaded
+	 * @param checkpointTracker the tracker to notify of produced identifiers;
+	 * if enabled, identifiers are produced in ascending order
 	 */
 	IdentifierProducer(SessionFactory sessionFactory, String tenantId,
 			MassIndexingNotifier notifier,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			int objectLoadingBatchSize,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			long objectsLimit, int idFetchSize) {
+			long objectsLimit, int idFetchSize,
+			String conditionalExpression, Map<String, ?> conditionalExpressionParameters,
+			I checkpointId, IdentifierCheckpointTracker<I> checkpointTracker) {
 		this.sessionFactory = sessionFactory;
 		this.tenantId = tenantId;
 		this.notifier = notifier;
@@ -82,6 +97,10 @@
 		this.batchSize = objectLoadingBatchSize;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
+		this.conditionalExpression = conditionalExpression;
+		this.conditionalExpressionParameters = conditionalExpressionParameters;
+		this.checkpointId = checkpointId;
+		this.checkpointTracker = checkpointTracker;
 		log.trace( "created" );
 	}
 
@@ -176,6 +195,10 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 	}
 
 	private Query<Long> createTotalCountQuery(StatelessSession session) {
+		if ( isRestricted() ) {
+			return createRestrictedQuery( session, "select count(" + ENTITY_ALIAS + ")", false );
+		}
+
 		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
 		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
 
@@ -187,6 +210,13 @@ private Query<Long> createTotalCountQuery(StatelessSession session) {
 	}
 
 	private Query<I> createIdentifiersQuery(StatelessSession session) {
+		if ( isRestricted() ) {
+			Query<I> query = createRestrictedQuery( session,
+					"select " + ENTITY_ALIAS + "." + idAttributeOfType.getName(),
+					checkpointTracker.isEnabled() );
+			return query.setFetchSize( idFetchSize );
+		}
+
 		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
 		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfType.getJavaType() );
 
@@ -199,8 +229,45 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 				.setFetchSize( idFetchSize );
 	}
 
+	private boolean isRestricted() {
+		// Checkpoints require identifiers to be loaded in ascending order,
+		// which is only possible with HQL queries here.
+		return conditionalExpression != null || checkpointId != null || checkpointTracker.isEnabled();
+	}
+
+	private <T> Query<T> createRestrictedQuery(StatelessSession session, String selectClause, boolean orderById) {
+		String idPath = ENTITY_ALIAS + "." + idAttributeOfType.getName();
+		StringBuilder hql = new StringBuilder( selectClause )
+				.append( " from " ).append( type.jpaEntityName() ).append( " " ).append( ENTITY_ALIAS );
+		String clauseKeyword = " where ";
+		if ( conditionalExpression != null ) {
+			hql.append( clauseKeyword ).append( "(" ).append( conditionalExpression ).append( ")" );
+			clauseKeyword = " and ";
+		}
+		if ( checkpointId != null ) {
+			hql.append( clauseKeyword ).append( idPath ).append( " > :" ).append( CHECKPOINT_PARAMETER );
+		}
+		if ( orderById ) {
+			hql.append( " order by " ).append( idPath );
+		}
+
+		@SuppressWarnings("unchecked") // The select clause is built by the caller to match the expected type
+		Query<T> query = session.createQuery( hql.toString() )
+				.setCacheable( false );
+		if ( conditionalExpression != null ) {
+			for ( Map.Entry<String, ?> parameter : conditionalExpressionParameters.entrySet() ) {
+				query.setParameter( parameter.getKey(), parameter.getValue() );
+			}
+		}
+		if ( checkpointId != null ) {
+			query.setParameter( CHECKPOINT_PARAMETER, checkpointId );
+		}
+		return query;
+	}
+
 	private void enqueueList(final List<I> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
+			checkpointTracker.listProduced( idsList );
 			destination.put( idsList );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
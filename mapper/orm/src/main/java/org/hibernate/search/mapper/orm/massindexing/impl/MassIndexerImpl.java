@@ -8,7 +8,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -19,6 +22,7 @@
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
@@ -57,8 +61,14 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private boolean indexIntoFreshIndexes = false;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
 	private Integer idLoadingTransactionTimeout;
+	private String conditionalExpression;
+	private Map<String, ?> conditionalExpressionParameters = Collections.emptyMap();
+	private MassIndexingCheckpointStore checkpointStore;
+	private String partitionedJobName;
+	private int partitionsPerType;
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -110,7 +120,7 @@ public MassIndexer typesToIndexInParallel(int numberOfThreads) {
 		if ( numberOfThreads < 1 ) {
 			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
 		}
-		this.typesToIndexInParallel = Math.min( numberOfThreads, rootEntityTypes.size() );
+		this.typesToIndexInParallel = numberOfThreads;
 		return this;
 	}
 
@@ -165,6 +175,43 @@ public MassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer indexIntoFreshIndexes(boolean enable) {
+		this.indexIntoFreshIndexes = enable;
+		return this;
+	}
+
+	@Override
+	public MassIndexer reindexOnly(String conditionalExpression, Map<String, ?> parameters) {
+		if ( conditionalExpression == null ) {
+			throw new IllegalArgumentException( "conditionalExpression must not be null" );
+		}
+		this.conditionalExpression = conditionalExpression;
+		this.conditionalExpressionParameters = parameters == null
+				? Collections.emptyMap()
+				: Collections.unmodifiableMap( new LinkedHashMap<>( parameters ) );
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore checkpointStore) {
+		this.checkpointStore = checkpointStore;
+		return this;
+	}
+
+	@Override
+	public MassIndexer partitioned(String jobName, int partitionsPerType) {
+		if ( jobName == null ) {
+			throw new IllegalArgumentException( "jobName must not be null" );
+		}
+		if ( partitionsPerType < 1 ) {
+			throw new IllegalArgumentException( "partitionsPerType must be at least 1" );
+		}
+		this.partitionedJobName = jobName;
+		this.partitionsPerType = partitionsPerType;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -201,18 +248,33 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
+		if ( indexIntoFreshIndexes && ( conditionalExpression != null || checkpointStore != null ) ) {
+			throw log.freshIndexesIncompatibleWithIncrementalMassIndexing();
+		}
+		if ( partitionedJobName != null && ( indexIntoFreshIndexes || checkpointStore != null ) ) {
+			throw log.partitionedMassIndexingIncompatibleOptions();
+		}
+		if ( partitionedJobName != null && sessionContext.tenantIdentifier() != null ) {
+			throw log.partitionedMassIndexingNotSupportedWithMultiTenancy();
+		}
 		MassIndexingNotifier notifier = new MassIndexingNotifier(
 				getOrCreateFailureHandler(),
-				getOrCreateMonitor()
+				getOrCreateMonitor(),
+				mappingContext.metricsRecorder()
 		);
 		return new BatchCoordinator(
 				mappingContext, sessionContext,
 				notifier,
 				rootEntityTypes, scopeSchemaManager, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
+				// Without partitions, there is no point having more threads than entity types
+				partitionedJobName != null ? typesToIndexInParallel : Math.min( typesToIndexInParallel, rootEntityTypes.size() ),
+				documentBuilderThreads,
 				cacheMode, objectLoadingBatchSize, objectsLimit,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart, purgeAtStart, mergeSegmentsAfterPurge,
-				idFetchSize, idLoadingTransactionTimeout
+				indexIntoFreshIndexes,
+				idFetchSize, idLoadingTransactionTimeout,
+				conditionalExpression, conditionalExpressionParameters, checkpointStore,
+				partitionedJobName, partitionsPerType
 		);
 	}
 
@@ -11,6 +11,8 @@
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.environment.metrics.spi.Counter;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
@@ -27,14 +29,23 @@ class MassIndexingNotifier {
 
 	private final MassIndexingFailureHandler failureHandler;
 	private final MassIndexingMonitor monitor;
+	private final Counter entitiesLoadedCounter;
+	private final Counter documentsBuiltCounter;
+	private final Counter documentsAddedCounter;
+	private final Counter entityFailuresCounter;
 
 	private final AtomicReference<RecordedEntityIndexingFailure> entityIndexingFirstFailure =
 			new AtomicReference<>( null );
 	private final LongAdder entityIndexingFailureCount = new LongAdder();
 
-	MassIndexingNotifier(MassIndexingFailureHandler failureHandler, MassIndexingMonitor monitor) {
+	MassIndexingNotifier(MassIndexingFailureHandler failureHandler, MassIndexingMonitor monitor,
+			MetricsRecorder metricsRecorder) {
 		this.failureHandler = failureHandler;
 		this.monitor = monitor;
+		this.entitiesLoadedCounter = metricsRecorder.counter( "hibernate.search.massindexing.entities.loaded" );
+		this.documentsBuiltCounter = metricsRecorder.counter( "hibernate.search.massindexing.documents.built" );
+		this.documentsAddedCounter = metricsRecorder.counter( "hibernate.search.massindexing.documents.added" );
+		this.entityFailuresCounter = metricsRecorder.counter( "hibernate.search.massindexing.entities.failed" );
 	}
 
 	void notifyAddedTotalCount(long totalCount) {
@@ -50,14 +61,17 @@ void notifyRunnableFailure(Exception exception, String operation) {
 
 	void notifyEntitiesLoaded(int size) {
 		monitor.entitiesLoaded( size );
+		entitiesLoadedCounter.increment( size );
 	}
 
 	void notifyDocumentBuilt() {
 		monitor.documentsBuilt( 1 );
+		documentsBuiltCounter.increment();
 	}
 
 	void notifyDocumentsAdded(int size) {
 		monitor.documentsAdded( size );
+		documentsAddedCounter.increment( size );
 	}
 
 	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
@@ -65,6 +79,7 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		RecordedEntityIndexingFailure recordedFailure = new RecordedEntityIndexingFailure( throwable );
 		entityIndexingFirstFailure.compareAndSet( null, recordedFailure );
 		entityIndexingFailureCount.increment();
+		entityFailuresCounter.increment();
 
 		MassIndexingEntityFailureContext.Builder contextBuilder = MassIndexingEntityFailureContext.builder();
 		contextBuilder.throwable( throwable );
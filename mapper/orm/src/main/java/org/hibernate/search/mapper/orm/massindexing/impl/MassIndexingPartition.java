@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+/**
+ * A range of identifiers of a given entity type, indexed as a unit in partitioned mass indexing,
+ * as stored in the mass indexing partition table.
+ * <p>
+ * Bounds are serialized identifiers; the lower bound is inclusive, the upper bound exclusive.
+ */
+final class MassIndexingPartition {
+
+	enum Status {
+		/**
+		 * The partition was not claimed by any node yet,
+		 * or was released by a node that could not finish indexing it.
+		 */
+		PENDING,
+		/**
+		 * The partition is being indexed by the node holding its lease.
+		 */
+		RUNNING,
+		/**
+		 * The partition was fully indexed.
+		 */
+		DONE
+	}
+
+	private final String entityName;
+	private final int index;
+	private final String serializedLowerBound;
+	private final String serializedUpperBound;
+
+	MassIndexingPartition(String entityName, int index, String serializedLowerBound, String serializedUpperBound) {
+		this.entityName = entityName;
+		this.index = index;
+		this.serializedLowerBound = serializedLowerBound;
+		this.serializedUpperBound = serializedUpperBound;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "entityName=" + entityName
+				+ ", index=" + index
+				+ "]";
+	}
+
+	String entityName() {
+		return entityName;
+	}
+
+	int index() {
+		return index;
+	}
+
+	/**
+	 * @return The serialized lower bound (inclusive), or {@code null} if this is the first partition.
+	 */
+	String serializedLowerBound() {
+		return serializedLowerBound;
+	}
+
+	/**
+	 * @return The serialized upper bound (exclusive), or {@code null} if this is the last partition.
+	 */
+	String serializedUpperBound() {
+		return serializedUpperBound;
+	}
+}
@@ -0,0 +1,343 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.common.impl.DatabaseClock;
+import org.hibernate.search.mapper.orm.common.impl.IdentifierSerializer;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Plans, claims and tracks the {@link MassIndexingPartition partitions} of a partitioned mass indexing job
+ * on behalf of a single node, through the {@link MassIndexingPartitionTable partition table}.
+ * <p>
+ * Leases on claimed partitions are renewed periodically in the background until the partition is
+ * {@link #complete(MassIndexingPartition) completed} or {@link #release(MassIndexingPartition) released}.
+ */
+final class MassIndexingPartitionCoordinator implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String LOWER_BOUND_PARAMETER = "hsearchMassIndexingPartitionLowerBound";
+	private static final String UPPER_BOUND_PARAMETER = "hsearchMassIndexingPartitionUpperBound";
+	private static final int POLL_SIZE = 10;
+	private static final int ID_FETCH_SIZE = 1000;
+
+	private final HibernateOrmMassIndexingMappingContext mappingContext;
+	private final String tenantId;
+	private final String jobName;
+	private final int partitionsPerType;
+	private final MassIndexingPartitionTable table;
+	private final Dialect dialect;
+	private final IdentifierSerializer serializer;
+	private final long leaseDuration;
+	// Identifies this node in the partition table; unique to each mass indexer execution.
+	private final String owner = UUID.randomUUID().toString();
+	private final Set<MassIndexingPartition> claimedPartitions = ConcurrentHashMap.newKeySet();
+
+	private ScheduledExecutorService leaseRenewalExecutor;
+
+	MassIndexingPartitionCoordinator(HibernateOrmMassIndexingMappingContext mappingContext, String tenantId,
+			String jobName, int partitionsPerType) {
+		this.mappingContext = mappingContext;
+		this.tenantId = tenantId;
+		this.jobName = jobName;
+		this.partitionsPerType = partitionsPerType;
+		this.table = new MassIndexingPartitionTable( mappingContext.massIndexingPartitionTableName() );
+		this.dialect = mappingContext.sessionFactory().getJdbcServices().getDialect();
+		this.serializer = IdentifierSerializer.create( mappingContext.sessionFactory(), Collections.emptyList() );
+		this.leaseDuration = mappingContext.massIndexingPartitionLeaseDuration();
+	}
+
+	@Override
+	public void close() {
+		if ( leaseRenewalExecutor != null ) {
+			leaseRenewalExecutor.shutdownNow();
+		}
+	}
+
+	void start() {
+		try {
+			inTransaction( session -> {
+				session.doWork( connection -> table.createIfAbsent( connection, dialect ) );
+				return null;
+			} );
+		}
+		catch (RuntimeException e) {
+			// Another node may have created the table concurrently,
+			// in which case our creation failed because the table already exists.
+			boolean createdByOtherNode;
+			try {
+				createdByOtherNode = inTransaction( session -> session.doReturningWork( table::exists ) );
+			}
+			catch (RuntimeException e2) {
+				e.addSuppressed( e2 );
+				throw e;
+			}
+			if ( !createdByOtherNode ) {
+				throw e;
+			}
+			log.debugf( "Mass indexing partition table '%s' was created by another node", table.tableName() );
+		}
+		// Renew leases well before they expire, so that a slow renewal does not lose them
+		long renewalInterval = Math.max( 1L, leaseDuration / 3 );
+		leaseRenewalExecutor = mappingContext.threadPoolProvider()
+				.newScheduledExecutor( 1, MassIndexerImpl.THREAD_NAME_PREFIX + "Partition lease renewal" );
+		leaseRenewalExecutor.scheduleWithFixedDelay( this::renewLeases, renewalInterval, renewalInterval,
+				TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * Splits an entity type into partitions, unless that was already done by this node or another.
+	 *
+	 * @param entityName The name of the entity type.
+	 * @param idAttributeName The name of the identifier attribute of the entity type.
+	 * @param conditionalExpression A JPQL/HQL condition restricting the entities to index, or {@code null}.
+	 * @param conditionalExpressionParameters The values of named parameters in the condition.
+	 */
+	void plan(String entityName, String idAttributeName, String conditionalExpression,
+			Map<String, ?> conditionalExpressionParameters) {
+		try {
+			inTransaction( session -> {
+				if ( session.doReturningWork( connection -> table.isPlanned( connection, jobName, entityName ) ) ) {
+					return null;
+				}
+				List<MassIndexingPartition> partitions = computePartitions( session, entityName, idAttributeName,
+						conditionalExpression, conditionalExpressionParameters );
+				session.doWork( connection -> table.insert( connection, jobName, partitions ) );
+				return null;
+			} );
+		}
+		catch (RuntimeException e) {
+			// Another node may have planned the same entity type concurrently,
+			// in which case our insert failed because of a primary key violation.
+			boolean plannedByOtherNode;
+			try {
+				plannedByOtherNode = inTransaction( session -> session.doReturningWork(
+						connection -> table.isPlanned( connection, jobName, entityName ) ) );
+			}
+			catch (RuntimeException e2) {
+				e.addSuppressed( e2 );
+				throw e;
+			}
+			if ( !plannedByOtherNode ) {
+				throw e;
+			}
+			log.debugf( "Partitions of entity '%s' in mass indexing job '%s' were planned by another node",
+					entityName, jobName );
+		}
+	}
+
+	/**
+	 * @param entityNames The names of entity types this node indexes.
+	 * @return A partition claimed by this node, or {@code null} if there is no partition left to claim.
+	 */
+	MassIndexingPartition claimNext(Collection<String> entityNames) {
+		while ( true ) {
+			List<MassIndexingPartition> polled = inTransaction( session -> session.doReturningWork(
+					connection -> table.poll( connection, jobName, entityNames,
+							DatabaseClock.currentTimeMillis( connection, dialect ), POLL_SIZE ) ) );
+			if ( polled.isEmpty() ) {
+				return null;
+			}
+			for ( MassIndexingPartition partition : polled ) {
+				boolean claimed = inTransaction( session -> session.doReturningWork( connection -> {
+					// Use the clock of the database, shared by all nodes, to check and set lease expirations
+					long now = DatabaseClock.currentTimeMillis( connection, dialect );
+					return table.claim( connection, jobName, partition, owner, now, now + leaseDuration );
+				} ) );
+				if ( claimed ) {
+					claimedPartitions.add( partition );
+					return partition;
+				}
+				log.tracef( "Mass indexing partition %s was claimed by another node; skipping", partition );
+			}
+		}
+	}
+
+	void complete(MassIndexingPartition partition) {
+		claimedPartitions.remove( partition );
+		long[] progress = inTransaction( session -> {
+			if ( !session.doReturningWork( connection -> table.complete( connection, jobName, partition, owner ) ) ) {
+				log.massIndexingPartitionLeaseLost( jobName, partition.entityName(), partition.index() );
+			}
+			return session.doReturningWork( connection -> table.progress( connection, jobName ) );
+		} );
+		log.massIndexingPartitionDone( jobName, partition.entityName(), partition.index(), progress[0], progress[1] );
+	}
+
+	void release(MassIndexingPartition partition) {
+		claimedPartitions.remove( partition );
+		try {
+			inTransaction( session -> session.doReturningWork(
+					connection -> table.release( connection, jobName, partition, owner ) ) );
+		}
+		catch (RuntimeException e) {
+			// Not critical: the partition will become claimable again once the lease expires.
+			log.debugf( e, "Unable to release mass indexing partition %s; it will be claimable after its lease expires",
+					partition );
+		}
+	}
+
+	/**
+	 * @param partition A partition.
+	 * @param idAttributeName The name of the identifier attribute of the partition's entity type.
+	 * @param conditionalExpression A JPQL/HQL condition restricting the entities to index, or {@code null}.
+	 * @return A JPQL/HQL condition restricting the entities to those in the partition,
+	 * or {@code null} if there is no restriction at all.
+	 */
+	String conditionalExpression(MassIndexingPartition partition, String idAttributeName,
+			String conditionalExpression) {
+		String idPath = IdentifierProducer.ENTITY_ALIAS + "." + idAttributeName;
+		List<String> conditions = new ArrayList<>();
+		if ( conditionalExpression != null ) {
+			conditions.add( "(" + conditionalExpression + ")" );
+		}
+		if ( partition.serializedLowerBound() != null ) {
+			conditions.add( idPath + " >= :" + LOWER_BOUND_PARAMETER );
+		}
+		if ( partition.serializedUpperBound() != null ) {
+			conditions.add( idPath + " < :" + UPPER_BOUND_PARAMETER );
+		}
+		return conditions.isEmpty() ? null : String.join( " and ", conditions );
+	}
+
+	/**
+	 * @param partition A partition.
+	 * @param conditionalExpressionParameters The values of named parameters in the condition restricting
+	 * the entities to index.
+	 * @return The values of named parameters in the {@link #conditionalExpression(MassIndexingPartition, String, String)
+	 * condition restricting the entities to those in the partition}.
+	 */
+	Map<String, ?> conditionalExpressionParameters(MassIndexingPartition partition,
+			Map<String, ?> conditionalExpressionParameters) {
+		Map<String, Object> parameters = new LinkedHashMap<>( conditionalExpressionParameters );
+		if ( partition.serializedLowerBound() != null ) {
+			parameters.put( LOWER_BOUND_PARAMETER, serializer.deserialize( partition.serializedLowerBound() ) );
+		}
+		if ( partition.serializedUpperBound() != null ) {
+			parameters.put( UPPER_BOUND_PARAMETER, serializer.deserialize( partition.serializedUpperBound() ) );
+		}
+		return parameters;
+	}
+
+	private List<MassIndexingPartition> computePartitions(Session session, String entityName, String idAttributeName,
+			String conditionalExpression, Map<String, ?> conditionalExpressionParameters) {
+		String idPath = IdentifierProducer.ENTITY_ALIAS + "." + idAttributeName;
+		StringBuilder fromClause = new StringBuilder( " from " ).append( entityName )
+				.append( " " ).append( IdentifierProducer.ENTITY_ALIAS );
+		if ( conditionalExpression != null ) {
+			fromClause.append( " where (" ).append( conditionalExpression ).append( ")" );
+		}
+
+		Query<Long> countQuery = createQuery( session,
+				"select count(" + IdentifierProducer.ENTITY_ALIAS + ")" + fromClause, conditionalExpressionParameters );
+		long entityCount = countQuery.uniqueResult();
+		int partitionCount = (int) Math.max( 1L, Math.min( partitionsPerType, entityCount ) );
+		long partitionSize = ( entityCount + partitionCount - 1 ) / partitionCount;
+
+		// The lower bound of each partition is the first identifier of that partition, in ascending order.
+		// Scroll through identifiers once, instead of running one query with an ever larger offset per partition.
+		List<String> lowerBounds = new ArrayList<>( partitionCount );
+		lowerBounds.add( null );
+		if ( partitionCount > 1 ) {
+			Query<Object> idQuery = createQuery( session, "select " + idPath + fromClause + " order by " + idPath,
+					conditionalExpressionParameters );
+			idQuery.setFetchSize( ID_FETCH_SIZE );
+			try ( ScrollableResults results = idQuery.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				long position = 0L;
+				long nextLowerBoundPosition = partitionSize;
+				while ( lowerBounds.size() < partitionCount && results.next() ) {
+					if ( position == nextLowerBoundPosition ) {
+						lowerBounds.add( serializer.serialize( results.get( 0 ) ) );
+						nextLowerBoundPosition += partitionSize;
+					}
+					++position;
+				}
+			}
+		}
+
+		// Entities may have been deleted since they were counted, leaving fewer lower bounds than expected
+		int actualPartitionCount = lowerBounds.size();
+		List<MassIndexingPartition> partitions = new ArrayList<>( actualPartitionCount );
+		for ( int i = 0; i < actualPartitionCount; i++ ) {
+			String upperBound = i + 1 < actualPartitionCount ? lowerBounds.get( i + 1 ) : null;
+			partitions.add( new MassIndexingPartition( entityName, i, lowerBounds.get( i ), upperBound ) );
+		}
+		log.debugf( "Split entity '%s' (%s entities) into %s partitions for mass indexing job '%s'",
+				entityName, entityCount, actualPartitionCount, jobName );
+		return partitions;
+	}
+
+	@SuppressWarnings("unchecked") // The result type is determined by the select clause
+	private static <T> Query<T> createQuery(Session session, String hql, Map<String, ?> parameters) {
+		Query<T> query = session.createQuery( hql );
+		for ( Map.Entry<String, ?> parameter : parameters.entrySet() ) {
+			query.setParameter( parameter.getKey(), parameter.getValue() );
+		}
+		return query;
+	}
+
+	private void renewLeases() {
+		for ( MassIndexingPartition partition : claimedPartitions ) {
+			try {
+				boolean renewed = inTransaction( session -> session.doReturningWork( connection -> table.renew(
+						connection, jobName, partition, owner,
+						DatabaseClock.currentTimeMillis( connection, dialect ) + leaseDuration ) ) );
+				if ( !renewed && claimedPartitions.remove( partition ) ) {
+					log.massIndexingPartitionLeaseLost( jobName, partition.entityName(), partition.index() );
+				}
+			}
+			catch (RuntimeException e) {
+				// Try again on the next renewal; the lease is only lost if renewal keeps failing.
+				log.debugf( e, "Unable to renew the lease on mass indexing partition %s", partition );
+			}
+		}
+	}
+
+	private <T> T inTransaction(Function<Session, T> work) {
+		try ( Session session = mappingContext.sessionFactory().withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				T result = work.apply( session );
+				transaction.commit();
+				return result;
+			}
+			catch (RuntimeException e) {
+				transaction.rollback();
+				throw e;
+			}
+		}
+		catch (RuntimeException e) {
+			Throwable cause = e.getCause() instanceof SQLException ? e.getCause() : e;
+			throw log.massIndexingPartitionTableAccessFailure( table.tableName(), cause.getMessage(), cause );
+		}
+	}
+}
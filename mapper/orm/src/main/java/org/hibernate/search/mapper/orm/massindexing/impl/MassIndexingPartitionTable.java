@@ -0,0 +1,335 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.search.mapper.orm.common.impl.DatabaseClock;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Low-level access to the mass indexing partition table through JDBC.
+ * <p>
+ * Each row represents one {@link MassIndexingPartition partition} of a mass indexing job.
+ * Nodes claim partitions by taking a time-limited lease on them through conditional updates,
+ * so that the database arbitrates between nodes competing for the same partition.
+ * Lease times are based on the {@link DatabaseClock clock of the database},
+ * so that nodes with skewed clocks do not steal each other's partitions.
+ */
+final class MassIndexingPartitionTable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final int JOB_NAME_LENGTH = 255;
+	private static final int ENTITY_NAME_LENGTH = 255;
+	private static final int SERIALIZED_ID_LENGTH = 1024;
+	private static final int OWNER_LENGTH = 36;
+
+	private static final String KEY_CONDITION = "JOB_NAME = ? and ENTITY_NAME = ? and PARTITION_INDEX = ?";
+	private static final String CLAIMABLE_CONDITION = "(STATUS = '" + MassIndexingPartition.Status.PENDING.name() + "'"
+			+ " or (STATUS = '" + MassIndexingPartition.Status.RUNNING.name() + "' and LEASE_EXPIRATION < ?))";
+	private static final String OWNED_CONDITION = "STATUS = '" + MassIndexingPartition.Status.RUNNING.name() + "'"
+			+ " and OWNER = ?";
+
+	private final String tableName;
+	private final String countSql;
+	private final String insertSql;
+	private final String claimSql;
+	private final String renewSql;
+	private final String completeSql;
+	private final String releaseSql;
+	private final String progressSql;
+
+	MassIndexingPartitionTable(String tableName) {
+		this.tableName = tableName;
+		this.countSql = "select count(*) from " + tableName + " where JOB_NAME = ? and ENTITY_NAME = ?";
+		this.insertSql = "insert into " + tableName
+				+ " (JOB_NAME, ENTITY_NAME, PARTITION_INDEX, LOWER_BOUND, UPPER_BOUND, STATUS)"
+				+ " values (?, ?, ?, ?, ?, '" + MassIndexingPartition.Status.PENDING.name() + "')";
+		this.claimSql = "update " + tableName
+				+ " set STATUS = '" + MassIndexingPartition.Status.RUNNING.name() + "', OWNER = ?, LEASE_EXPIRATION = ?"
+				+ " where " + KEY_CONDITION + " and " + CLAIMABLE_CONDITION;
+		this.renewSql = "update " + tableName + " set LEASE_EXPIRATION = ?"
+				+ " where " + KEY_CONDITION + " and " + OWNED_CONDITION;
+		this.completeSql = "update " + tableName
+				+ " set STATUS = '" + MassIndexingPartition.Status.DONE.name() + "', OWNER = null, LEASE_EXPIRATION = null"
+				+ " where " + KEY_CONDITION + " and " + OWNED_CONDITION;
+		this.releaseSql = "update " + tableName
+				+ " set STATUS = '" + MassIndexingPartition.Status.PENDING.name() + "', OWNER = null, LEASE_EXPIRATION = null"
+				+ " where " + KEY_CONDITION + " and " + OWNED_CONDITION;
+		this.progressSql = "select STATUS, count(*) from " + tableName + " where JOB_NAME = ? group by STATUS";
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + tableName + "]";
+	}
+
+	String tableName() {
+		return tableName;
+	}
+
+	/**
+	 * Create the table if it does not exist.
+	 * <p>
+	 * When multiple nodes create the table concurrently,
+	 * all but one of them may fail because the table already exists.
+	 *
+	 * @param connection The connection to use.
+	 * @param dialect The dialect of the database.
+	 * @throws SQLException If the table cannot be created.
+	 */
+	void createIfAbsent(Connection connection, Dialect dialect) throws SQLException {
+		if ( exists( connection ) ) {
+			log.debugf( "Mass indexing partition table '%s' already exists", tableName );
+			return;
+		}
+		String ddl = dialect.getCreateTableString() + " " + tableName + " ("
+				+ "JOB_NAME " + dialect.getTypeName( Types.VARCHAR, JOB_NAME_LENGTH, 0, 0 ) + " not null, "
+				+ "ENTITY_NAME " + dialect.getTypeName( Types.VARCHAR, ENTITY_NAME_LENGTH, 0, 0 ) + " not null, "
+				+ "PARTITION_INDEX " + dialect.getTypeName( Types.INTEGER ) + " not null, "
+				+ "LOWER_BOUND " + dialect.getTypeName( Types.VARCHAR, SERIALIZED_ID_LENGTH, 0, 0 ) + ", "
+				+ "UPPER_BOUND " + dialect.getTypeName( Types.VARCHAR, SERIALIZED_ID_LENGTH, 0, 0 ) + ", "
+				+ "STATUS " + dialect.getTypeName( Types.VARCHAR, 20, 0, 0 ) + " not null, "
+				+ "OWNER " + dialect.getTypeName( Types.VARCHAR, OWNER_LENGTH, 0, 0 ) + ", "
+				+ "LEASE_EXPIRATION " + dialect.getTypeName( Types.BIGINT ) + ", "
+				+ "primary key (JOB_NAME, ENTITY_NAME, PARTITION_INDEX))";
+		log.debugf( "Creating mass indexing partition table '%s': %s", tableName, ddl );
+		try ( Statement statement = connection.createStatement() ) {
+			statement.executeUpdate( ddl );
+		}
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @param jobName The name of the mass indexing job.
+	 * @param entityName The name of the entity type.
+	 * @return {@code true} if partitions were already planned for this entity type in this job,
+	 * possibly by another node.
+	 * @throws SQLException If the table cannot be queried.
+	 */
+	boolean isPlanned(Connection connection, String jobName, String entityName) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( countSql ) ) {
+			statement.setString( 1, jobName );
+			statement.setString( 2, entityName );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				return resultSet.next() && resultSet.getLong( 1 ) > 0L;
+			}
+		}
+	}
+
+	/**
+	 * Insert partitions into the table.
+	 * <p>
+	 * When multiple nodes plan the same entity type concurrently,
+	 * all but one of them will fail with a primary key violation.
+	 *
+	 * @param connection The connection to use.
+	 * @param jobName The name of the mass indexing job.
+	 * @param partitions The partitions to insert.
+	 * @throws SQLException If the table cannot be updated.
+	 */
+	void insert(Connection connection, String jobName, Collection<MassIndexingPartition> partitions)
+			throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( insertSql ) ) {
+			for ( MassIndexingPartition partition : partitions ) {
+				int i = 1;
+				statement.setString( i++, jobName );
+				statement.setString( i++, partition.entityName() );
+				statement.setInt( i++, partition.index() );
+				setNullableString( statement, i++, partition.serializedLowerBound() );
+				setNullableString( statement, i, partition.serializedUpperBound() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @param jobName The name of the mass indexing job.
+	 * @param entityNames The entity types to retrieve partitions for.
+	 * @param now The current time, in milliseconds since the epoch.
+	 * @param maxResults The maximum number of partitions to retrieve.
+	 * @return Partitions that are not being indexed by any node, or whose lease expired.
+	 * @throws SQLException If the table cannot be queried.
+	 */
+	List<MassIndexingPartition> poll(Connection connection, String jobName, Collection<String> entityNames,
+			long now, int maxResults) throws SQLException {
+		StringBuilder sql = new StringBuilder( "select ENTITY_NAME, PARTITION_INDEX, LOWER_BOUND, UPPER_BOUND" )
+				.append( " from " ).append( tableName )
+				.append( " where JOB_NAME = ? and " ).append( CLAIMABLE_CONDITION )
+				.append( " and ENTITY_NAME in (" );
+		for ( int i = 0; i < entityNames.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( "?" );
+		}
+		sql.append( ") order by ENTITY_NAME, PARTITION_INDEX" );
+
+		List<MassIndexingPartition> result = new ArrayList<>();
+		try ( PreparedStatement statement = connection.prepareStatement( sql.toString() ) ) {
+			statement.setMaxRows( maxResults );
+			int i = 1;
+			statement.setString( i++, jobName );
+			statement.setLong( i++, now );
+			for ( String entityName : entityNames ) {
+				statement.setString( i++, entityName );
+			}
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				while ( resultSet.next() ) {
+					result.add( new MassIndexingPartition(
+							resultSet.getString( 1 ),
+							resultSet.getInt( 2 ),
+							resultSet.getString( 3 ),
+							resultSet.getString( 4 )
+					) );
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Take a lease on a partition, provided it is still claimable.
+	 *
+	 * @param connection The connection to use.
+	 * @param jobName The name of the mass indexing job.
+	 * @param partition The partition to claim.
+	 * @param owner The identifier of the claiming node.
+	 * @param now The current time, in milliseconds since the epoch.
+	 * @param leaseExpiration The time the lease expires, in milliseconds since the epoch.
+	 * @return {@code true} if the partition was claimed, {@code false} if another node claimed it first.
+	 * @throws SQLException If the table cannot be updated.
+	 */
+	boolean claim(Connection connection, String jobName, MassIndexingPartition partition, String owner,
+			long now, long leaseExpiration) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( claimSql ) ) {
+			int i = 1;
+			statement.setString( i++, owner );
+			statement.setLong( i++, leaseExpiration );
+			i = setKey( statement, i, jobName, partition );
+			statement.setLong( i, now );
+			return statement.executeUpdate() > 0;
+		}
+	}
+
+	/**
+	 * @return {@code true} if the lease was renewed, {@code false} if it was lost to another node.
+	 */
+	boolean renew(Connection connection, String jobName, MassIndexingPartition partition, String owner,
+			long leaseExpiration) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( renewSql ) ) {
+			statement.setLong( 1, leaseExpiration );
+			int i = setKey( statement, 2, jobName, partition );
+			statement.setString( i, owner );
+			return statement.executeUpdate() > 0;
+		}
+	}
+
+	/**
+	 * @return {@code true} if the partition was marked as done, {@code false} if the lease was lost to another node.
+	 */
+	boolean complete(Connection connection, String jobName, MassIndexingPartition partition, String owner)
+			throws SQLException {
+		return updateOwned( connection, completeSql, jobName, partition, owner );
+	}
+
+	/**
+	 * Make a partition claimable again, e.g. after indexing it failed.
+	 *
+	 * @return {@code true} if the partition was released, {@code false} if the lease was lost to another node.
+	 */
+	boolean release(Connection connection, String jobName, MassIndexingPartition partition, String owner)
+			throws SQLException {
+		return updateOwned( connection, releaseSql, jobName, partition, owner );
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @param jobName The name of the mass indexing job.
+	 * @return The number of done partitions and the total number of partitions in this job, in that order.
+	 * @throws SQLException If the table cannot be queried.
+	 */
+	long[] progress(Connection connection, String jobName) throws SQLException {
+		long done = 0L;
+		long total = 0L;
+		try ( PreparedStatement statement = connection.prepareStatement( progressSql ) ) {
+			statement.setString( 1, jobName );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				while ( resultSet.next() ) {
+					long count = resultSet.getLong( 2 );
+					if ( MassIndexingPartition.Status.DONE.name().equals( resultSet.getString( 1 ) ) ) {
+						done += count;
+					}
+					total += count;
+				}
+			}
+		}
+		return new long[] { done, total };
+	}
+
+	private boolean updateOwned(Connection connection, String sql, String jobName, MassIndexingPartition partition,
+			String owner) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( sql ) ) {
+			int i = setKey( statement, 1, jobName, partition );
+			statement.setString( i, owner );
+			return statement.executeUpdate() > 0;
+		}
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @return {@code true} if the table exists.
+	 * @throws SQLException If the database metadata cannot be queried.
+	 */
+	boolean exists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		// Databases differ in how they store unquoted identifiers: try the most common variants.
+		for ( String candidate : new String[] { tableName, tableName.toUpperCase( Locale.ROOT ),
+				tableName.toLowerCase( Locale.ROOT ) } ) {
+			try ( ResultSet tables = metaData.getTables( null, null, candidate, new String[] { "TABLE" } ) ) {
+				if ( tables.next() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static int setKey(PreparedStatement statement, int startIndex, String jobName,
+			MassIndexingPartition partition) throws SQLException {
+		int i = startIndex;
+		statement.setString( i++, jobName );
+		statement.setString( i++, partition.entityName() );
+		statement.setInt( i++, partition.index() );
+		return i;
+	}
+
+	private static void setNullableString(PreparedStatement statement, int index, String value) throws SQLException {
+		if ( value == null ) {
+			statement.setNull( index, Types.VARCHAR );
+		}
+		else {
+			statement.setString( index, value );
+		}
+	}
+}
@@ -33,6 +33,15 @@
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+/**
+ * A loading context for Hibernate ORM.
+ * <p>
+ * Entity loading is blocking: a Hibernate ORM session must not be used from multiple threads,
+ * so this context does not {@link LoadingContext#supportsAsyncLoading() support asynchronous loading}
+ * and asynchronous queries that load entities are executed in the calling thread.
+ *
+ * @param <E> The type of loaded entities.
+ */
 public final class HibernateOrmLoadingContext<E> implements LoadingContext<EntityReference, E> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -23,7 +23,10 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxPollingAutomaticIndexing;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
@@ -97,6 +100,7 @@ public static HibernateOrmSearchSession get(HibernateOrmSearchSessionMappingCont
 	private final HibernateOrmSessionTypeContextProvider typeContextProvider;
 	private final SessionImplementor sessionImplementor;
 	private final HibernateOrmRuntimeIntrospector runtimeIntrospector;
+	private final OutboxPollingAutomaticIndexing outbox;
 	private ConfiguredAutomaticIndexingSynchronizationStrategy configuredAutomaticIndexingSynchronizationStrategy;
 
 	/*
@@ -113,6 +117,11 @@ private HibernateOrmSearchSession(Builder builder) {
 		this.typeContextProvider = builder.typeContextProvider;
 		this.sessionImplementor = builder.sessionImplementor;
 		this.runtimeIntrospector = builder.buildRuntimeIntrospector();
+		this.outbox = builder.outbox;
+		if ( outbox != null ) {
+			// Outbox events must be written as part of the user's transaction
+			this.enlistInTransaction = true;
+		}
 		automaticIndexingSynchronizationStrategy( builder.automaticIndexingSynchronizationStrategy );
 	}
 
@@ -281,10 +290,15 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoe
 
 		ConfiguredAutomaticIndexingSynchronizationStrategy currentSynchronizationStrategy =
 				configuredAutomaticIndexingSynchronizationStrategy;
-		plan = createIndexingPlan(
-				currentSynchronizationStrategy.getDocumentCommitStrategy(),
-				currentSynchronizationStrategy.getDocumentRefreshStrategy()
-		);
+		if ( outbox != null ) {
+			plan = outbox.createIndexingPlan( sessionImplementor );
+		}
+		else {
+			plan = createIndexingPlan(
+					currentSynchronizationStrategy.getDocumentCommitStrategy(),
+					currentSynchronizationStrategy.getDocumentRefreshStrategy()
+			);
+		}
 		planPerTransaction.put( transactionIdentifier, plan );
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
@@ -297,6 +311,17 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoe
 		return plan;
 	}
 
+	/**
+	 * @param commitStrategy The commit strategy for the indexing plan.
+	 * @param refreshStrategy The refresh strategy for the indexing plan.
+	 * @return A new indexing plan that sends works directly to the backend,
+	 * regardless of the automatic indexing strategy.
+	 */
+	public PojoIndexingPlan<EntityReference> createDirectIndexingPlan(DocumentCommitStrategy commitStrategy,
+			DocumentRefreshStrategy refreshStrategy) {
+		return createIndexingPlan( commitStrategy, refreshStrategy );
+	}
+
 	@Override
 	public ConfiguredAutomaticIndexingSynchronizationStrategy configuredAutomaticIndexingSynchronizationStrategy() {
 		return configuredAutomaticIndexingSynchronizationStrategy;
@@ -376,15 +401,18 @@ public static class Builder {
 		private final HibernateOrmSessionTypeContextProvider typeContextProvider;
 		private final SessionImplementor sessionImplementor;
 		private final AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy;
+		private final OutboxPollingAutomaticIndexing outbox;
 
 		public Builder(HibernateOrmSearchSessionMappingContext mappingContext,
 				HibernateOrmSessionTypeContextProvider typeContextProvider,
 				SessionImplementor sessionImplementor,
-				AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy) {
+				AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy,
+				OutboxPollingAutomaticIndexing outbox) {
 			this.mappingContext = mappingContext;
 			this.typeContextProvider = typeContextProvider;
 			this.sessionImplementor = sessionImplementor;
 			this.automaticIndexingSynchronizationStrategy = automaticIndexingSynchronizationStrategy;
+			this.outbox = outbox;
 		}
 
 		private HibernateOrmRuntimeIntrospector buildRuntimeIntrospector() {
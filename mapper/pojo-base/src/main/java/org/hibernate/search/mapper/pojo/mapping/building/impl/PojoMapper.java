@@ -58,6 +58,7 @@
 import org.hibernate.search.mapper.pojo.model.typepattern.impl.TypePatternMatcherFactory;
 import org.hibernate.search.mapper.pojo.reporting.impl.PojoEventContexts;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.engine.environment.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -77,6 +78,7 @@
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
+	private final MetricsRecorder metricsRecorder;
 
 	private final PojoMapperDelegate<MPBS> delegate;
 	private final PojoTypeAdditionalMetadataProvider typeAdditionalMetadataProvider;
@@ -108,6 +110,7 @@ public PojoMapper(MappingBuildContext buildContext,
 
 		this.failureHandler = buildContext.failureHandler();
 		this.threadPoolProvider = buildContext.threadPoolProvider();
+		this.metricsRecorder = buildContext.metricsRecorder();
 
 		this.delegate = delegate;
 
@@ -292,7 +295,7 @@ public MPBS prepareBuild() throws MappingAbortedException {
 			}
 
 			mappingDelegate = new PojoMappingDelegateImpl(
-					threadPoolProvider, failureHandler,
+					threadPoolProvider, failureHandler, metricsRecorder,
 					indexedTypeManagerContainerBuilder.build(),
 					containedTypeManagerContainerBuilder.build()
 			);
@@ -8,10 +8,14 @@
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.hibernate.annotations.common.reflection.ReflectionManager;
@@ -27,13 +31,25 @@ public abstract class AbstractPojoHCAnnBootstrapIntrospector implements PojoBoot
 
 	private final PojoXClassOrdering typeOrdering;
 
+	/*
+	 * Bootstrap inspects the same annotated elements and type hierarchies many times:
+	 * once for each subtype when processing annotations on supertypes,
+	 * once more when building indexing processors and reindexing resolvers, etc.
+	 * Annotation reading through hibernate-commons-annotations and hierarchy traversal
+	 * are not cheap for models with many entities sharing common supertypes,
+	 * so we remember their results for the duration of bootstrap.
+	 */
+	private final Map<XAnnotatedElement, Annotation[]> annotationCache = new HashMap<>();
+	private final Map<XClass, List<Class<?>>> ascendingSuperClassesCache = new HashMap<>();
+	private final Map<XClass, List<Class<?>>> descendingSuperClassesCache = new HashMap<>();
+
 	public AbstractPojoHCAnnBootstrapIntrospector(ReflectionManager reflectionManager) {
 		this.reflectionManager = reflectionManager;
 		this.typeOrdering = new PojoXClassOrdering( reflectionManager );
 	}
 
 	public Stream<Annotation> annotations(XAnnotatedElement xAnnotated) {
-		return Arrays.stream( xAnnotated.getAnnotations() );
+		return Arrays.stream( annotationCache.computeIfAbsent( xAnnotated, XAnnotatedElement::getAnnotations ) );
 	}
 
 	public XClass toXClass(Class<?> type) {
@@ -53,17 +69,25 @@ public Map<String, XProperty> declaredMethodAccessXPropertiesByName(XClass xClas
 	}
 
 	protected Stream<Class<?>> ascendingSuperClasses(XClass xClass) {
-		return typeOrdering.ascendingSuperTypes( xClass ).map( this::toClass );
+		return ascendingSuperClassesCache.computeIfAbsent( xClass,
+				ignored -> toClassList( typeOrdering.ascendingSuperTypes( xClass ) ) )
+				.stream();
 	}
 
 	protected Stream<Class<?>> descendingSuperClasses(XClass xClass) {
-		return typeOrdering.descendingSuperTypes( xClass ).map( this::toClass );
+		return descendingSuperClassesCache.computeIfAbsent( xClass,
+				ignored -> toClassList( typeOrdering.descendingSuperTypes( xClass ) ) )
+				.stream();
 	}
 
 	private Class<?> toClass(XClass xClass) {
 		return reflectionManager.toClass( xClass );
 	}
 
+	private List<Class<?>> toClassList(Stream<? extends XClass> xClasses) {
+		return Collections.unmodifiableList( xClasses.map( this::toClass ).collect( Collectors.toList() ) );
+	}
+
 	private Collector<XProperty, ?, Map<String, XProperty>> xPropertiesByNameNoDuplicate() {
 		return StreamHelper.toMap(
 				XProperty::getName, Function.identity(),
@@ -47,6 +47,21 @@ public CompletableFuture<?> refresh() {
 		return doOperationOnTypes( IndexWorkspace::refresh );
 	}
 
+	@Override
+	public CompletableFuture<?> createFreshIndexes() {
+		return doOperationOnTypes( IndexWorkspace::createFreshIndex );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToFreshIndexes() {
+		return doOperationOnTypes( IndexWorkspace::switchToFreshIndex );
+	}
+
+	@Override
+	public CompletableFuture<?> dropFreshIndexes() {
+		return doOperationOnTypes( IndexWorkspace::dropFreshIndex );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkspace, CompletableFuture<?>> operation) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
 		int typeCounter = 0;
@@ -19,4 +19,10 @@ public interface PojoScopeWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	CompletableFuture<?> createFreshIndexes();
+
+	CompletableFuture<?> switchToFreshIndexes();
+
+	CompletableFuture<?> dropFreshIndexes();
+
 }
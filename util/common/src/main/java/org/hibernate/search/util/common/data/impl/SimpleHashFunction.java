@@ -16,7 +16,11 @@ private SimpleHashFunction() {
 	}
 
 	public static <T> T pick(T[] content, String key) {
-		return content[Math.abs( hash( key ) % content.length )];
+		return content[pickIndex( content.length, key )];
+	}
+
+	public static int pickIndex(int size, String key) {
+		return Math.abs( hash( key ) % size );
 	}
 
 	/**
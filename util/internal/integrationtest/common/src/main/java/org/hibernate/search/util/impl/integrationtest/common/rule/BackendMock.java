@@ -416,6 +416,30 @@ public IndexScaleWorkCallListContext refresh(CompletableFuture<?> future) {
 			return indexScaleWork( StubIndexScaleWork.Type.REFRESH, future );
 		}
 
+		public IndexScaleWorkCallListContext createFreshIndex() {
+			return indexScaleWork( StubIndexScaleWork.Type.CREATE_FRESH_INDEX );
+		}
+
+		public IndexScaleWorkCallListContext createFreshIndex(CompletableFuture<?> future) {
+			return indexScaleWork( StubIndexScaleWork.Type.CREATE_FRESH_INDEX, future );
+		}
+
+		public IndexScaleWorkCallListContext switchToFreshIndex() {
+			return indexScaleWork( StubIndexScaleWork.Type.SWITCH_TO_FRESH_INDEX );
+		}
+
+		public IndexScaleWorkCallListContext switchToFreshIndex(CompletableFuture<?> future) {
+			return indexScaleWork( StubIndexScaleWork.Type.SWITCH_TO_FRESH_INDEX, future );
+		}
+
+		public IndexScaleWorkCallListContext dropFreshIndex() {
+			return indexScaleWork( StubIndexScaleWork.Type.DROP_FRESH_INDEX );
+		}
+
+		public IndexScaleWorkCallListContext dropFreshIndex(CompletableFuture<?> future) {
+			return indexScaleWork( StubIndexScaleWork.Type.DROP_FRESH_INDEX, future );
+		}
+
 		public IndexScaleWorkCallListContext indexScaleWork(StubIndexScaleWork.Type type) {
 			return indexScaleWork( type, Collections.emptySet() );
 		}
@@ -14,7 +14,7 @@
 public final class StubIndexScaleWork {
 
 	public enum Type {
-		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH
+		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH, CREATE_FRESH_INDEX, SWITCH_TO_FRESH_INDEX, DROP_FRESH_INDEX
 	}
 
 	public static Builder builder(Type type) {
@@ -53,4 +53,22 @@ public CompletableFuture<?> refresh() {
 		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.REFRESH ).build();
 		return behavior.executeIndexScaleWork( indexName, work );
 	}
+
+	@Override
+	public CompletableFuture<?> createFreshIndex() {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.CREATE_FRESH_INDEX ).build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
+
+	@Override
+	public CompletableFuture<?> switchToFreshIndex() {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.SWITCH_TO_FRESH_INDEX ).build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
+
+	@Override
+	public CompletableFuture<?> dropFreshIndex() {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.DROP_FRESH_INDEX ).build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
 }
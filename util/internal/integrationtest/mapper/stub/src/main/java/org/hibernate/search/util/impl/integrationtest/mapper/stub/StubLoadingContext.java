@@ -24,4 +24,10 @@ public ProjectionHitMapper<DocumentReference, DocumentReference> createProjectio
 				EntityLoader.identity()
 		);
 	}
+
+	@Override
+	public boolean supportsAsyncLoading() {
+		// Identity loading never blocks
+		return true;
+	}
 }